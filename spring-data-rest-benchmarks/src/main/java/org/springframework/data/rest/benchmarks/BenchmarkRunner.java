@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks selected by the given JMH command line arguments. In contrast to JMH's default entry point, the
+ * {@link GCProfiler} is always active so that the allocation rate is reported next to the throughput, and the results
+ * are written to {@code target/jmh-result.json} unless configured otherwise.
+ *
+ * @since 3.1
+ */
+public class BenchmarkRunner {
+
+	private static final String DEFAULT_RESULT = "target/jmh-result.json";
+
+	public static void main(String[] args) throws Exception {
+
+		CommandLineOptions options = new CommandLineOptions(args);
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+
+		boolean gcProfilerConfigured = options.getProfilers().stream() //
+				.anyMatch(it -> it.getKlass().equals(GCProfiler.class.getName()) || it.getKlass().equals("gc"));
+
+		if (!gcProfilerConfigured) {
+			builder.addProfiler(GCProfiler.class);
+		}
+
+		if (!options.getResult().hasValue()) {
+			builder.result(DEFAULT_RESULT);
+		}
+
+		if (!options.getResultFormat().hasValue()) {
+			builder.resultFormat(ResultFormatType.JSON);
+		}
+
+		new Runner(builder.build()).run();
+	}
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.function.Consumer;
+
+import org.springframework.data.rest.webmvc.config.RepositoryRestMvcConfiguration;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.Assert;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.DelegatingWebMvcConfiguration;
+
+/**
+ * Base class for benchmarks sending requests through the complete Spring Data REST request pipeline using
+ * {@link MockMvc}, i.e. including request mapping, argument resolution, repository invocation, resource assembly and
+ * serialization. Subclasses bootstrap the exporter for a store specific configuration in their JMH setup method.
+ *
+ * @since 3.1
+ */
+public abstract class RepositoryRestBenchmarkSupport {
+
+	private AnnotationConfigWebApplicationContext context;
+	private MockMvc mvc;
+
+	/**
+	 * Bootstraps Spring Data REST for the given store specific configuration classes.
+	 *
+	 * @param configurations must not be {@literal null}.
+	 */
+	protected void bootstrap(Class<?>... configurations) {
+
+		Assert.notNull(configurations, "Configurations must not be null!");
+
+		this.context = new AnnotationConfigWebApplicationContext();
+		this.context.setServletContext(new MockServletContext());
+		this.context.register(RepositoryRestMvcConfiguration.class, DelegatingWebMvcConfiguration.class);
+		this.context.register(configurations);
+		this.context.refresh();
+
+		this.mvc = MockMvcBuilders.webAppContextSetup(context) //
+				.defaultRequest(get("/").accept(MediaTypes.HAL_JSON)) //
+				.build();
+	}
+
+	/**
+	 * Closes the application context bootstrapped before.
+	 */
+	protected void shutdown() {
+
+		if (context != null) {
+			context.close();
+		}
+	}
+
+	protected <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	/**
+	 * Performs the given request and returns the rendered response body so that it can be consumed by JMH. Fails with
+	 * an {@link IllegalStateException} if the request is not handled successfully, as the benchmark would measure the
+	 * error path otherwise.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return the response body.
+	 * @throws Exception
+	 */
+	protected byte[] perform(MockHttpServletRequestBuilder request) throws Exception {
+		return perform(request, location -> {});
+	}
+
+	/**
+	 * Performs the given request like {@link #perform(MockHttpServletRequestBuilder)} and hands the {@code Location}
+	 * header of the response to the given {@link Consumer}, e.g. to remove the resource created by the request again.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @param location must not be {@literal null}.
+	 * @return the response body.
+	 * @throws Exception
+	 */
+	protected byte[] perform(MockHttpServletRequestBuilder request, Consumer<String> location) throws Exception {
+
+		MockHttpServletResponse response = mvc.perform(request).andReturn().getResponse();
+
+		if (response.getStatus() >= 400) {
+			throw new IllegalStateException(String.format("Request failed with status %s: %s", response.getStatus(),
+					response.getContentAsString()));
+		}
+
+		location.accept(response.getHeader(HttpHeaders.LOCATION));
+
+		return response.getContentAsByteArray();
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks.jpa;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.rest.benchmarks.RepositoryRestBenchmarkSupport;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.data.rest.webmvc.jpa.Person;
+import org.springframework.data.rest.webmvc.jpa.PersonRepository;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+
+/**
+ * Benchmarks for read and write requests against the JPA domain backed by an in-memory H2 database. The update
+ * benchmarks primarily measure {@code DomainObjectReader} and the JSON Patch support, as they always apply the same
+ * values to the same entity. The {@link Person}s created by {@link #postItem(CreatedPeople)} are deleted after each
+ * invocation, so that the table, and with it the results of the read benchmarks, don't grow during a run.
+ *
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class JpaBenchmarks extends RepositoryRestBenchmarkSupport {
+
+	private static final String PERSON = "{ \"firstName\" : \"Frodo\", \"lastName\" : \"Baggins\" }";
+	private static final String MERGE_PATCH = "{ \"lastName\" : \"Took\" }";
+	private static final String JSON_PATCH = "[{ \"op\" : \"replace\", \"path\" : \"/lastName\", \"value\" : \"Took\" }]";
+
+	private String personUri;
+	private String siblingsUri;
+	private String siblingUris;
+
+	@Setup
+	public void setUp() {
+
+		bootstrap(JpaBenchmarkConfiguration.class);
+
+		List<String> uris = getBean(PersonRepository.class).findAll(PageRequest.of(0, 4)).stream() //
+				.map(Person::getId) //
+				.map(it -> "http://localhost/people/" + it) //
+				.collect(Collectors.toList());
+
+		this.personUri = uris.get(0);
+		this.siblingsUri = personUri + "/siblings";
+		this.siblingUris = String.join("\r\n", uris.subList(1, uris.size()));
+	}
+
+	@TearDown
+	public void tearDown() {
+		shutdown();
+	}
+
+	@Benchmark
+	public byte[] getItem() throws Exception {
+		return perform(get(personUri));
+	}
+
+	@Benchmark
+	public byte[] getPage(PageSize pageSize) throws Exception {
+		return perform(get("/people").param("size", pageSize.value));
+	}
+
+	@Benchmark
+	public byte[] postItem(CreatedPeople created) throws Exception {
+		return perform(post("/people").contentType(MediaType.APPLICATION_JSON).content(PERSON), created::add);
+	}
+
+	@Benchmark
+	public byte[] putItem() throws Exception {
+		return perform(put(personUri).contentType(MediaType.APPLICATION_JSON).content(PERSON));
+	}
+
+	@Benchmark
+	public byte[] mergePatchItem() throws Exception {
+		return perform(request(HttpMethod.PATCH, personUri) //
+				.contentType(RestMediaTypes.MERGE_PATCH_JSON) //
+				.content(MERGE_PATCH));
+	}
+
+	@Benchmark
+	public byte[] jsonPatchItem() throws Exception {
+		return perform(request(HttpMethod.PATCH, personUri) //
+				.contentType(RestMediaTypes.JSON_PATCH_JSON) //
+				.content(JSON_PATCH));
+	}
+
+	@Benchmark
+	public byte[] putAssociationUriList() throws Exception {
+		return perform(put(siblingsUri).contentType(RestMediaTypes.TEXT_URI_LIST).content(siblingUris));
+	}
+
+	@Benchmark
+	public byte[] executeSearch() throws Exception {
+		return perform(get("/people/search/firstname").param("firstname", "Frodo").param("size", "20"));
+	}
+
+	@Benchmark
+	public byte[] getProfile() throws Exception {
+		return perform(get("/profile"));
+	}
+
+	@Benchmark
+	public byte[] getAlps() throws Exception {
+		return perform(get("/profile/people").accept(RestMediaTypes.ALPS_JSON));
+	}
+
+	@Benchmark
+	public byte[] getJsonSchema() throws Exception {
+		return perform(get("/profile/people").accept(RestMediaTypes.SCHEMA_JSON));
+	}
+
+	/**
+	 * Collects the {@link Person}s created by a benchmark invocation and deletes them outside of the measurement.
+	 */
+	@State(Scope.Thread)
+	public static class CreatedPeople {
+
+		private final List<Long> ids = new ArrayList<>();
+		private PersonRepository repository;
+
+		@Setup
+		public void setUp(JpaBenchmarks benchmarks) {
+			this.repository = benchmarks.getBean(PersonRepository.class);
+		}
+
+		void add(String location) {
+			ids.add(Long.valueOf(location.substring(location.lastIndexOf('/') + 1)));
+		}
+
+		@TearDown(Level.Invocation)
+		public void deleteCreated() {
+
+			ids.forEach(repository::deleteById);
+			ids.clear();
+		}
+	}
+
+	@State(Scope.Benchmark)
+	public static class PageSize {
+
+		@Param({ "20", "200", "1000" }) String value;
+	}
+}
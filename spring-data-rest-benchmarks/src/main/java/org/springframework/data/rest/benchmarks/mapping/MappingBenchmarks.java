@@ -0,0 +1,194 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks.mapping;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.rest.core.Path;
+import org.springframework.data.rest.core.mapping.MethodResourceMapping;
+import org.springframework.data.rest.core.mapping.ParametersMetadata;
+import org.springframework.data.rest.core.mapping.ResourceDescription;
+import org.springframework.data.rest.core.mapping.SearchResourceMappings;
+
+/**
+ * Benchmarks for the lookups of repository and search resource mappings by request path and rel for a large domain of
+ * {@value #REPOSITORIES} repositories with {@value #QUERY_METHODS} query methods each. The repository lookup mimics
+ * the scan over all mappings performed by {@code DomainClassResolver}, the search lookups are the ones performed for
+ * every request to a search resource and for every search link rendered.
+ * <p>
+ * Lookups cycle through all repositories and query methods so that the results don't depend on a particular hash
+ * bucket or on the position of a repository in the scan.
+ *
+ * @since 3.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class MappingBenchmarks {
+
+	static final int REPOSITORIES = 300;
+	static final int QUERY_METHODS = 20;
+
+	private final List<Path> repositoryPaths = new ArrayList<Path>(REPOSITORIES);
+	private final List<SearchResourceMappings> searchMappings = new ArrayList<SearchResourceMappings>(REPOSITORIES);
+
+	private final String[] repositoryReferences = new String[REPOSITORIES];
+	private final String[] searchPaths = new String[QUERY_METHODS];
+	private final String[] searchRels = new String[QUERY_METHODS];
+
+	private int repository;
+	private int queryMethod;
+
+	@Setup
+	public void setUp() throws Exception {
+
+		Method method = Object.class.getMethod("toString");
+
+		for (int i = 0; i < QUERY_METHODS; i++) {
+			searchPaths[i] = "findByProperty" + i;
+			searchRels[i] = "by-property-" + i;
+		}
+
+		for (int i = 0; i < REPOSITORIES; i++) {
+
+			repositoryReferences[i] = "repository" + i;
+			repositoryPaths.add(new Path(repositoryReferences[i]));
+
+			List<MethodResourceMapping> mappings = new ArrayList<MethodResourceMapping>(QUERY_METHODS);
+
+			for (int j = 0; j < QUERY_METHODS; j++) {
+				mappings.add(new SyntheticMethodResourceMapping(new Path(searchPaths[j]), searchRels[j], method));
+			}
+
+			searchMappings.add(new SearchResourceMappings(mappings));
+		}
+	}
+
+	@Benchmark
+	public Path matchRepositoryPath() {
+
+		String reference = repositoryReferences[nextRepository()];
+
+		for (Path path : repositoryPaths) {
+			if (path.matches(reference)) {
+				return path;
+			}
+		}
+
+		throw new IllegalStateException("No repository found for " + reference);
+	}
+
+	@Benchmark
+	public MethodResourceMapping lookupSearchMappingByPath() {
+		return searchMappings.get(nextRepository()).getExportedMethodMappingForPath(searchPaths[nextQueryMethod()]);
+	}
+
+	@Benchmark
+	public MethodResourceMapping lookupSearchMappingByRel() {
+		return searchMappings.get(nextRepository()).getExportedMethodMappingForRel(searchRels[nextQueryMethod()]);
+	}
+
+	@Benchmark
+	public Method lookupMappedMethod() {
+		return searchMappings.get(nextRepository()).getMappedMethod(searchPaths[nextQueryMethod()]);
+	}
+
+	private int nextRepository() {
+		return repository = (repository + 1) % REPOSITORIES;
+	}
+
+	private int nextQueryMethod() {
+		return queryMethod = (queryMethod + 1) % QUERY_METHODS;
+	}
+
+	/**
+	 * {@link MethodResourceMapping} for an exported query method without the need of an actual repository interface.
+	 */
+	private static class SyntheticMethodResourceMapping implements MethodResourceMapping {
+
+		private final Path path;
+		private final String rel;
+		private final Method method;
+
+		SyntheticMethodResourceMapping(Path path, String rel, Method method) {
+
+			this.path = path;
+			this.rel = rel;
+			this.method = method;
+		}
+
+		@Override
+		public boolean isExported() {
+			return true;
+		}
+
+		@Override
+		public String getRel() {
+			return rel;
+		}
+
+		@Override
+		public Path getPath() {
+			return path;
+		}
+
+		@Override
+		public boolean isPagingResource() {
+			return false;
+		}
+
+		@Override
+		public ResourceDescription getDescription() {
+			return null;
+		}
+
+		@Override
+		public Method getMethod() {
+			return method;
+		}
+
+		@Override
+		public ParametersMetadata getParametersMetadata() {
+			return null;
+		}
+
+		@Override
+		public boolean isSortableResource() {
+			return false;
+		}
+
+		@Override
+		public Class<?> getReturnedDomainType() {
+			return Object.class;
+		}
+	}
+}
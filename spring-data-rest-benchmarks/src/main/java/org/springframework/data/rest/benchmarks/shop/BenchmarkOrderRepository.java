@@ -0,0 +1,28 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks.shop;
+
+import java.util.UUID;
+
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.rest.tests.shop.Order;
+
+/**
+ * Pageable repository for {@link Order}s.
+ *
+ * @since 3.1
+ */
+public interface BenchmarkOrderRepository extends PagingAndSortingRepository<Order, UUID> {}
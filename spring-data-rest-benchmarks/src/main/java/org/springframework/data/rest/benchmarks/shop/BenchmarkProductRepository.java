@@ -0,0 +1,34 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks.shop;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.tests.shop.Product;
+
+/**
+ * Pageable repository for {@link Product}s, exposing a query method to benchmark search resource execution.
+ *
+ * @since 3.1
+ */
+@RepositoryRestResource(excerptProjection = Product.class)
+public interface BenchmarkProductRepository extends PagingAndSortingRepository<Product, UUID> {
+
+	Optional<Product> findByName(String name);
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks.shop;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.annotation.PostConstruct;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.map.repository.config.EnableMapRepositories;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.shop.Address;
+import org.springframework.data.rest.tests.shop.Customer;
+import org.springframework.data.rest.tests.shop.LineItem;
+import org.springframework.data.rest.tests.shop.LineItemType;
+import org.springframework.data.rest.tests.shop.Order;
+import org.springframework.data.rest.tests.shop.Product;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter;
+
+/**
+ * Configuration of the in-memory key-value store backed shop domain. Populates {@value #CUSTOMERS} customers with an
+ * order of two line items each, so that the largest benchmarked page can be filled.
+ *
+ * @since 3.1
+ */
+@Configuration
+@EnableMapRepositories
+public class ShopBenchmarkConfiguration extends RepositoryRestConfigurerAdapter {
+
+	static final int CUSTOMERS = 1000;
+	static final int PRODUCTS = 50;
+
+	@Autowired BenchmarkCustomerRepository customers;
+	@Autowired BenchmarkOrderRepository orders;
+	@Autowired BenchmarkProductRepository products;
+	@Autowired BenchmarkLineItemTypeRepository lineItemTypes;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.config.RepositoryRestConfigurerAdapter#configureRepositoryRestConfiguration(org.springframework.data.rest.core.config.RepositoryRestConfiguration)
+	 */
+	@Override
+	public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+
+		config.setMaxPageSize(CUSTOMERS);
+		config.withEntityLookup().forRepository(BenchmarkProductRepository.class, Product::getName,
+				BenchmarkProductRepository::findByName);
+		config.withEntityLookup().forValueRepository(BenchmarkLineItemTypeRepository.class, LineItemType::getName,
+				BenchmarkLineItemTypeRepository::findByName);
+	}
+
+	@PostConstruct
+	public void init() {
+
+		LineItemType lineItemType = lineItemTypes.save(new LineItemType("good"));
+		List<Product> catalog = new ArrayList<>(PRODUCTS);
+
+		for (int i = 0; i < PRODUCTS; i++) {
+			catalog.add(products.save(new Product(getProductName(i), BigDecimal.valueOf(100 + i))));
+		}
+
+		for (int i = 0; i < CUSTOMERS; i++) {
+
+			Customer customer = customers.save(new Customer("Dave" + i, "Matthews", null, //
+					new Address("4711 Some Place", "54321", "Charlottesville", "VA")));
+
+			Order order = new Order(customer);
+
+			order.add(new LineItem(catalog.get(i % PRODUCTS), lineItemType));
+			order.add(new LineItem(catalog.get((i + 1) % PRODUCTS), lineItemType));
+
+			orders.save(order);
+		}
+	}
+
+	/**
+	 * Returns the identifier of an arbitrary {@link Order}.
+	 *
+	 * @return
+	 */
+	UUID getOrderId() {
+		return orders.findAll().iterator().next().getId();
+	}
+
+	static String getProductName(int index) {
+		return "product-" + index;
+	}
+}
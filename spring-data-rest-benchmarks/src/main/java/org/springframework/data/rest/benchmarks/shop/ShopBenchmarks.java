@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.benchmarks.shop;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.rest.benchmarks.RepositoryRestBenchmarkSupport;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+
+/**
+ * Benchmarks for read requests against the in-memory key-value store backed shop domain. As the store adds hardly any
+ * overhead, these primarily measure the exporter itself, i.e. {@code PersistentEntityJackson2Module}, the
+ * {@code LinkCollector} and the rendering of excerpt projections for related resources.
+ * <p>
+ * The domain types are immutable value objects, which is why the write benchmarks are run against the JPA domain only.
+ *
+ * @since 3.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(1)
+public class ShopBenchmarks extends RepositoryRestBenchmarkSupport {
+
+	private String orderUri;
+
+	@Setup
+	public void setUp() {
+
+		bootstrap(ShopBenchmarkConfiguration.class);
+
+		UUID orderId = getBean(ShopBenchmarkConfiguration.class).getOrderId();
+
+		this.orderUri = "/orders/" + orderId;
+	}
+
+	@TearDown
+	public void tearDown() {
+		shutdown();
+	}
+
+	@Benchmark
+	public byte[] getItem() throws Exception {
+		return perform(get(orderUri));
+	}
+
+	@Benchmark
+	public byte[] getItemWithProjection() throws Exception {
+		return perform(get(orderUri).param("projection", "itemsOnly"));
+	}
+
+	@Benchmark
+	public byte[] getPageWithExcerpts(PageSize pageSize) throws Exception {
+		return perform(get("/customers").param("size", pageSize.value));
+	}
+
+	@Benchmark
+	public byte[] getPageWithRelatedExcerpts(PageSize pageSize) throws Exception {
+		return perform(get("/orders").param("size", pageSize.value));
+	}
+
+	@Benchmark
+	public byte[] executeSearch() throws Exception {
+		return perform(get("/products/search/findByName").param("name", ShopBenchmarkConfiguration.getProductName(1)));
+	}
+
+	@Benchmark
+	public byte[] getProfile() throws Exception {
+		return perform(get("/profile"));
+	}
+
+	@Benchmark
+	public byte[] getAlps() throws Exception {
+		return perform(get("/profile/orders").accept(RestMediaTypes.ALPS_JSON));
+	}
+
+	@Benchmark
+	public byte[] getJsonSchema() throws Exception {
+		return perform(get("/profile/orders").accept(RestMediaTypes.SCHEMA_JSON));
+	}
+
+	@State(Scope.Benchmark)
+	public static class PageSize {
+
+		@Param({ "20", "200", "1000" }) String value;
+	}
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Exception being thrown if a repository invocation is rejected as the configured concurrency limit is reached.
+ *
+ * @since 3.1
+ * @see org.springframework.data.rest.core.config.ConcurrencyLimitConfiguration
+ */
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+	private static final long serialVersionUID = -2373628296488364937L;
+
+	private final Duration retryAfter;
+
+	/**
+	 * Creates a new {@link ConcurrencyLimitExceededException} for the limit with the given name.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @param limit the limit exceeded.
+	 * @param retryAfter must not be {@literal null}.
+	 */
+	public ConcurrencyLimitExceededException(String name, int limit, Duration retryAfter) {
+
+		super(String.format("Concurrency limit of %s invocations exceeded for %s!", limit, name));
+
+		Assert.notNull(retryAfter, "Retry after duration must not be null!");
+
+		this.retryAfter = retryAfter;
+	}
+
+	/**
+	 * Returns the delay clients are advised to wait for before retrying the request.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+}
@@ -15,20 +15,23 @@
  */
 package org.springframework.data.rest.core;
 
-import java.util.regex.Pattern;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.springframework.util.StringUtils;
 
 /**
  * Simple value object to build up (URI) paths. Allows easy concatenation of {@link String}s and will take care of
- * removal of whitespace and reducing slashes to single ones.
+ * removal of whitespace and reducing slashes to single ones. The normalized representation is computed once on
+ * creation so that matching doesn't allocate.
  *
  * @author Oliver Gierke
  */
 public class Path {
 
 	private static final String SLASH = "/";
-	private static final String MATCH_PATTERN = "/?%s";
+	private static final String SCHEME_SEPARATOR = "://";
 
 	private final String path;
 
@@ -58,7 +61,32 @@ public class Path {
 	 * @return
 	 */
 	public boolean matches(String reference) {
-		return reference == null ? false : this.path.matches(String.format(MATCH_PATTERN, Pattern.quote(reference)));
+
+		if (reference == null) {
+			return false;
+		}
+
+		int offset = path.length() - reference.length();
+
+		if (offset == 0) {
+			return path.equals(reference);
+		}
+
+		return offset == 1 && path.charAt(0) == '/' && path.startsWith(reference, 1);
+	}
+
+	/**
+	 * Returns all references the current {@link Path} {@link #matches(String) matches}, i.e. the path itself and the
+	 * path without the leading slash. Useful to index {@link Path}s for hash based lookups.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.1
+	 */
+	public List<String> getMatchingReferences() {
+
+		return path.startsWith(SLASH) //
+				? Arrays.asList(path, path.substring(1)) //
+				: Collections.singletonList(path);
 	}
 
 	/**
@@ -90,7 +118,11 @@ public class Path {
 			return "";
 		}
 
-		String trimmed = path.trim().replaceAll(" ", "");
+		if (isNormalized(path)) {
+			return path;
+		}
+
+		String trimmed = StringUtils.delete(path.trim(), " ");
 
 		while (trimmed.endsWith("/")) {
 			trimmed = trimmed.substring(0, trimmed.length() - 1);
@@ -98,7 +130,31 @@ public class Path {
 
 		trimmed = trimmed.substring(getFirstNoneSlashIndex(trimmed));
 
-		return trimmed.contains("://") ? trimmed : SLASH + trimmed;
+		return trimmed.contains(SCHEME_SEPARATOR) ? trimmed : SLASH + trimmed;
+	}
+
+	/**
+	 * Returns whether the given non-empty path is already in the form {@link #cleanUp(String)} would turn it into, so
+	 * that it can be used as is.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @return
+	 */
+	private static boolean isNormalized(String path) {
+
+		int length = path.length();
+
+		if (path.indexOf(' ') != -1 || path.charAt(0) <= ' ' || path.charAt(length - 1) <= ' ') {
+			return false;
+		}
+
+		if (length == 1 || path.charAt(length - 1) == '/') {
+			return false;
+		}
+
+		boolean absolute = path.contains(SCHEME_SEPARATOR);
+
+		return absolute ? path.charAt(0) != '/' : path.charAt(0) == '/' && path.charAt(1) != '/';
 	}
 
 	/*
@@ -15,9 +15,9 @@
  */
 package org.springframework.data.rest.core;
 
-import java.util.Arrays;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.ConfigurablePropertyAccessor;
@@ -30,6 +30,7 @@ import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.PersistentEntities;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.validation.AbstractPropertyBindingResult;
 import org.springframework.validation.Errors;
 
@@ -43,9 +44,11 @@ import org.springframework.validation.Errors;
 public class ValidationErrors extends AbstractPropertyBindingResult {
 
 	private static final long serialVersionUID = 8141826537389141361L;
+	private static final Map<PersistentEntities, PropertyCache> PROPERTY_CACHES = new ConcurrentReferenceHashMap<>();
 
 	private final Object source;
 	private final PersistentEntities entities;
+	private transient ConfigurablePropertyAccessor propertyAccessor;
 
 	/**
 	 * Creates a new {@link ValidationErrors} instance for the given source object and {@link PersistentEntity}.
@@ -71,50 +74,128 @@ public class ValidationErrors extends AbstractPropertyBindingResult {
 	@Override
 	public ConfigurablePropertyAccessor getPropertyAccessor() {
 
-		return new DirectFieldAccessor(getTarget()) {
+		if (propertyAccessor == null) {
+			this.propertyAccessor = new PersistentPropertyPathAccessor(source, getPropertyCache(entities));
+		}
 
-			@Override
-			public Object getPropertyValue(String propertyName) throws BeansException {
+		return propertyAccessor;
+	}
 
-				Collection<String> segments = Arrays.asList(propertyName.split("\\."));
-				Iterator<String> iterator = segments.iterator();
-				Object value = source;
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.validation.AbstractBindingResult#getTarget()
+	 */
+	@Override
+	public Object getTarget() {
+		return source;
+	}
 
-				do {
+	private static PropertyCache getPropertyCache(PersistentEntities entities) {
 
-					value = lookupValueOn(value, iterator.next());
+		PropertyCache cache = PROPERTY_CACHES.get(entities);
 
-				} while (iterator.hasNext());
+		return cache != null ? cache : PROPERTY_CACHES.computeIfAbsent(entities, PropertyCache::new);
+	}
 
-				return value;
+	/**
+	 * {@link DirectFieldAccessor} resolving (nested) property values through the {@link PersistentPropertyAccessor} of
+	 * the {@link PersistentEntity} backing each path segment.
+	 *
+	 * @since 3.1
+	 */
+	private static class PersistentPropertyPathAccessor extends DirectFieldAccessor {
+
+		private final Object source;
+		private final PropertyCache properties;
+
+		PersistentPropertyPathAccessor(Object source, PropertyCache properties) {
+
+			super(source);
+
+			this.source = source;
+			this.properties = properties;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.beans.AbstractNestablePropertyAccessor#getPropertyValue(java.lang.String)
+		 */
+		@Override
+		public Object getPropertyValue(String propertyName) throws BeansException {
+
+			Object value = source;
+			int start = 0;
+			int end;
+
+			while ((end = propertyName.indexOf('.', start)) != -1) {
+				value = lookupValueOn(value, propertyName.substring(start, end));
+				start = end + 1;
 			}
 
-			/**
-			 * @param value the original value, must not be {@literal null}..
-			 * @param segment the property segment to look up, must not be {@literal null} or empty.
-			 * @return
-			 */
-			private Object lookupValueOn(Object value, String segment) {
+			return lookupValueOn(value, start == 0 ? propertyName : propertyName.substring(start));
+		}
 
-				PersistentProperty<?> property = entities.getPersistentEntity(value.getClass()) //
-						.map(it -> it.getPersistentProperty(PropertyAccessorUtils.getPropertyName(segment))) //
-						.orElseThrow(() -> new NotReadablePropertyException(value.getClass(), segment));
+		/**
+		 * @param value the original value, must not be {@literal null}..
+		 * @param segment the property segment to look up, must not be {@literal null} or empty.
+		 * @return
+		 */
+		private Object lookupValueOn(Object value, String segment) {
 
-				ConfigurablePropertyAccessor accessor = property.usePropertyAccess() //
-						? PropertyAccessorFactory.forBeanPropertyAccess(value) //
-						: PropertyAccessorFactory.forDirectFieldAccess(value);
+			PersistentProperty<?> property = properties.getProperty(value.getClass(), segment) //
+					.orElseThrow(() -> new NotReadablePropertyException(value.getClass(), segment));
 
-				return accessor.getPropertyValue(segment);
+			// Plain property name, use the entity's accessor
+			if (property.getName().equals(segment)) {
+				return property.getOwner().getPropertyAccessor(value).getProperty(property);
 			}
-		};
+
+			// Indexed or keyed segment, let Spring's accessors resolve the element
+			ConfigurablePropertyAccessor accessor = property.usePropertyAccess() //
+					? PropertyAccessorFactory.forBeanPropertyAccess(value) //
+					: PropertyAccessorFactory.forDirectFieldAccess(value);
+
+			return accessor.getPropertyValue(segment);
+		}
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.validation.AbstractBindingResult#getTarget()
+	/**
+	 * Cache of the {@link PersistentProperty} instances resolved for a type and property path segment from a
+	 * {@link PersistentEntities} instance.
+	 *
+	 * @since 3.1
 	 */
-	@Override
-	public Object getTarget() {
-		return source;
+	private static class PropertyCache {
+
+		private final PersistentEntities entities;
+		private final Map<Class<?>, Map<String, Optional<PersistentProperty<?>>>> properties;
+
+		PropertyCache(PersistentEntities entities) {
+
+			this.entities = entities;
+			this.properties = new ConcurrentReferenceHashMap<>();
+		}
+
+		Optional<PersistentProperty<?>> getProperty(Class<?> type, String segment) {
+
+			Map<String, Optional<PersistentProperty<?>>> byName = properties.get(type);
+
+			if (byName == null) {
+				byName = properties.computeIfAbsent(type, it -> new ConcurrentHashMap<>());
+			}
+
+			Optional<PersistentProperty<?>> property = byName.get(segment);
+
+			if (property == null) {
+
+				// Types not (yet) known to the mapping context are not cached as they might get added later on
+				property = byName.computeIfAbsent(segment, it -> entities.getPersistentEntity(type) //
+						.map(entity -> Optional.<PersistentProperty<?>> ofNullable(
+								entity.getPersistentProperty(PropertyAccessorUtils.getPropertyName(it)))) //
+						.orElse(null));
+			}
+
+			return property == null ? Optional.empty() : property;
+		}
 	}
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.annotation;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the {@code Cache-Control} directives to be sent with successful {@code GET} responses of the item,
+ * collection, search and association resources exported for a repository or query method. Only usable as attribute
+ * of {@link RepositoryRestResource#cachePolicy()} and {@link RestResource#cachePolicy()}. A policy not declaring any
+ * directive doesn't cause any {@code Cache-Control} header to be sent.
+ *
+ * @since 3.1
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachePolicy {
+
+	/**
+	 * The number of seconds a response can be cached for ({@code max-age}). Defaults to {@literal -1}, which omits the
+	 * directive.
+	 *
+	 * @return
+	 */
+	long maxAge() default -1;
+
+	/**
+	 * The number of seconds a response can be cached for by shared caches like CDNs or reverse proxies
+	 * ({@code s-maxage}). Defaults to {@literal -1}, which omits the directive.
+	 *
+	 * @return
+	 */
+	long sharedMaxAge() default -1;
+
+	/**
+	 * The number of seconds a stale response can still be served while it's revalidated in the background
+	 * ({@code stale-while-revalidate}). Defaults to {@literal -1}, which omits the directive.
+	 *
+	 * @return
+	 */
+	long staleWhileRevalidate() default -1;
+
+	/**
+	 * Whether responses must only be cached by the client ({@code private}). Defaults to {@literal false}, which leaves
+	 * responses cacheable by shared caches as well. Those only store responses to authenticated requests if
+	 * {@link #sharedMaxAge()} is declared, too.
+	 *
+	 * @return
+	 */
+	boolean cachePrivate() default false;
+}
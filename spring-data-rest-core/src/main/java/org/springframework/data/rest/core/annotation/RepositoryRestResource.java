@@ -82,5 +82,24 @@ public @interface RepositoryRestResource {
 	 */
 	Class<?> excerptProjection() default None.class;
 
+	/**
+	 * The maximum number of concurrent invocations of the repository triggered by requests to the exported resources.
+	 * Requests exceeding the limit are rejected with {@code 503 Service Unavailable}. Defaults to {@literal 0}, which
+	 * indicates no limit.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	int concurrencyLimit() default 0;
+
+	/**
+	 * The {@code Cache-Control} directives to be sent with successful {@code GET} responses of the resources exported
+	 * for the repository. Defaults to no caching directives at all.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	CachePolicy cachePolicy() default @CachePolicy;
+
 	static class None {}
 }
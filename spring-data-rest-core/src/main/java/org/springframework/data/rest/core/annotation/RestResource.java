@@ -63,4 +63,24 @@ public @interface RestResource {
 	 * @return
 	 */
 	Description description() default @Description(value = "");
+
+	/**
+	 * The maximum number of concurrent invocations of the annotated repository or query method triggered by requests to
+	 * the exported resources. Requests exceeding the limit are rejected with {@code 503 Service Unavailable}. Defaults to
+	 * {@literal 0}, which indicates no limit. Not considered for domain types and their properties.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	int concurrencyLimit() default 0;
+
+	/**
+	 * The {@code Cache-Control} directives to be sent with successful {@code GET} responses of the resources exported
+	 * for the annotated repository or query method. A query method not declaring any directive uses the ones of its
+	 * repository. Defaults to no caching directives at all. Not considered for domain types and their properties.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	CachePolicy cachePolicy() default @CachePolicy;
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the asynchronous publication of the {@code After…} repository events (e.g.
+ * {@link org.springframework.data.rest.core.event.AfterSaveEvent}). If an {@link Executor} is configured, those events
+ * are handed to the listeners on that executor after the request was processed (or the surrounding transaction
+ * committed) instead of on the request thread. Events are delivered in the order they were published, which also
+ * guarantees the ordering per aggregate. {@code Before…} events are always published synchronously as their listeners
+ * can veto or alter the operation. The same applies to {@code After…} events that
+ * {@link org.springframework.data.rest.core.event.ValidatingRepositoryEventListener} has validators registered for.
+ * <p>
+ * Events published while resources are bound to the publishing thread, e.g. within a transaction or with an
+ * {@code EntityManager} kept open by {@code OpenEntityManagerInViewInterceptor}, are published on that thread, too, as
+ * the entities they carry are still attached to a persistence context that must not be shared with other threads.
+ *
+ * @since 3.1
+ * @see org.springframework.data.rest.core.event.RepositoryEventBatch
+ */
+public class AsyncEventConfiguration {
+
+	private Executor executor;
+	private int queueCapacity = 1000;
+	private int maxBatchSize = 100;
+	private boolean batchPublication = false;
+	private Duration enqueueTimeout = Duration.ofMillis(100);
+
+	/**
+	 * Configures the {@link Executor} to publish the {@code After…} events on. Defaults to {@literal null}, i.e. all
+	 * events are published synchronously.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return the current {@link AsyncEventConfiguration}.
+	 */
+	public AsyncEventConfiguration setExecutor(Executor executor) {
+
+		this.executor = executor;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of events waiting for publication. Once the limit is reached, threads publishing
+	 * events wait up to the configured {@link #setEnqueueTimeout(Duration) enqueue timeout} for the queue to have
+	 * capacity again and publish the event synchronously after the ones still queued if it doesn't. Defaults to 1000.
+	 *
+	 * @param queueCapacity must be greater than zero.
+	 * @return the current {@link AsyncEventConfiguration}.
+	 */
+	public AsyncEventConfiguration setQueueCapacity(int queueCapacity) {
+
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero!");
+
+		this.queueCapacity = queueCapacity;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of events of the same type handed to the listeners of a
+	 * {@link org.springframework.data.rest.core.event.RepositoryEventBatch} at once. Defaults to 100.
+	 *
+	 * @param maxBatchSize must be greater than zero.
+	 * @return the current {@link AsyncEventConfiguration}.
+	 */
+	public AsyncEventConfiguration setMaxBatchSize(int maxBatchSize) {
+
+		Assert.isTrue(maxBatchSize > 0, "Maximum batch size must be greater than zero!");
+
+		this.maxBatchSize = maxBatchSize;
+		return this;
+	}
+
+	/**
+	 * Configures how long threads publishing events wait for the queue to have capacity again once it is full. The
+	 * event is published on the calling thread after the ones still queued if the timeout elapses. Defaults to 100
+	 * milliseconds.
+	 *
+	 * @param enqueueTimeout must not be {@literal null} or negative.
+	 * @return the current {@link AsyncEventConfiguration}.
+	 */
+	public AsyncEventConfiguration setEnqueueTimeout(Duration enqueueTimeout) {
+
+		Assert.notNull(enqueueTimeout, "Enqueue timeout must not be null!");
+		Assert.isTrue(!enqueueTimeout.isNegative(), "Enqueue timeout must not be negative!");
+
+		this.enqueueTimeout = enqueueTimeout;
+		return this;
+	}
+
+	/**
+	 * Configures whether to publish the events as
+	 * {@link org.springframework.data.rest.core.event.RepositoryEventBatch}es instead of individually. If enabled,
+	 * listeners for the individual events (e.g.
+	 * {@link org.springframework.data.rest.core.annotation.RepositoryEventHandler}s) don't see the asynchronously
+	 * published events anymore. Defaults to {@literal false}.
+	 *
+	 * @param batchPublication
+	 * @return the current {@link AsyncEventConfiguration}.
+	 */
+	public AsyncEventConfiguration setBatchPublication(boolean batchPublication) {
+
+		this.batchPublication = batchPublication;
+		return this;
+	}
+
+	/**
+	 * Returns whether the asynchronous publication of events is enabled.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return executor != null;
+	}
+
+	/**
+	 * Returns the {@link Executor} to publish events on.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/**
+	 * Returns the maximum number of events waiting for publication.
+	 *
+	 * @return
+	 */
+	public int getQueueCapacity() {
+		return queueCapacity;
+	}
+
+	/**
+	 * Returns the maximum number of events in a single
+	 * {@link org.springframework.data.rest.core.event.RepositoryEventBatch}.
+	 *
+	 * @return
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Returns how long to wait for the queue to have capacity again before publishing an event synchronously.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getEnqueueTimeout() {
+		return enqueueTimeout;
+	}
+
+	/**
+	 * Returns whether events are published as {@link org.springframework.data.rest.core.event.RepositoryEventBatch}es
+	 * instead of individually.
+	 *
+	 * @return
+	 */
+	public boolean isBatchPublication() {
+		return batchPublication;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration for the asynchronous execution of requests to repository resources. If an {@link AsyncTaskExecutor} is
+ * registered for a domain type (or a default one is configured), the handler methods of the repository controllers
+ * run on that executor and the Servlet container thread is released for the duration of the repository interaction.
+ * The request attributes, locale and - if Spring Security is configured - the security context are propagated to the
+ * executing thread by Spring MVC's asynchronous request processing, which requires async support to be enabled for the
+ * {@code DispatcherServlet} and all filters involved.
+ *
+ * @since 3.1
+ */
+public class AsyncExecutionConfiguration {
+
+	private final Map<Class<?>, AsyncTaskExecutor> executors = new HashMap<Class<?>, AsyncTaskExecutor>();
+	private AsyncTaskExecutor defaultExecutor;
+	private Long timeout;
+
+	/**
+	 * Configures the {@link AsyncTaskExecutor} to be used for all repositories no dedicated executor was registered for.
+	 * Defaults to {@literal null}, i.e. requests to those repositories are handled synchronously.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return the current {@link AsyncExecutionConfiguration}.
+	 */
+	public AsyncExecutionConfiguration setDefaultExecutor(AsyncTaskExecutor executor) {
+
+		this.defaultExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Registers the given {@link AsyncTaskExecutor} to execute requests to the repository managing the given domain type.
+	 * Using a dedicated, bounded executor per repository prevents slow repositories from using up the threads available
+	 * to fast ones.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return the current {@link AsyncExecutionConfiguration}.
+	 */
+	public AsyncExecutionConfiguration setExecutorFor(Class<?> domainType, AsyncTaskExecutor executor) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(executor, "AsyncTaskExecutor must not be null!");
+
+		this.executors.put(domainType, executor);
+		return this;
+	}
+
+	/**
+	 * Configures the timeout in milliseconds for asynchronously executed requests. Defaults to {@literal null}, i.e. the
+	 * timeout configured for Spring MVC's asynchronous request processing applies.
+	 *
+	 * @param timeout can be {@literal null}.
+	 * @return the current {@link AsyncExecutionConfiguration}.
+	 */
+	public AsyncExecutionConfiguration setTimeout(Long timeout) {
+
+		this.timeout = timeout;
+		return this;
+	}
+
+	/**
+	 * Returns the timeout in milliseconds for asynchronously executed requests.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public Long getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * Returns whether asynchronous execution is enabled for any repository.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return defaultExecutor != null || !executors.isEmpty();
+	}
+
+	/**
+	 * Returns the {@link AsyncTaskExecutor} to execute requests to the repository of the given domain type with.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<AsyncTaskExecutor> getExecutorFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		AsyncTaskExecutor executor = executors.get(domainType);
+
+		return Optional.ofNullable(executor == null ? defaultExecutor : executor);
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.http.CacheControl;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the {@code Cache-Control} directives sent with successful {@code GET} responses of the item,
+ * collection, search and association resources exported for repositories and their query methods. Policies
+ * configured here take precedence over the ones declared via {@link RepositoryRestResource#cachePolicy()} and
+ * {@link RestResource#cachePolicy()}.
+ *
+ * @since 3.1
+ */
+public class CacheControlConfiguration {
+
+	private final Map<Class<?>, CacheControl> repositoryPolicies = new HashMap<Class<?>, CacheControl>();
+	private final Map<Class<?>, Map<String, CacheControl>> queryMethodPolicies = //
+			new HashMap<Class<?>, Map<String, CacheControl>>();
+
+	/**
+	 * Configures the {@link CacheControl} to be used for the resources exported for the repository managing the given
+	 * domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param cacheControl must not be {@literal null}.
+	 * @return the current {@link CacheControlConfiguration}.
+	 */
+	public CacheControlConfiguration setCacheControlFor(Class<?> domainType, CacheControl cacheControl) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(cacheControl, "CacheControl must not be null!");
+
+		this.repositoryPolicies.put(domainType, cacheControl);
+		return this;
+	}
+
+	/**
+	 * Configures the {@link CacheControl} to be used for the search resource of the query method with the given name
+	 * declared on the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param methodName must not be {@literal null} or empty.
+	 * @param cacheControl must not be {@literal null}.
+	 * @return the current {@link CacheControlConfiguration}.
+	 */
+	public CacheControlConfiguration setCacheControlFor(Class<?> domainType, String methodName,
+			CacheControl cacheControl) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.hasText(methodName, "Method name must not be null or empty!");
+		Assert.notNull(cacheControl, "CacheControl must not be null!");
+
+		this.queryMethodPolicies.computeIfAbsent(domainType, it -> new HashMap<String, CacheControl>()) //
+				.put(methodName, cacheControl);
+		return this;
+	}
+
+	/**
+	 * Returns the {@link CacheControl} configured for the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<CacheControl> getCacheControlFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return Optional.ofNullable(repositoryPolicies.get(domainType));
+	}
+
+	/**
+	 * Returns the {@link CacheControl} configured for the query method with the given name on the repository managing
+	 * the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param methodName must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<CacheControl> getCacheControlFor(Class<?> domainType, String methodName) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(methodName, "Method name must not be null!");
+
+		return Optional.ofNullable(queryMethodPolicies.get(domainType)).map(it -> it.get(methodName));
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the compression of the response bodies written by the exporter. If enabled, responses of a
+ * compressible media type are encoded using the best content coding accepted by the client as soon as they exceed the
+ * configured minimum size. Responses below the minimum size are written as is.
+ * <p>
+ * The metadata documents exposed below the profile root don't change at runtime, so their compressed form is cached
+ * per request path, content type, language and coding and reused instead of rendering and compressing them on every
+ * request.
+ *
+ * @since 3.1
+ */
+public class CompressionConfiguration {
+
+	private static final List<MediaType> DEFAULT_COMPRESSIBLE_MEDIA_TYPES = Collections.unmodifiableList(
+			Arrays.asList(MediaType.APPLICATION_JSON, MediaType.valueOf("application/*+json")));
+
+	private boolean enabled = false;
+	private int minResponseSize = 2048;
+	private int maxPrecompressedDocuments = 64;
+	private List<MediaType> compressibleMediaTypes = DEFAULT_COMPRESSIBLE_MEDIA_TYPES;
+
+	/**
+	 * Configures whether to compress response bodies. Defaults to {@literal false}.
+	 *
+	 * @param enabled
+	 * @return the current {@link CompressionConfiguration}.
+	 */
+	public CompressionConfiguration setEnabled(boolean enabled) {
+
+		this.enabled = enabled;
+		return this;
+	}
+
+	/**
+	 * Configures the minimum size in bytes a response body has to have to get compressed. Defaults to 2048.
+	 *
+	 * @param minResponseSize must not be negative.
+	 * @return the current {@link CompressionConfiguration}.
+	 */
+	public CompressionConfiguration setMinResponseSize(int minResponseSize) {
+
+		Assert.isTrue(minResponseSize >= 0, "Minimum response size must not be negative!");
+
+		this.minResponseSize = minResponseSize;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of compressed metadata documents to cache. All cached documents are dropped once the
+	 * limit is reached. Defaults to 64.
+	 *
+	 * @param maxPrecompressedDocuments must not be negative, {@literal 0} disables the cache.
+	 * @return the current {@link CompressionConfiguration}.
+	 */
+	public CompressionConfiguration setMaxPrecompressedDocuments(int maxPrecompressedDocuments) {
+
+		Assert.isTrue(maxPrecompressedDocuments >= 0, "Maximum number of documents must not be negative!");
+
+		this.maxPrecompressedDocuments = maxPrecompressedDocuments;
+		return this;
+	}
+
+	/**
+	 * Configures the media types of the responses to compress. Defaults to {@code application/json} and
+	 * {@code application/*+json}. Wildcards are supported.
+	 *
+	 * @param mediaTypes must not be {@literal null}.
+	 * @return the current {@link CompressionConfiguration}.
+	 */
+	public CompressionConfiguration setCompressibleMediaTypes(MediaType... mediaTypes) {
+
+		Assert.notNull(mediaTypes, "Media types must not be null!");
+
+		this.compressibleMediaTypes = Collections.unmodifiableList(Arrays.asList(mediaTypes));
+		return this;
+	}
+
+	/**
+	 * Returns whether response bodies are compressed.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Returns the minimum size in bytes a response body has to have to get compressed.
+	 *
+	 * @return
+	 */
+	public int getMinResponseSize() {
+		return minResponseSize;
+	}
+
+	/**
+	 * Returns the maximum number of compressed metadata documents to cache.
+	 *
+	 * @return
+	 */
+	public int getMaxPrecompressedDocuments() {
+		return maxPrecompressedDocuments;
+	}
+
+	/**
+	 * Returns the media types of the responses to compress.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<MediaType> getCompressibleMediaTypes() {
+		return compressibleMediaTypes;
+	}
+
+	/**
+	 * Returns whether responses of the given {@link MediaType} are to be compressed.
+	 *
+	 * @param mediaType can be {@literal null}.
+	 * @return
+	 */
+	public boolean isCompressible(MediaType mediaType) {
+		return enabled && mediaType != null && compressibleMediaTypes.stream().anyMatch(it -> it.includes(mediaType));
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the maximum number of concurrent invocations of repositories and their query methods exported as
+ * resources. Requests exceeding the limit are rejected immediately with {@code 503 Service Unavailable} instead of
+ * waiting for an invocation to complete. Limits configured here take precedence over the ones declared via
+ * {@link RepositoryRestResource#concurrencyLimit()} and {@link RestResource#concurrencyLimit()}.
+ *
+ * @since 3.1
+ */
+public class ConcurrencyLimitConfiguration {
+
+	private final Map<Class<?>, Integer> repositoryLimits = new HashMap<Class<?>, Integer>();
+	private final Map<Class<?>, Map<String, Integer>> queryMethodLimits = new HashMap<Class<?>, Map<String, Integer>>();
+
+	private Duration retryAfter = Duration.ofSeconds(1);
+
+	/**
+	 * Limits the number of concurrent invocations of the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param limit must be greater than zero.
+	 * @return the current {@link ConcurrencyLimitConfiguration}.
+	 */
+	public ConcurrencyLimitConfiguration setLimitFor(Class<?> domainType, int limit) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.isTrue(limit > 0, "Concurrency limit must be greater than zero!");
+
+		this.repositoryLimits.put(domainType, limit);
+		return this;
+	}
+
+	/**
+	 * Limits the number of concurrent invocations of the query method with the given name declared on the repository
+	 * managing the given domain type. Invocations of the query method also count towards the limit configured for the
+	 * repository itself.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param methodName must not be {@literal null} or empty.
+	 * @param limit must be greater than zero.
+	 * @return the current {@link ConcurrencyLimitConfiguration}.
+	 */
+	public ConcurrencyLimitConfiguration setLimitFor(Class<?> domainType, String methodName, int limit) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.hasText(methodName, "Method name must not be null or empty!");
+		Assert.isTrue(limit > 0, "Concurrency limit must be greater than zero!");
+
+		this.queryMethodLimits.computeIfAbsent(domainType, it -> new HashMap<String, Integer>()).put(methodName, limit);
+		return this;
+	}
+
+	/**
+	 * Configures the delay clients are advised to wait for before retrying a rejected request via the
+	 * {@code Retry-After} header. Defaults to one second.
+	 *
+	 * @param retryAfter must not be {@literal null} or negative.
+	 * @return the current {@link ConcurrencyLimitConfiguration}.
+	 */
+	public ConcurrencyLimitConfiguration setRetryAfter(Duration retryAfter) {
+
+		Assert.notNull(retryAfter, "Retry after duration must not be null!");
+		Assert.isTrue(!retryAfter.isNegative(), "Retry after duration must not be negative!");
+
+		this.retryAfter = retryAfter;
+		return this;
+	}
+
+	/**
+	 * Returns the delay clients are advised to wait for before retrying a rejected request.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Duration getRetryAfter() {
+		return retryAfter;
+	}
+
+	/**
+	 * Returns the concurrency limit configured for the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Integer> getLimitFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return Optional.ofNullable(repositoryLimits.get(domainType));
+	}
+
+	/**
+	 * Returns the concurrency limit configured for the query method with the given name on the repository managing the
+	 * given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param methodName must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<Integer> getLimitFor(Class<?> domainType, String methodName) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(methodName, "Method name must not be null!");
+
+		return Optional.ofNullable(queryMethodLimits.get(domainType)).map(it -> it.get(methodName));
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the cache for entities of lookup types (see
+ * {@link EntityLookupRegistrar#forLookupRepository(Class)}) resolved while reading request payloads. Lookup types are
+ * usually small, slowly changing reference data, so caching them avoids a store round trip for every value read. If a
+ * time to live is configured, resolved entities of the types registered via {@link #addImmutableTypes(Class...)} are
+ * cached per lookup key until they expire or an {@link org.springframework.data.rest.core.event.AfterSaveEvent} or
+ * {@link org.springframework.data.rest.core.event.AfterDeleteEvent} is published for the lookup type. Changes applied
+ * to the store without going through the exporter only become visible once the entries expired.
+ * <p>
+ * Cached entities are shared between requests, threads and persistence contexts. For stores managing entity
+ * instances, like JPA, the cached instance is attached to the persistence context it was loaded in at most and
+ * detached from all others. Thus only register types that are never modified through the exporter or the store, e.g.
+ * entities mapped as immutable ({@code @org.hibernate.annotations.Immutable}) and only referred to by other entities.
+ * Lookup types not registered are always resolved through their repository.
+ *
+ * @since 3.1
+ * @see org.springframework.data.rest.core.support.LookupEntityCache
+ */
+public class LookupCacheConfiguration {
+
+	private Duration timeToLive;
+	private int maxEntriesPerType = 1000;
+	private final Set<Class<?>> immutableTypes = new HashSet<>();
+
+	/**
+	 * Configures how long resolved lookup entities are cached. Defaults to {@literal null}, i.e. caching is disabled.
+	 *
+	 * @param timeToLive can be {@literal null}, must not be negative.
+	 * @return the current {@link LookupCacheConfiguration}.
+	 */
+	public LookupCacheConfiguration setTimeToLive(Duration timeToLive) {
+
+		Assert.isTrue(timeToLive == null || !timeToLive.isNegative(), "Time to live must not be negative!");
+
+		this.timeToLive = timeToLive;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of entities cached per lookup type. All entries of a type are dropped once the
+	 * limit is reached. Defaults to 1000.
+	 *
+	 * @param maxEntriesPerType must be greater than zero.
+	 * @return the current {@link LookupCacheConfiguration}.
+	 */
+	public LookupCacheConfiguration setMaxEntriesPerType(int maxEntriesPerType) {
+
+		Assert.isTrue(maxEntriesPerType > 0, "Maximum number of entries must be greater than zero!");
+
+		this.maxEntriesPerType = maxEntriesPerType;
+		return this;
+	}
+
+	/**
+	 * Registers the given lookup types as immutable so that their entities are cached. See the class level
+	 * documentation for the requirements such types have to meet.
+	 *
+	 * @param types must not be {@literal null}.
+	 * @return the current {@link LookupCacheConfiguration}.
+	 */
+	public LookupCacheConfiguration addImmutableTypes(Class<?>... types) {
+
+		Assert.notNull(types, "Types must not be null!");
+
+		this.immutableTypes.addAll(Arrays.asList(types));
+		return this;
+	}
+
+	/**
+	 * Returns whether lookup entities are cached.
+	 *
+	 * @return
+	 */
+	public boolean isEnabled() {
+		return timeToLive != null && !timeToLive.isZero() && !immutableTypes.isEmpty();
+	}
+
+	/**
+	 * Returns whether entities of the given lookup type are cached.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isCached(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		return isEnabled() && immutableTypes.contains(type);
+	}
+
+	/**
+	 * Returns the lookup types registered as immutable.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Set<Class<?>> getImmutableTypes() {
+		return Collections.unmodifiableSet(immutableTypes);
+	}
+
+	/**
+	 * Returns how long resolved lookup entities are cached.
+	 *
+	 * @return can be {@literal null}.
+	 */
+	public Duration getTimeToLive() {
+		return timeToLive;
+	}
+
+	/**
+	 * Returns the maximum number of entities cached per lookup type.
+	 *
+	 * @return
+	 */
+	public int getMaxEntriesPerType() {
+		return maxEntriesPerType;
+	}
+}
@@ -23,6 +23,8 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
 
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
@@ -68,6 +70,8 @@ public class RepositoryRestConfiguration {
 	private ResourceMappingConfiguration repoMappings = new ResourceMappingConfiguration();
 	private RepositoryDetectionStrategy repositoryDetectionStrategy = RepositoryDetectionStrategies.DEFAULT;
 	private boolean exposeRepositoryMethodsByDefault = true;
+	private Executor resourceAssemblyExecutor = null;
+	private int resourceAssemblyBatchSize = 50;
 
 	/**
 	 * The {@link RelProvider} to be used to calculate the link relation defaults for repositories.
@@ -75,6 +79,13 @@ public class RepositoryRestConfiguration {
 	private @Getter @Setter @NonNull RelProvider relProvider = new EvoInflectorRelProvider();
 
 	private final RepositoryCorsRegistry corsRegistry = new RepositoryCorsRegistry();
+	private final AsyncExecutionConfiguration asyncExecutionConfiguration = new AsyncExecutionConfiguration();
+	private final ConcurrencyLimitConfiguration concurrencyLimitConfiguration = new ConcurrencyLimitConfiguration();
+	private final AsyncEventConfiguration asyncEventConfiguration = new AsyncEventConfiguration();
+	private final LookupCacheConfiguration lookupCacheConfiguration = new LookupCacheConfiguration();
+	private final SerializerCacheConfiguration serializerCacheConfiguration = new SerializerCacheConfiguration();
+	private final CompressionConfiguration compressionConfiguration = new CompressionConfiguration();
+	private final CacheControlConfiguration cacheControlConfiguration = new CacheControlConfiguration();
 	private final ProjectionDefinitionConfiguration projectionConfiguration;
 	private final MetadataConfiguration metadataConfiguration;
 	private final EntityLookupConfiguration entityLookupConfiguration;
@@ -627,6 +638,82 @@ public class RepositoryRestConfiguration {
 		return corsRegistry;
 	}
 
+	/**
+	 * Returns the {@link AsyncExecutionConfiguration} to configure the asynchronous execution of requests to repository
+	 * resources.
+	 *
+	 * @return the {@link AsyncExecutionConfiguration}.
+	 * @since 3.1
+	 */
+	public AsyncExecutionConfiguration getAsyncExecutionConfiguration() {
+		return asyncExecutionConfiguration;
+	}
+
+	/**
+	 * Returns the {@link ConcurrencyLimitConfiguration} to limit the number of concurrent invocations of individual
+	 * repositories and their query methods.
+	 *
+	 * @return the {@link ConcurrencyLimitConfiguration}.
+	 * @since 3.1
+	 */
+	public ConcurrencyLimitConfiguration getConcurrencyLimitConfiguration() {
+		return concurrencyLimitConfiguration;
+	}
+
+	/**
+	 * Returns the {@link AsyncEventConfiguration} to configure the asynchronous publication of the {@code After…}
+	 * repository events.
+	 *
+	 * @return the {@link AsyncEventConfiguration}.
+	 * @since 3.1
+	 */
+	public AsyncEventConfiguration getAsyncEventConfiguration() {
+		return asyncEventConfiguration;
+	}
+
+	/**
+	 * Returns the {@link LookupCacheConfiguration} to configure the caching of entities of lookup types resolved while
+	 * reading request payloads.
+	 *
+	 * @return the {@link LookupCacheConfiguration}.
+	 * @since 3.1
+	 */
+	public LookupCacheConfiguration getLookupCacheConfiguration() {
+		return lookupCacheConfiguration;
+	}
+
+	/**
+	 * Returns the {@link SerializerCacheConfiguration} to configure the warm-up and size of the Jackson serializer
+	 * caches.
+	 *
+	 * @return the {@link SerializerCacheConfiguration}.
+	 * @since 3.1
+	 */
+	public SerializerCacheConfiguration getSerializerCacheConfiguration() {
+		return serializerCacheConfiguration;
+	}
+
+	/**
+	 * Returns the {@link CompressionConfiguration} to configure the compression of response bodies.
+	 *
+	 * @return the {@link CompressionConfiguration}.
+	 * @since 3.1
+	 */
+	public CompressionConfiguration getCompressionConfiguration() {
+		return compressionConfiguration;
+	}
+
+	/**
+	 * Returns the {@link CacheControlConfiguration} to configure the {@code Cache-Control} directives sent for the
+	 * resources of individual repositories and their query methods.
+	 *
+	 * @return the {@link CacheControlConfiguration}.
+	 * @since 3.1
+	 */
+	public CacheControlConfiguration getCacheControlConfiguration() {
+		return cacheControlConfiguration;
+	}
+
 	/**
 	 * Returns the {@link EntityLookupRegistrar} to create custom {@link EntityLookup} instances registered in the
 	 * configuration.
@@ -654,4 +741,60 @@ public class RepositoryRestConfiguration {
 	public boolean isLookupType(Class<?> type) {
 		return this.entityLookupConfiguration.isLookupType(type);
 	}
+
+	/**
+	 * Configures the {@link Executor} to assemble the elements of large collection resources with. If set, collections
+	 * with more elements than the configured batch size are split into batches that get turned into resources (links,
+	 * embedded resources, resource processors) concurrently before being rendered in their original order. Assembly
+	 * falls back to the request thread if a persistence context is bound to it, as lazily loaded associations must not
+	 * be accessed from other threads. Defaults to {@literal null}, i.e. all resources are assembled on the request
+	 * thread.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @return the current {@link RepositoryRestConfiguration}.
+	 * @since 3.1
+	 * @see #setResourceAssemblyBatchSize(int)
+	 */
+	public RepositoryRestConfiguration setResourceAssemblyExecutor(Executor executor) {
+
+		this.resourceAssemblyExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Returns the {@link Executor} to assemble the elements of large collection resources with.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 3.1
+	 */
+	public Optional<Executor> getResourceAssemblyExecutor() {
+		return Optional.ofNullable(resourceAssemblyExecutor);
+	}
+
+	/**
+	 * Configures the number of elements of a collection resource to be assembled by a single task if a resource
+	 * assembly {@link Executor} is configured. Defaults to 50.
+	 *
+	 * @param batchSize must be greater than zero.
+	 * @return the current {@link RepositoryRestConfiguration}.
+	 * @since 3.1
+	 * @see #setResourceAssemblyExecutor(Executor)
+	 */
+	public RepositoryRestConfiguration setResourceAssemblyBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.resourceAssemblyBatchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Returns the number of elements of a collection resource to be assembled by a single task.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	public int getResourceAssemblyBatchSize() {
+		return resourceAssemblyBatchSize;
+	}
 }
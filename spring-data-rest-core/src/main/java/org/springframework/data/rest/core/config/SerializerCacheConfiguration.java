@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.config;
+
+import org.springframework.util.Assert;
+
+/**
+ * Configuration of the Jackson serializer and deserializer caches of the {@code ObjectMapper}s used to render and read
+ * repository resources. Jackson introspects a type the first time it's rendered, so the first requests after a
+ * startup pay for it for every domain type. Warming up the caches resolves the serializers and deserializers for all
+ * managed domain types and their projections once the application context is refreshed.
+ * <p>
+ * The number of root serializers cached per {@code ObjectMapper} is limited. All cached serializers are dropped once
+ * the limit is reached.
+ *
+ * @since 3.1
+ */
+public class SerializerCacheConfiguration {
+
+	private boolean warmUpOnStartup = false;
+	private int maxCachedSerializers = 4000;
+
+	/**
+	 * Configures whether to resolve the serializers and deserializers for all managed domain types and their
+	 * projections on startup. Defaults to {@literal false}.
+	 *
+	 * @param warmUpOnStartup
+	 * @return the current {@link SerializerCacheConfiguration}.
+	 */
+	public SerializerCacheConfiguration setWarmUpOnStartup(boolean warmUpOnStartup) {
+
+		this.warmUpOnStartup = warmUpOnStartup;
+		return this;
+	}
+
+	/**
+	 * Configures the maximum number of root serializers cached per {@code ObjectMapper}.
+	 * Defaults to 4000.
+	 *
+	 * @param maxCachedSerializers must be greater than zero.
+	 * @return the current {@link SerializerCacheConfiguration}.
+	 */
+	public SerializerCacheConfiguration setMaxCachedSerializers(int maxCachedSerializers) {
+
+		Assert.isTrue(maxCachedSerializers > 0, "Maximum number of cached serializers must be greater than zero!");
+
+		this.maxCachedSerializers = maxCachedSerializers;
+		return this;
+	}
+
+	/**
+	 * Returns whether to warm up the serializer and deserializer caches on startup.
+	 *
+	 * @return
+	 */
+	public boolean isWarmUpOnStartup() {
+		return warmUpOnStartup;
+	}
+
+	/**
+	 * Returns the maximum number of root serializers cached per {@code ObjectMapper}.
+	 *
+	 * @return
+	 */
+	public int getMaxCachedSerializers() {
+		return maxCachedSerializers;
+	}
+}
@@ -20,10 +20,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,7 +56,9 @@ import org.springframework.util.MultiValueMap;
 import org.springframework.util.ReflectionUtils;
 
 /**
- * Component to discover annotated repository event handlers and trigger them on {@link ApplicationEvent}s.
+ * Component to discover annotated repository event handlers and trigger them on {@link ApplicationEvent}s. The handler
+ * methods to invoke are resolved once per event type and source type and invoked through pre-bound
+ * {@link MethodHandle}s.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -61,7 +68,10 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 	private static final Logger LOG = LoggerFactory.getLogger(AnnotatedEventHandlerInvoker.class);
 	private static final String PARAMETER_MISSING = "Invalid event handler method %s! At least a single argument is required to determine the domain type for which you are interested in events.";
 
+	private static final EventHandlerMethod[] NO_HANDLERS = new EventHandlerMethod[0];
+
 	private final MultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod> handlerMethods = new LinkedMultiValueMap<Class<? extends RepositoryEvent>, EventHandlerMethod>();
+	private final Map<Class<?>, Map<Class<?>, EventHandlerMethod[]>> dispatchTable = new ConcurrentHashMap<>();
 
 	/*
 	 * (non-Javadoc)
@@ -70,33 +80,64 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 	@Override
 	public void onApplicationEvent(RepositoryEvent event) {
 
-		Class<? extends RepositoryEvent> eventType = event.getClass();
+		Object source = event.getSource();
+		EventHandlerMethod[] handlers = getHandlersFor(event.getClass(), source.getClass());
 
-		if (!handlerMethods.containsKey(eventType)) {
+		if (handlers.length == 0) {
 			return;
 		}
 
-		for (EventHandlerMethod handlerMethod : handlerMethods.get(eventType)) {
+		Object linked = event instanceof LinkedEntityEvent ? ((LinkedEntityEvent) event).getLinked() : null;
 
-			Object src = event.getSource();
+		for (EventHandlerMethod handlerMethod : handlers) {
 
-			if (!ClassUtils.isAssignable(handlerMethod.targetType, src.getClass())) {
-				continue;
+			if (LOG.isDebugEnabled()) {
+				LOG.debug("Invoking {} handler for {}.", event.getClass().getSimpleName(), source);
 			}
 
-			List<Object> parameters = new ArrayList<Object>();
-			parameters.add(src);
-
 			if (event instanceof LinkedEntityEvent) {
-				parameters.add(((LinkedEntityEvent) event).getLinked());
+				handlerMethod.invoke(source, linked);
+			} else {
+				handlerMethod.invoke(source);
 			}
+		}
+	}
 
-			if (LOG.isDebugEnabled()) {
-				LOG.debug("Invoking {} handler for {}.", event.getClass().getSimpleName(), event.getSource());
-			}
+	/**
+	 * Returns the {@link EventHandlerMethod}s to invoke for the given event and source type in the order of invocation.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param sourceType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private EventHandlerMethod[] getHandlersFor(Class<? extends RepositoryEvent> eventType, Class<?> sourceType) {
 
-			ReflectionUtils.invokeMethod(handlerMethod.method, handlerMethod.handler, parameters.toArray());
+		Map<Class<?>, EventHandlerMethod[]> bySourceType = dispatchTable.get(eventType);
+
+		if (bySourceType == null) {
+			bySourceType = dispatchTable.computeIfAbsent(eventType, it -> new ConcurrentHashMap<>());
+		}
+
+		EventHandlerMethod[] handlers = bySourceType.get(sourceType);
+
+		if (handlers != null) {
+			return handlers;
 		}
+
+		List<EventHandlerMethod> candidates = handlerMethods.get(eventType);
+
+		if (candidates == null) {
+			handlers = NO_HANDLERS;
+		} else {
+
+			handlers = candidates.stream() //
+					.filter(it -> ClassUtils.isAssignable(it.targetType, sourceType)) //
+					.toArray(EventHandlerMethod[]::new);
+		}
+
+		bySourceType.put(sourceType, handlers);
+
+		return handlers;
 	}
 
 	/*
@@ -168,6 +209,9 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 			LOG.debug("Annotated handler method found: {}", handlerMethod);
 		}
 
+		// Handlers registered late invalidate the handlers resolved so far
+		dispatchTable.clear();
+
 		List<EventHandlerMethod> events = handlerMethods.get(eventType);
 
 		if (events == null) {
@@ -184,19 +228,73 @@ public class AnnotatedEventHandlerInvoker implements ApplicationListener<Reposit
 		handlerMethods.put(eventType, events);
 	}
 
-	@ToString
-	@EqualsAndHashCode
+	@ToString(exclude = "invoker")
+	@EqualsAndHashCode(exclude = "invoker")
 	@RequiredArgsConstructor
 	static class EventHandlerMethod implements Comparable<EventHandlerMethod> {
 
+		private static final String INVALID_ARGUMENTS = "Event handler method %s expects %s argument(s) but %s given!";
+
 		final Class<?> targetType;
 		final Method method;
 		final Object handler;
+		final MethodHandle invoker;
 
 		public static EventHandlerMethod of(Class<?> targetType, Object handler, Method method) {
 
 			ReflectionUtils.makeAccessible(method);
-			return new EventHandlerMethod(targetType, method, handler);
+
+			try {
+
+				MethodHandle invoker = MethodHandles.lookup().unreflect(method).bindTo(handler);
+				invoker = invoker
+						.asType(MethodType.genericMethodType(method.getParameterCount()).changeReturnType(void.class));
+
+				return new EventHandlerMethod(targetType, method, handler, invoker);
+
+			} catch (IllegalAccessException o_O) {
+				throw new IllegalStateException(String.format("Could not access event handler method %s!", method), o_O);
+			}
+		}
+
+		/**
+		 * Invokes the handler method with the given source object.
+		 *
+		 * @param source must not be {@literal null}.
+		 */
+		void invoke(Object source) {
+
+			assertParameterCount(1);
+
+			try {
+				invoker.invokeExact(source);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+			}
+		}
+
+		/**
+		 * Invokes the handler method with the given source and linked object.
+		 *
+		 * @param source must not be {@literal null}.
+		 * @param linked can be {@literal null}.
+		 */
+		void invoke(Object source, Object linked) {
+
+			assertParameterCount(2);
+
+			try {
+				invoker.invokeExact(source, linked);
+			} catch (Throwable o_O) {
+				ReflectionUtils.rethrowRuntimeException(o_O);
+			}
+		}
+
+		private void assertParameterCount(int count) {
+
+			if (method.getParameterCount() != count) {
+				throw new IllegalArgumentException(String.format(INVALID_ARGUMENTS, method, method.getParameterCount(), count));
+			}
 		}
 
 		/*
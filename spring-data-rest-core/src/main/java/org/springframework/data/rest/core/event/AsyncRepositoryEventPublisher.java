@@ -0,0 +1,359 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.rest.core.config.AsyncEventConfiguration;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ApplicationEventPublisher} that publishes the {@code After…} {@link RepositoryEvent}s asynchronously as
+ * configured in the given {@link AsyncEventConfiguration}. All other events are handed to the delegate
+ * {@link ApplicationEventPublisher} right away, as are {@code After…} events the given
+ * {@link ValidatingRepositoryEventListener}s have validators registered for, so that validation failures still reach
+ * the client.
+ * <p>
+ * Events are buffered in a bounded queue, which is drained by a single task on the configured executor at a time so
+ * that the events are delivered in the order they were published. Each drained chunk is either published event by
+ * event or as a {@link RepositoryEventBatch} for every run of events of the same type, depending on
+ * {@link AsyncEventConfiguration#isBatchPublication()}. If a transaction synchronization is active when an event is
+ * published, the event is only enqueued after the transaction committed and dropped on rollback.
+ * <p>
+ * Events are published on the calling thread if the queue stays full for longer than the configured enqueue timeout or
+ * if resources are bound to the calling thread, e.g. the {@code EntityManager} of a transaction or one bound by
+ * {@code OpenEntityManagerInViewInterceptor}. The entities carried by the events are still attached to those resources,
+ * which must not be shared with the listeners running on another thread. In both cases, the events still waiting in
+ * the queue are published first, so that events never overtake earlier ones.
+ *
+ * @since 3.1
+ */
+public class AsyncRepositoryEventPublisher implements ApplicationEventPublisher, DisposableBean {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AsyncRepositoryEventPublisher.class);
+	private static final ThreadLocal<Boolean> DRAINING = new ThreadLocal<Boolean>();
+
+	private final ApplicationEventPublisher delegate;
+	private final AsyncEventConfiguration configuration;
+	private final List<ValidatingRepositoryEventListener> validatingListeners;
+	private final BlockingQueue<RepositoryEvent> queue;
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final Lock delivery = new ReentrantLock();
+
+	private volatile boolean shutdown;
+
+	/**
+	 * Creates a new {@link AsyncRepositoryEventPublisher} for the given delegate {@link ApplicationEventPublisher} and
+	 * {@link AsyncEventConfiguration}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public AsyncRepositoryEventPublisher(ApplicationEventPublisher delegate, AsyncEventConfiguration configuration) {
+		this(delegate, configuration, Collections.emptyList());
+	}
+
+	/**
+	 * Creates a new {@link AsyncRepositoryEventPublisher} for the given delegate {@link ApplicationEventPublisher},
+	 * {@link AsyncEventConfiguration} and {@link ValidatingRepositoryEventListener}s whose events have to be published
+	 * synchronously.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param validatingListeners must not be {@literal null}.
+	 */
+	public AsyncRepositoryEventPublisher(ApplicationEventPublisher delegate, AsyncEventConfiguration configuration,
+			List<ValidatingRepositoryEventListener> validatingListeners) {
+
+		Assert.notNull(delegate, "Delegate ApplicationEventPublisher must not be null!");
+		Assert.notNull(configuration, "AsyncEventConfiguration must not be null!");
+		Assert.notNull(validatingListeners, "ValidatingRepositoryEventListeners must not be null!");
+
+		this.delegate = delegate;
+		this.configuration = configuration;
+		this.validatingListeners = validatingListeners;
+		this.queue = new ArrayBlockingQueue<RepositoryEvent>(configuration.getQueueCapacity());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationEventPublisher#publishEvent(java.lang.Object)
+	 */
+	@Override
+	public void publishEvent(Object event) {
+
+		if (shutdown || !configuration.isEnabled() || !isAfterEvent(event) || isValidated((RepositoryEvent) event)) {
+			delegate.publishEvent(event);
+			return;
+		}
+
+		RepositoryEvent repositoryEvent = (RepositoryEvent) event;
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+				/*
+				 * (non-Javadoc)
+				 * @see org.springframework.transaction.support.TransactionSynchronizationAdapter#afterCommit()
+				 */
+				@Override
+				public void afterCommit() {
+					enqueue(repositoryEvent);
+				}
+			});
+
+			return;
+		}
+
+		enqueue(repositoryEvent);
+	}
+
+	/**
+	 * Publishes all events still waiting in the queue on the calling thread and publishes all further events
+	 * synchronously.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		this.shutdown = true;
+
+		delivery.lock();
+
+		try {
+			deliverQueued();
+		} finally {
+			delivery.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of events waiting for publication.
+	 *
+	 * @return
+	 */
+	public int getQueueSize() {
+		return queue.size();
+	}
+
+	private void enqueue(RepositoryEvent event) {
+
+		// Listeners publishing events themselves must not wait for the queue they're supposed to drain
+		if (Boolean.TRUE.equals(DRAINING.get())) {
+			delegate.publishEvent(event);
+			return;
+		}
+
+		if (hasThreadBoundResources()) {
+
+			publishInline(event);
+			return;
+		}
+
+		boolean enqueued;
+
+		try {
+			enqueued = queue.offer(event, configuration.getEnqueueTimeout().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			enqueued = false;
+		}
+
+		if (!enqueued) {
+
+			LOG.debug("Event queue full, publishing {} on the calling thread.", event);
+			publishInline(event);
+
+			return;
+		}
+
+		schedule();
+	}
+
+	/**
+	 * Publishes the given event on the calling thread after all events still waiting in the queue.
+	 *
+	 * @param event must not be {@literal null}.
+	 */
+	private void publishInline(RepositoryEvent event) {
+
+		delivery.lock();
+		DRAINING.set(Boolean.TRUE);
+
+		try {
+
+			deliverQueued();
+			delegate.publishEvent(event);
+
+		} finally {
+
+			DRAINING.remove();
+			delivery.unlock();
+		}
+	}
+
+	/**
+	 * Delivers all events currently waiting in the queue. Must only be called while holding the delivery lock.
+	 */
+	private void deliverQueued() {
+
+		List<RepositoryEvent> events = new ArrayList<RepositoryEvent>();
+		queue.drainTo(events);
+
+		if (!events.isEmpty()) {
+			deliver(events);
+		}
+	}
+
+	private void schedule() {
+
+		if (!scheduled.compareAndSet(false, true)) {
+			return;
+		}
+
+		try {
+			configuration.getExecutor().execute(this::drain);
+		} catch (RejectedExecutionException o_O) {
+
+			LOG.warn("Executor rejected publication of repository events, publishing them on the calling thread.", o_O);
+			drain();
+		}
+	}
+
+	private void drain() {
+
+		DRAINING.set(Boolean.TRUE);
+
+		try {
+
+			int maxBatchSize = configuration.getMaxBatchSize();
+			List<RepositoryEvent> events = new ArrayList<RepositoryEvent>(maxBatchSize);
+
+			while (true) {
+
+				// Events are taken from the queue and delivered under the lock so that events published inline can't
+				// overtake them
+				delivery.lock();
+
+				try {
+
+					queue.drainTo(events, maxBatchSize);
+
+					if (!events.isEmpty()) {
+
+						deliver(events);
+						events.clear();
+
+						continue;
+					}
+
+				} finally {
+					delivery.unlock();
+				}
+
+				scheduled.set(false);
+
+				// Make sure events enqueued after the last drain but before resetting the flag are not left behind
+				if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+					return;
+				}
+			}
+
+		} finally {
+			DRAINING.remove();
+		}
+	}
+
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	private void deliver(List<RepositoryEvent> events) {
+
+		if (!configuration.isBatchPublication()) {
+
+			for (RepositoryEvent event : events) {
+				publishSafely(event);
+			}
+
+			return;
+		}
+
+		int start = 0;
+
+		for (int i = 1; i <= events.size(); i++) {
+
+			if (i < events.size() && events.get(i).getClass() == events.get(start).getClass()) {
+				continue;
+			}
+
+			List<RepositoryEvent> run = new ArrayList<RepositoryEvent>(events.subList(start, i));
+			publishSafely(new RepositoryEventBatch(run.get(0).getClass(), run));
+
+			start = i;
+		}
+	}
+
+	private void publishSafely(Object event) {
+
+		try {
+			delegate.publishEvent(event);
+		} catch (RuntimeException o_O) {
+			LOG.error(String.format("Failed to publish %s asynchronously!", event), o_O);
+		}
+	}
+
+	private boolean isValidated(RepositoryEvent event) {
+
+		for (ValidatingRepositoryEventListener listener : validatingListeners) {
+			if (listener.hasValidatorsFor(event)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean hasThreadBoundResources() {
+
+		return TransactionSynchronizationManager.isActualTransactionActive()
+				|| !TransactionSynchronizationManager.getResourceMap().isEmpty();
+	}
+
+	private static boolean isAfterEvent(Object event) {
+
+		return event instanceof AfterCreateEvent //
+				|| event instanceof AfterSaveEvent //
+				|| event instanceof AfterDeleteEvent //
+				|| event instanceof AfterLinkSaveEvent //
+				|| event instanceof AfterLinkDeleteEvent;
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.ResolvableTypeProvider;
+import org.springframework.util.Assert;
+
+/**
+ * A batch of {@link RepositoryEvent}s of the same type published asynchronously. Published instead of the individual
+ * events if {@link org.springframework.data.rest.core.config.AsyncEventConfiguration#setBatchPublication(boolean) batch
+ * publication} is enabled, so that listeners interested in many events at once (e.g. to update a search index) can
+ * process them in bulk:
+ *
+ * <pre class="code">
+ * &#64;EventListener
+ * void on(RepositoryEventBatch&lt;AfterSaveEvent&gt; batch) { … }
+ * </pre>
+ *
+ * The events are contained in the order they were published.
+ *
+ * @since 3.1
+ */
+public class RepositoryEventBatch<T extends RepositoryEvent> extends ApplicationEvent implements ResolvableTypeProvider {
+
+	private static final long serialVersionUID = 4218404574290564376L;
+
+	private final Class<T> eventType;
+	private final List<T> events;
+
+	/**
+	 * Creates a new {@link RepositoryEventBatch} for the given event type and events.
+	 *
+	 * @param eventType must not be {@literal null}.
+	 * @param events must not be {@literal null} or empty.
+	 */
+	public RepositoryEventBatch(Class<T> eventType, List<T> events) {
+
+		super(events);
+
+		Assert.notNull(eventType, "Event type must not be null!");
+		Assert.notEmpty(events, "Events must not be null or empty!");
+
+		this.eventType = eventType;
+		this.events = Collections.unmodifiableList(events);
+	}
+
+	/**
+	 * Returns the type of the contained events.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Class<T> getEventType() {
+		return eventType;
+	}
+
+	/**
+	 * Returns the events contained in the batch.
+	 *
+	 * @return will never be {@literal null} or empty.
+	 */
+	public List<T> getEvents() {
+		return events;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.core.ResolvableTypeProvider#getResolvableType()
+	 */
+	@Override
+	public ResolvableType getResolvableType() {
+		return ResolvableType.forClassWithGenerics(RepositoryEventBatch.class, eventType);
+	}
+}
@@ -17,8 +17,9 @@ package org.springframework.data.rest.core.event;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,6 +30,7 @@ import org.springframework.data.rest.core.ValidationErrors;
 import org.springframework.util.Assert;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.Errors;
 import org.springframework.validation.ValidationUtils;
 import org.springframework.validation.Validator;
@@ -43,9 +45,11 @@ import org.springframework.validation.Validator;
 public class ValidatingRepositoryEventListener extends AbstractRepositoryEventListener<Object> {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ValidatingRepositoryEventListener.class);
+	private static final Validator[] NO_VALIDATORS = new Validator[0];
 
 	private final ObjectFactory<PersistentEntities> persistentEntitiesFactory;
 	private final MultiValueMap<String, Validator> validators;
+	private final Map<String, Map<Class<?>, Validator[]>> validatorsByType;
 
 	/**
 	 * Creates a new {@link ValidatingRepositoryEventListener} using the given repositories.
@@ -58,6 +62,7 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 
 		this.persistentEntitiesFactory = persistentEntitiesFactory;
 		this.validators = new LinkedMultiValueMap<String, Validator>();
+		this.validatorsByType = new ConcurrentHashMap<>();
 	}
 
 	/**
@@ -72,6 +77,8 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 			this.validators.put(entry.getKey(), new ArrayList<Validator>(entry.getValue()));
 		}
 
+		this.validatorsByType.clear();
+
 		return this;
 	}
 
@@ -83,7 +90,10 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 	 * @return @this
 	 */
 	public ValidatingRepositoryEventListener addValidator(String event, Validator validator) {
+
 		validators.add(event, validator);
+		validatorsByType.clear();
+
 		return this;
 	}
 
@@ -159,20 +169,40 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 		validate("afterDelete", entity);
 	}
 
+	/**
+	 * Returns whether there are {@link Validator}s registered for the given {@link RepositoryEvent} that support the
+	 * type of the entity the event was published for.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	public boolean hasValidatorsFor(RepositoryEvent event) {
+
+		Assert.notNull(event, "RepositoryEvent must not be null!");
+
+		String name = StringUtils.uncapitalize(event.getClass().getSimpleName().replace("Event", ""));
+
+		return getValidatorsFor(name, event.getSource().getClass()).length > 0;
+	}
+
 	private Errors validate(String event, Object entity) {
 
 		if (entity == null) {
 			return null;
 		}
 
-		Errors errors = new ValidationErrors(entity, persistentEntitiesFactory.getObject());
+		Validator[] validators = getValidatorsFor(event, entity.getClass());
 
-		for (Validator validator : getValidatorsForEvent(event)) {
+		if (validators.length == 0) {
+			return null;
+		}
+
+		Errors errors = new ValidationErrors(entity, persistentEntitiesFactory.getObject());
 
-			if (validator.supports(entity.getClass())) {
-				LOGGER.debug("{}: {} with {}", event, entity, validator);
-				ValidationUtils.invokeValidator(validator, entity, errors);
-			}
+		for (Validator validator : validators) {
+			LOGGER.debug("{}: {} with {}", event, entity, validator);
+			ValidationUtils.invokeValidator(validator, entity, errors);
 		}
 
 		if (errors.hasErrors()) {
@@ -182,9 +212,30 @@ public class ValidatingRepositoryEventListener extends AbstractRepositoryEventLi
 		return errors;
 	}
 
-	private Collection<Validator> getValidatorsForEvent(String event) {
+	/**
+	 * Returns the {@link Validator}s registered for the given event that support the given type. The result is cached
+	 * until the registered {@link Validator}s change.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private Validator[] getValidatorsFor(String event, Class<?> type) {
+
+		Map<Class<?>, Validator[]> byType = validatorsByType.get(event);
+
+		if (byType == null) {
+			byType = validatorsByType.computeIfAbsent(event, it -> new ConcurrentHashMap<>());
+		}
+
+		Validator[] result = byType.get(type);
+
+		return result != null ? result : byType.computeIfAbsent(type, it -> {
+
+			List<Validator> candidates = validators.get(event);
 
-		Collection<Validator> validators = this.validators.get(event);
-		return validators == null ? Collections.<Validator> emptySet() : validators;
+			return candidates == null ? NO_VALIDATORS
+					: candidates.stream().filter(validator -> validator.supports(it)).toArray(Validator[]::new);
+		});
 	}
 }
@@ -20,9 +20,11 @@ import static org.springframework.http.HttpMethod.*;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.mapping.PersistentProperty;
@@ -33,7 +35,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.util.Assert;
 
 /**
- * {@link SupportedHttpMethods} that are determined by a {@link CrudMethods} instance.
+ * {@link SupportedHttpMethods} that are determined by a {@link CrudMethods} instance. The supported methods are
+ * calculated once per {@link ResourceType} and {@link PersistentProperty} and handed out as immutable {@link Set}s.
  *
  * @author Oliver Gierke
  * @since 2.3
@@ -41,6 +44,9 @@ import org.springframework.util.Assert;
 public class CrudMethodsSupportedHttpMethods implements SupportedHttpMethods {
 
 	private final ExposureAwareCrudMethods exposedMethods;
+	private final Lazy<Set<HttpMethod>> collectionMethods;
+	private final Lazy<Set<HttpMethod>> itemMethods;
+	private final Map<PersistentProperty<?>, Set<HttpMethod>> propertyMethods;
 
 	/**
 	 * Creates a new {@link CrudMethodsSupportedHttpMethods} for the given {@link CrudMethods}.
@@ -54,6 +60,9 @@ public class CrudMethodsSupportedHttpMethods implements SupportedHttpMethods {
 		Assert.notNull(crudMethods, "CrudMethods must not be null!");
 
 		this.exposedMethods = new DefaultExposureAwareCrudMethods(crudMethods, methodsExposedByDefault);
+		this.collectionMethods = Lazy.of(() -> calculateMethodsFor(COLLECTION));
+		this.itemMethods = Lazy.of(() -> calculateMethodsFor(ITEM));
+		this.propertyMethods = new ConcurrentHashMap<>();
 	}
 
 	/*
@@ -65,8 +74,38 @@ public class CrudMethodsSupportedHttpMethods implements SupportedHttpMethods {
 
 		Assert.notNull(resourceType, "Resource type must not be null!");
 
-		Set<HttpMethod> methods = new HashSet<HttpMethod>();
-		methods.add(OPTIONS);
+		switch (resourceType) {
+
+			case COLLECTION:
+				return collectionMethods.get();
+
+			case ITEM:
+				return itemMethods.get();
+
+			default:
+				throw new IllegalArgumentException(String.format("Unsupported resource type %s!", resourceType));
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.mapping.SupportedHttpMethods#getMethodsFor(org.springframework.data.mapping.PersistentProperty)
+	 */
+	@Override
+	public Set<HttpMethod> getMethodsFor(PersistentProperty<?> property) {
+
+		if (!property.isAssociation()) {
+			return Collections.emptySet();
+		}
+
+		Set<HttpMethod> methods = propertyMethods.get(property);
+
+		return methods != null ? methods : propertyMethods.computeIfAbsent(property, this::calculateMethodsFor);
+	}
+
+	private Set<HttpMethod> calculateMethodsFor(ResourceType resourceType) {
+
+		Set<HttpMethod> methods = EnumSet.of(OPTIONS);
 
 		switch (resourceType) {
 
@@ -108,20 +147,9 @@ public class CrudMethodsSupportedHttpMethods implements SupportedHttpMethods {
 		return Collections.unmodifiableSet(methods);
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.data.rest.core.mapping.SupportedHttpMethods#getMethodsFor(org.springframework.data.mapping.PersistentProperty)
-	 */
-	@Override
-	public Set<HttpMethod> getMethodsFor(PersistentProperty<?> property) {
+	private Set<HttpMethod> calculateMethodsFor(PersistentProperty<?> property) {
 
-		if (!property.isAssociation()) {
-			return Collections.emptySet();
-		}
-
-		Set<HttpMethod> methods = new HashSet<HttpMethod>();
-
-		methods.add(GET);
+		Set<HttpMethod> methods = EnumSet.of(GET);
 
 		if (property.isWritable() && getMethodsFor(ITEM).contains(PUT)) {
 			methods.add(PUT);
@@ -133,7 +161,7 @@ public class CrudMethodsSupportedHttpMethods implements SupportedHttpMethods {
 			methods.add(POST);
 		}
 
-		return methods;
+		return Collections.unmodifiableSet(methods);
 	}
 
 	/**
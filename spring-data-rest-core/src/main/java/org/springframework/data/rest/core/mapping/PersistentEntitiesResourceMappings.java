@@ -44,6 +44,7 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	private final Map<Class<?>, ResourceMetadata> cache = new HashMap<Class<?>, ResourceMetadata>();
 	private final Map<Class<?>, MappingResourceMetadata> mappingCache = new HashMap<Class<?>, MappingResourceMetadata>();
 	private final Map<PersistentProperty<?>, ResourceMapping> propertyCache = new HashMap<PersistentProperty<?>, ResourceMapping>();
+	private final Map<String, ResourceMetadata> exportedPathCache = new HashMap<String, ResourceMetadata>();
 
 	/**
 	 * Creates a new {@link PersistentEntitiesResourceMappings} from the given {@link PersistentEntities}.
@@ -70,7 +71,7 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 		}
 
 		MappingResourceMetadata metadata = getMappingMetadataFor(type);
-		cache.put(type, metadata);
+		addToCache(type, metadata);
 
 		return metadata;
 	}
@@ -137,13 +138,19 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 
 		Assert.hasText(path, "Path must not be null or empty!");
 
-		for (ResourceMetadata metadata : this) {
-			if (metadata.getPath().matches(path)) {
-				return metadata.isExported();
-			}
-		}
+		return exportedPathCache.containsKey(path);
+	}
 
-		return false;
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.mapping.ResourceMappings#getExportedMetadataFor(java.lang.String)
+	 */
+	@Override
+	public Optional<ResourceMetadata> getExportedMetadataFor(String path) {
+
+		Assert.hasText(path, "Path must not be null or empty!");
+
+		return Optional.ofNullable(exportedPathCache.get(path));
 	}
 
 	/*
@@ -210,7 +217,16 @@ public class PersistentEntitiesResourceMappings implements ResourceMappings {
 	 * @param metadata can be {@literal null}.
 	 */
 	protected final void addToCache(Class<?> type, ResourceMetadata metadata) {
+
 		cache.put(type, metadata);
+
+		if (metadata == null || !metadata.isExported()) {
+			return;
+		}
+
+		for (String reference : metadata.getPath().getMatchingReferences()) {
+			exportedPathCache.putIfAbsent(reference, metadata);
+		}
 	}
 
 	/**
@@ -15,7 +15,10 @@
  */
 package org.springframework.data.rest.core.mapping;
 
+import java.util.Optional;
+
 import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
 
 /**
  * @author Oliver Gierke
@@ -54,6 +57,22 @@ public interface ResourceMappings extends Streamable<ResourceMetadata> {
 	 */
 	boolean exportsTopLevelResourceFor(String path);
 
+	/**
+	 * Returns the exported {@link ResourceMetadata} whose path matches the given one.
+	 *
+	 * @param path must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 * @since 3.1
+	 */
+	default Optional<ResourceMetadata> getExportedMetadataFor(String path) {
+
+		Assert.hasText(path, "Path must not be null or empty!");
+
+		return stream() //
+				.filter(it -> it.isExported() && it.getPath().matches(path)) //
+				.findFirst();
+	}
+
 	/**
 	 * Returns whether we have a {@link ResourceMapping} for the given type.
 	 *
@@ -40,6 +40,9 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 	private static final String REL = "search";
 
 	private final Map<Path, MethodResourceMapping> mappings;
+	private final Map<String, MethodResourceMapping> mappingsByReference;
+	private final Map<String, MethodResourceMapping> exportedMappingsByReference;
+	private final Map<String, MethodResourceMapping> exportedMappingsByRel;
 
 	/**
 	 * Creates a new {@link SearchResourceMappings} from the given
@@ -51,6 +54,9 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 		Assert.notNull(mappings, "MethodResourceMappings must not be null!");
 
 		this.mappings = new HashMap<Path, MethodResourceMapping>(mappings.size());
+		this.mappingsByReference = new HashMap<String, MethodResourceMapping>(mappings.size() * 2);
+		this.exportedMappingsByReference = new HashMap<String, MethodResourceMapping>(mappings.size() * 2);
+		this.exportedMappingsByRel = new HashMap<String, MethodResourceMapping>(mappings.size());
 
 		for (MethodResourceMapping mapping : mappings) {
 
@@ -62,6 +68,19 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 			}
 
 			this.mappings.put(mapping.getPath(), mapping);
+
+			for (String reference : mapping.getPath().getMatchingReferences()) {
+
+				this.mappingsByReference.putIfAbsent(reference, mapping);
+
+				if (mapping.isExported()) {
+					this.exportedMappingsByReference.putIfAbsent(reference, mapping);
+				}
+			}
+
+			if (mapping.isExported()) {
+				this.exportedMappingsByRel.putIfAbsent(mapping.getRel(), mapping);
+			}
 		}
 	}
 
@@ -75,7 +94,12 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 
 		Assert.hasText(path, "Path must not be null or empty!");
 
-		MethodResourceMapping mapping = mappings.get(new Path(path));
+		MethodResourceMapping mapping = mappingsByReference.get(path);
+
+		if (mapping == null) {
+			mapping = mappings.get(new Path(path));
+		}
+
 		return mapping == null ? null : mapping.getMethod();
 	}
 
@@ -109,14 +133,7 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 
 		Assert.hasText(rel, "Rel must not be null or empty!");
 
-		for (MethodResourceMapping mapping : this) {
-
-			if (mapping.isExported() && mapping.getRel().equals(rel)) {
-				return mapping;
-			}
-		}
-
-		return null;
+		return exportedMappingsByRel.get(rel);
 	}
 
 	/**
@@ -130,14 +147,7 @@ public class SearchResourceMappings implements Iterable<MethodResourceMapping>,
 
 		Assert.hasText(path, "Path must not be null or empty!");
 
-		for (MethodResourceMapping mapping : this) {
-
-			if (mapping.isExported() && mapping.getPath().matches(path)) {
-				return mapping;
-			}
-		}
-
-		return null;
+		return exportedMappingsByReference.get(path);
 	}
 
 	/*
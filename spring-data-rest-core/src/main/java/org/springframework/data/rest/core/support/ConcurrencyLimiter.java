@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.data.rest.core.ConcurrencyLimitExceededException;
+import org.springframework.util.Assert;
+
+/**
+ * Bulkhead limiting the number of concurrent executions of the {@link Supplier}s handed to it. Executions exceeding
+ * the limit are rejected immediately by throwing a {@link ConcurrencyLimitExceededException}. Permits are acquired
+ * from a non-fair {@link Semaphore} without blocking, which boils down to a compare-and-set on the fast path.
+ *
+ * @since 3.1
+ */
+public class ConcurrencyLimiter {
+
+	private final String name;
+	private final int limit;
+	private final Duration retryAfter;
+	private final Semaphore permits;
+	private final LongAdder rejections = new LongAdder();
+
+	/**
+	 * Creates a new {@link ConcurrencyLimiter} with the given name, limit and retry delay.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param limit must be greater than zero.
+	 * @param retryAfter must not be {@literal null}.
+	 */
+	public ConcurrencyLimiter(String name, int limit, Duration retryAfter) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.isTrue(limit > 0, "Concurrency limit must be greater than zero!");
+		Assert.notNull(retryAfter, "Retry after duration must not be null!");
+
+		this.name = name;
+		this.limit = limit;
+		this.retryAfter = retryAfter;
+		this.permits = new Semaphore(limit);
+	}
+
+	/**
+	 * Executes the given {@link Supplier} if the limit is not reached yet.
+	 *
+	 * @param supplier must not be {@literal null}.
+	 * @return the value returned by the {@link Supplier}.
+	 * @throws ConcurrencyLimitExceededException in case the limit is reached.
+	 */
+	public <T> T execute(Supplier<T> supplier) {
+
+		if (!permits.tryAcquire()) {
+
+			rejections.increment();
+			throw new ConcurrencyLimitExceededException(name, limit, retryAfter);
+		}
+
+		try {
+			return supplier.get();
+		} finally {
+			permits.release();
+		}
+	}
+
+	/**
+	 * Returns the name of the limiter, i.e. the name of the repository or query method it guards.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent executions.
+	 *
+	 * @return
+	 */
+	public int getLimit() {
+		return limit;
+	}
+
+	/**
+	 * Returns the number of executions currently in progress.
+	 *
+	 * @return
+	 */
+	public int getActiveCount() {
+		return limit - permits.availablePermits();
+	}
+
+	/**
+	 * Returns the number of executions rejected so far.
+	 *
+	 * @return
+	 */
+	public long getRejectedCount() {
+		return rejections.sum();
+	}
+}
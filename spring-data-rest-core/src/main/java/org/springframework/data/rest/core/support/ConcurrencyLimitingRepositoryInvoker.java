@@ -0,0 +1,210 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.ConcurrencyLimitExceededException;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link RepositoryInvoker} executing all invocations through the {@link ConcurrencyLimiter} registered for the
+ * repository in {@link RepositoryConcurrencyLimits} and query method invocations through the one registered for the
+ * query method in addition. Invocations exceeding a limit are rejected with a
+ * {@link ConcurrencyLimitExceededException}. {@link FetchPlan}s are handed to the delegate if it's a
+ * {@link FetchPlanAwareRepositoryInvoker}, so that fetching them is subject to the limits as well.
+ *
+ * @since 3.1
+ */
+public class ConcurrencyLimitingRepositoryInvoker implements FetchPlanAwareRepositoryInvoker {
+
+	private final RepositoryInvoker delegate;
+	private final Class<?> domainType;
+	private final RepositoryConcurrencyLimits limits;
+
+	/**
+	 * Creates a new {@link ConcurrencyLimitingRepositoryInvoker} for the given delegate {@link RepositoryInvoker}, domain
+	 * type and {@link RepositoryConcurrencyLimits}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param limits must not be {@literal null}.
+	 */
+	public ConcurrencyLimitingRepositoryInvoker(RepositoryInvoker delegate, Class<?> domainType,
+			RepositoryConcurrencyLimits limits) {
+
+		Assert.notNull(delegate, "Delegate RepositoryInvoker must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(limits, "RepositoryConcurrencyLimits must not be null!");
+
+		this.delegate = delegate;
+		this.domainType = domainType;
+		this.limits = limits;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindById(java.lang.Object)
+	 */
+	@Override
+	public <T> Optional<T> invokeFindById(Object id) {
+		return limited(() -> delegate.invokeFindById(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort) {
+
+		Supplier<Optional<Object>> invocation = () -> delegate.invokeQueryMethod(method, parameters, pageable, sort);
+
+		return limited(() -> execute(limits.getLimiterFor(domainType, method), invocation));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Pageable pageable, FetchPlan plan) {
+		return limited(() -> FetchPlanAwareRepositoryInvoker.invokeFindAll(delegate, pageable, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Sort sort, FetchPlan plan) {
+		return limited(() -> FetchPlanAwareRepositoryInvoker.invokeFindAll(delegate, sort, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindById(java.lang.Object, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public <T> Optional<T> invokeFindById(Object id, FetchPlan plan) {
+		return limited(() -> FetchPlanAwareRepositoryInvoker.invokeFindById(delegate, id, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort, FetchPlan plan) {
+
+		Supplier<Optional<Object>> invocation = () -> FetchPlanAwareRepositoryInvoker.invokeQueryMethod(delegate, method,
+				parameters, pageable, sort, plan);
+
+		return limited(() -> execute(limits.getLimiterFor(domainType, method), invocation));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasDeleteMethod()
+	 */
+	@Override
+	public boolean hasDeleteMethod() {
+		return delegate.hasDeleteMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindAllMethod()
+	 */
+	@Override
+	public boolean hasFindAllMethod() {
+		return delegate.hasFindAllMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindOneMethod()
+	 */
+	@Override
+	public boolean hasFindOneMethod() {
+		return delegate.hasFindOneMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasSaveMethod()
+	 */
+	@Override
+	public boolean hasSaveMethod() {
+		return delegate.hasSaveMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeDeleteById(java.lang.Object)
+	 */
+	@Override
+	public void invokeDeleteById(Object id) {
+
+		limited(() -> {
+			delegate.invokeDeleteById(id);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Pageable pageable) {
+		return limited(() -> delegate.invokeFindAll(pageable));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Sort sort) {
+		return limited(() -> delegate.invokeFindAll(sort));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeSave(java.lang.Object)
+	 */
+	@Override
+	public <T> T invokeSave(T object) {
+		return limited(() -> delegate.invokeSave(object));
+	}
+
+	private <T> T limited(Supplier<T> invocation) {
+		return execute(limits.getLimiterFor(domainType), invocation);
+	}
+
+	private static <T> T execute(Optional<ConcurrencyLimiter> limiter, Supplier<T> invocation) {
+		return limiter.isPresent() ? limiter.get().execute(invocation) : invocation.get();
+	}
+}
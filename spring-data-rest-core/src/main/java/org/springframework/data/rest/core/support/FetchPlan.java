@@ -0,0 +1,99 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * The properties of a domain type that are going to be accessed when rendering the instances loaded by a repository
+ * invocation, e.g. the associations embedded as excerpt projections or exposed by the requested projection. Handed to a
+ * {@link FetchPlanAwareRepositoryInvoker} to allow loading them together with the instances rather than one by one
+ * once they're accessed.
+ *
+ * @since 3.1
+ */
+@ToString
+@EqualsAndHashCode
+public final class FetchPlan {
+
+	private final Class<?> domainType;
+	private final Set<String> properties;
+
+	private FetchPlan(Class<?> domainType, Collection<String> properties) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(properties, "Properties must not be null!");
+
+		this.domainType = domainType;
+		this.properties = Collections.unmodifiableSet(new LinkedHashSet<>(properties));
+	}
+
+	/**
+	 * Creates a new {@link FetchPlan} for the given properties of the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param properties the names of the properties to be fetched, must not be {@literal null}.
+	 * @return
+	 */
+	public static FetchPlan of(Class<?> domainType, Collection<String> properties) {
+		return new FetchPlan(domainType, properties);
+	}
+
+	/**
+	 * Creates a new {@link FetchPlan} for the given domain type not requiring any properties to be fetched in particular.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return
+	 */
+	public static FetchPlan empty(Class<?> domainType) {
+		return new FetchPlan(domainType, Collections.emptySet());
+	}
+
+	/**
+	 * Returns the domain type the {@link FetchPlan} was created for.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Class<?> getDomainType() {
+		return domainType;
+	}
+
+	/**
+	 * Returns the names of the properties of the domain type to be fetched.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Set<String> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns whether the {@link FetchPlan} doesn't require any properties to be fetched.
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return properties.isEmpty();
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link RepositoryInvoker} that can take a {@link FetchPlan} into account to load the properties about to be rendered
+ * together with the instances returned by the repository.
+ *
+ * @since 3.1
+ */
+public interface FetchPlanAwareRepositoryInvoker extends RepositoryInvoker {
+
+	/**
+	 * Invokes the method equivalent to {@link #invokeFindAll(Pageable)} and fetches the given {@link FetchPlan} for the
+	 * instances returned.
+	 *
+	 * @param pageable can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	Iterable<Object> invokeFindAll(Pageable pageable, FetchPlan plan);
+
+	/**
+	 * Invokes the method equivalent to {@link #invokeFindAll(Sort)} and fetches the given {@link FetchPlan} for the
+	 * instances returned.
+	 *
+	 * @param sort can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	Iterable<Object> invokeFindAll(Sort sort, FetchPlan plan);
+
+	/**
+	 * Invokes the method equivalent to {@link #invokeFindById(Object)} and fetches the given {@link FetchPlan} for the
+	 * instance returned.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	<T> Optional<T> invokeFindById(Object id, FetchPlan plan);
+
+	/**
+	 * Invokes the given query method like {@link #invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)} and fetches
+	 * the given {@link FetchPlan} for the instances returned.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort, FetchPlan plan);
+
+	/**
+	 * Invokes {@link #invokeFindAll(Pageable, FetchPlan)} on the given {@link RepositoryInvoker} if it's a
+	 * {@link FetchPlanAwareRepositoryInvoker} and {@link RepositoryInvoker#invokeFindAll(Pageable)} otherwise.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	static Iterable<Object> invokeFindAll(RepositoryInvoker invoker, Pageable pageable, FetchPlan plan) {
+
+		return invoker instanceof FetchPlanAwareRepositoryInvoker //
+				? ((FetchPlanAwareRepositoryInvoker) invoker).invokeFindAll(pageable, plan) //
+				: invoker.invokeFindAll(pageable);
+	}
+
+	/**
+	 * Invokes {@link #invokeFindAll(Sort, FetchPlan)} on the given {@link RepositoryInvoker} if it's a
+	 * {@link FetchPlanAwareRepositoryInvoker} and {@link RepositoryInvoker#invokeFindAll(Sort)} otherwise.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	static Iterable<Object> invokeFindAll(RepositoryInvoker invoker, Sort sort, FetchPlan plan) {
+
+		return invoker instanceof FetchPlanAwareRepositoryInvoker //
+				? ((FetchPlanAwareRepositoryInvoker) invoker).invokeFindAll(sort, plan) //
+				: invoker.invokeFindAll(sort);
+	}
+
+	/**
+	 * Invokes {@link #invokeFindById(Object, FetchPlan)} on the given {@link RepositoryInvoker} if it's a
+	 * {@link FetchPlanAwareRepositoryInvoker} and {@link RepositoryInvoker#invokeFindById(Object)} otherwise.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	static <T> Optional<T> invokeFindById(RepositoryInvoker invoker, Object id, FetchPlan plan) {
+
+		return invoker instanceof FetchPlanAwareRepositoryInvoker //
+				? ((FetchPlanAwareRepositoryInvoker) invoker).<T> invokeFindById(id, plan) //
+				: invoker.<T> invokeFindById(id);
+	}
+
+	/**
+	 * Invokes {@link #invokeQueryMethod(Method, MultiValueMap, Pageable, Sort, FetchPlan)} on the given
+	 * {@link RepositoryInvoker} if it's a {@link FetchPlanAwareRepositoryInvoker} and
+	 * {@link RepositoryInvoker#invokeQueryMethod(Method, MultiValueMap, Pageable, Sort)} otherwise.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 */
+	static Optional<Object> invokeQueryMethod(RepositoryInvoker invoker, Method method,
+			MultiValueMap<String, ? extends Object> parameters, Pageable pageable, Sort sort, FetchPlan plan) {
+
+		if (invoker instanceof FetchPlanAwareRepositoryInvoker) {
+
+			FetchPlanAwareRepositoryInvoker planAware = (FetchPlanAwareRepositoryInvoker) invoker;
+			return planAware.invokeQueryMethod(method, parameters, pageable, sort, plan);
+		}
+
+		return invoker.invokeQueryMethod(method, parameters, pageable, sort);
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.context.ApplicationListener;
+import org.springframework.data.rest.core.config.LookupCacheConfiguration;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.RepositoryEvent;
+import org.springframework.util.Assert;
+
+/**
+ * Read-through cache for entities of lookup types keyed by their lookup key. Only caches entities of the types
+ * registered as immutable in the {@link LookupCacheConfiguration}, as the cached instances are shared between
+ * requests, threads and persistence contexts. Entries expire after the configured time to live. All entries of a
+ * lookup type are evicted once an {@link AfterSaveEvent} or {@link AfterDeleteEvent} is published for an entity of
+ * that type, as the lookup key of the changed entity might have changed as well. Absent entities are not cached.
+ *
+ * @since 3.1
+ */
+public class LookupEntityCache implements ApplicationListener<RepositoryEvent> {
+
+	/**
+	 * {@link LookupEntityCache} not caching anything.
+	 */
+	public static final LookupEntityCache NONE = new LookupEntityCache(new LookupCacheConfiguration());
+
+	private final Map<Class<?>, Map<Object, Entry>> entries = new ConcurrentHashMap<>();
+	private final LookupCacheConfiguration configuration;
+	private final Clock clock;
+
+	/**
+	 * Creates a new {@link LookupEntityCache} for the given {@link LookupCacheConfiguration}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 */
+	public LookupEntityCache(LookupCacheConfiguration configuration) {
+		this(configuration, Clock.systemUTC());
+	}
+
+	LookupEntityCache(LookupCacheConfiguration configuration, Clock clock) {
+
+		Assert.notNull(configuration, "LookupCacheConfiguration must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+
+		this.configuration = configuration;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the entity of the given lookup type cached for the given key or resolves it using the given loader.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param key must not be {@literal null}.
+	 * @param loader must not be {@literal null}.
+	 * @return the entity or {@literal null} if the loader didn't find one.
+	 */
+	public Object get(Class<?> type, Object key, Supplier<?> loader) {
+
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(key, "Key must not be null!");
+		Assert.notNull(loader, "Loader must not be null!");
+
+		if (!configuration.isCached(type)) {
+			return loader.get();
+		}
+
+		Map<Object, Entry> cache = entries.get(type);
+
+		if (cache == null) {
+			cache = entries.computeIfAbsent(type, it -> new ConcurrentHashMap<>());
+		}
+
+		long now = clock.millis();
+		Entry entry = cache.get(key);
+
+		if (entry != null && entry.expiresAt > now) {
+			return entry.value;
+		}
+
+		Object value = loader.get();
+
+		if (value == null) {
+			cache.remove(key);
+			return null;
+		}
+
+		if (cache.size() >= configuration.getMaxEntriesPerType()) {
+			cache.clear();
+		}
+
+		cache.put(key, new Entry(value, now + configuration.getTimeToLive().toMillis()));
+
+		return value;
+	}
+
+	/**
+	 * Evicts all cached entities of the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 */
+	public void evict(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		entries.keySet().removeIf(it -> it.isAssignableFrom(type));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(RepositoryEvent event) {
+
+		if (entries.isEmpty() || !(event instanceof AfterSaveEvent || event instanceof AfterDeleteEvent)) {
+			return;
+		}
+
+		evict(event.getSource().getClass());
+	}
+
+	private static class Entry {
+
+		private final Object value;
+		private final long expiresAt;
+
+		Entry(Object value, long expiresAt) {
+
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
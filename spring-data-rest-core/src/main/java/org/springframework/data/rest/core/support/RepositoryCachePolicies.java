@@ -0,0 +1,182 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.CachePolicy;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.CacheControlConfiguration;
+import org.springframework.http.CacheControl;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link CacheControl} policies of repositories and their query methods. Policies are looked up in the
+ * {@link CacheControlConfiguration} first and fall back to the ones declared via
+ * {@link RepositoryRestResource#cachePolicy()} or {@link RestResource#cachePolicy()}. Query methods without a policy
+ * of their own use the one of their repository. The resolved policies are cached.
+ *
+ * @since 3.1
+ */
+public class RepositoryCachePolicies {
+
+	private final Repositories repositories;
+	private final CacheControlConfiguration configuration;
+
+	private final Map<Class<?>, Optional<CacheControl>> repositoryPolicies = new ConcurrentHashMap<>();
+	private final Map<Method, Optional<CacheControl>> queryMethodPolicies = new ConcurrentHashMap<>();
+
+	/**
+	 * Creates a new {@link RepositoryCachePolicies} for the given {@link Repositories} and
+	 * {@link CacheControlConfiguration}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public RepositoryCachePolicies(Repositories repositories, CacheControlConfiguration configuration) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(configuration, "CacheControlConfiguration must not be null!");
+
+		this.repositories = repositories;
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Returns the {@link CacheControl} for the resources of the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<CacheControl> getCacheControlFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return getOrCreate(repositoryPolicies, domainType, this::createCacheControlFor);
+	}
+
+	/**
+	 * Returns the {@link CacheControl} for the search resource of the given query method of the repository managing the
+	 * given domain type, falling back to the one of the repository.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<CacheControl> getCacheControlFor(Class<?> domainType, Method method) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		Optional<CacheControl> cacheControl = getOrCreate(queryMethodPolicies, method,
+				it -> createCacheControlFor(domainType, it));
+
+		return cacheControl.isPresent() ? cacheControl : getCacheControlFor(domainType);
+	}
+
+	private Optional<CacheControl> createCacheControlFor(Class<?> domainType) {
+
+		Optional<CacheControl> cacheControl = configuration.getCacheControlFor(domainType);
+
+		if (cacheControl.isPresent()) {
+			return cacheControl;
+		}
+
+		return repositories.getRepositoryInformationFor(domainType) //
+				.map(RepositoryInformation::getRepositoryInterface) //
+				.flatMap(RepositoryCachePolicies::getAnnotatedPolicy) //
+				.flatMap(RepositoryCachePolicies::toCacheControl);
+	}
+
+	private Optional<CacheControl> createCacheControlFor(Class<?> domainType, Method method) {
+
+		Optional<CacheControl> cacheControl = configuration.getCacheControlFor(domainType, method.getName());
+
+		if (cacheControl.isPresent()) {
+			return cacheControl;
+		}
+
+		return Optional.ofNullable(AnnotationUtils.findAnnotation(method, RestResource.class)) //
+				.map(RestResource::cachePolicy) //
+				.flatMap(RepositoryCachePolicies::toCacheControl);
+	}
+
+	private static Optional<CachePolicy> getAnnotatedPolicy(Class<?> repositoryInterface) {
+
+		RepositoryRestResource repositoryAnnotation = AnnotationUtils.findAnnotation(repositoryInterface,
+				RepositoryRestResource.class);
+
+		if (repositoryAnnotation != null && isDeclared(repositoryAnnotation.cachePolicy())) {
+			return Optional.of(repositoryAnnotation.cachePolicy());
+		}
+
+		return Optional.ofNullable(AnnotationUtils.findAnnotation(repositoryInterface, RestResource.class)) //
+				.map(RestResource::cachePolicy);
+	}
+
+	/**
+	 * Converts the given {@link CachePolicy} into a {@link CacheControl}.
+	 *
+	 * @param policy must not be {@literal null}.
+	 * @return {@link Optional#empty()} if the policy doesn't declare any directive.
+	 */
+	static Optional<CacheControl> toCacheControl(CachePolicy policy) {
+
+		if (!isDeclared(policy)) {
+			return Optional.empty();
+		}
+
+		CacheControl cacheControl = policy.maxAge() < 0 //
+				? CacheControl.empty() //
+				: CacheControl.maxAge(policy.maxAge(), TimeUnit.SECONDS);
+
+		if (policy.sharedMaxAge() >= 0) {
+			cacheControl = cacheControl.sMaxAge(policy.sharedMaxAge(), TimeUnit.SECONDS);
+		}
+
+		if (policy.staleWhileRevalidate() >= 0) {
+			cacheControl = cacheControl.staleWhileRevalidate(policy.staleWhileRevalidate(), TimeUnit.SECONDS);
+		}
+
+		return Optional.of(policy.cachePrivate() ? cacheControl.cachePrivate() : cacheControl);
+	}
+
+	private static boolean isDeclared(CachePolicy policy) {
+		return policy.maxAge() >= 0 || policy.sharedMaxAge() >= 0 || policy.staleWhileRevalidate() >= 0
+				|| policy.cachePrivate();
+	}
+
+	/**
+	 * Looks up the value for the given key without locking before falling back to
+	 * {@link Map#computeIfAbsent(Object, Function)}, as {@link ConcurrentHashMap} locks the bin on the latter even if a
+	 * value is present.
+	 */
+	private static <K, V> V getOrCreate(Map<K, V> cache, K key, Function<? super K, ? extends V> factory) {
+
+		V value = cache.get(key);
+
+		return value != null ? value : cache.computeIfAbsent(key, factory);
+	}
+}
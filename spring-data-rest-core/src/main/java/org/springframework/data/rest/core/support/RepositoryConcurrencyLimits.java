@@ -0,0 +1,189 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.ConcurrencyLimitConfiguration;
+import org.springframework.util.Assert;
+
+/**
+ * Registry of the {@link ConcurrencyLimiter}s guarding repositories and their query methods. Limits are looked up in
+ * the {@link ConcurrencyLimitConfiguration} first and fall back to the ones declared via
+ * {@link RepositoryRestResource#concurrencyLimit()} or {@link RestResource#concurrencyLimit()}. The resolved
+ * {@link ConcurrencyLimiter}s are created once and cached.
+ *
+ * @since 3.1
+ */
+public class RepositoryConcurrencyLimits {
+
+	private final Repositories repositories;
+	private final ConcurrencyLimitConfiguration configuration;
+
+	private final Map<Class<?>, Optional<ConcurrencyLimiter>> repositoryLimiters = new ConcurrentHashMap<>();
+	private final Map<Method, Optional<ConcurrencyLimiter>> queryMethodLimiters = new ConcurrentHashMap<>();
+	private final List<Consumer<? super ConcurrencyLimiter>> callbacks = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Creates a new {@link RepositoryConcurrencyLimits} for the given {@link Repositories} and
+	 * {@link ConcurrencyLimitConfiguration}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public RepositoryConcurrencyLimits(Repositories repositories, ConcurrencyLimitConfiguration configuration) {
+
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(configuration, "ConcurrencyLimitConfiguration must not be null!");
+
+		this.repositories = repositories;
+		this.configuration = configuration;
+	}
+
+	/**
+	 * Returns the {@link ConcurrencyLimiter} for the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<ConcurrencyLimiter> getLimiterFor(Class<?> domainType) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+
+		return getOrCreate(repositoryLimiters, domainType, this::createLimiterFor);
+	}
+
+	/**
+	 * Returns the {@link ConcurrencyLimiter} for the given query method of the repository managing the given domain type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<ConcurrencyLimiter> getLimiterFor(Class<?> domainType, Method method) {
+
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return getOrCreate(queryMethodLimiters, method, it -> createLimiterFor(domainType, it));
+	}
+
+	/**
+	 * Returns all {@link ConcurrencyLimiter}s created so far, e.g. to expose their usage and rejection counts as metrics.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Collection<ConcurrencyLimiter> getLimiters() {
+
+		return Stream.concat(repositoryLimiters.values().stream(), queryMethodLimiters.values().stream()) //
+				.filter(Optional::isPresent) //
+				.map(Optional::get) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Registers the given callback to be invoked for all {@link ConcurrencyLimiter}s created so far and the ones created
+	 * later on, e.g. to register metrics for them. A callback might see a limiter twice if it's created concurrently.
+	 *
+	 * @param callback must not be {@literal null}.
+	 */
+	public void addLimiterCallback(Consumer<? super ConcurrencyLimiter> callback) {
+
+		Assert.notNull(callback, "Callback must not be null!");
+
+		callbacks.add(callback);
+		getLimiters().forEach(callback);
+	}
+
+	private Optional<ConcurrencyLimiter> createLimiterFor(Class<?> domainType) {
+
+		Optional<Class<?>> repositoryInterface = repositories.getRepositoryInformationFor(domainType)
+				.map(RepositoryInformation::getRepositoryInterface);
+
+		Optional<Integer> limit = configuration.getLimitFor(domainType);
+
+		if (!limit.isPresent()) {
+			limit = repositoryInterface.map(RepositoryConcurrencyLimits::getAnnotatedLimit).filter(it -> it > 0);
+		}
+
+		String name = repositoryInterface.orElse(domainType).getName();
+
+		return limit.map(it -> created(new ConcurrencyLimiter(name, it, configuration.getRetryAfter())));
+	}
+
+	private Optional<ConcurrencyLimiter> createLimiterFor(Class<?> domainType, Method method) {
+
+		Optional<Integer> limit = configuration.getLimitFor(domainType, method.getName());
+
+		if (!limit.isPresent()) {
+			limit = Optional.ofNullable(AnnotationUtils.findAnnotation(method, RestResource.class)) //
+					.map(RestResource::concurrencyLimit) //
+					.filter(it -> it > 0);
+		}
+
+		String name = method.getDeclaringClass().getName().concat(".").concat(method.getName());
+
+		return limit.map(it -> created(new ConcurrencyLimiter(name, it, configuration.getRetryAfter())));
+	}
+
+	private ConcurrencyLimiter created(ConcurrencyLimiter limiter) {
+
+		callbacks.forEach(it -> it.accept(limiter));
+
+		return limiter;
+	}
+
+	private static int getAnnotatedLimit(Class<?> repositoryInterface) {
+
+		RepositoryRestResource repositoryAnnotation = AnnotationUtils.findAnnotation(repositoryInterface,
+				RepositoryRestResource.class);
+
+		if (repositoryAnnotation != null && repositoryAnnotation.concurrencyLimit() > 0) {
+			return repositoryAnnotation.concurrencyLimit();
+		}
+
+		RestResource annotation = AnnotationUtils.findAnnotation(repositoryInterface, RestResource.class);
+
+		return annotation == null ? 0 : annotation.concurrencyLimit();
+	}
+
+	/**
+	 * Looks up the value for the given key without locking before falling back to
+	 * {@link Map#computeIfAbsent(Object, Function)}, as {@link ConcurrentHashMap} locks the bin on the latter even if a
+	 * value is present.
+	 */
+	private static <K, V> V getOrCreate(Map<K, V> cache, K key, Function<? super K, ? extends V> factory) {
+
+		V value = cache.get(key);
+
+		return value != null ? value : cache.computeIfAbsent(key, factory);
+	}
+}
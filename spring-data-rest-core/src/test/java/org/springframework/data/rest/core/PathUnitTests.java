@@ -76,4 +76,31 @@ public class PathUnitTests {
 	public void doesNotMatchNullReference() {
 		assertThat(new Path("/foobar").matches(null)).isFalse();
 	}
+
+	@Test
+	public void doesNotMatchPrefixOrSuffix() {
+
+		Path path = new Path("/foobar");
+
+		assertThat(path.matches("foo")).isFalse();
+		assertThat(path.matches("//foobar")).isFalse();
+		assertThat(path.matches("xfoobar")).isFalse();
+	}
+
+	@Test
+	public void usesNormalizedPathAsIs() {
+
+		String source = "/foo/bar";
+
+		assertThat(new Path(source).toString()).isSameAs(source);
+		assertThat(new Path("/").toString()).isEqualTo("/");
+		assertThat(new Path("/foo/").toString()).isEqualTo("/foo");
+	}
+
+	@Test
+	public void exposesMatchingReferences() {
+
+		assertThat(new Path("foo").getMatchingReferences()).containsExactly("/foo", "foo");
+		assertThat(new Path("http://localhost").getMatchingReferences()).containsExactly("http://localhost");
+	}
 }
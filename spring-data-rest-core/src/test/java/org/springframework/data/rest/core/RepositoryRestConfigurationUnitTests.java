@@ -22,6 +22,8 @@ import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.rest.core.config.AsyncExecutionConfiguration;
 import org.springframework.data.rest.core.config.EnumTranslationConfiguration;
 import org.springframework.data.rest.core.config.MetadataConfiguration;
 import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
@@ -136,4 +138,30 @@ public class RepositoryRestConfigurationUnitTests {
 	public void rejectsNullRelProvider() {
 		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> configuration.setRelProvider(null));
 	}
+
+	@Test
+	public void disablesAsyncExecutionByDefault() {
+
+		AsyncExecutionConfiguration async = configuration.getAsyncExecutionConfiguration();
+
+		assertThat(async.isEnabled()).isFalse();
+		assertThat(async.getExecutorFor(Profile.class)).isEmpty();
+	}
+
+	@Test
+	public void prefersRepositorySpecificAsyncExecutorOverDefault() {
+
+		AsyncTaskExecutor defaultExecutor = mock(AsyncTaskExecutor.class);
+		AsyncTaskExecutor profileExecutor = mock(AsyncTaskExecutor.class);
+
+		configuration.getAsyncExecutionConfiguration() //
+				.setDefaultExecutor(defaultExecutor) //
+				.setExecutorFor(Profile.class, profileExecutor);
+
+		AsyncExecutionConfiguration async = configuration.getAsyncExecutionConfiguration();
+
+		assertThat(async.isEnabled()).isTrue();
+		assertThat(async.getExecutorFor(Profile.class)).hasValue(profileExecutor);
+		assertThat(async.getExecutorFor(Object.class)).hasValue(defaultExecutor);
+	}
 }
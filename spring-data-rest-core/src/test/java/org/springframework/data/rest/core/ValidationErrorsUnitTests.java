@@ -71,6 +71,22 @@ public class ValidationErrorsUnitTests {
 		assertThat(errors.getFieldValue("bar")).isNull();
 	}
 
+	@Test
+	public void reusesPropertyAccessorAndResolvesNestedPathsRepeatedly() {
+
+		ValidationErrors errors = new ValidationErrors(new Foo(), entities);
+
+		assertThat(errors.getPropertyAccessor()).isSameAs(errors.getPropertyAccessor());
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(errors.getFieldValue("bars[0].field")).isEqualTo("Hello");
+			assertThat(new ValidationErrors(new Foo(), entities).getFieldValue("bars[0].field")).isEqualTo("Hello");
+		}
+
+		assertThatExceptionOfType(NotReadablePropertyException.class)
+				.isThrownBy(() -> errors.getFieldValue("bars[0].unknown"));
+	}
+
 	private static void expectedErrorBehavior(Errors errors) {
 
 		assertThat(errors.getFieldValue("bars")).isNotNull();
@@ -22,6 +22,7 @@ import org.junit.Test;
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.core.annotation.Order;
 import org.springframework.data.rest.core.annotation.HandleAfterCreate;
+import org.springframework.data.rest.core.annotation.HandleAfterLinkSave;
 import org.springframework.data.rest.core.annotation.HandleBeforeCreate;
 import org.springframework.data.rest.core.annotation.RepositoryEventHandler;
 import org.springframework.data.rest.core.domain.Person;
@@ -116,6 +117,53 @@ public class AnnotatedEventHandlerInvokerUnitTests {
 		verify(handler, times(1)).doAfterCreate(payload);
 	}
 
+	@Test
+	public void considersHandlersRegisteredAfterFirstDispatch() {
+
+		FirstEventHandler firstHandler = new FirstEventHandler();
+		FirstEventHandler secondHandler = new FirstEventHandler();
+
+		AnnotatedEventHandlerInvoker invoker = new AnnotatedEventHandlerInvoker();
+		invoker.postProcessAfterInitialization(firstHandler, "firstHandler");
+
+		invoker.onApplicationEvent(new BeforeCreateEvent(new FirstEntity()));
+
+		invoker.postProcessAfterInitialization(secondHandler, "secondHandler");
+
+		invoker.onApplicationEvent(new BeforeCreateEvent(new FirstEntity()));
+		invoker.onApplicationEvent(new BeforeCreateEvent(new SecondEntity()));
+
+		assertThat(firstHandler.callCount).isEqualTo(2);
+		assertThat(secondHandler.callCount).isEqualTo(1);
+	}
+
+	@Test
+	public void invokesLinkEventHandlerWithLinkedObject() {
+
+		LinkEventHandler handler = new LinkEventHandler();
+
+		AnnotatedEventHandlerInvoker invoker = new AnnotatedEventHandlerInvoker();
+		invoker.postProcessAfterInitialization(handler, "handler");
+
+		Payload payload = new Payload();
+		Object linked = new Object();
+
+		invoker.onApplicationEvent(new AfterLinkSaveEvent(payload, linked));
+
+		assertThat(handler.source).isSameAs(payload);
+		assertThat(handler.linked).isSameAs(linked);
+	}
+
+	@Test
+	public void propagatesExceptionThrownByHandler() {
+
+		AnnotatedEventHandlerInvoker invoker = new AnnotatedEventHandlerInvoker();
+		invoker.postProcessAfterInitialization(new FailingEventHandler(), "handler");
+
+		assertThatExceptionOfType(IllegalStateException.class)
+				.isThrownBy(() -> invoker.onApplicationEvent(new AfterCreateEvent(new Payload())));
+	}
+
 	@RepositoryEventHandler
 	static class Sample {
 
@@ -192,5 +240,26 @@ public class AnnotatedEventHandlerInvokerUnitTests {
 		public void doAfterCreate(Payload bar) {}
 	}
 
+	@RepositoryEventHandler
+	static class LinkEventHandler {
+
+		Object source, linked;
+
+		@HandleAfterLinkSave
+		public void handle(Payload source, Object linked) {
+			this.source = source;
+			this.linked = linked;
+		}
+	}
+
+	@RepositoryEventHandler
+	static class FailingEventHandler {
+
+		@HandleAfterCreate
+		public void fail(Payload payload) {
+			throw new IllegalStateException();
+		}
+	}
+
 	static class Payload {}
 }
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.AsyncEventConfiguration;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Unit tests for {@link AsyncRepositoryEventPublisher}.
+ */
+public class AsyncRepositoryEventPublisherUnitTests {
+
+	List<Object> published = new ArrayList<Object>();
+	List<Runnable> tasks = new ArrayList<Runnable>();
+
+	AsyncEventConfiguration configuration = new AsyncEventConfiguration().setExecutor(tasks::add);
+	AsyncRepositoryEventPublisher publisher = new AsyncRepositoryEventPublisher(published::add, configuration);
+
+	@After
+	public void tearDown() {
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		if (TransactionSynchronizationManager.hasResource(this)) {
+			TransactionSynchronizationManager.unbindResource(this);
+		}
+	}
+
+	@Test
+	public void publishesBeforeEventsSynchronously() {
+
+		BeforeSaveEvent event = new BeforeSaveEvent(new Object());
+
+		publisher.publishEvent(event);
+
+		assertThat(published).containsExactly(event);
+		assertThat(tasks).isEmpty();
+	}
+
+	@Test
+	public void publishesAllEventsSynchronouslyIfNotEnabled() {
+
+		configuration.setExecutor(null);
+
+		AfterSaveEvent event = new AfterSaveEvent(new Object());
+
+		publisher.publishEvent(event);
+
+		assertThat(published).containsExactly(event);
+	}
+
+	@Test
+	public void publishesAfterEventsAsynchronouslyInOrder() {
+
+		AfterSaveEvent first = new AfterSaveEvent("first");
+		AfterSaveEvent second = new AfterSaveEvent("second");
+		AfterDeleteEvent third = new AfterDeleteEvent("third");
+
+		publisher.publishEvent(first);
+		publisher.publishEvent(second);
+		publisher.publishEvent(third);
+
+		assertThat(published).isEmpty();
+		assertThat(tasks).hasSize(1);
+		assertThat(publisher.getQueueSize()).isEqualTo(3);
+
+		tasks.get(0).run();
+
+		assertThat(published).containsExactly(first, second, third);
+		assertThat(publisher.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void publishesBatchesInsteadOfIndividualEventsIfConfigured() {
+
+		configuration.setBatchPublication(true);
+
+		AfterSaveEvent first = new AfterSaveEvent("first");
+		AfterSaveEvent second = new AfterSaveEvent("second");
+		AfterDeleteEvent third = new AfterDeleteEvent("third");
+
+		publisher.publishEvent(first);
+		publisher.publishEvent(second);
+		publisher.publishEvent(third);
+
+		tasks.get(0).run();
+
+		assertThat(published).hasSize(2);
+
+		assertThat(published.get(0)).isInstanceOfSatisfying(RepositoryEventBatch.class, it -> {
+			assertThat(it.getEventType()).isEqualTo(AfterSaveEvent.class);
+			assertThat(it.getEvents()).containsExactly(first, second);
+		});
+
+		assertThat(published.get(1)).isInstanceOfSatisfying(RepositoryEventBatch.class, it -> {
+			assertThat(it.getEvents()).containsExactly(third);
+		});
+	}
+
+	@Test
+	public void limitsBatchSize() {
+
+		configuration.setBatchPublication(true);
+		configuration.setMaxBatchSize(1);
+
+		publisher.publishEvent(new AfterCreateEvent("first"));
+		publisher.publishEvent(new AfterCreateEvent("second"));
+
+		tasks.get(0).run();
+
+		assertThat(published).hasSize(2).allMatch(RepositoryEventBatch.class::isInstance);
+	}
+
+	@Test
+	public void publishesQueuedEventsAndEventOnCallingThreadIfQueueIsFull() {
+
+		configuration.setQueueCapacity(1).setEnqueueTimeout(Duration.ZERO);
+		publisher = new AsyncRepositoryEventPublisher(published::add, configuration);
+
+		AfterSaveEvent first = new AfterSaveEvent("first");
+		AfterSaveEvent second = new AfterSaveEvent("second");
+
+		publisher.publishEvent(first);
+		publisher.publishEvent(second);
+
+		assertThat(published).containsExactly(first, second);
+		assertThat(publisher.getQueueSize()).isEqualTo(0);
+
+		tasks.get(0).run();
+
+		assertThat(published).containsExactly(first, second);
+	}
+
+	@Test
+	public void publishesOnCallingThreadIfResourcesAreBoundToIt() {
+
+		AfterSaveEvent first = new AfterSaveEvent("first");
+		AfterSaveEvent second = new AfterSaveEvent("second");
+
+		publisher.publishEvent(first);
+
+		// e.g. the EntityManager bound by OpenEntityManagerInViewInterceptor
+		TransactionSynchronizationManager.bindResource(this, new Object());
+
+		publisher.publishEvent(second);
+
+		assertThat(published).containsExactly(first, second);
+		assertThat(publisher.getQueueSize()).isEqualTo(0);
+	}
+
+	@Test
+	public void publishesEventsWithRegisteredValidatorsSynchronously() {
+
+		ObjectFactory<PersistentEntities> entities = () -> new PersistentEntities(Collections.emptyList());
+		ValidatingRepositoryEventListener listener = new ValidatingRepositoryEventListener(entities) //
+				.addValidator("afterSave", new StringValidator());
+
+		publisher = new AsyncRepositoryEventPublisher(published::add, configuration,
+				Collections.singletonList(listener));
+
+		AfterSaveEvent validated = new AfterSaveEvent("validated");
+
+		publisher.publishEvent(validated);
+		publisher.publishEvent(new AfterSaveEvent(new Object()));
+		publisher.publishEvent(new AfterCreateEvent("created"));
+
+		assertThat(published).containsExactly(validated);
+		assertThat(publisher.getQueueSize()).isEqualTo(2);
+	}
+
+	@Test
+	public void defersPublicationUntilTransactionCommit() {
+
+		TransactionSynchronizationManager.initSynchronization();
+
+		publisher.publishEvent(new AfterSaveEvent("first"));
+
+		assertThat(publisher.getQueueSize()).isEqualTo(0);
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			synchronization.afterCommit();
+		}
+
+		assertThat(publisher.getQueueSize()).isEqualTo(1);
+	}
+
+	@Test
+	public void publishesPendingEventsOnShutdown() {
+
+		AfterLinkSaveEvent event = new AfterLinkSaveEvent("source", "linked");
+
+		publisher.publishEvent(event);
+		publisher.destroy();
+
+		assertThat(published).startsWith(event);
+
+		publisher.publishEvent(new AfterSaveEvent("after"));
+
+		assertThat(published).hasSize(2);
+	}
+
+	static class StringValidator implements Validator {
+
+		@Override
+		public boolean supports(Class<?> clazz) {
+			return String.class.equals(clazz);
+		}
+
+		@Override
+		public void validate(Object target, Errors errors) {}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.RepositoryConstraintViolationException;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.data.rest.core.domain.Profile;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * Unit tests for {@link ValidatingRepositoryEventListener}.
+ */
+public class ValidatingRepositoryEventListenerUnitTests {
+
+	ObjectFactory<PersistentEntities> entitiesFactory;
+	Validator validator = mock(Validator.class);
+	ValidatingRepositoryEventListener listener;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setUp() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		context.getPersistentEntity(Person.class);
+
+		PersistentEntities entities = new PersistentEntities(Arrays.asList(context));
+
+		this.entitiesFactory = mock(ObjectFactory.class);
+		when(entitiesFactory.getObject()).thenReturn(entities);
+
+		when(validator.supports(Person.class)).thenReturn(true);
+
+		this.listener = new ValidatingRepositoryEventListener(entitiesFactory).addValidator("beforeCreate", validator);
+	}
+
+	@Test
+	public void resolvesSupportingValidatorsOncePerType() {
+
+		listener.onApplicationEvent(new BeforeCreateEvent(new Person("Dave", "Matthews")));
+		listener.onApplicationEvent(new BeforeCreateEvent(new Person("Carter", "Beauford")));
+
+		verify(validator, times(1)).supports(Person.class);
+		verify(validator, times(2)).validate(any(Person.class), any());
+	}
+
+	@Test
+	public void doesNotCreateErrorsIfNoValidatorApplies() {
+
+		listener.onApplicationEvent(new BeforeCreateEvent(new Profile("profile", "type")));
+		listener.onApplicationEvent(new AfterCreateEvent(new Person("Dave", "Matthews")));
+
+		verify(validator, never()).validate(any(), any());
+		verify(entitiesFactory, never()).getObject();
+	}
+
+	@Test
+	public void reconsidersValidatorsAddedLater() {
+
+		listener.onApplicationEvent(new BeforeCreateEvent(new Person("Dave", "Matthews")));
+
+		Validator rejecting = mock(Validator.class);
+		when(rejecting.supports(Person.class)).thenReturn(true);
+		doAnswer(it -> {
+
+			Errors errors = it.getArgument(1);
+			errors.reject("invalid");
+
+			return null;
+		}).when(rejecting).validate(any(), any());
+
+		listener.addValidator("beforeCreate", rejecting);
+
+		assertThatExceptionOfType(RepositoryConstraintViolationException.class)
+				.isThrownBy(() -> listener.onApplicationEvent(new BeforeCreateEvent(new Person("Dave", "Matthews"))));
+	}
+}
@@ -33,6 +33,7 @@ import org.springframework.data.annotation.ReadOnlyProperty;
 import org.springframework.data.annotation.Reference;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.core.CrudMethods;
@@ -140,6 +141,25 @@ public class CrudMethodsSupportedHttpMethodsUnitTests {
 				PUT, PATCH);
 	}
 
+	@Test
+	public void returnsSameImmutableMethodsOnSubsequentCalls() {
+
+		KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+		PersistentProperty<?> related = context.getRequiredPersistentEntity(Entity.class)
+				.getRequiredPersistentProperty("related");
+
+		SupportedHttpMethods methods = getSupportedHttpMethodsFor(SampleRepository.class);
+
+		assertThat(methods.getMethodsFor(ITEM)).isSameAs(methods.getMethodsFor(ITEM));
+		assertThat(methods.getMethodsFor(COLLECTION)).isSameAs(methods.getMethodsFor(COLLECTION));
+		assertThat(methods.getMethodsFor(related)).isSameAs(methods.getMethodsFor(related));
+
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> methods.getMethodsFor(ITEM).add(POST));
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> methods.getMethodsFor(related).add(POST));
+	}
+
 	private SupportedHttpMethods getSupportedHttpMethodsFor(Class<?> repositoryInterface) {
 
 		RepositoryMetadata metadata = new DefaultRepositoryMetadata(repositoryInterface);
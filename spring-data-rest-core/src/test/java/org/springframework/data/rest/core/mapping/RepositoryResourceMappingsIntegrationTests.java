@@ -143,6 +143,30 @@ public class RepositoryResourceMappingsIntegrationTests {
 		assertThat(methodNames).contains("findByFirstName", "findByCreatedGreaterThan");
 	}
 
+	@Test
+	public void looksUpExportedSearchMappingsByPathAndRel() {
+
+		SearchResourceMappings searchMappings = mappings.getMetadataFor(Person.class).getSearchResourceMappings();
+
+		MethodResourceMapping mapping = searchMappings.getExportedMethodMappingForPath("firstname");
+
+		assertThat(mapping).isNotNull();
+		assertThat(mapping.getMethod().getParameterCount()).isEqualTo(2);
+		assertThat(searchMappings.getExportedMethodMappingForPath("/firstname")).isSameAs(mapping);
+		assertThat(searchMappings.getExportedMethodMappingForRel("firstname")).isSameAs(mapping);
+		assertThat(searchMappings.getMappedMethod("firstname/")).isEqualTo(mapping.getMethod());
+		assertThat(searchMappings.getExportedMethodMappingForPath("lastname")).isNull();
+	}
+
+	@Test
+	public void looksUpExportedMetadataByPath() {
+
+		assertThat(mappings.getExportedMetadataFor("/people")).hasValueSatisfying(it -> {
+			assertThat(it.getDomainType()).isEqualTo(Person.class);
+		});
+		assertThat(mappings.getExportedMetadataFor("creditCards")).isEmpty();
+	}
+
 	@Test // DATAREST-325
 	public void exposesMethodResourceMappingInPackageProtectedButExportedRepo() {
 
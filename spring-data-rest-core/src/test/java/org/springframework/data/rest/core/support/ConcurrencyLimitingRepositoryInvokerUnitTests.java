@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.ConcurrencyLimitExceededException;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.ConcurrencyLimitConfiguration;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.data.rest.core.domain.Profile;
+import org.springframework.util.LinkedMultiValueMap;
+
+/**
+ * Unit tests for {@link ConcurrencyLimitingRepositoryInvoker} and {@link RepositoryConcurrencyLimits}.
+ */
+public class ConcurrencyLimitingRepositoryInvokerUnitTests {
+
+	Repositories repositories = mock(Repositories.class);
+	RepositoryInvoker delegate = mock(RepositoryInvoker.class);
+	ConcurrencyLimitConfiguration configuration = new ConcurrencyLimitConfiguration();
+
+	RepositoryConcurrencyLimits limits;
+	Method findByFirstName;
+
+	@Before
+	public void setUp() throws Exception {
+
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		doReturn(LimitedPersonRepository.class).when(information).getRepositoryInterface();
+
+		when(repositories.getRepositoryInformationFor(Person.class)).thenReturn(Optional.of(information));
+		when(repositories.getRepositoryInformationFor(Profile.class)).thenReturn(Optional.empty());
+
+		this.limits = new RepositoryConcurrencyLimits(repositories, configuration);
+		this.findByFirstName = LimitedPersonRepository.class.getMethod("findByFirstName", String.class);
+	}
+
+	@Test
+	public void rejectsInvocationsExceedingAnnotatedRepositoryLimit() {
+
+		RepositoryInvoker invoker = new ConcurrencyLimitingRepositoryInvoker(delegate, Person.class, limits);
+
+		// every nested invocation holds another permit until the limit is reached
+		when(delegate.invokeFindAll(any(Pageable.class))).thenAnswer(it -> invoker.invokeFindAll(Pageable.unpaged()));
+
+		assertThatExceptionOfType(ConcurrencyLimitExceededException.class)
+				.isThrownBy(() -> invoker.invokeFindAll(Pageable.unpaged()));
+
+		ConcurrencyLimiter limiter = limits.getLimiterFor(Person.class).orElseThrow(IllegalStateException::new);
+
+		assertThat(limiter.getName()).isEqualTo(LimitedPersonRepository.class.getName());
+		assertThat(limiter.getLimit()).isEqualTo(2);
+		assertThat(limiter.getActiveCount()).isEqualTo(0);
+		assertThat(limiter.getRejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	public void enforcesAnnotatedQueryMethodLimit() {
+
+		RepositoryInvoker invoker = new ConcurrencyLimitingRepositoryInvoker(delegate, Person.class, limits);
+
+		when(delegate.invokeQueryMethod(eq(findByFirstName), any(), any(), any())).thenAnswer(it -> {
+			return invoker.invokeQueryMethod(findByFirstName, new LinkedMultiValueMap<>(), Pageable.unpaged(), null);
+		});
+
+		assertThatExceptionOfType(ConcurrencyLimitExceededException.class).isThrownBy(
+				() -> invoker.invokeQueryMethod(findByFirstName, new LinkedMultiValueMap<>(), Pageable.unpaged(), null));
+
+		assertThat(limits.getLimiterFor(Person.class, findByFirstName)).hasValueSatisfying(it -> {
+			assertThat(it.getLimit()).isEqualTo(1);
+			assertThat(it.getRejectedCount()).isEqualTo(1);
+		});
+	}
+
+	@Test
+	public void prefersConfiguredLimitsOverAnnotations() {
+
+		configuration.setLimitFor(Person.class, 10).setLimitFor(Person.class, "findByFirstName", 5);
+
+		assertThat(limits.getLimiterFor(Person.class)).hasValueSatisfying(it -> {
+			assertThat(it.getLimit()).isEqualTo(10);
+		});
+
+		assertThat(limits.getLimiterFor(Person.class, findByFirstName)).hasValueSatisfying(it -> {
+			assertThat(it.getLimit()).isEqualTo(5);
+		});
+	}
+
+	@Test
+	public void invokesDelegateDirectlyIfNoLimitIsConfigured() {
+
+		RepositoryInvoker invoker = new ConcurrencyLimitingRepositoryInvoker(delegate, Profile.class, limits);
+
+		invoker.invokeDeleteById(1L);
+
+		verify(delegate).invokeDeleteById(1L);
+		assertThat(limits.getLimiters()).isEmpty();
+	}
+
+	@Test
+	public void invokesCallbacksForExistingAndNewLimiters() {
+
+		List<ConcurrencyLimiter> limiters = new ArrayList<>();
+
+		limits.getLimiterFor(Person.class);
+		limits.addLimiterCallback(limiters::add);
+		limits.getLimiterFor(Person.class, findByFirstName);
+		limits.getLimiterFor(Profile.class);
+
+		String repositoryName = LimitedPersonRepository.class.getName();
+
+		assertThat(limiters).extracting(ConcurrencyLimiter::getName) //
+				.containsExactly(repositoryName, repositoryName.concat(".findByFirstName"));
+	}
+
+	@RepositoryRestResource(concurrencyLimit = 2)
+	interface LimitedPersonRepository extends CrudRepository<Person, Long> {
+
+		@RestResource(concurrencyLimit = 1)
+		Iterable<Person> findByFirstName(String firstName);
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.core.config.LookupCacheConfiguration;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.data.rest.core.domain.Profile;
+import org.springframework.data.rest.core.event.AfterCreateEvent;
+import org.springframework.data.rest.core.event.AfterDeleteEvent;
+import org.springframework.data.rest.core.event.AfterSaveEvent;
+
+/**
+ * Unit tests for {@link LookupEntityCache}.
+ */
+public class LookupEntityCacheUnitTests {
+
+	LookupCacheConfiguration configuration = new LookupCacheConfiguration() //
+			.setTimeToLive(Duration.ofMinutes(1)) //
+			.addImmutableTypes(Profile.class);
+	Clock clock = mock(Clock.class);
+	@SuppressWarnings("unchecked") Supplier<Object> loader = mock(Supplier.class);
+
+	LookupEntityCache cache;
+	Profile profile = new Profile("name", "type");
+
+	@Before
+	public void setUp() {
+
+		when(loader.get()).thenReturn(profile);
+
+		this.cache = new LookupEntityCache(configuration, clock);
+	}
+
+	@Test
+	public void cachesResolvedEntityUntilItExpires() {
+
+		when(clock.millis()).thenReturn(0L, 59_999L, 60_000L);
+
+		assertThat(cache.get(Profile.class, "name", loader)).isSameAs(profile);
+		assertThat(cache.get(Profile.class, "name", loader)).isSameAs(profile);
+		verify(loader, times(1)).get();
+
+		assertThat(cache.get(Profile.class, "name", loader)).isSameAs(profile);
+		verify(loader, times(2)).get();
+	}
+
+	@Test
+	public void evictsTypeOnAfterSaveAndAfterDeleteEvents() {
+
+		cache.get(Profile.class, "name", loader);
+
+		cache.onApplicationEvent(new AfterCreateEvent(profile));
+		cache.get(Profile.class, "name", loader);
+		verify(loader, times(1)).get();
+
+		cache.onApplicationEvent(new AfterSaveEvent(profile));
+		cache.get(Profile.class, "name", loader);
+		verify(loader, times(2)).get();
+
+		cache.onApplicationEvent(new AfterDeleteEvent(new Person("Dave", "Matthews")));
+		cache.get(Profile.class, "name", loader);
+		verify(loader, times(2)).get();
+
+		cache.onApplicationEvent(new AfterDeleteEvent(profile));
+		cache.get(Profile.class, "name", loader);
+		verify(loader, times(3)).get();
+	}
+
+	@Test
+	public void doesNotCacheAbsentEntities() {
+
+		when(loader.get()).thenReturn(null);
+
+		assertThat(cache.get(Profile.class, "name", loader)).isNull();
+		assertThat(cache.get(Profile.class, "name", loader)).isNull();
+
+		verify(loader, times(2)).get();
+	}
+
+	@Test
+	public void dropsEntriesOnceLimitIsReached() {
+
+		configuration.setMaxEntriesPerType(1);
+
+		cache.get(Profile.class, "first", loader);
+		cache.get(Profile.class, "second", loader);
+		cache.get(Profile.class, "second", loader);
+		cache.get(Profile.class, "first", loader);
+
+		verify(loader, times(3)).get();
+	}
+
+	@Test
+	public void doesNotCacheEntitiesOfTypesNotRegisteredAsImmutable() {
+
+		Person person = new Person("Dave", "Matthews");
+		@SuppressWarnings("unchecked")
+		Supplier<Object> personLoader = mock(Supplier.class);
+		when(personLoader.get()).thenReturn(person);
+
+		assertThat(cache.get(Person.class, "Dave", personLoader)).isSameAs(person);
+		assertThat(cache.get(Person.class, "Dave", personLoader)).isSameAs(person);
+
+		verify(personLoader, times(2)).get();
+	}
+
+	@Test
+	public void delegatesToLoaderIfDisabled() {
+
+		LookupEntityCache cache = new LookupEntityCache(new LookupCacheConfiguration(), clock);
+
+		cache.get(Profile.class, "name", loader);
+		cache.get(Profile.class, "name", loader);
+
+		verify(loader, times(2)).get();
+		verifyZeroInteractions(clock);
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.core.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.annotation.CachePolicy;
+import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+import org.springframework.data.rest.core.config.CacheControlConfiguration;
+import org.springframework.data.rest.core.domain.Person;
+import org.springframework.data.rest.core.domain.Profile;
+import org.springframework.http.CacheControl;
+
+/**
+ * Unit tests for {@link RepositoryCachePolicies}.
+ */
+public class RepositoryCachePoliciesUnitTests {
+
+	Repositories repositories = mock(Repositories.class);
+	CacheControlConfiguration configuration = new CacheControlConfiguration();
+
+	RepositoryCachePolicies policies;
+	Method findByFirstName, findByLastName;
+
+	@Before
+	public void setUp() throws Exception {
+
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		doReturn(CachedPersonRepository.class).when(information).getRepositoryInterface();
+
+		when(repositories.getRepositoryInformationFor(Person.class)).thenReturn(Optional.of(information));
+		when(repositories.getRepositoryInformationFor(Profile.class)).thenReturn(Optional.empty());
+
+		this.policies = new RepositoryCachePolicies(repositories, configuration);
+		this.findByFirstName = CachedPersonRepository.class.getMethod("findByFirstName", String.class);
+		this.findByLastName = CachedPersonRepository.class.getMethod("findByLastName", String.class);
+	}
+
+	@Test
+	public void usesAnnotatedRepositoryPolicy() {
+
+		assertThat(policies.getCacheControlFor(Person.class).map(CacheControl::getHeaderValue))
+				.hasValue("max-age=60, s-maxage=600, stale-while-revalidate=30");
+	}
+
+	@Test
+	public void usesAnnotatedQueryMethodPolicy() {
+
+		assertThat(policies.getCacheControlFor(Person.class, findByFirstName).map(CacheControl::getHeaderValue))
+				.hasValue("max-age=10, private");
+	}
+
+	@Test
+	public void fallsBackToRepositoryPolicyForQueryMethodsWithoutPolicy() {
+
+		assertThat(policies.getCacheControlFor(Person.class, findByLastName))
+				.isEqualTo(policies.getCacheControlFor(Person.class));
+	}
+
+	@Test
+	public void prefersConfiguredPoliciesOverAnnotations() {
+
+		configuration.setCacheControlFor(Person.class, CacheControl.noCache()) //
+				.setCacheControlFor(Person.class, "findByLastName", CacheControl.maxAge(5, TimeUnit.SECONDS));
+
+		assertThat(policies.getCacheControlFor(Person.class).map(CacheControl::getHeaderValue)).hasValue("no-cache");
+		assertThat(policies.getCacheControlFor(Person.class, findByLastName).map(CacheControl::getHeaderValue))
+				.hasValue("max-age=5");
+	}
+
+	@Test
+	public void returnsNoPolicyForUnannotatedRepository() {
+		assertThat(policies.getCacheControlFor(Profile.class)).isEmpty();
+	}
+
+	@RepositoryRestResource(cachePolicy = @CachePolicy(maxAge = 60, sharedMaxAge = 600, staleWhileRevalidate = 30))
+	interface CachedPersonRepository extends CrudRepository<Person, Long> {
+
+		@RestResource(cachePolicy = @CachePolicy(maxAge = 10, cachePrivate = true))
+		Iterable<Person> findByFirstName(String firstName);
+
+		Iterable<Person> findByLastName(String lastName);
+	}
+}
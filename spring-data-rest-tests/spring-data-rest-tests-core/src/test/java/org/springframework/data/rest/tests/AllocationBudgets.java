@@ -0,0 +1,247 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.tests;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.junit.Assume;
+import org.junit.rules.ExternalResource;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * JUnit rule to verify the number of bytes allocated by the current thread while running a scenario, e.g. a request
+ * issued through {@link org.springframework.test.web.servlet.MockMvc}, against a checked-in budget. Budgets are read
+ * from a file named {@value #BUDGETS_FILE} in the package of the test class.
+ * <p>
+ * If an increase is intentional, run the tests with the system property {@value #UPDATE_PROPERTY} set to
+ * {@literal true} (mapped from the Maven property of the same name). The measured values plus
+ * {@value #HEADROOM_PERCENT} percent headroom are then written to the budgets file in the directory given by
+ * {@value #DIRECTORY_PROPERTY} instead of verifying them.
+ * <p>
+ * Budgets must only be recorded that way, never estimated, as they're only meaningful for the JVM they were measured
+ * on, which is noted in the file. Scenarios without a recorded budget fail, so that new scenarios can't go unchecked.
+ * Measurements on JVMs that don't support per-thread allocation accounting are skipped. Register the rule as {@link org.junit.ClassRule} so that the
+ * budgets of all tests of a class are written at once.
+ *
+ * @since 3.1
+ */
+public class AllocationBudgets extends ExternalResource {
+
+	public static final String BUDGETS_FILE = "allocation-budgets.properties";
+	public static final String UPDATE_PROPERTY = "allocation.budgets.update";
+	public static final String DIRECTORY_PROPERTY = "allocation.budgets.directory";
+
+	static final int HEADROOM_PERCENT = 10;
+
+	private static final int WARMUP_RUNS = 50;
+	private static final int MEASURED_RUNS = 10;
+	private static final long ROUNDING = 1024;
+
+	private final Class<?> testClass;
+	private final boolean update;
+	private final Properties budgets = new Properties();
+	private final Map<String, Long> measured = new TreeMap<String, Long>();
+
+	/**
+	 * Creates a new {@link AllocationBudgets} reading the budgets for the given test class.
+	 *
+	 * @param testClass must not be {@literal null}.
+	 */
+	public AllocationBudgets(Class<?> testClass) {
+
+		Assert.notNull(testClass, "Test class must not be null!");
+
+		this.testClass = testClass;
+		this.update = Boolean.getBoolean(UPDATE_PROPERTY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.rules.ExternalResource#before()
+	 */
+	@Override
+	protected void before() throws Throwable {
+
+		InputStream stream = testClass.getResourceAsStream(BUDGETS_FILE);
+
+		if (stream == null) {
+			return;
+		}
+
+		try {
+			budgets.load(stream);
+		} finally {
+			stream.close();
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.junit.rules.ExternalResource#after()
+	 */
+	@Override
+	protected void after() {
+
+		if (!update || measured.isEmpty()) {
+			return;
+		}
+
+		try {
+			writeBudgets();
+		} catch (IOException o_O) {
+			throw new IllegalStateException("Could not write allocation budgets!", o_O);
+		}
+	}
+
+	/**
+	 * Runs the given scenario and verifies the bytes allocated by a single run don't exceed the budget configured for
+	 * the scenario with the given name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param scenario must not be {@literal null}.
+	 * @throws Exception
+	 */
+	public void verify(String name, Scenario scenario) throws Exception {
+
+		Assert.hasText(name, "Scenario name must not be null or empty!");
+		Assert.notNull(scenario, "Scenario must not be null!");
+
+		long allocated = measure(scenario);
+
+		if (update) {
+			measured.put(name, allocated);
+			return;
+		}
+
+		String budget = budgets.getProperty(name);
+
+		if (budget == null) {
+			fail(String.format("No allocation budget recorded for scenario %s in %s! Run with -D%s=true to record one.",
+					name, BUDGETS_FILE, UPDATE_PROPERTY));
+		}
+
+		assertThat(allocated) //
+				.as("Scenario %s allocated %s bytes per run exceeding its budget of %s bytes! "
+						+ "Run with -D%s=true to update the budget if the increase is intentional.", name, allocated, budget,
+						UPDATE_PROPERTY) //
+				.isLessThanOrEqualTo(Long.parseLong(budget.trim()));
+	}
+
+	/**
+	 * Returns the minimum number of bytes allocated by the current thread for a single run of the given scenario after
+	 * a warmup phase. Using the minimum filters one-off allocations like lazily initialized caches and TLAB effects.
+	 *
+	 * @param scenario must not be {@literal null}.
+	 * @return
+	 * @throws Exception
+	 */
+	static long measure(Scenario scenario) throws Exception {
+
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+		Assume.assumeTrue("Per-thread allocation accounting not supported!",
+				bean instanceof com.sun.management.ThreadMXBean
+						&& ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+		long threadId = Thread.currentThread().getId();
+
+		if (!threads.isThreadAllocatedMemoryEnabled()) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+
+		for (int i = 0; i < WARMUP_RUNS; i++) {
+			scenario.run();
+		}
+
+		long result = Long.MAX_VALUE;
+
+		for (int i = 0; i < MEASURED_RUNS; i++) {
+
+			long before = threads.getThreadAllocatedBytes(threadId);
+			scenario.run();
+			result = Math.min(result, threads.getThreadAllocatedBytes(threadId) - before);
+		}
+
+		return result;
+	}
+
+	private void writeBudgets() throws IOException {
+
+		String directory = System.getProperty(DIRECTORY_PROPERTY);
+
+		Assert.state(StringUtils.hasText(directory),
+				String.format("System property %s must be set to update allocation budgets!", DIRECTORY_PROPERTY));
+
+		Map<String, String> result = new TreeMap<String, String>();
+
+		for (String name : budgets.stringPropertyNames()) {
+			result.put(name, budgets.getProperty(name).trim());
+		}
+
+		for (Entry<String, Long> entry : measured.entrySet()) {
+			result.put(entry.getKey(), String.valueOf(withHeadroom(entry.getValue())));
+		}
+
+		File file = new File(new File(directory, ClassUtils.classPackageAsResourcePath(testClass)), BUDGETS_FILE);
+		file.getParentFile().mkdirs();
+
+		try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.ISO_8859_1)) {
+
+			writer.write("# Bytes allocated per run of a scenario of " + testClass.getSimpleName() + "\n");
+			writer.write("# Update by running the tests with -D" + UPDATE_PROPERTY + "=true\n");
+			writer.write(String.format("# Measured on %s %s plus %s%% headroom\n", System.getProperty("java.vm.name"),
+					System.getProperty("java.version"), HEADROOM_PERCENT));
+
+			for (Entry<String, String> entry : result.entrySet()) {
+				writer.write(entry.getKey() + "=" + entry.getValue() + "\n");
+			}
+		}
+	}
+
+	static long withHeadroom(long allocated) {
+
+		long budget = allocated + allocated * HEADROOM_PERCENT / 100;
+
+		return (budget + ROUNDING - 1) / ROUNDING * ROUNDING;
+	}
+
+	/**
+	 * A scenario to measure, usually a single request.
+	 *
+	 * @since 3.1
+	 */
+	public interface Scenario {
+
+		void run() throws Exception;
+	}
+}
@@ -26,6 +26,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
 import javax.persistence.ManyToMany;
 import javax.persistence.ManyToOne;
+import javax.persistence.OrderColumn;
 import javax.persistence.PrePersist;
 import javax.validation.constraints.NotNull;
 
@@ -53,6 +54,7 @@ public class Person {
 
 	@Description("A person's siblings") //
 	@ManyToMany //
+	@OrderColumn //
 	private List<Person> siblings = new ArrayList<Person>();
 
 	@ManyToOne //
@@ -22,11 +22,13 @@ import static org.mockito.Mockito.*;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.rest.tests.AbstractControllerIntegrationTests;
 import org.springframework.data.rest.webmvc.jpa.Book;
 import org.springframework.data.rest.webmvc.jpa.BookRepository;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
 import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.transaction.annotation.Transactional;
@@ -44,6 +46,7 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 	PersistentEntityResourceAssembler assembler;
 	RootResourceInformation information;
+	DefaultedPageable pageable = new DefaultedPageable(PageRequest.of(0, 20), true);
 
 	@Before
 	public void setUp() {
@@ -58,8 +61,8 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		assertThat(controller.followPropertyReference(information, book.id, "creators", assembler).getStatusCode(),
-				is(HttpStatus.OK));
+		assertThat(controller.followPropertyReference(information, book.id, "creators", pageable, assembler)
+				.getStatusCode(), is(HttpStatus.OK));
 	}
 
 	@Test(expected = ResourceNotFoundException.class)
@@ -67,6 +70,6 @@ public class RepositoryPropertyReferenceControllerIntegrationTests extends Abstr
 
 		Book book = books.findAll().iterator().next();
 
-		controller.followPropertyReference(information, book.id, "authors", assembler);
+		controller.followPropertyReference(information, book.id, "authors", pageable, assembler);
 	}
 }
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.tests.AllocationBudgets;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Verifies the bytes allocated per request for the core request scenarios against the budgets in
+ * {@value AllocationBudgets#BUDGETS_FILE}.
+ */
+@Transactional
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+public class JpaAllocationBudgetTests extends AbstractWebIntegrationTests {
+
+	@ClassRule public static AllocationBudgets budgets = new AllocationBudgets(JpaAllocationBudgetTests.class);
+
+	@Autowired TestDataPopulator loader;
+	@Autowired PersonRepository people;
+
+	Person person;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.tests.AbstractWebIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+
+		List<Person> population = new ArrayList<Person>();
+
+		for (int i = 0; i < 100; i++) {
+			population.add(new Person("Frodo", "Baggins" + i));
+		}
+
+		this.person = people.saveAll(population).iterator().next();
+	}
+
+	@Test
+	public void itemResource() throws Exception {
+
+		String uri = "/people/" + person.getId();
+
+		budgets.verify("item", () -> mvc.perform(get(uri)).andExpect(status().isOk()));
+	}
+
+	@Test
+	public void collectionResourcePage() throws Exception {
+
+		budgets.verify("collection.page-100", () -> mvc.perform(get("/people").param("size", "100")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$.page.size").value(100)));
+	}
+
+	@Test
+	public void searchResource() throws Exception {
+
+		budgets.verify("search", () -> mvc.perform(get("/people/search/firstname").param("firstname", "Frodo")) //
+				.andExpect(status().isOk()));
+	}
+
+	@Test
+	public void mergePatch() throws Exception {
+
+		String uri = "/people/" + person.getId();
+
+		budgets.verify("merge", () -> mvc.perform(request(HttpMethod.PATCH, uri) //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"lastName\" : \"Took\" }")) //
+				.andExpect(status().is2xxSuccessful()));
+	}
+}
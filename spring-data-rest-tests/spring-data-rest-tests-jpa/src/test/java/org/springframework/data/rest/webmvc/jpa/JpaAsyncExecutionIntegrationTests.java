@@ -0,0 +1,195 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * Integration tests for the asynchronous execution of requests to repository resources.
+ */
+@ContextConfiguration(classes = { JpaRepositoryConfig.class, JpaAsyncExecutionIntegrationTests.Config.class })
+public class JpaAsyncExecutionIntegrationTests extends AbstractWebIntegrationTests {
+
+	static final String THREAD_NAME_PREFIX = "repository-async-";
+	static final Map<Phase, Set<String>> THREADS = new ConcurrentHashMap<>();
+
+	@Configuration
+	static class Config implements RepositoryRestConfigurer {
+
+		@Bean
+		ThreadPoolTaskExecutor peopleExecutor() {
+
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix(THREAD_NAME_PREFIX);
+
+			return executor;
+		}
+
+		@Bean
+		RepositoryRestInstrumentation threadRecordingInstrumentation() {
+
+			return phase -> {
+
+				String thread = Thread.currentThread().getName();
+
+				return domainType -> THREADS.computeIfAbsent(phase, it -> ConcurrentHashMap.newKeySet()).add(thread);
+			};
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer#configureRepositoryRestConfiguration(org.springframework.data.rest.core.config.RepositoryRestConfiguration)
+		 */
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+
+			config.getAsyncExecutionConfiguration() //
+					.setExecutorFor(Person.class, peopleExecutor()) //
+					.setExecutorFor(Author.class, new StalledExecutor());
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+	@Autowired PersonRepository people;
+
+	Person person;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.tests.AbstractWebIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+
+		this.person = people.findAll().iterator().next();
+
+		THREADS.clear();
+	}
+
+	@Test
+	public void resolvesArgumentsAndInvokesHandlerOnExecutorThread() throws Exception {
+
+		MvcResult result = mvc.perform(put("/people/{id}", person.getId()) //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"firstName\" : \"Jane\", \"lastName\" : \"Smith\" }")) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		mvc.perform(asyncDispatch(result)).andExpect(status().is2xxSuccessful());
+
+		assertThat(THREADS.get(Phase.RESOURCE_RESOLUTION)).isNotEmpty()
+				.allSatisfy(it -> assertThat(it).startsWith(THREAD_NAME_PREFIX));
+		assertThat(THREADS.get(Phase.REPOSITORY_INVOCATION)).isNotEmpty()
+				.allSatisfy(it -> assertThat(it).startsWith(THREAD_NAME_PREFIX));
+		assertThat(people.findById(person.getId())).hasValueSatisfying(it -> {
+			assertThat(it.getFirstName()).isEqualTo("Jane");
+		});
+	}
+
+	@Test
+	public void rendersErrorsRaisedDuringAsynchronousArgumentResolution() throws Exception {
+
+		MvcResult result = mvc.perform(put("/people/{id}", person.getId()) //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"firstName\" : ")) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		mvc.perform(asyncDispatch(result)).andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void rendersNotFoundRaisedDuringAsynchronousInvocation() throws Exception {
+
+		MvcResult result = mvc.perform(get("/people/{id}", Long.MAX_VALUE)) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		mvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void rendersServiceUnavailableOnTimeout() throws Exception {
+
+		MvcResult result = mvc.perform(get("/authors")) //
+				.andExpect(request().asyncStarted()) //
+				.andReturn();
+
+		MockAsyncContext context = (MockAsyncContext) result.getRequest().getAsyncContext();
+
+		for (AsyncListener listener : context.getListeners()) {
+			listener.onTimeout(new AsyncEvent(context));
+		}
+
+		mvc.perform(asyncDispatch(result)).andExpect(status().isServiceUnavailable());
+		assertThat(THREADS).doesNotContainKey(Phase.RESOURCE_RESOLUTION);
+	}
+
+	/**
+	 * {@link AsyncTaskExecutor} never executing the tasks submitted to simulate a timeout.
+	 */
+	static class StalledExecutor implements AsyncTaskExecutor {
+
+		@Override
+		public void execute(Runnable task) {}
+
+		@Override
+		public void execute(Runnable task, long startTimeout) {}
+
+		@Override
+		public Future<?> submit(Runnable task) {
+			return new CompletableFuture<Object>();
+		}
+
+		@Override
+		public <T> Future<T> submit(Callable<T> task) {
+			return new CompletableFuture<T>();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RestMediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Integration tests for reading and writing resources in the CBOR and Smile encodings.
+ */
+@Transactional
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+public class JpaBinaryFormatIntegrationTests extends AbstractWebIntegrationTests {
+
+	ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+	ObjectMapper smile = new ObjectMapper(new SmileFactory());
+
+	@Autowired PersonRepository people;
+
+	@Test
+	public void createsAndUpdatesEntityFromHalCborBodies() throws Exception {
+
+		byte[] response = mvc.perform(post("/people") //
+				.contentType(RestMediaTypes.HAL_CBOR) //
+				.accept(RestMediaTypes.HAL_CBOR) //
+				.content(cbor.writeValueAsBytes(person("Frodo", "Baggins")))) //
+				.andExpect(status().isCreated()) //
+				.andExpect(content().contentTypeCompatibleWith(RestMediaTypes.HAL_CBOR)) //
+				.andReturn().getResponse().getContentAsByteArray();
+
+		JsonNode created = cbor.readTree(response);
+
+		assertThat(created.path("firstName").asText()).isEqualTo("Frodo");
+
+		String href = created.path("_links").path("self").path("href").asText();
+
+		assertThat(href).isNotEmpty();
+
+		mvc.perform(put(href) //
+				.contentType(RestMediaTypes.HAL_CBOR) //
+				.content(cbor.writeValueAsBytes(person("Bilbo", "Baggins")))) //
+				.andExpect(status().is2xxSuccessful());
+
+		assertThat(readPerson(href).path("firstName").asText()).isEqualTo("Bilbo");
+	}
+
+	@Test
+	public void appliesJsonPatchSentAsCbor() throws Exception {
+
+		Person person = people.save(new Person("Frodo", "Baggins"));
+		String href = "/people/" + person.getId();
+
+		Map<String, Object> operation = new LinkedHashMap<String, Object>();
+		operation.put("op", "replace");
+		operation.put("path", "/lastName");
+		operation.put("value", "Took");
+
+		mvc.perform(patch(href) //
+				.contentType(RestMediaTypes.JSON_PATCH_CBOR) //
+				.content(cbor.writeValueAsBytes(new Object[] { operation }))) //
+				.andExpect(status().is2xxSuccessful());
+
+		assertThat(readPerson(href).path("lastName").asText()).isEqualTo("Took");
+	}
+
+	@Test
+	public void appliesMergePatchSentAsSmile() throws Exception {
+
+		Person person = people.save(new Person("Frodo", "Baggins"));
+		String href = "/people/" + person.getId();
+
+		Map<String, Object> changes = new LinkedHashMap<String, Object>();
+		changes.put("lastName", "Took");
+
+		mvc.perform(patch(href) //
+				.contentType(RestMediaTypes.MERGE_PATCH_SMILE) //
+				.content(smile.writeValueAsBytes(changes))) //
+				.andExpect(status().is2xxSuccessful());
+
+		JsonNode result = readPerson(href);
+
+		assertThat(result.path("firstName").asText()).isEqualTo("Frodo");
+		assertThat(result.path("lastName").asText()).isEqualTo("Took");
+	}
+
+	private JsonNode readPerson(String href) throws Exception {
+
+		byte[] response = mvc.perform(get(href).accept(MediaType.APPLICATION_JSON)) //
+				.andExpect(status().isOk()) //
+				.andReturn().getResponse().getContentAsByteArray();
+
+		return new ObjectMapper().readTree(response);
+	}
+
+	private static Map<String, Object> person(String firstName, String lastName) {
+
+		Map<String, Object> person = new LinkedHashMap<String, Object>();
+		person.put("firstName", firstName);
+		person.put("lastName", lastName);
+
+		return person;
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.RepositoryCacheControlAdvice;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Integration tests for {@link RepositoryCacheControlAdvice} and the {@code Cache-Control} headers of
+ * {@code 304 Not Modified} responses.
+ */
+@ContextConfiguration(classes = { JpaRepositoryConfig.class, JpaCacheControlIntegrationTests.Config.class })
+public class JpaCacheControlIntegrationTests extends AbstractWebIntegrationTests {
+
+	static final CacheControl PEOPLE = CacheControl.maxAge(60, TimeUnit.SECONDS);
+	static final CacheControl PEOPLE_BY_FIRST_NAME = CacheControl.maxAge(10, TimeUnit.SECONDS).cachePrivate();
+	static final CacheControl ADDRESSES = CacheControl.maxAge(30, TimeUnit.SECONDS);
+
+	@Configuration
+	static class Config implements RepositoryRestConfigurer {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer#configureRepositoryRestConfiguration(org.springframework.data.rest.core.config.RepositoryRestConfiguration)
+		 */
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+
+			config.getCacheControlConfiguration() //
+					.setCacheControlFor(Person.class, PEOPLE) //
+					.setCacheControlFor(Person.class, "findByFirstName", PEOPLE_BY_FIRST_NAME) //
+					.setCacheControlFor(Address.class, ADDRESSES);
+		}
+	}
+
+	@Autowired WebApplicationContext context;
+	@Autowired TestDataPopulator loader;
+	@Autowired PersonRepository people;
+	@Autowired AddressRepository addresses;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.tests.AbstractWebIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+	}
+
+	@Test
+	public void addsRepositoryPolicyToCollectionAndItemResources() throws Exception {
+
+		Person person = people.findAll().iterator().next();
+
+		mvc.perform(get("/people")) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, PEOPLE.getHeaderValue())) //
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+
+		mvc.perform(get("/people/{id}", person.getId())) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, PEOPLE.getHeaderValue())) //
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+	}
+
+	@Test
+	public void usesPolicyOfInvokedQueryMethodForSearchResources() throws Exception {
+
+		mvc.perform(get("/people/search/findByFirstName").param("firstname", "John")) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, PEOPLE_BY_FIRST_NAME.getHeaderValue()));
+	}
+
+	@Test
+	public void fallsBackToRepositoryPolicyForQueryMethodsWithoutPolicy() throws Exception {
+
+		mvc.perform(get("/people/search/findByLastName").param("lastname", "Doe")) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, PEOPLE.getHeaderValue()));
+	}
+
+	@Test
+	public void doesNotAddCacheControlToResponsesOfOtherMethods() throws Exception {
+
+		mvc.perform(post("/people") //
+				.contentType(MediaType.APPLICATION_JSON) //
+				.content("{ \"firstName\" : \"Jane\", \"lastName\" : \"Smith\" }")) //
+				.andExpect(status().isCreated()) //
+				.andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+	}
+
+	@Test
+	public void doesNotAddCacheControlToErrorResponses() throws Exception {
+
+		mvc.perform(get("/people/{id}", Long.MAX_VALUE)) //
+				.andExpect(status().isNotFound()) //
+				.andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+	}
+
+	@Test
+	public void addsCacheControlToNotModifiedResponses() throws Exception {
+
+		Address address = addresses.save(new Address());
+
+		String eTag = mvc.perform(get("/addresses/{id}", address.id)) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, ADDRESSES.getHeaderValue())) //
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+		mvc.perform(get("/addresses/{id}", address.id).header(HttpHeaders.IF_NONE_MATCH, eTag)) //
+				.andExpect(status().isNotModified()) //
+				.andExpect(header().string(HttpHeaders.CACHE_CONTROL, ADDRESSES.getHeaderValue())) //
+				.andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+	}
+
+	@Test
+	public void leavesExistingCacheControlHeaderUntouched() throws Exception {
+
+		MockMvc filtered = MockMvcBuilders.webAppContextSetup(context) //
+				.addFilter(new OncePerRequestFilter() {
+
+					@Override
+					protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+							FilterChain chain) throws ServletException, IOException {
+
+						response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+						chain.doFilter(request, response);
+					}
+				}).build();
+
+		filtered.perform(get("/people").accept(MediaType.APPLICATION_JSON)) //
+				.andExpect(status().isOk()) //
+				.andExpect(header().stringValues(HttpHeaders.CACHE_CONTROL, contains("no-store")));
+	}
+}
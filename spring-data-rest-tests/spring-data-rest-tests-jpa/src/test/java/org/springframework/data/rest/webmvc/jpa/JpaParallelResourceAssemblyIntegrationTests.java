@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.tests.AbstractWebIntegrationTests;
+import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Integration tests for the parallel assembly of collection resources backed by JPA.
+ */
+@ContextConfiguration(classes = { JpaRepositoryConfig.class, JpaParallelResourceAssemblyIntegrationTests.Config.class })
+public class JpaParallelResourceAssemblyIntegrationTests extends AbstractWebIntegrationTests {
+
+	static final Set<Thread> ASSEMBLY_THREADS = ConcurrentHashMap.newKeySet();
+
+	@Configuration
+	static class Config implements RepositoryRestConfigurer {
+
+		@Bean(destroyMethod = "shutdown")
+		ExecutorService resourceAssemblyExecutor() {
+			return Executors.newFixedThreadPool(2);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer#configureRepositoryRestConfiguration(org.springframework.data.rest.core.config.RepositoryRestConfiguration)
+		 */
+		@Override
+		public void configureRepositoryRestConfiguration(RepositoryRestConfiguration config) {
+
+			ExecutorService executor = resourceAssemblyExecutor();
+
+			// record the threads actually running assembly tasks
+			config.setResourceAssemblyExecutor(task -> executor.execute(() -> {
+				ASSEMBLY_THREADS.add(Thread.currentThread());
+				task.run();
+			})).setResourceAssemblyBatchSize(2);
+		}
+	}
+
+	@Autowired TestDataPopulator loader;
+	@Autowired EntityManagerFactory factory;
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.tests.AbstractWebIntegrationTests#setUp()
+	 */
+	@Override
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+		super.setUp();
+
+		ASSEMBLY_THREADS.clear();
+	}
+
+	@After
+	public void tearDown() {
+
+		if (TransactionSynchronizationManager.hasResource(factory)) {
+			((EntityManagerHolder) TransactionSynchronizationManager.unbindResource(factory)).getEntityManager().close();
+		}
+	}
+
+	@Test
+	public void assemblesCollectionResourceOnWorkerThreads() throws Exception {
+
+		mvc.perform(get("/authors")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.authors[*].name",
+						containsInAnyOrder("Ollie", "Mark", "Michael", "David", "John", "Thomas")));
+
+		assertThat(ASSEMBLY_THREADS).isNotEmpty().doesNotContain(Thread.currentThread());
+	}
+
+	@Test
+	public void assemblesCollectionResourceOnRequestThreadIfEntityManagerIsBound() throws Exception {
+
+		EntityManager em = factory.createEntityManager();
+		TransactionSynchronizationManager.bindResource(factory, new EntityManagerHolder(em));
+
+		mvc.perform(get("/authors")) //
+				.andExpect(status().isOk()) //
+				.andExpect(jsonPath("$._embedded.authors", hasSize(6)));
+
+		assertThat(ASSEMBLY_THREADS).isEmpty();
+	}
+}
@@ -340,6 +340,79 @@ public class JpaWebTests extends CommonWebTests {
 		assertSiblingNames(frodosSiblingsLink, "Bilbo", "Merry");
 	}
 
+	@Test
+	public void looksUpSingleItemOfPropertyCollection() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+
+		patchAndGet(frodosSiblingsLink, links.get(1).getHref(), TEXT_URI_LIST);
+
+		UriTemplate template = new UriTemplate("/people/{id}");
+		String bilboId = template.match(links.get(1).getHref()).get("id");
+		String merryId = template.match(links.get(2).getHref()).get("id");
+
+		client.follow(frodosSiblingsLink.expand().getHref() + "/" + bilboId).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$.firstName").value("Bilbo"));
+
+		client.follow(frodosSiblingsLink.expand().getHref() + "/" + merryId).//
+				andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void pagesAndStreamsPropertyCollection() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"), //
+				new Person("Pippin", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+
+		patchAndGet(frodosSiblingsLink, toUriList(links.get(1), links.get(2), links.get(3)), TEXT_URI_LIST);
+
+		String href = frodosSiblingsLink.expand().getHref();
+
+		mvc.perform(get(href).param("page", "0").param("size", "2").param("sort", "firstName,desc")).//
+				andExpect(status().isOk()).//
+				andExpect(jsonPath("$._embedded.people[*].firstName", contains("Pippin", "Merry"))).//
+				andExpect(jsonPath("$.page.totalElements").value(3)).//
+				andExpect(jsonPath("$._links.next.href").exists());
+
+		String uriList = mvc.perform(get(href).accept(TEXT_URI_LIST)).//
+				andExpect(status().isOk()).//
+				andExpect(content().contentTypeCompatibleWith(TEXT_URI_LIST)).//
+				andReturn().getResponse().getContentAsString();
+
+		assertThat(uriList.split("\r\n")).containsExactly(links.get(1).expand().getHref(),
+				links.get(2).expand().getHref(), links.get(3).expand().getHref());
+	}
+
+	@Test
+	public void streamsOrderedPropertyCollectionInListOrder() throws Exception {
+
+		List<Link> links = preparePersonResources(new Person("Frodo", "Baggins"), //
+				new Person("Bilbo", "Baggins"), //
+				new Person("Merry", "Baggins"), //
+				new Person("Pippin", "Baggins"));
+
+		Link frodosSiblingsLink = links.get(0);
+
+		// Siblings are mapped with @OrderColumn, so the order differing from the identifiers has to be kept
+		patchAndGet(frodosSiblingsLink, toUriList(links.get(3), links.get(1), links.get(2)), TEXT_URI_LIST);
+
+		String uriList = mvc.perform(get(frodosSiblingsLink.expand().getHref()).accept(TEXT_URI_LIST)).//
+				andExpect(status().isOk()).//
+				andReturn().getResponse().getContentAsString();
+
+		assertThat(uriList.split("\r\n")).containsExactly(links.get(3).expand().getHref(),
+				links.get(1).expand().getHref(), links.get(2).expand().getHref());
+	}
+
 	@Test // DATAREST-50
 	public void propertiesCanHaveNulls() throws Exception {
 
@@ -21,8 +21,10 @@ import static org.hamcrest.Matchers.*;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -38,9 +40,12 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.jpa.Address;
+import org.springframework.data.rest.webmvc.jpa.Author;
 import org.springframework.data.rest.webmvc.jpa.CreditCard;
 import org.springframework.data.rest.webmvc.jpa.Dinner;
 import org.springframework.data.rest.webmvc.jpa.Guest;
+import org.springframework.data.rest.webmvc.jpa.Item;
 import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
 import org.springframework.data.rest.webmvc.jpa.LineItem;
 import org.springframework.data.rest.webmvc.jpa.Order;
@@ -48,7 +53,9 @@ import org.springframework.data.rest.webmvc.jpa.OrderRepository;
 import org.springframework.data.rest.webmvc.jpa.Person;
 import org.springframework.data.rest.webmvc.jpa.PersonRepository;
 import org.springframework.data.rest.webmvc.jpa.PersonSummary;
+import org.springframework.data.rest.webmvc.jpa.Receipt;
 import org.springframework.data.rest.webmvc.jpa.Suite;
+import org.springframework.data.rest.webmvc.jpa.User;
 import org.springframework.data.rest.webmvc.jpa.UserExcerpt;
 import org.springframework.data.rest.webmvc.util.TestUtils;
 import org.springframework.hateoas.Link;
@@ -301,4 +308,32 @@ public class PersistentEntitySerializationTests {
 		assertThat(JsonPath.<Object> read(result, "$.room.type")).isEqualTo("suite");
 		assertThat(JsonPath.<Object> read(result, "$.meals[0].type")).isEqualTo("dinner");
 	}
+
+	@Test
+	public void rendersEntitiesOfMoreTypesThanJacksonCachesUnwrappingSerializersForIdentically() throws Exception {
+
+		List<Object> entities = Arrays.asList(new Address(), new Author("Ollie"), new CreditCard(), new Dinner(),
+				new Guest(), new Item(), new LineItem("first"), new Order(new Person("Dave", "Matthews")),
+				new Person("Oliver", "Gierke"), new Receipt(), new Suite(), new User());
+
+		List<byte[]> expected = new ArrayList<byte[]>();
+
+		// Render each entity with a copy of the mapper not having cached any serializer yet
+		for (Object entity : entities) {
+			expected.add(mapper.copy().writeValueAsBytes(toResource(entity)));
+		}
+
+		for (int run = 0; run < 2; run++) {
+			for (int i = 0; i < entities.size(); i++) {
+				assertThat(mapper.writeValueAsBytes(toResource(entities.get(i)))).isEqualTo(expected.get(i));
+			}
+		}
+	}
+
+	private PersistentEntityResource toResource(Object entity) {
+
+		return PersistentEntityResource//
+				.build(entity, context.getRequiredPersistentEntity(entity.getClass()))//
+				.withLink(new Link("/entities/1")).build();
+	}
 }
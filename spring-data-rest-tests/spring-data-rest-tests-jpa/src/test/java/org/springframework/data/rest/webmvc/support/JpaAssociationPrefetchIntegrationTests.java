@@ -0,0 +1,103 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.PersistenceUnitUtil;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.tests.AbstractControllerIntegrationTests;
+import org.springframework.data.rest.webmvc.jpa.Author;
+import org.springframework.data.rest.webmvc.jpa.JpaRepositoryConfig;
+import org.springframework.data.rest.webmvc.jpa.TestDataPopulator;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for {@link JpaAssociationPrefetch}.
+ */
+@Transactional
+@ContextConfiguration(classes = JpaRepositoryConfig.class)
+public class JpaAssociationPrefetchIntegrationTests extends AbstractControllerIntegrationTests {
+
+	@Autowired AssociationPrefetch prefetch;
+	@Autowired PersistentEntities entities;
+	@Autowired TestDataPopulator loader;
+	@PersistenceContext EntityManager em;
+
+	PersistentProperty<?> books;
+	PersistenceUnitUtil util;
+
+	@Before
+	public void setUp() {
+
+		loader.populateRepositories();
+
+		em.flush();
+		em.clear();
+
+		this.books = entities.getRequiredPersistentEntity(Author.class).getRequiredPersistentProperty("books");
+		this.util = em.getEntityManagerFactory().getPersistenceUnitUtil();
+	}
+
+	@Test
+	public void initializesLazyCollectionOfAllAttachedOwners() {
+
+		List<Author> authors = em.createQuery("select a from Author a", Author.class).getResultList();
+
+		assertThat(authors).hasSize(6).noneMatch(it -> util.isLoaded(it, "books"));
+
+		prefetch.prefetch(authors, Collections.singleton(books));
+
+		assertThat(authors).allMatch(it -> util.isLoaded(it, "books"));
+		assertThat(authors).allMatch(it -> !it.books.isEmpty());
+	}
+
+	@Test
+	public void initializesLazyCollectionOfSingleOwner() {
+
+		Author author = em.createQuery("select a from Author a", Author.class).setMaxResults(1).getSingleResult();
+
+		assertThat(util.isLoaded(author, "books")).isFalse();
+
+		prefetch.prefetch(Collections.singletonList(author), Collections.singleton(books));
+
+		assertThat(util.isLoaded(author, "books")).isTrue();
+	}
+
+	@Test
+	public void skipsDetachedOwners() {
+
+		List<Author> authors = em.createQuery("select a from Author a", Author.class).getResultList();
+
+		em.clear();
+
+		prefetch.prefetch(authors, Collections.singleton(books));
+
+		assertThat(authors).noneMatch(it -> util.isLoaded(it, "books"));
+	}
+}
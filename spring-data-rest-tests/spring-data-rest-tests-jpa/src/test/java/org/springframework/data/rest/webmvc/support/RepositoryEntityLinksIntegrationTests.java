@@ -56,6 +56,17 @@ public class RepositoryEntityLinksIntegrationTests extends AbstractControllerInt
 		assertThat(link.getRel()).isEqualTo("person");
 	}
 
+	@Test
+	public void encodesIdentifiersContainingReservedCharacters() {
+
+		Link plain = entityLinks.linkToSingleResource(Person.class, "1-a_b.c~d");
+		Link encoded = entityLinks.linkToSingleResource(Person.class, "foo bar");
+
+		assertThat(plain.getHref(), endsWith("/people/1-a_b.c~d{?projection}"));
+		assertThat(encoded.getHref(), endsWith("/people/foo%20bar{?projection}"));
+		assertThat(encoded.getHref().replace("foo%20bar", "1-a_b.c~d")).isEqualTo(plain.getHref());
+	}
+
 	@Test
 	public void returnsTemplatedLinkForPagingResource() {
 
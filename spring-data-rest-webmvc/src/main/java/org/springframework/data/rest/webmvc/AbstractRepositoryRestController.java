@@ -17,6 +17,7 @@ package org.springframework.data.rest.webmvc;
 
 import static org.springframework.data.rest.webmvc.ControllerUtils.*;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -24,14 +25,22 @@ import java.util.Optional;
 
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.FetchPlan;
+import org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.PagedResources;
 import org.springframework.hateoas.Resource;
+import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.Resources;
 import org.springframework.hateoas.core.EmbeddedWrappers;
 import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
@@ -43,6 +52,8 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 class AbstractRepositoryRestController {
 
 	private static final EmbeddedWrappers WRAPPERS = new EmbeddedWrappers(false);
+	private static final ResourceAssembler<Object, PersistentEntityResource> ALREADY_ASSEMBLED = //
+			PersistentEntityResource.class::cast;
 
 	private final PagedResourcesAssembler<Object> pagedResourcesAssembler;
 
@@ -91,8 +102,12 @@ class AbstractRepositoryRestController {
 					.orElseGet(() -> pagedResourcesAssembler.toEmptyResource(page, domainType));
 		}
 
-		return baseLink.map(it -> pagedResourcesAssembler.toResource(page, assembler, it))//
-				.orElseGet(() -> pagedResourcesAssembler.toResource(page, assembler));
+		List<PersistentEntityResource> resources = assembler.toResources(page.getContent());
+		Page<Object> assembled = new PageImpl<Object>(new ArrayList<Object>(resources), page.getPageable(),
+				page.getTotalElements());
+
+		return baseLink.map(it -> pagedResourcesAssembler.toResource(assembled, ALREADY_ASSEMBLED, it))//
+				.orElseGet(() -> pagedResourcesAssembler.toResource(assembled, ALREADY_ASSEMBLED));
 	}
 
 	protected Resources<?> entitiesToResources(Iterable<Object> entities, PersistentEntityResourceAssembler assembler,
@@ -104,16 +119,66 @@ class AbstractRepositoryRestController {
 			return new Resources<Object>(content, getDefaultSelfLink());
 		}
 
-		List<Resource<Object>> resources = new ArrayList<Resource<Object>>();
-
-		for (Object obj : entities) {
-			resources.add(obj == null ? null : assembler.toResource(obj));
-		}
+		List<Object> source = new ArrayList<Object>();
+		entities.forEach(source::add);
 
-		return new Resources<Resource<Object>>(resources, getDefaultSelfLink());
+		return new Resources<PersistentEntityResource>(assembler.toResources(source), getDefaultSelfLink());
 	}
 
 	protected Link getDefaultSelfLink() {
 		return new Link(ServletUriComponentsBuilder.fromCurrentRequest().build().toUriString());
 	}
+
+	/**
+	 * Invokes the find all method for the given {@link Pageable} or {@link Sort} handing the given {@link FetchPlan} to
+	 * the {@link RepositoryInvoker} if it's a {@link FetchPlanAwareRepositoryInvoker}.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	protected static Iterable<Object> invokeFindAll(RepositoryInvoker invoker, Pageable pageable, Sort sort,
+			FetchPlan plan) {
+
+		return pageable != null //
+				? FetchPlanAwareRepositoryInvoker.invokeFindAll(invoker, pageable, plan) //
+				: FetchPlanAwareRepositoryInvoker.invokeFindAll(invoker, sort, plan);
+	}
+
+	/**
+	 * Invokes the find one method for the given identifier handing the given {@link FetchPlan} to the
+	 * {@link RepositoryInvoker} if it's a {@link FetchPlanAwareRepositoryInvoker}.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	protected static Optional<Object> invokeFindById(RepositoryInvoker invoker, Object id, FetchPlan plan) {
+
+		return FetchPlanAwareRepositoryInvoker.invokeFindById(invoker, id, plan);
+	}
+
+	/**
+	 * Invokes the given query method handing the given {@link FetchPlan} to the {@link RepositoryInvoker} if it's a
+	 * {@link FetchPlanAwareRepositoryInvoker}.
+	 *
+	 * @param invoker must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param parameters must not be {@literal null}.
+	 * @param pageable can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	protected static Optional<Object> invokeQueryMethod(RepositoryInvoker invoker, Method method,
+			MultiValueMap<String, ? extends Object> parameters, Pageable pageable, Sort sort, FetchPlan plan) {
+
+		return FetchPlanAwareRepositoryInvoker.invokeQueryMethod(invoker, method, parameters, pageable, sort, plan);
+	}
 }
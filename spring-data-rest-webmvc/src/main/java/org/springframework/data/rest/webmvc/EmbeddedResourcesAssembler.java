@@ -62,22 +62,12 @@ public class EmbeddedResourcesAssembler {
 		final PersistentPropertyAccessor accessor = entity.getPropertyAccessor(instance);
 		final ResourceMetadata metadata = associations.getMetadataFor(entity.getType());
 
-		entity.doWithAssociations((SimpleAssociationHandler) association -> {
-
-			PersistentProperty<?> property = association.getInverse();
-
-			if (!associations.isLinkableAssociation(property)) {
-				return;
-			}
-
-			if (!projector.hasExcerptProjection(property.getActualType())) {
-				return;
-			}
+		for (PersistentProperty<?> property : getEmbeddableAssociations(entity)) {
 
-			Object value = accessor.getProperty(association.getInverse());
+			Object value = accessor.getProperty(property);
 
 			if (value == null) {
-				return;
+				continue;
 			}
 
 			String rel = metadata.getMappingFor(property).getRel();
@@ -87,7 +77,7 @@ public class EmbeddedResourcesAssembler {
 				Collection<?> collection = (Collection<?>) value;
 
 				if (collection.isEmpty()) {
-					return;
+					continue;
 				}
 
 				List<Object> nestedCollection = new ArrayList<Object>();
@@ -103,8 +93,34 @@ public class EmbeddedResourcesAssembler {
 			} else {
 				associationProjections.add(wrappers.wrap(projector.projectExcerpt(value), rel));
 			}
-		});
+		}
 
 		return associationProjections;
 	}
+
+	/**
+	 * Returns the associations of the given {@link PersistentEntity} whose values get embedded as excerpt projections,
+	 * i.e. the linkable ones pointing to types with an excerpt projection registered.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	public List<PersistentProperty<?>> getEmbeddableAssociations(PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		List<PersistentProperty<?>> embeddable = new ArrayList<>();
+
+		entity.doWithAssociations((SimpleAssociationHandler) association -> {
+
+			PersistentProperty<?> property = association.getInverse();
+
+			if (associations.isLinkableAssociation(property) && projector.hasExcerptProjection(property.getActualType())) {
+				embeddable.add(property);
+			}
+		});
+
+		return embeddable;
+	}
 }
@@ -15,11 +15,9 @@
  */
 package org.springframework.data.rest.webmvc;
 
-import lombok.NonNull;
-import lombok.RequiredArgsConstructor;
-
 import java.time.Instant;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.core.convert.support.ConfigurableConversionService;
@@ -28,9 +26,12 @@ import org.springframework.data.auditing.AuditableBeanWrapper;
 import org.springframework.data.auditing.AuditableBeanWrapperFactory;
 import org.springframework.data.convert.Jsr310Converters;
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.rest.core.support.RepositoryCachePolicies;
 import org.springframework.data.rest.webmvc.support.ETag;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Value object to prepare {@link HttpHeaders} for {@link PersistentEntityResource} and {@link PersistentEntity}
@@ -39,16 +40,47 @@ import org.springframework.util.Assert;
  * @author Oliver Gierke
  * @soundtrack Ron Spielman Trio - Matchstick
  */
-@RequiredArgsConstructor
 public class HttpHeadersPreparer {
 
-	private final @NonNull AuditableBeanWrapperFactory auditableBeanWrapperFactory;
+	private final AuditableBeanWrapperFactory auditableBeanWrapperFactory;
+	private final Optional<RepositoryCachePolicies> cachePolicies;
 	private final ConfigurableConversionService conversionService = new DefaultConversionService();
 
 	{
 		Jsr310Converters.getConvertersToRegister().forEach(conversionService::addConverter);
 	}
 
+	/**
+	 * Creates a new {@link HttpHeadersPreparer} for the given {@link AuditableBeanWrapperFactory}.
+	 *
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 */
+	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory) {
+
+		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null!");
+
+		this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+		this.cachePolicies = Optional.empty();
+	}
+
+	/**
+	 * Creates a new {@link HttpHeadersPreparer} for the given {@link AuditableBeanWrapperFactory} and
+	 * {@link RepositoryCachePolicies}.
+	 *
+	 * @param auditableBeanWrapperFactory must not be {@literal null}.
+	 * @param cachePolicies must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public HttpHeadersPreparer(AuditableBeanWrapperFactory auditableBeanWrapperFactory,
+			RepositoryCachePolicies cachePolicies) {
+
+		Assert.notNull(auditableBeanWrapperFactory, "AuditableBeanWrapperFactory must not be null!");
+		Assert.notNull(cachePolicies, "RepositoryCachePolicies must not be null!");
+
+		this.auditableBeanWrapperFactory = auditableBeanWrapperFactory;
+		this.cachePolicies = Optional.of(cachePolicies);
+	}
+
 	/**
 	 * Returns the default headers to be returned for the given {@link PersistentEntityResource}. Will set {@link ETag}
 	 * and {@code Last-Modified} headers if applicable.
@@ -85,6 +117,48 @@ public class HttpHeadersPreparer {
 		return headers;
 	}
 
+	/**
+	 * Adds the {@code Cache-Control} and {@code Vary} headers a full response for the given {@link PersistentEntity}
+	 * would carry to the given {@link HttpHeaders}, as a {@code 304 Not Modified} has to contain them, too (RFC 7232,
+	 * section 4.1). Existing {@code Cache-Control} headers are left untouched.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @since 3.1
+	 * @see RepositoryCacheControlAdvice
+	 */
+	public void addCacheControl(HttpHeaders headers, PersistentEntity<?, ?> entity) {
+
+		Assert.notNull(headers, "HttpHeaders must not be null!");
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+
+		if (headers.getCacheControl() != null) {
+			return;
+		}
+
+		cachePolicies.flatMap(it -> it.getCacheControlFor(entity.getType())) //
+				.map(CacheControl::getHeaderValue) //
+				.filter(StringUtils::hasText) //
+				.ifPresent(it -> {
+					headers.setCacheControl(it);
+					addVaryAccept(headers);
+				});
+	}
+
+	/**
+	 * Adds {@code Accept} to the {@code Vary} header unless it's already listed or the header is {@code *}.
+	 *
+	 * @param headers must not be {@literal null}.
+	 */
+	static void addVaryAccept(HttpHeaders headers) {
+
+		List<String> vary = headers.getVary();
+
+		if (vary.stream().noneMatch(it -> it.equals("*") || it.equalsIgnoreCase(HttpHeaders.ACCEPT))) {
+			headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		}
+	}
+
 	/**
 	 * Returns whether the given object is still valid in the context of the given {@link HttpHeaders}' requirements.
 	 *
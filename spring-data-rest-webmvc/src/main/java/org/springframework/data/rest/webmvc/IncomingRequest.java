@@ -17,6 +17,8 @@ package org.springframework.data.rest.webmvc;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
 
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
@@ -31,6 +33,11 @@ import org.springframework.util.Assert;
  */
 public class IncomingRequest {
 
+	private static final List<MediaType> JSON_PATCH_TYPES = Arrays.asList(RestMediaTypes.JSON_PATCH_JSON,
+			RestMediaTypes.JSON_PATCH_CBOR, RestMediaTypes.JSON_PATCH_SMILE);
+	private static final List<MediaType> MERGE_PATCH_TYPES = Arrays.asList(RestMediaTypes.MERGE_PATCH_JSON,
+			RestMediaTypes.MERGE_PATCH_CBOR, RestMediaTypes.MERGE_PATCH_SMILE);
+
 	private final ServerHttpRequest request;
 	private final MediaType contentType;
 
@@ -57,21 +64,27 @@ public class IncomingRequest {
 	}
 
 	/**
-	 * Returns whether the request is a PATCH request with a payload of type {@link RestMediaTypes#JSON_PATCH_JSON}.
+	 * Returns whether the request is a PATCH request with a payload of type {@link RestMediaTypes#JSON_PATCH_JSON} or
+	 * one of its binary encodings.
 	 *
 	 * @return
 	 */
 	public boolean isJsonPatchRequest() {
-		return isPatchRequest() && RestMediaTypes.JSON_PATCH_JSON.isCompatibleWith(contentType);
+		return isPatchRequest() && isCompatibleWithAny(JSON_PATCH_TYPES);
 	}
 
 	/**
-	 * Returns whether the request is a PATCH request with a payload of type {@link RestMediaTypes#MERGE_PATCH_JSON}.
+	 * Returns whether the request is a PATCH request with a payload of type {@link RestMediaTypes#MERGE_PATCH_JSON} or
+	 * one of its binary encodings.
 	 *
 	 * @return
 	 */
 	public boolean isJsonMergePatchRequest() {
-		return isPatchRequest() && RestMediaTypes.MERGE_PATCH_JSON.isCompatibleWith(contentType);
+		return isPatchRequest() && isCompatibleWithAny(MERGE_PATCH_TYPES);
+	}
+
+	private boolean isCompatibleWithAny(List<MediaType> mediaTypes) {
+		return mediaTypes.stream().anyMatch(it -> it.isCompatibleWith(contentType));
 	}
 
 	/**
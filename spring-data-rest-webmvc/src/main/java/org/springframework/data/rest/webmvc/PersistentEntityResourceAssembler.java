@@ -18,12 +18,26 @@ package org.springframework.data.rest.webmvc;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.beans.PropertyDescriptor;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.projection.ProjectionInformation;
+import org.springframework.data.rest.core.support.FetchPlan;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResource.Builder;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.support.ParallelResourceAssembly;
 import org.springframework.data.rest.webmvc.support.Projector;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceAssembler;
 import org.springframework.hateoas.core.EmbeddedWrapper;
@@ -42,8 +56,24 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	private final @NonNull Projector projector;
 	private final @NonNull Associations associations;
 	private final @NonNull SelfLinkProvider linkProvider;
+	private final @NonNull ParallelResourceAssembly assembly;
+	private final @NonNull RepositoryRestInstrumentation instrumentation;
 	private final @NonNull EmbeddedWrappers wrappers = new EmbeddedWrappers(false);
 
+	/**
+	 * Creates a new {@link PersistentEntityResourceAssembler} assembling all resources on the calling thread.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param projector must not be {@literal null}.
+	 * @param associations must not be {@literal null}.
+	 * @param linkProvider must not be {@literal null}.
+	 */
+	public PersistentEntityResourceAssembler(PersistentEntities entities, Projector projector, Associations associations,
+			SelfLinkProvider linkProvider) {
+		this(entities, projector, associations, linkProvider, ParallelResourceAssembly.NONE,
+				RepositoryRestInstrumentation.NONE);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.hateoas.ResourceAssembler#toResource(java.lang.Object)
@@ -52,7 +82,29 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	public PersistentEntityResource toResource(Object instance) {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
-		return wrap(projector.projectExcerpt(instance), instance).build();
+
+		Timing timing = instrumentation.start(Phase.RESOURCE_ASSEMBLY);
+
+		try {
+			return wrap(projector.projectExcerpt(instance), instance).build();
+		} finally {
+			timing.stop(instance.getClass());
+		}
+	}
+
+	/**
+	 * Creates {@link PersistentEntityResource}s for all given instances, potentially in parallel. {@literal null}
+	 * elements result in {@literal null} resources.
+	 *
+	 * @param instances must not be {@literal null}.
+	 * @return the resources in the order of the given instances.
+	 * @since 3.1
+	 */
+	public List<PersistentEntityResource> toResources(Collection<?> instances) {
+
+		Assert.notNull(instances, "Entity instances must not be null!");
+
+		return assembly.map(instances, it -> it == null ? null : toResource(it));
 	}
 
 	/**
@@ -64,7 +116,69 @@ public class PersistentEntityResourceAssembler implements ResourceAssembler<Obje
 	public PersistentEntityResource toFullResource(Object instance) {
 
 		Assert.notNull(instance, "Entity instance must not be null!");
-		return wrap(projector.project(instance), instance).build();
+
+		Timing timing = instrumentation.start(Phase.RESOURCE_ASSEMBLY);
+
+		try {
+			return wrap(projector.project(instance), instance).build();
+		} finally {
+			timing.stop(instance.getClass());
+		}
+	}
+
+	/**
+	 * Returns the {@link FetchPlan} for instances of the given type rendered via {@link #toResource(Object)} or
+	 * {@link #toResources(Collection)}, i.e. the associations embedded as excerpt projections and the ones exposed by the
+	 * excerpt projection or the requested projection.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	public FetchPlan getFetchPlanFor(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+		return getFetchPlanFor(type, projector.getExcerptProjectionInformation(type));
+	}
+
+	/**
+	 * Returns the {@link FetchPlan} for instances of the given type rendered via {@link #toFullResource(Object)}, i.e.
+	 * the associations embedded as excerpt projections and the ones exposed by the requested projection.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 * @since 3.1
+	 */
+	public FetchPlan getFullFetchPlanFor(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+		return getFetchPlanFor(type, projector.getProjectionInformation(type));
+	}
+
+	private FetchPlan getFetchPlanFor(Class<?> type, Optional<ProjectionInformation> projection) {
+
+		return entities.getPersistentEntity(type).map(entity -> {
+
+			Set<String> properties = new LinkedHashSet<>();
+
+			new EmbeddedResourcesAssembler(entities, associations, projector).getEmbeddableAssociations(entity)
+					.forEach(it -> properties.add(it.getName()));
+
+			projection.ifPresent(it -> {
+
+				for (PropertyDescriptor descriptor : it.getInputProperties()) {
+
+					PersistentProperty<?> property = entity.getPersistentProperty(descriptor.getName());
+
+					if (property != null && property.isAssociation()) {
+						properties.add(property.getName());
+					}
+				}
+			});
+
+			return FetchPlan.of(type, properties);
+
+		}).orElseGet(() -> FetchPlan.empty(type));
 	}
 
 	private Builder wrap(Object instance, Object source) {
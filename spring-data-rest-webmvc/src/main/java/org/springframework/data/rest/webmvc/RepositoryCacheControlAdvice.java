@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.mapping.MethodResourceMapping;
+import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.support.RepositoryCachePolicies;
+import org.springframework.data.rest.webmvc.support.DomainClassResolver;
+import org.springframework.data.rest.webmvc.util.UriUtils;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * {@link ResponseBodyAdvice} adding the {@code Cache-Control} header resolved via {@link RepositoryCachePolicies} to
+ * successful {@code GET} responses of the item, collection, search and association resources. Search resources use
+ * the policy of the invoked query method, all others the one of the repository the request targets. As the same
+ * resource is rendered in different representations depending on the {@code Accept} header, those responses also get
+ * {@code Vary: Accept} added. Responses that already carry a {@code Cache-Control} header are left untouched.
+ * {@code 304 Not Modified} responses of item resources get the headers added by
+ * {@link HttpHeadersPreparer#addCacheControl(HttpHeaders, org.springframework.data.mapping.PersistentEntity)}, as they
+ * don't have a body to be written.
+ *
+ * @since 3.1
+ */
+public class RepositoryCacheControlAdvice implements ResponseBodyAdvice<Object> {
+
+	private static final Collection<Class<?>> CONTROLLERS = Arrays.asList(RepositoryEntityController.class,
+			RepositorySearchController.class, RepositoryPropertyReferenceController.class);
+
+	private final RepositoryCachePolicies policies;
+	private final ResourceMappings mappings;
+	private final BaseUri baseUri;
+	private final DomainClassResolver resolver;
+
+	/**
+	 * Creates a new {@link RepositoryCacheControlAdvice} for the given {@link RepositoryCachePolicies},
+	 * {@link Repositories}, {@link ResourceMappings} and {@link BaseUri}.
+	 *
+	 * @param policies must not be {@literal null}.
+	 * @param repositories must not be {@literal null}.
+	 * @param mappings must not be {@literal null}.
+	 * @param baseUri must not be {@literal null}.
+	 */
+	public RepositoryCacheControlAdvice(RepositoryCachePolicies policies, Repositories repositories,
+			ResourceMappings mappings, BaseUri baseUri) {
+
+		Assert.notNull(policies, "RepositoryCachePolicies must not be null!");
+		Assert.notNull(repositories, "Repositories must not be null!");
+		Assert.notNull(mappings, "ResourceMappings must not be null!");
+		Assert.notNull(baseUri, "BaseUri must not be null!");
+
+		this.policies = policies;
+		this.mappings = mappings;
+		this.baseUri = baseUri;
+		this.resolver = DomainClassResolver.of(repositories, mappings, baseUri);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#supports(org.springframework.core.MethodParameter, java.lang.Class)
+	 */
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return returnType.getMethod() != null && CONTROLLERS.contains(returnType.getContainingClass());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object, org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class, org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
+	 */
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+			Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+			ServerHttpResponse response) {
+
+		if (!HttpMethod.GET.equals(request.getMethod()) || !(request instanceof ServletServerHttpRequest)
+				|| !(response instanceof ServletServerHttpResponse)) {
+			return body;
+		}
+
+		HttpHeaders headers = response.getHeaders();
+
+		if (((ServletServerHttpResponse) response).getServletResponse().getStatus() != HttpStatus.OK.value()
+				|| headers.getCacheControl() != null) {
+			return body;
+		}
+
+		HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+
+		getCacheControl(returnType.getMethod(), new ServletWebRequest(servletRequest)) //
+				.map(CacheControl::getHeaderValue) //
+				.filter(StringUtils::hasText) //
+				.ifPresent(it -> {
+					headers.setCacheControl(it);
+					HttpHeadersPreparer.addVaryAccept(headers);
+				});
+
+		return body;
+	}
+
+	private Optional<CacheControl> getCacheControl(Method method, NativeWebRequest request) {
+
+		Class<?> domainType = resolver.resolve(method, request);
+
+		if (domainType == null) {
+			return Optional.empty();
+		}
+
+		String search = UriUtils.findMappingVariables(method, baseUri.getRepositoryLookupPath(request)).get("search");
+
+		if (!StringUtils.hasText(search)) {
+			return policies.getCacheControlFor(domainType);
+		}
+
+		MethodResourceMapping mapping = mappings.getSearchResourceMappings(domainType)
+				.getExportedMethodMappingForPath(search);
+
+		return mapping == null //
+				? policies.getCacheControlFor(domainType) //
+				: policies.getCacheControlFor(domainType, mapping.getMethod());
+	}
+}
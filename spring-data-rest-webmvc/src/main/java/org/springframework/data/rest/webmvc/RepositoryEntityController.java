@@ -38,6 +38,7 @@ import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AfterCreateEvent;
 import org.springframework.data.rest.core.event.AfterDeleteEvent;
 import org.springframework.data.rest.core.event.AfterSaveEvent;
+import org.springframework.data.rest.core.event.AsyncRepositoryEventPublisher;
 import org.springframework.data.rest.core.event.BeforeCreateEvent;
 import org.springframework.data.rest.core.event.BeforeDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeSaveEvent;
@@ -45,6 +46,7 @@ import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.core.support.FetchPlan;
 import org.springframework.data.rest.webmvc.support.BackendId;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.ETag;
@@ -92,6 +94,8 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	private final HttpHeadersPreparer headersPreparer;
 	private final ResourceStatus resourceStatus;
 
+	private final AsyncRepositoryEventPublisher eventPublisher;
+
 	private ApplicationEventPublisher publisher;
 
 	/**
@@ -105,10 +109,29 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 * @param assembler must not be {@literal null}.
 	 * @param auditableBeanWrapperFactory must not be {@literal null}.
 	 */
-	@Autowired
 	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
 			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
 			HttpHeadersPreparer headersPreparer) {
+		this(repositories, config, entityLinks, assembler, headersPreparer, null);
+	}
+
+	/**
+	 * Creates a new {@link RepositoryEntityController} for the given {@link Repositories},
+	 * {@link RepositoryRestConfiguration}, {@link RepositoryEntityLinks}, {@link PagedResourcesAssembler},
+	 * {@link HttpHeadersPreparer} and {@link AsyncRepositoryEventPublisher}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param config must not be {@literal null}.
+	 * @param entityLinks must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param headersPreparer must not be {@literal null}.
+	 * @param eventPublisher the {@link AsyncRepositoryEventPublisher} to publish events with, can be {@literal null}.
+	 * @since 3.1
+	 */
+	@Autowired
+	public RepositoryEntityController(Repositories repositories, RepositoryRestConfiguration config,
+			RepositoryEntityLinks entityLinks, PagedResourcesAssembler<Object> assembler,
+			HttpHeadersPreparer headersPreparer, AsyncRepositoryEventPublisher eventPublisher) {
 
 		super(assembler);
 
@@ -116,6 +139,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 		this.config = config;
 		this.headersPreparer = headersPreparer;
 		this.resourceStatus = ResourceStatus.of(headersPreparer);
+		this.eventPublisher = eventPublisher;
 	}
 
 	/*
@@ -124,7 +148,7 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher publisher) {
-		this.publisher = publisher;
+		this.publisher = eventPublisher == null ? publisher : eventPublisher;
 	}
 
 	/**
@@ -199,8 +223,8 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			throw new ResourceNotFoundException();
 		}
 
-		Iterable<?> results = pageable.getPageable() != null ? invoker.invokeFindAll(pageable.getPageable())
-				: invoker.invokeFindAll(sort);
+		Iterable<?> results = invokeFindAll(invoker, pageable.getPageable(), sort,
+				assembler.getFetchPlanFor(resourceInformation.getDomainType()));
 
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
 		Optional<Link> baseLink = Optional.of(entityLinks.linkToPagedResource(resourceInformation.getDomainType(),
@@ -305,7 +329,9 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	public ResponseEntity<?> headForItemResource(RootResourceInformation resourceInformation, @BackendId Serializable id,
 			PersistentEntityResourceAssembler assembler) throws HttpRequestMethodNotSupportedException {
 
-		return getItemResource(resourceInformation, id).map(it -> {
+		FetchPlan plan = FetchPlan.empty(resourceInformation.getDomainType());
+
+		return getItemResource(resourceInformation, id, plan).map(it -> {
 
 			Links links = new Links(assembler.toResource(it).getLinks());
 
@@ -330,7 +356,9 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 			@BackendId Serializable id, final PersistentEntityResourceAssembler assembler, @RequestHeader HttpHeaders headers)
 			throws HttpRequestMethodNotSupportedException {
 
-		return getItemResource(resourceInformation, id).map(it -> {
+		FetchPlan plan = assembler.getFullFetchPlanFor(resourceInformation.getDomainType());
+
+		return getItemResource(resourceInformation, id, plan).map(it -> {
 
 			PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
 
@@ -504,15 +532,16 @@ class RepositoryEntityController extends AbstractRepositoryRestController implem
 	 *
 	 * @param resourceInformation
 	 * @param id
+	 * @param plan
 	 * @return
 	 * @throws HttpRequestMethodNotSupportedException
 	 * @throws {@link ResourceNotFoundException}
 	 */
-	private Optional<Object> getItemResource(RootResourceInformation resourceInformation, Serializable id)
-			throws HttpRequestMethodNotSupportedException, ResourceNotFoundException {
+	private Optional<Object> getItemResource(RootResourceInformation resourceInformation, Serializable id,
+			FetchPlan plan) throws HttpRequestMethodNotSupportedException, ResourceNotFoundException {
 
 		resourceInformation.verifySupportedMethod(HttpMethod.GET, ResourceType.ITEM);
 
-		return resourceInformation.getInvoker().invokeFindById(id);
+		return invokeFindById(resourceInformation.getInvoker(), id, plan);
 	}
 }
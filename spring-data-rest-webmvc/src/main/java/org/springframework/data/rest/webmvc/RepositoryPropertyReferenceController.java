@@ -28,18 +28,28 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mapping.IdentifierAccessor;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -49,12 +59,18 @@ import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.event.AfterLinkDeleteEvent;
 import org.springframework.data.rest.core.event.AfterLinkSaveEvent;
+import org.springframework.data.rest.core.event.AsyncRepositoryEventPublisher;
 import org.springframework.data.rest.core.event.BeforeLinkDeleteEvent;
 import org.springframework.data.rest.core.event.BeforeLinkSaveEvent;
 import org.springframework.data.rest.core.mapping.PropertyAwareResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.webmvc.convert.ResourceReference;
+import org.springframework.data.rest.webmvc.convert.StreamingUriList;
+import org.springframework.data.rest.webmvc.spi.AssociationMembership;
+import org.springframework.data.rest.webmvc.spi.AssociationPaging;
 import org.springframework.data.rest.webmvc.support.BackendId;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Resource;
@@ -66,6 +82,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -83,20 +100,35 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 	private static final String BASE_MAPPING = "/{repository}/{id}/{property}";
 	private static final Collection<HttpMethod> AUGMENTING_METHODS = Arrays.asList(HttpMethod.PATCH, HttpMethod.POST);
+	private static final int URI_LIST_PAGE_SIZE = 500;
 
 	private final Repositories repositories;
 	private final RepositoryInvokerFactory repositoryInvokerFactory;
 
+	private final AsyncRepositoryEventPublisher eventPublisher;
+	private final AssociationMembership associationMembership;
+	private final AssociationPaging associationPaging;
+
 	private ApplicationEventPublisher publisher;
 
-	@Autowired
 	public RepositoryPropertyReferenceController(Repositories repositories,
 			RepositoryInvokerFactory repositoryInvokerFactory, PagedResourcesAssembler<Object> assembler) {
+		this(repositories, repositoryInvokerFactory, assembler, null, AssociationMembership.NONE, AssociationPaging.NONE);
+	}
+
+	@Autowired
+	public RepositoryPropertyReferenceController(Repositories repositories,
+			RepositoryInvokerFactory repositoryInvokerFactory, PagedResourcesAssembler<Object> assembler,
+			AsyncRepositoryEventPublisher eventPublisher, AssociationMembership associationMembership,
+			AssociationPaging associationPaging) {
 
 		super(assembler);
 
 		this.repositories = repositories;
 		this.repositoryInvokerFactory = repositoryInvokerFactory;
+		this.eventPublisher = eventPublisher;
+		this.associationMembership = associationMembership;
+		this.associationPaging = associationPaging;
 	}
 
 	/*
@@ -105,12 +137,12 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 	 */
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
-		this.publisher = applicationEventPublisher;
+		this.publisher = eventPublisher == null ? applicationEventPublisher : eventPublisher;
 	}
 
 	@RequestMapping(value = BASE_MAPPING, method = GET)
 	public ResponseEntity<ResourceSupport> followPropertyReference(final RootResourceInformation repoRequest,
-			@BackendId Serializable id, final @PathVariable String property,
+			@BackendId Serializable id, final @PathVariable String property, DefaultedPageable pageable,
 			final PersistentEntityResourceAssembler assembler) throws Exception {
 
 		HttpHeaders headers = new HttpHeaders();
@@ -119,7 +151,11 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 			if (prop.property.isCollectionLike()) {
 
-				return toResources((Iterable<?>) it, assembler, prop.propertyType, Optional.empty());
+				Iterable<?> source = pageable == null || pageable.isDefault() || pageable.getPageable() == null //
+						? (Iterable<?>) it //
+						: getPage(prop, pageable.getPageable());
+
+				return toResources(source, assembler, prop.propertyType, Optional.empty());
 
 			} else if (prop.property.isMap()) {
 
@@ -179,6 +215,17 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 		Function<ReferencedProperty, ResourceSupport> handler = prop -> prop.mapValue(it -> {
 
+			Optional<Object> member = prop.property.isCollectionLike() || prop.property.isMap() //
+					? lookupMember(prop, propertyId) //
+					: Optional.empty();
+
+			if (member.isPresent()) {
+
+				PersistentEntityResource resource = assembler.toResource(member.get());
+				headers.set("Content-Location", resource.getId().getHref());
+				return resource;
+			}
+
 			if (prop.property.isCollectionLike()) {
 
 				for (Object obj : (Iterable<?>) it) {
@@ -217,13 +264,13 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 				doWithReferencedProperty(repoRequest, id, property, handler, HttpMethod.GET));
 	}
 
-	@RequestMapping(value = BASE_MAPPING, method = GET,
-			produces = { SPRING_DATA_COMPACT_JSON_VALUE, TEXT_URI_LIST_VALUE })
+	@RequestMapping(value = BASE_MAPPING, method = GET, produces = SPRING_DATA_COMPACT_JSON_VALUE)
 	public ResponseEntity<ResourceSupport> followPropertyReferenceCompact(RootResourceInformation repoRequest,
-			@BackendId Serializable id, @PathVariable String property, PersistentEntityResourceAssembler assembler)
-			throws Exception {
+			@BackendId Serializable id, @PathVariable String property, DefaultedPageable pageable,
+			PersistentEntityResourceAssembler assembler) throws Exception {
 
-		ResponseEntity<ResourceSupport> response = followPropertyReference(repoRequest, id, property, assembler);
+		ResponseEntity<ResourceSupport> response = followPropertyReference(repoRequest, id, property, pageable,
+				assembler);
 
 		if (response.getStatusCode() != HttpStatus.OK) {
 			return response;
@@ -238,7 +285,7 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		List<Link> links = new ArrayList<Link>();
 
 		ControllerLinkBuilder linkBuilder = linkTo(methodOn(RepositoryPropertyReferenceController.class)
-				.followPropertyReference(repoRequest, id, property, assembler));
+				.followPropertyReference(repoRequest, id, property, pageable, assembler));
 
 		if (resource instanceof Resource) {
 
@@ -266,13 +313,52 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toResponseEntity(HttpStatus.OK, null, new Resource<Object>(EMPTY_RESOURCE_LIST, links));
 	}
 
+	/**
+	 * Renders the URIs of the items referred to by the given association as {@code text/uri-list}. The URIs are created
+	 * while the {@link StreamingUriList} is written and collection associations are read page by page, ordered by the
+	 * target's identifier, through the {@link AssociationPaging} if possible, so that neither the association nor a
+	 * resource per item has to be held in memory.
+	 *
+	 * @param repoRequest
+	 * @param id
+	 * @param property
+	 * @param assembler
+	 * @return
+	 * @throws Exception
+	 */
+	@RequestMapping(value = BASE_MAPPING, method = GET, produces = TEXT_URI_LIST_VALUE)
+	public ResponseEntity<ResourceSupport> followPropertyReferenceUriList(RootResourceInformation repoRequest,
+			@BackendId Serializable id, @PathVariable String property, PersistentEntityResourceAssembler assembler)
+			throws Exception {
+
+		Function<ReferencedProperty, ResourceSupport> handler = prop -> {
+
+			Object it = prop.propertyValue;
+
+			if (it == null) {
+				throw new ResourceNotFoundException();
+			}
+
+			Iterable<?> items = prop.property.isCollectionLike() //
+					? getItems(prop, (Iterable<?>) it) //
+					: prop.property.isMap() ? ((Map<?, ?>) it).values() : Collections.singleton(it);
+
+			return new StreamingUriList(items, item -> assembler.getSelfLinkFor(item).expand());
+		};
+
+		ResourceSupport body = doWithReferencedProperty(repoRequest, id, property, handler, HttpMethod.GET)
+				.orElseThrow(() -> new ResourceNotFoundException());
+
+		return ControllerUtils.toResponseEntity(HttpStatus.OK, null, body);
+	}
+
 	@RequestMapping(value = BASE_MAPPING, method = { PATCH, PUT, POST }, //
 			consumes = { MediaType.APPLICATION_JSON_VALUE, SPRING_DATA_COMPACT_JSON_VALUE, TEXT_URI_LIST_VALUE })
 	public ResponseEntity<? extends ResourceSupport> createPropertyReference(RootResourceInformation resourceInformation,
 			HttpMethod requestMethod, @RequestBody(required = false) Resources<Object> incoming, @BackendId Serializable id,
 			@PathVariable String property) throws Exception {
 
-		Resources<Object> source = incoming == null ? new Resources<Object>(Collections.emptyList()) : incoming;
+		List<ResourceReference> references = ResourceReference.of(incoming);
 		RepositoryInvoker invoker = resourceInformation.getInvoker();
 
 		Function<ReferencedProperty, ResourceSupport> handler = prop -> {
@@ -286,8 +372,8 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						: CollectionFactory.createCollection(propertyType, 0);
 
 				// Add to the existing collection
-				for (Link l1 : source.getLinks()) {
-					collection.add(loadPropertyValue(prop.propertyType, l1));
+				for (ResourceReference reference : references) {
+					collection.add(loadPropertyValue(prop.propertyType, reference));
 				}
 
 				prop.accessor.setProperty(prop.property, collection);
@@ -299,8 +385,8 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 						: CollectionFactory.<String, Object> createMap(propertyType, 0);
 
 				// Add to the existing collection
-				for (Link l2 : source.getLinks()) {
-					map.put(l2.getRel(), loadPropertyValue(prop.propertyType, l2));
+				for (ResourceReference reference : references) {
+					map.put(reference.getRel(), loadPropertyValue(prop.propertyType, reference));
 				}
 
 				prop.accessor.setProperty(prop.property, map);
@@ -314,12 +400,12 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 									"Cannot PATCH a reference to this singular property since the property type is not a List or a Map.");
 				}
 
-				if (source.getLinks().size() != 1) {
+				if (references.size() != 1) {
 					throw new IllegalArgumentException(
 							"Must send only 1 link to update a property reference that isn't a List or a Map.");
 				}
 
-				prop.accessor.setProperty(prop.property, loadPropertyValue(prop.propertyType, source.getLinks().get(0)));
+				prop.accessor.setProperty(prop.property, loadPropertyValue(prop.propertyType, references.get(0)));
 			}
 
 			publisher.publishEvent(new BeforeLinkSaveEvent(prop.accessor.getBean(), prop.propertyValue));
@@ -343,33 +429,13 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 
 			if (prop.property.isCollectionLike()) {
 
-				Collection<Object> coll = (Collection<Object>) it;
-				Iterator<Object> iterator = coll.iterator();
-
-				while (iterator.hasNext()) {
-
-					Object obj = iterator.next();
-
-					Optional.ofNullable(prop.entity.getIdentifierAccessor(obj).getIdentifier())//
-							.map(Object::toString)//
-							.filter(id -> propertyId.equals(id))//
-							.ifPresent(__ -> iterator.remove());
-				}
+				Predicate<Object> isItem = isItem(prop, lookupMember(prop, propertyId), propertyId);
+				((Collection<Object>) it).removeIf(isItem);
 
 			} else if (prop.property.isMap()) {
 
-				Map<Object, Object> m = (Map<Object, Object>) it;
-				Iterator<Entry<Object, Object>> iterator = m.entrySet().iterator();
-
-				while (iterator.hasNext()) {
-
-					Object key = iterator.next().getKey();
-
-					Optional.ofNullable(prop.entity.getIdentifierAccessor(m.get(key)).getIdentifier())//
-							.map(Object::toString)//
-							.filter(id -> propertyId.equals(id))//
-							.ifPresent(__ -> iterator.remove());
-				}
+				Predicate<Object> isItem = isItem(prop, lookupMember(prop, propertyId), propertyId);
+				((Map<Object, Object>) it).values().removeIf(isItem);
 
 			} else {
 				prop.wipeValue();
@@ -388,14 +454,171 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		return ControllerUtils.toEmptyResponse(HttpStatus.NO_CONTENT);
 	}
 
-	private Object loadPropertyValue(Class<?> type, Link link) {
+	/**
+	 * Returns a {@link Predicate} matching the item of the given association to be removed. Matches the identifier of
+	 * the already looked up member if available and the given raw identifier otherwise.
+	 *
+	 * @param prop must not be {@literal null}.
+	 * @param member the item looked up through {@link #lookupMember(ReferencedProperty, String)}.
+	 * @param propertyId must not be {@literal null}.
+	 * @return
+	 */
+	private static Predicate<Object> isItem(ReferencedProperty prop, Optional<Object> member, String propertyId) {
+
+		Function<Object, Optional<Object>> toId = item -> Optional
+				.ofNullable(prop.entity.getIdentifierAccessor(item).getIdentifier());
 
-		String href = link.expand().getHref();
-		String id = href.substring(href.lastIndexOf('/') + 1);
+		return member.flatMap(toId) //
+				.<Predicate<Object>> map(memberId -> item -> toId.apply(item).filter(memberId::equals).isPresent()) //
+				.orElseGet(() -> item -> toId.apply(item).map(Object::toString).filter(propertyId::equals).isPresent());
+	}
+
+	private Object loadPropertyValue(Class<?> type, ResourceReference reference) {
 
 		RepositoryInvoker invoker = repositoryInvokerFactory.getInvokerFor(type);
 
-		return invoker.invokeFindById(id).orElse(null);
+		return invoker.invokeFindById(reference.getId()).orElse(null);
+	}
+
+	/**
+	 * Returns the requested {@link Page} of the given collection association. Uses the {@link AssociationPaging} if
+	 * possible and falls back to sorting and slicing the association in memory.
+	 *
+	 * @param prop must not be {@literal null}.
+	 * @param pageable must not be {@literal null}.
+	 * @return
+	 */
+	private Page<Object> getPage(ReferencedProperty prop, Pageable pageable) {
+
+		if (pageable.isUnpaged()) {
+			pageable = PageRequest.of(0, Integer.MAX_VALUE, pageable.getSort());
+		}
+
+		Optional<Page<Object>> page = associationPaging.getPage(prop.accessor.getBean(), prop.property, pageable);
+
+		if (page.isPresent()) {
+			return page.get();
+		}
+
+		List<Object> items = new ArrayList<Object>();
+		((Iterable<?>) prop.propertyValue).forEach(items::add);
+
+		Comparator<Object> comparator = prop.entity == null ? null : toComparator(pageable.getSort(), prop.entity);
+
+		if (comparator != null) {
+			items.sort(comparator);
+		}
+
+		int start = (int) Math.min(pageable.getOffset(), items.size());
+		int end = (int) Math.min((long) start + pageable.getPageSize(), items.size());
+
+		return new PageImpl<Object>(new ArrayList<Object>(items.subList(start, end)), pageable, items.size());
+	}
+
+	/**
+	 * Creates a {@link Comparator} for all {@link Order}s of the given {@link Sort} referring to {@link Comparable}
+	 * properties of the given {@link PersistentEntity}. Nested property paths are not supported in memory.
+	 *
+	 * @param sort must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the {@link Comparator} or {@literal null} if none of the {@link Order}s can be applied.
+	 */
+	private static Comparator<Object> toComparator(Sort sort, PersistentEntity<?, ?> entity) {
+
+		Comparator<Object> result = null;
+
+		for (Order order : sort) {
+
+			PersistentProperty<?> property = entity.getPersistentProperty(order.getProperty());
+
+			if (property == null
+					|| !Comparable.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(property.getType()))) {
+				continue;
+			}
+
+			boolean ignoreCase = order.isIgnoreCase() && String.class.equals(property.getType());
+
+			Comparator<Object> comparator = (left, right) -> compare(entity.getPropertyAccessor(left).getProperty(property),
+					entity.getPropertyAccessor(right).getProperty(property), ignoreCase, order.isAscending());
+
+			result = result == null ? comparator : result.thenComparing(comparator);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Compares the given property values, sorting {@literal null} values last independently of the direction.
+	 */
+	private static int compare(Object left, Object right, boolean ignoreCase, boolean ascending) {
+
+		if (left == right) {
+			return 0;
+		}
+
+		if (left == null || right == null) {
+			return left == null ? 1 : -1;
+		}
+
+		int result = ignoreCase //
+				? ((String) left).compareToIgnoreCase((String) right) //
+				: ((Comparable<Object>) left).compareTo(right);
+
+		return ascending ? result : -result;
+	}
+
+	/**
+	 * Returns the items of the given collection association in the order the association keeps them in. Reads them page
+	 * by page through the {@link AssociationPaging} if possible and falls back to the given collection otherwise.
+	 *
+	 * @param prop must not be {@literal null}.
+	 * @param collection must not be {@literal null}.
+	 * @return
+	 */
+	private Iterable<?> getItems(ReferencedProperty prop, Iterable<?> collection) {
+
+		Object owner = prop.accessor.getBean();
+
+		return associationPaging.getPage(owner, prop.property, PageRequest.of(0, URI_LIST_PAGE_SIZE)) //
+				.<Iterable<?>> map(first -> () -> new PagedIterator(first,
+						pageable -> associationPaging.getPage(owner, prop.property, pageable))) //
+				.orElse(collection);
+	}
+
+	/**
+	 * Looks up the item with the given identifier through the repository managing the association's target type and
+	 * verifies it's contained in the association using the {@link AssociationMembership}. This avoids loading the
+	 * entire association to find a single item.
+	 *
+	 * @param prop must not be {@literal null}.
+	 * @param propertyId must not be {@literal null}.
+	 * @return the item or {@link Optional#empty()} if the membership can't be determined without inspecting the
+	 *         association in memory.
+	 * @throws ResourceNotFoundException if the item doesn't exist or is not contained in the association.
+	 */
+	private Optional<Object> lookupMember(ReferencedProperty prop, String propertyId) {
+
+		if (associationMembership == AssociationMembership.NONE || !repositories.hasRepositoryFor(prop.propertyType)) {
+			return Optional.empty();
+		}
+
+		Object item;
+
+		try {
+			item = repositoryInvokerFactory.getInvokerFor(prop.propertyType).invokeFindById(propertyId)
+					.orElseThrow(() -> new ResourceNotFoundException());
+		} catch (ConversionException o_O) {
+			throw new ResourceNotFoundException();
+		}
+
+		return associationMembership.isMember(prop.accessor.getBean(), prop.property, item).map(isMember -> {
+
+			if (!isMember) {
+				throw new ResourceNotFoundException();
+			}
+
+			return item;
+		});
 	}
 
 	private Optional<ResourceSupport> doWithReferencedProperty(RootResourceInformation resourceInformation,
@@ -424,6 +647,66 @@ class RepositoryPropertyReferenceController extends AbstractRepositoryRestContro
 		});
 	}
 
+	/**
+	 * {@link Iterator} over the items of all {@link Page}s following the given one, reading the next {@link Page} only
+	 * once the items of the current one have been consumed.
+	 *
+	 * @since 3.1
+	 */
+	private static class PagedIterator implements Iterator<Object> {
+
+		private final Function<Pageable, Optional<Page<Object>>> pages;
+		private Page<Object> page;
+		private Iterator<Object> items;
+
+		PagedIterator(Page<Object> first, Function<Pageable, Optional<Page<Object>>> pages) {
+
+			this.pages = pages;
+			this.page = first;
+			this.items = first.iterator();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#hasNext()
+		 */
+		@Override
+		public boolean hasNext() {
+
+			while (!items.hasNext()) {
+
+				if (!page.hasNext()) {
+					return false;
+				}
+
+				Optional<Page<Object>> next = pages.apply(page.nextPageable());
+
+				if (!next.isPresent()) {
+					return false;
+				}
+
+				page = next.get();
+				items = page.iterator();
+			}
+
+			return true;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.Iterator#next()
+		 */
+		@Override
+		public Object next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return items.next();
+		}
+	}
+
 	private class ReferencedProperty {
 
 		final PersistentEntity<?, ?> entity;
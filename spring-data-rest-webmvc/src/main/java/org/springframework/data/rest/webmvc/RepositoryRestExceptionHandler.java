@@ -24,6 +24,7 @@ import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.rest.core.ConcurrencyLimitExceededException;
 import org.springframework.data.rest.core.RepositoryConstraintViolationException;
 import org.springframework.data.rest.webmvc.support.ETagDoesntMatchException;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
@@ -151,6 +152,22 @@ public class RepositoryRestExceptionHandler {
 		return response(HttpStatus.PRECONDITION_FAILED, headers);
 	}
 
+	/**
+	 * Handles {@link ConcurrencyLimitExceededException} by returning {@code 503 Service Unavailable} and advising the
+	 * client when to retry the request via the {@code Retry-After} header.
+	 *
+	 * @param o_O the exception to handle.
+	 * @return
+	 */
+	@ExceptionHandler
+	ResponseEntity<ExceptionMessage> handle(ConcurrencyLimitExceededException o_O) {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(o_O.getRetryAfter().getSeconds()));
+
+		return response(HttpStatus.SERVICE_UNAVAILABLE, headers, new ExceptionMessage(o_O));
+	}
+
 	private static ResponseEntity<?> notFound(HttpHeaders headers) {
 		return response(HttpStatus.NOT_FOUND, headers, null);
 	}
@@ -15,13 +15,27 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.rest.core.config.AsyncExecutionConfiguration;
+import org.springframework.data.rest.webmvc.support.DomainClassResolver;
+import org.springframework.util.Assert;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
 
 /**
  * {@link RequestMappingHandlerAdapter} implementation that adds a couple argument resolvers for controller method
@@ -35,7 +49,12 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 public class RepositoryRestHandlerAdapter
 		extends org.springframework.hateoas.mvc.ResourceProcessorInvokingHandlerAdapter {
 
+	private static final List<Class<?>> ASYNC_CAPABLE_CONTROLLERS = Arrays.asList(RepositoryEntityController.class,
+			RepositorySearchController.class, RepositoryPropertyReferenceController.class);
+
 	private final List<HandlerMethodArgumentResolver> argumentResolvers;
+	private final AsyncExecutionConfiguration asyncConfiguration;
+	private final DomainClassResolver domainClassResolver;
 
 	/**
 	 * Creates a new {@link RepositoryRestHandlerAdapter} using the given {@link HandlerMethodArgumentResolver} and
@@ -48,7 +67,36 @@ public class RepositoryRestHandlerAdapter
 			org.springframework.hateoas.mvc.ResourceProcessorInvoker invoker) {
 
 		super(invoker);
+
 		this.argumentResolvers = argumentResolvers;
+		this.asyncConfiguration = new AsyncExecutionConfiguration();
+		this.domainClassResolver = null;
+	}
+
+	/**
+	 * Creates a new {@link RepositoryRestHandlerAdapter} using the given {@link HandlerMethodArgumentResolver},
+	 * {@link org.springframework.hateoas.mvc.ResourceProcessorInvoker} and {@link AsyncExecutionConfiguration}. The
+	 * given {@link DomainClassResolver} is used to select the executor for a request before any handler method argument
+	 * is resolved.
+	 *
+	 * @param argumentResolvers must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param asyncConfiguration must not be {@literal null}.
+	 * @param domainClassResolver must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public RepositoryRestHandlerAdapter(List<HandlerMethodArgumentResolver> argumentResolvers,
+			org.springframework.hateoas.mvc.ResourceProcessorInvoker invoker,
+			AsyncExecutionConfiguration asyncConfiguration, DomainClassResolver domainClassResolver) {
+
+		super(invoker);
+
+		Assert.notNull(asyncConfiguration, "AsyncExecutionConfiguration must not be null!");
+		Assert.notNull(domainClassResolver, "DomainClassResolver must not be null!");
+
+		this.argumentResolvers = argumentResolvers;
+		this.asyncConfiguration = asyncConfiguration;
+		this.domainClassResolver = domainClassResolver;
 	}
 
 	/*
@@ -81,4 +129,71 @@ public class RepositoryRestHandlerAdapter
 
 		return AnnotationUtils.findAnnotation(controllerType, BasePathAwareController.class) != null;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter#createInvocableHandlerMethod(org.springframework.web.method.HandlerMethod)
+	 */
+	@Override
+	protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+
+		return asyncConfiguration.isEnabled() && ASYNC_CAPABLE_CONTROLLERS.contains(handlerMethod.getBeanType())
+				? new AsyncRepositoryInvocableHandlerMethod(handlerMethod, asyncConfiguration, domainClassResolver)
+				: super.createInvocableHandlerMethod(handlerMethod);
+	}
+
+	/**
+	 * {@link ServletInvocableHandlerMethod} that invokes the handler method on the {@link AsyncTaskExecutor} configured
+	 * for the domain type the request targets. The invocation is returned as {@link WebAsyncTask} so that Spring MVC's
+	 * asynchronous request processing takes care of releasing the current thread and rendering the actual result once
+	 * the task is completed. The handler method arguments are resolved as part of the task, so that reading the request
+	 * body and looking up the entities to be updated don't block the calling thread either.
+	 *
+	 * @since 3.1
+	 */
+	private static class AsyncRepositoryInvocableHandlerMethod extends ServletInvocableHandlerMethod {
+
+		private final AsyncExecutionConfiguration configuration;
+		private final DomainClassResolver resolver;
+
+		/**
+		 * Creates a new {@link AsyncRepositoryInvocableHandlerMethod} for the given {@link HandlerMethod},
+		 * {@link AsyncExecutionConfiguration} and {@link DomainClassResolver}.
+		 *
+		 * @param handlerMethod must not be {@literal null}.
+		 * @param configuration must not be {@literal null}.
+		 * @param resolver must not be {@literal null}.
+		 */
+		AsyncRepositoryInvocableHandlerMethod(HandlerMethod handlerMethod, AsyncExecutionConfiguration configuration,
+				DomainClassResolver resolver) {
+
+			super(handlerMethod);
+
+			this.configuration = configuration;
+			this.resolver = resolver;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.web.method.support.InvocableHandlerMethod#invokeForRequest(org.springframework.web.context.request.NativeWebRequest, org.springframework.web.method.support.ModelAndViewContainer, java.lang.Object[])
+		 */
+		@Override
+		public Object invokeForRequest(NativeWebRequest request, ModelAndViewContainer mavContainer,
+				Object... providedArgs) throws Exception {
+
+			Optional<AsyncTaskExecutor> executor = Optional.ofNullable(resolver.resolve(getMethod(), request)) //
+					.flatMap(configuration::getExecutorFor);
+
+			if (!executor.isPresent()) {
+				return super.invokeForRequest(request, mavContainer, providedArgs);
+			}
+
+			HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+			HttpServletResponse servletResponse = request.getNativeResponse(HttpServletResponse.class);
+
+			// The given request is completed once the calling thread is released, so the task needs a fresh one
+			return new WebAsyncTask<Object>(configuration.getTimeout(), executor.get(), () -> super.invokeForRequest(
+					new ServletWebRequest(servletRequest, servletResponse), mavContainer, providedArgs));
+		}
+	}
 }
@@ -285,9 +285,7 @@ public class RepositoryRestHandlerMapping extends BasePathAwareHandlerMapping {
 				return Optional.empty();
 			}
 
-			return mappings.stream()//
-					.filter(it -> it.getPath().matches(basePath) && it.isExported())//
-					.findFirst();
+			return mappings.getExportedMetadataFor(basePath);
 		}
 
 		/**
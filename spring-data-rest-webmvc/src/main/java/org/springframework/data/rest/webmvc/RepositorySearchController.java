@@ -36,6 +36,7 @@ import org.springframework.data.rest.core.mapping.MethodResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.SearchResourceMappings;
+import org.springframework.data.rest.core.support.FetchPlan;
 import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
 import org.springframework.data.util.ClassTypeInformation;
@@ -181,7 +182,7 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 
 		Method method = checkExecutability(resourceInformation, search);
 		Optional<Object> result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort,
-				assembler);
+				getFetchPlan(resourceInformation, method, assembler));
 
 		SearchResourceMappings searchMappings = resourceInformation.getSearchMappings();
 		MethodResourceMapping methodMapping = searchMappings.getExportedMethodMappingForPath(search);
@@ -246,7 +247,7 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 
 		Method method = checkExecutability(resourceInformation, search);
 		Optional<Object> result = executeQueryMethod(resourceInformation.getInvoker(), parameters, method, pageable, sort,
-				assembler);
+				getFetchPlan(resourceInformation, method, assembler));
 		ResourceMetadata metadata = resourceInformation.getResourceMetadata();
 		ResponseEntity<?> entity = toResource(result, assembler, metadata.getDomainType(), Optional.empty(), headers,
 				resourceInformation);
@@ -332,11 +333,12 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 	 * @param request
 	 * @param method
 	 * @param pageable
+	 * @param plan
 	 * @return
 	 */
 	private Optional<Object> executeQueryMethod(final RepositoryInvoker invoker,
 			@RequestParam MultiValueMap<String, Object> parameters, Method method, DefaultedPageable pageable, Sort sort,
-			PersistentEntityResourceAssembler assembler) {
+			FetchPlan plan) {
 
 		MultiValueMap<String, Object> result = new LinkedMultiValueMap<String, Object>(parameters);
 		MethodParameters methodParameters = new MethodParameters(method, new AnnotationAttribute(Param.class));
@@ -362,7 +364,25 @@ class RepositorySearchController extends AbstractRepositoryRestController {
 			}
 		}
 
-		return invoker.invokeQueryMethod(method, result, pageable.getPageable(), sort);
+		return invokeQueryMethod(invoker, method, result, pageable.getPageable(), sort, plan);
+	}
+
+	/**
+	 * Returns the {@link FetchPlan} for the results of the given query method, i.e. the one for collection resources if
+	 * it returns multiple instances and the one for item resources otherwise.
+	 *
+	 * @param information must not be {@literal null}.
+	 * @param method must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @return
+	 */
+	private static FetchPlan getFetchPlan(RootResourceInformation information, Method method,
+			PersistentEntityResourceAssembler assembler) {
+
+		Class<?> domainType = information.getDomainType();
+
+		return Iterable.class.isAssignableFrom(method.getReturnType()) ? assembler.getFetchPlanFor(domainType)
+				: assembler.getFullFetchPlanFor(domainType);
 	}
 
 	/**
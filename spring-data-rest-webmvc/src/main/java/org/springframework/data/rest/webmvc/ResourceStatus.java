@@ -67,14 +67,31 @@ class ResourceStatus {
 		// Check ETag for If-Non-Match
 
 		List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
-		ETag eTag = ifNoneMatch.isEmpty() ? ETag.NO_ETAG : ETag.from(ifNoneMatch.get(0));
+		ETag eTag = ifNoneMatch.isEmpty() ? ETag.NO_ETAG : ETag.from(getOpaqueTag(ifNoneMatch.get(0)));
 		HttpHeaders responseHeaders = preparer.prepareHeaders(entity, domainObject);
 
 		// Check last modification for If-Modified-Since
 
-		return eTag.matches(entity, domainObject) || preparer.isObjectStillValid(domainObject, requestHeaders)
-				? StatusAndHeaders.notModified(responseHeaders)
-				: StatusAndHeaders.modified(responseHeaders);
+		if (eTag.matches(entity, domainObject) || preparer.isObjectStillValid(domainObject, requestHeaders)) {
+
+			// A 304 has to carry the same caching headers as the full response
+			preparer.addCacheControl(responseHeaders, entity);
+
+			return StatusAndHeaders.notModified(responseHeaders);
+		}
+
+		return StatusAndHeaders.modified(responseHeaders);
+	}
+
+	/**
+	 * Strips the weak indicator from the given entity tag, as {@code If-None-Match} uses the weak comparison (RFC 7232,
+	 * section 3.2) and compressed representations are tagged weakly.
+	 *
+	 * @param eTag must not be {@literal null}.
+	 * @return
+	 */
+	private static String getOpaqueTag(String eTag) {
+		return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
 	}
 
 	@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
@@ -43,6 +43,22 @@ public class RestMediaTypes {
 	public static final String SPRING_DATA_COMPACT_JSON_VALUE = "application/x-spring-data-compact+json";
 	public static final MediaType SPRING_DATA_COMPACT_JSON = MediaType.valueOf(SPRING_DATA_COMPACT_JSON_VALUE);
 
+	/**
+	 * @since 3.1
+	 */
+	public static final MediaType HAL_CBOR = MediaType.valueOf("application/hal+cbor");
+	public static final MediaType CBOR = MediaType.valueOf("application/cbor");
+	public static final MediaType JSON_PATCH_CBOR = MediaType.valueOf("application/json-patch+cbor");
+	public static final MediaType MERGE_PATCH_CBOR = MediaType.valueOf("application/merge-patch+cbor");
+
+	/**
+	 * @since 3.1
+	 */
+	public static final MediaType HAL_SMILE = MediaType.valueOf("application/hal+smile");
+	public static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+	public static final MediaType JSON_PATCH_SMILE = MediaType.valueOf("application/json-patch+smile");
+	public static final MediaType MERGE_PATCH_SMILE = MediaType.valueOf("application/merge-patch+smile");
+
 	public static final String TEXT_URI_LIST_VALUE = "text/uri-list";
 	public static final MediaType TEXT_URI_LIST = MediaType.valueOf(TEXT_URI_LIST_VALUE);
 }
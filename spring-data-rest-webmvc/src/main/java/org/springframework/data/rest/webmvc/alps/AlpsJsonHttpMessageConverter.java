@@ -15,6 +15,7 @@
  */
 package org.springframework.data.rest.webmvc.alps;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Collections;
@@ -23,9 +24,12 @@ import org.springframework.core.MethodParameter;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.rest.webmvc.RestMediaTypes;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.support.ResponseCompression;
 import org.springframework.hateoas.alps.Alps;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
@@ -45,6 +49,7 @@ public class AlpsJsonHttpMessageConverter extends MappingJackson2HttpMessageConv
 		implements ResponseBodyAdvice<Object> {
 
 	private final RootResourceInformationToAlpsDescriptorConverter converter;
+	private final ResponseCompression compression;
 
 	/**
 	 * Creates a new {@link AlpsJsonHttpMessageConverter} for the given {@link Converter}.
@@ -52,10 +57,25 @@ public class AlpsJsonHttpMessageConverter extends MappingJackson2HttpMessageConv
 	 * @param converter must not be {@literal null}.
 	 */
 	public AlpsJsonHttpMessageConverter(RootResourceInformationToAlpsDescriptorConverter converter) {
+		this(converter, ResponseCompression.NONE);
+	}
+
+	/**
+	 * Creates a new {@link AlpsJsonHttpMessageConverter} for the given {@link Converter} and
+	 * {@link ResponseCompression}.
+	 *
+	 * @param converter must not be {@literal null}.
+	 * @param compression must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public AlpsJsonHttpMessageConverter(RootResourceInformationToAlpsDescriptorConverter converter,
+			ResponseCompression compression) {
 
 		Assert.notNull(converter, "Converter must not be null!");
+		Assert.notNull(compression, "ResponseCompression must not be null!");
 
 		this.converter = converter;
+		this.compression = compression;
 
 		ObjectMapper mapper = getObjectMapper();
 		mapper.setSerializationInclusion(Include.NON_EMPTY);
@@ -92,6 +112,16 @@ public class AlpsJsonHttpMessageConverter extends MappingJackson2HttpMessageConv
 		return false;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
+		compression.write(outputMessage, it -> super.writeInternal(object, type, it));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice#beforeBodyWrite(java.lang.Object, org.springframework.core.MethodParameter, org.springframework.http.MediaType, java.lang.Class, org.springframework.http.server.ServerHttpRequest, org.springframework.http.server.ServerHttpResponse)
@@ -25,9 +25,7 @@ import org.springframework.data.rest.webmvc.json.patch.Patch;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.Assert;
 
-import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Component to apply JSON Patch and JSON Merge Patch payloads to existing domain objects. The implementation uses the
@@ -44,7 +42,6 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 class JsonPatchHandler {
 
 	private final ObjectMapper mapper;
-	private final ObjectMapper sourceMapper;
 	private final DomainObjectReader reader;
 
 	/**
@@ -60,9 +57,6 @@ class JsonPatchHandler {
 
 		this.mapper = mapper;
 		this.reader = reader;
-
-		this.sourceMapper = mapper.copy();
-		this.sourceMapper.setSerializationInclusion(Include.NON_NULL);
 	}
 
 	/**
@@ -95,7 +89,7 @@ class JsonPatchHandler {
 		return reader.read(source, existingObject, mapper);
 	}
 
-	<T> T applyPut(ObjectNode source, T existingObject) {
+	<T> T applyPut(InputStream source, T existingObject) {
 		return reader.readPut(source, existingObject, mapper);
 	}
 
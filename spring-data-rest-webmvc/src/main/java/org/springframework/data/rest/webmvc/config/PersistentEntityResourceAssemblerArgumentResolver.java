@@ -25,7 +25,9 @@ import org.springframework.data.rest.core.projection.ProjectionDefinitions;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.webmvc.PersistentEntityResourceAssembler;
 import org.springframework.data.rest.webmvc.mapping.Associations;
+import org.springframework.data.rest.webmvc.support.ParallelResourceAssembly;
 import org.springframework.data.rest.webmvc.support.PersistentEntityProjector;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -44,6 +46,8 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 	private final @NonNull ProjectionDefinitions projectionDefinitions;
 	private final @NonNull ProjectionFactory projectionFactory;
 	private final @NonNull Associations links;
+	private final @NonNull ParallelResourceAssembly assembly;
+	private final @NonNull RepositoryRestInstrumentation instrumentation;
 
 	/*
 	 * (non-Javadoc)
@@ -66,6 +70,7 @@ public class PersistentEntityResourceAssemblerArgumentResolver implements Handle
 		PersistentEntityProjector projector = new PersistentEntityProjector(projectionDefinitions, projectionFactory,
 				projectionParameter, links.getMappings());
 
-		return new PersistentEntityResourceAssembler(entities, projector, links, linkProvider);
+		return new PersistentEntityResourceAssembler(entities, projector, links, linkProvider, assembly,
+				instrumentation);
 	}
 }
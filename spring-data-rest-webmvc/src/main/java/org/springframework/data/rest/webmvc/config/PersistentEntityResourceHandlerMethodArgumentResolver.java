@@ -18,6 +18,7 @@ package org.springframework.data.rest.webmvc.config;
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
@@ -41,14 +42,13 @@ import org.springframework.http.converter.json.MappingJackson2HttpMessageConvert
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 /**
  * Custom {@link HandlerMethodArgumentResolver} to create {@link PersistentEntityResource} instances.
@@ -59,6 +59,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 public class PersistentEntityResourceHandlerMethodArgumentResolver implements HandlerMethodArgumentResolver {
 
 	private static final String ERROR_MESSAGE = "Could not read an object of type %s from the request!";
+	private static final int MAX_CACHED_CONTENT_TYPES = 64;
 	private static final String NO_CONVERTER_FOUND = "No suitable HttpMessageConverter found to read request body into object of type %s from request with content type of %s!";
 
 	private final RootResourceInformationHandlerMethodArgumentResolver resourceInformationResolver;
@@ -66,6 +67,8 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	private final DomainObjectReader reader;
 	private final List<HttpMessageConverter<?>> messageConverters;
 	private final ConversionService conversionService = new DefaultConversionService();
+	private final Map<MediaType, Optional<HttpMessageConverter<Object>>> converters = new ConcurrentReferenceHashMap<>();
+	private final Map<ObjectMapper, JsonPatchHandler> patchHandlers = new ConcurrentReferenceHashMap<>();
 
 	/**
 	 * Creates a new {@link PersistentEntityResourceHandlerMethodArgumentResolver} for the given
@@ -106,7 +109,6 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 	 * @see org.springframework.web.method.support.HandlerMethodArgumentResolver#resolveArgument(org.springframework.core.MethodParameter, org.springframework.web.method.support.ModelAndViewContainer, org.springframework.web.context.request.NativeWebRequest, org.springframework.web.bind.support.WebDataBinderFactory)
 	 */
 	@Override
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
@@ -120,40 +122,80 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 		Class<?> domainType = resourceInformation.getDomainType();
 		MediaType contentType = request.getHeaders().getContentType();
 
-		for (HttpMessageConverter converter : messageConverters) {
+		HttpMessageConverter<Object> converter = getConverterFor(contentType).orElseThrow(
+				() -> new HttpMessageNotReadableException(String.format(NO_CONVERTER_FOUND, domainType, contentType)));
 
-			if (!converter.canRead(PersistentEntityResource.class, contentType)) {
-				continue;
-			}
+		Optional<Serializable> id = Optional
+				.ofNullable(idResolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory));
+		Optional<Object> objectToUpdate = id.flatMap(it -> resourceInformation.getInvoker().invokeFindById(it));
 
-			Optional<Serializable> id = Optional
-					.ofNullable(idResolver.resolveArgument(parameter, mavContainer, webRequest, binderFactory));
-			Optional<Object> objectToUpdate = id.flatMap(it -> resourceInformation.getInvoker().invokeFindById(it));
+		Object obj = read(resourceInformation, incoming, converter, objectToUpdate);
 
-			Object obj = read(resourceInformation, incoming, converter, objectToUpdate);
+		if (obj == null) {
+			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType));
+		}
 
-			if (obj == null) {
-				throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, domainType));
-			}
+		PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
+		boolean forUpdate = objectToUpdate.isPresent();
+		Optional<Object> entityIdentifier = objectToUpdate.map(it -> entity.getIdentifierAccessor(it).getIdentifier());
 
-			PersistentEntity<?, ?> entity = resourceInformation.getPersistentEntity();
-			boolean forUpdate = objectToUpdate.isPresent();
-			Optional<Object> entityIdentifier = objectToUpdate.map(it -> entity.getIdentifierAccessor(it).getIdentifier());
+		entityIdentifier.ifPresent(it -> entity.getPropertyAccessor(obj).setProperty(entity.getRequiredIdProperty(),
+				entityIdentifier.orElse(null)));
+
+		id.ifPresent(it -> {
+			ConvertingPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(obj),
+					conversionService);
+			accessor.setProperty(entity.getRequiredIdProperty(), it);
+		});
+
+		Builder build = PersistentEntityResource.build(obj, entity);
+		return forUpdate ? build.build() : build.forCreation();
+	}
 
-			entityIdentifier.ifPresent(it -> entity.getPropertyAccessor(obj).setProperty(entity.getRequiredIdProperty(),
-					entityIdentifier.orElse(null)));
+	/**
+	 * Returns the first {@link HttpMessageConverter} able to read a {@link PersistentEntityResource} from the given
+	 * {@link MediaType}. As the set of converters is fixed, the lookup result is cached per content type. Parameters are
+	 * not considered for the lookup and the number of cached content types is capped, as clients can send arbitrary
+	 * {@code Content-Type} headers.
+	 *
+	 * @param contentType can be {@literal null}.
+	 * @return
+	 */
+	private Optional<HttpMessageConverter<Object>> getConverterFor(MediaType contentType) {
 
-			id.ifPresent(it -> {
-				ConvertingPropertyAccessor accessor = new ConvertingPropertyAccessor(entity.getPropertyAccessor(obj),
-						conversionService);
-				accessor.setProperty(entity.getRequiredIdProperty(), it);
-			});
+		MediaType key = contentType == null ? null : new MediaType(contentType.getType(), contentType.getSubtype());
+		Optional<HttpMessageConverter<Object>> converter = converters.get(key);
 
-			Builder build = PersistentEntityResource.build(obj, entity);
-			return forUpdate ? build.build() : build.forCreation();
+		if (converter != null) {
+			return converter;
 		}
 
-		throw new HttpMessageNotReadableException(String.format(NO_CONVERTER_FOUND, domainType, contentType));
+		converter = lookupConverterFor(key);
+
+		if (converters.size() < MAX_CACHED_CONTENT_TYPES) {
+			converters.putIfAbsent(key, converter);
+		}
+
+		return converter;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Optional<HttpMessageConverter<Object>> lookupConverterFor(MediaType contentType) {
+
+		return messageConverters.stream() //
+				.filter(converter -> converter.canRead(PersistentEntityResource.class, contentType)) //
+				.map(converter -> (HttpMessageConverter<Object>) converter) //
+				.findFirst();
+	}
+
+	/**
+	 * Returns the {@link JsonPatchHandler} for the given {@link ObjectMapper}, creating it on first access.
+	 *
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 */
+	private JsonPatchHandler getPatchHandler(ObjectMapper mapper) {
+		return patchHandlers.computeIfAbsent(mapper, it -> new JsonPatchHandler(it, reader));
 	}
 
 	/**
@@ -196,8 +238,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		try {
 
-			JsonPatchHandler handler = new JsonPatchHandler(mapper, reader);
-			return handler.apply(request, existingObject);
+			return getPatchHandler(mapper).apply(request, existingObject);
 
 		} catch (Exception o_O) {
 
@@ -213,10 +254,7 @@ public class PersistentEntityResourceHandlerMethodArgumentResolver implements Ha
 
 		try {
 
-			JsonPatchHandler handler = new JsonPatchHandler(mapper, reader);
-			JsonNode jsonNode = mapper.readTree(request.getBody());
-
-			return handler.applyPut((ObjectNode) jsonNode, existingObject);
+			return getPatchHandler(mapper).applyPut(request.getBody(), existingObject);
 
 		} catch (Exception o_O) {
 			throw new HttpMessageNotReadableException(String.format(ERROR_MESSAGE, existingObject.getClass()), o_O);
@@ -30,7 +30,10 @@ import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
+import org.springframework.data.rest.core.support.RepositoryConcurrencyLimits;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -64,8 +67,30 @@ class QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver
 	public QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver(Repositories repositories,
 			RepositoryInvokerFactory invokerFactory, ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver,
 			QuerydslPredicateBuilder predicateBuilder, QuerydslBindingsFactory factory) {
+		this(repositories, invokerFactory, resourceMetadataResolver, predicateBuilder, factory, null,
+				RepositoryRestInstrumentation.NONE, AssociationPrefetch.NONE);
+	}
+
+	/**
+	 * Creates a new {@link QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver} using the given
+	 * {@link Repositories}, {@link RepositoryInvokerFactory}, {@link ResourceMetadataHandlerMethodArgumentResolver},
+	 * {@link RepositoryConcurrencyLimits}, {@link RepositoryRestInstrumentation} and {@link AssociationPrefetch}.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param resourceMetadataResolver must not be {@literal null}.
+	 * @param concurrencyLimits can be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @param prefetch must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver(Repositories repositories,
+			RepositoryInvokerFactory invokerFactory, ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver,
+			QuerydslPredicateBuilder predicateBuilder, QuerydslBindingsFactory factory,
+			RepositoryConcurrencyLimits concurrencyLimits, RepositoryRestInstrumentation instrumentation,
+			AssociationPrefetch prefetch) {
 
-		super(repositories, invokerFactory, resourceMetadataResolver);
+		super(repositories, invokerFactory, resourceMetadataResolver, concurrencyLimits, instrumentation, prefetch);
 
 		this.repositories = repositories;
 		this.predicateBuilder = predicateBuilder;
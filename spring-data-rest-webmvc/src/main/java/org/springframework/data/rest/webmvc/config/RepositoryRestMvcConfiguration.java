@@ -15,6 +15,8 @@
  */
 package org.springframework.data.rest.webmvc.config;
 
+import java.io.IOException;
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,6 +25,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManagerFactory;
 
 import org.springframework.beans.factory.BeanClassLoaderAware;
 import org.springframework.beans.factory.BeanCreationException;
@@ -63,6 +68,7 @@ import org.springframework.data.rest.core.config.Projection;
 import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
 import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.event.AnnotatedEventHandlerInvoker;
+import org.springframework.data.rest.core.event.AsyncRepositoryEventPublisher;
 import org.springframework.data.rest.core.event.ValidatingRepositoryEventListener;
 import org.springframework.data.rest.core.mapping.RepositoryResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceDescription;
@@ -70,6 +76,9 @@ import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.support.DefaultSelfLinkProvider;
 import org.springframework.data.rest.core.support.DomainObjectMerger;
 import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.core.support.LookupEntityCache;
+import org.springframework.data.rest.core.support.RepositoryCachePolicies;
+import org.springframework.data.rest.core.support.RepositoryConcurrencyLimits;
 import org.springframework.data.rest.core.support.RepositoryRelProvider;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.support.UnwrappingRepositoryInvokerFactory;
@@ -79,7 +88,9 @@ import org.springframework.data.rest.webmvc.BasePathAwareHandlerMapping;
 import org.springframework.data.rest.webmvc.BaseUri;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.HttpHeadersPreparer;
+import org.springframework.data.rest.webmvc.ProfileController;
 import org.springframework.data.rest.webmvc.ProfileResourceProcessor;
+import org.springframework.data.rest.webmvc.RepositoryCacheControlAdvice;
 import org.springframework.data.rest.webmvc.RepositoryRestController;
 import org.springframework.data.rest.webmvc.RepositoryRestExceptionHandler;
 import org.springframework.data.rest.webmvc.RepositoryRestHandlerAdapter;
@@ -89,9 +100,11 @@ import org.springframework.data.rest.webmvc.ServerHttpRequestMethodArgumentResol
 import org.springframework.data.rest.webmvc.alps.AlpsJsonHttpMessageConverter;
 import org.springframework.data.rest.webmvc.alps.RootResourceInformationToAlpsDescriptorConverter;
 import org.springframework.data.rest.webmvc.convert.UriListHttpMessageConverter;
+import org.springframework.data.rest.webmvc.json.BoundedSerializerProvider;
 import org.springframework.data.rest.webmvc.json.DomainObjectReader;
 import org.springframework.data.rest.webmvc.json.EnumTranslator;
 import org.springframework.data.rest.webmvc.json.Jackson2DatatypeHelper;
+import org.springframework.data.rest.webmvc.json.JacksonCacheWarmer;
 import org.springframework.data.rest.webmvc.json.JacksonMappingAwareSortTranslator;
 import org.springframework.data.rest.webmvc.json.JacksonSerializers;
 import org.springframework.data.rest.webmvc.json.MappingAwareDefaultedPageableArgumentResolver;
@@ -103,8 +116,12 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaCon
 import org.springframework.data.rest.webmvc.json.PersistentEntityToJsonSchemaConverter.ValueTypeSchemaPropertyCustomizerFactory;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.spi.AssociationMembership;
+import org.springframework.data.rest.webmvc.spi.AssociationPaging;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter;
 import org.springframework.data.rest.webmvc.spi.BackendIdConverter.DefaultIdConverter;
+import org.springframework.data.rest.webmvc.spi.ContentEncoder;
 import org.springframework.data.rest.webmvc.support.BackendIdHandlerMethodArgumentResolver;
 import org.springframework.data.rest.webmvc.support.DefaultExcerptProjector;
 import org.springframework.data.rest.webmvc.support.DelegatingHandlerMapping;
@@ -112,9 +129,18 @@ import org.springframework.data.rest.webmvc.support.DomainClassResolver;
 import org.springframework.data.rest.webmvc.support.ETagArgumentResolver;
 import org.springframework.data.rest.webmvc.support.ExcerptProjector;
 import org.springframework.data.rest.webmvc.support.HttpMethodHandlerMethodArgumentResolver;
+import org.springframework.data.rest.webmvc.support.InstrumentedResourceProcessorInvoker;
+import org.springframework.data.rest.webmvc.support.JpaAssociationMembership;
+import org.springframework.data.rest.webmvc.support.JpaAssociationPaging;
+import org.springframework.data.rest.webmvc.support.JpaAssociationPrefetch;
 import org.springframework.data.rest.webmvc.support.JpaHelper;
 import org.springframework.data.rest.webmvc.support.PagingAndSortingTemplateVariables;
+import org.springframework.data.rest.webmvc.support.ParallelResourceAssembly;
 import org.springframework.data.rest.webmvc.support.RepositoryEntityLinks;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
+import org.springframework.data.rest.webmvc.support.ResponseCompression;
 import org.springframework.data.util.AnnotatedTypeScanner;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.HateoasSortHandlerMethodArgumentResolver;
@@ -135,8 +161,11 @@ import org.springframework.hateoas.hal.Jackson2HalModule;
 import org.springframework.hateoas.hal.Jackson2HalModule.HalHandlerInstantiator;
 import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.plugin.core.OrderAwarePluginRegistry;
 import org.springframework.plugin.core.PluginRegistry;
@@ -152,10 +181,13 @@ import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExc
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
 /**
@@ -181,12 +213,17 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	private static final boolean IS_JPA_AVAILABLE = ClassUtils.isPresent("javax.persistence.EntityManager",
 			RepositoryRestMvcConfiguration.class.getClassLoader());
+	private static final boolean IS_CBOR_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.cbor.CBORFactory", RepositoryRestMvcConfiguration.class.getClassLoader());
+	private static final boolean IS_SMILE_AVAILABLE = ClassUtils.isPresent(
+			"com.fasterxml.jackson.dataformat.smile.SmileFactory", RepositoryRestMvcConfiguration.class.getClassLoader());
 
 	@Autowired ApplicationContext applicationContext;
 
 	@Autowired(required = false) List<BackendIdConverter> idConverters = Collections.emptyList();
 	@Autowired(required = false) List<RepositoryRestConfigurer> configurers = Collections.emptyList();
 	@Autowired(required = false) List<EntityLookup<?>> lookups = Collections.emptyList();
+	@Autowired(required = false) List<ContentEncoder> contentEncoders = Collections.emptyList();
 
 	@Autowired(required = false) RelProvider relProvider;
 	@Autowired(required = false) CurieProvider curieProvider;
@@ -277,6 +314,57 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		}
 	}
 
+	/**
+	 * The {@link AssociationMembership} used to look up individual items of collection and map associations without
+	 * loading the entire association. Uses JPA count queries if JPA is available.
+	 *
+	 * @return
+	 */
+	@Bean
+	public AssociationMembership associationMembership() {
+
+		if (!IS_JPA_AVAILABLE) {
+			return AssociationMembership.NONE;
+		}
+
+		return new JpaAssociationMembership(BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(applicationContext, EntityManagerFactory.class).values());
+	}
+
+	/**
+	 * The {@link AssociationPaging} used to read pages of collection associations without loading the entire
+	 * association. Uses JPA queries if JPA is available.
+	 *
+	 * @return
+	 */
+	@Bean
+	public AssociationPaging associationPaging() {
+
+		if (!IS_JPA_AVAILABLE) {
+			return AssociationPaging.NONE;
+		}
+
+		return new JpaAssociationPaging(BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(applicationContext, EntityManagerFactory.class).values());
+	}
+
+	/**
+	 * The {@link AssociationPrefetch} used to load the associations embedded as excerpt projections or exposed by the
+	 * selected projection for all aggregates of a collection resource at once. Uses JPA fetch joins if JPA is available.
+	 *
+	 * @return
+	 */
+	@Bean
+	public AssociationPrefetch associationPrefetch() {
+
+		if (!IS_JPA_AVAILABLE) {
+			return AssociationPrefetch.NONE;
+		}
+
+		return new JpaAssociationPrefetch(BeanFactoryUtils
+				.beansOfTypeIncludingAncestors(applicationContext, EntityManagerFactory.class).values());
+	}
+
 	/**
 	 * Main configuration for the REST exporter.
 	 */
@@ -362,11 +450,76 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 			return new QuerydslAwareRootResourceInformationHandlerMethodArgumentResolver(repositories(),
 					repositoryInvokerFactory(defaultConversionService()), resourceMetadataHandlerMethodArgumentResolver(),
-					predicateBuilder, factory);
+					predicateBuilder, factory, repositoryConcurrencyLimits(), repositoryRestInstrumentation(),
+					associationPrefetch());
 		}
 
 		return new RootResourceInformationHandlerMethodArgumentResolver(repositories(),
-				repositoryInvokerFactory(defaultConversionService()), resourceMetadataHandlerMethodArgumentResolver());
+				repositoryInvokerFactory(defaultConversionService()), resourceMetadataHandlerMethodArgumentResolver(),
+				repositoryConcurrencyLimits(), repositoryRestInstrumentation(), associationPrefetch());
+	}
+
+	/**
+	 * The concurrency limits enforced on the repository invocations triggered by requests to the exported resources.
+	 * Bind a {@link org.springframework.data.rest.webmvc.support.ConcurrencyLimiterMetrics} for it to a Micrometer
+	 * {@code MeterRegistry} to expose the usage and rejection counts of the limiters in use.
+	 *
+	 * @return
+	 */
+	@Bean
+	public RepositoryConcurrencyLimits repositoryConcurrencyLimits() {
+		return new RepositoryConcurrencyLimits(repositories(),
+				repositoryRestConfiguration().getConcurrencyLimitConfiguration());
+	}
+
+	/**
+	 * The {@code Cache-Control} policies of the repositories and their query methods as configured via
+	 * {@link RepositoryRestConfiguration#getCacheControlConfiguration()} or declared on the repository interfaces.
+	 *
+	 * @return
+	 */
+	@Bean
+	public RepositoryCachePolicies repositoryCachePolicies() {
+		return new RepositoryCachePolicies(repositories(), repositoryRestConfiguration().getCacheControlConfiguration());
+	}
+
+	/**
+	 * Adds the {@code Cache-Control} and {@code Vary} headers to the responses of the repository resources.
+	 *
+	 * @return
+	 */
+	@Bean
+	public RepositoryCacheControlAdvice repositoryCacheControlAdvice() {
+		return new RepositoryCacheControlAdvice(repositoryCachePolicies(), repositories(), resourceMappings(), baseUri());
+	}
+
+	/**
+	 * The {@link org.springframework.context.ApplicationEventPublisher} the repository controllers publish their
+	 * {@link org.springframework.data.rest.core.event.RepositoryEvent}s through. Publishes the {@code After…} events
+	 * asynchronously if configured in {@link RepositoryRestConfiguration#getAsyncEventConfiguration()}. Events the
+	 * {@link ValidatingRepositoryEventListener} has validators registered for are always published synchronously.
+	 *
+	 * @param validatingListener must not be {@literal null}.
+	 * @return
+	 */
+	@Bean
+	public AsyncRepositoryEventPublisher repositoryEventPublisher(
+			ValidatingRepositoryEventListener validatingListener) {
+
+		return new AsyncRepositoryEventPublisher(applicationContext,
+				repositoryRestConfiguration().getAsyncEventConfiguration(), //
+				Collections.singletonList(validatingListener));
+	}
+
+	/**
+	 * Caches entities of lookup types resolved while reading request payloads if configured in
+	 * {@link RepositoryRestConfiguration#getLookupCacheConfiguration()}.
+	 *
+	 * @return
+	 */
+	@Bean
+	public LookupEntityCache lookupEntityCache() {
+		return new LookupEntityCache(repositoryRestConfiguration().getLookupCacheConfiguration());
 	}
 
 	@Bean
@@ -461,11 +614,14 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	 */
 	@Bean
 	public ObjectMapper objectMapper() {
+		return withEntityModules(basicObjectMapper());
+	}
+
+	private ObjectMapper withEntityModules(ObjectMapper mapper) {
 
 		Jdk8Module jdk8Module = new Jdk8Module();
 		jdk8Module.configureAbsentsAsNulls(true);
 
-		ObjectMapper mapper = basicObjectMapper();
 		mapper.registerModule(persistentEntityJackson2Module());
 		mapper.registerModule(jdk8Module);
 
@@ -495,7 +651,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 				RestMediaTypes.SPRING_DATA_VERBOSE_JSON, RestMediaTypes.SPRING_DATA_COMPACT_JSON));
 
 		TypeConstrainedMappingJackson2HttpMessageConverter jacksonConverter = new ResourceSupportHttpMessageConverter(
-				order);
+				order, repositoryRestInstrumentation(), responseCompression());
 		jacksonConverter.setObjectMapper(objectMapper());
 		jacksonConverter.setSupportedMediaTypes(mediaTypes);
 
@@ -520,7 +676,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		int order = repositoryRestConfiguration().useHalAsDefaultJsonMediaType() ? Ordered.LOWEST_PRECEDENCE - 10
 				: Ordered.LOWEST_PRECEDENCE - 1;
 
-		TypeConstrainedMappingJackson2HttpMessageConverter converter = new ResourceSupportHttpMessageConverter(order);
+		TypeConstrainedMappingJackson2HttpMessageConverter converter = new ResourceSupportHttpMessageConverter(order,
+				repositoryRestInstrumentation(), responseCompression());
 		converter.setObjectMapper(halObjectMapper());
 		converter.setSupportedMediaTypes(mediaTypes);
 
@@ -529,13 +686,16 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	@Bean
 	public ObjectMapper halObjectMapper() {
+		return withHalModules(basicObjectMapper());
+	}
+
+	private ObjectMapper withHalModules(ObjectMapper mapper) {
 
 		RelProvider defaultedRelProvider = this.relProvider != null ? this.relProvider : new EvoInflectorRelProvider();
 
 		HalHandlerInstantiator instantiator = new HalHandlerInstantiator(defaultedRelProvider, curieProvider,
 				resourceDescriptionMessageSourceAccessor(), applicationContext.getAutowireCapableBeanFactory());
 
-		ObjectMapper mapper = basicObjectMapper();
 		mapper.registerModule(persistentEntityJackson2Module());
 		mapper.registerModule(new Jackson2HalModule());
 		mapper.setHandlerInstantiator(instantiator);
@@ -565,7 +725,24 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			processors.add(bean);
 		}
 
-		return new ResourceProcessorInvoker(processors);
+		RepositoryRestInstrumentation instrumentation = repositoryRestInstrumentation();
+
+		return instrumentation == RepositoryRestInstrumentation.NONE ? new ResourceProcessorInvoker(processors)
+				: new InstrumentedResourceProcessorInvoker(processors, instrumentation);
+	}
+
+	/**
+	 * Returns the {@link RepositoryRestInstrumentation} registered in the {@link ApplicationContext} or
+	 * {@link RepositoryRestInstrumentation#NONE} if none is registered.
+	 *
+	 * @return
+	 */
+	protected RepositoryRestInstrumentation repositoryRestInstrumentation() {
+
+		String[] names = applicationContext.getBeanNamesForType(RepositoryRestInstrumentation.class, false, false);
+
+		return names.length == 0 ? RepositoryRestInstrumentation.NONE
+				: applicationContext.getBean(RepositoryRestInstrumentation.class);
 	}
 
 	/**
@@ -583,14 +760,20 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		initializer.setConversionService(defaultConversionService());
 
 		RepositoryRestHandlerAdapter handlerAdapter = new RepositoryRestHandlerAdapter(defaultMethodArgumentResolvers(),
-				resourceProcessorInvoker());
+				resourceProcessorInvoker(), repositoryRestConfiguration().getAsyncExecutionConfiguration(),
+				DomainClassResolver.of(repositories(), resourceMappings(), baseUri()));
 		handlerAdapter.setWebBindingInitializer(initializer);
 		handlerAdapter.setMessageConverters(defaultMessageConverters());
 
+		List<ResponseBodyAdvice<?>> responseBodyAdvice = new ArrayList<ResponseBodyAdvice<?>>();
+		responseBodyAdvice.add(repositoryCacheControlAdvice());
+
 		if (repositoryRestConfiguration().getMetadataConfiguration().alpsEnabled()) {
-			handlerAdapter.setResponseBodyAdvice(Arrays.<ResponseBodyAdvice<?>> asList(alpsJsonHttpMessageConverter()));
+			responseBodyAdvice.add(alpsJsonHttpMessageConverter());
 		}
 
+		handlerAdapter.setResponseBodyAdvice(responseBodyAdvice);
+
 		return handlerAdapter;
 	}
 
@@ -660,13 +843,20 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		LookupObjectSerializer lookupObjectSerializer = new LookupObjectSerializer(
 				Java8PluginRegistry.of(getEntityLookups()));
 
-		return new PersistentEntityJackson2Module(associationLinks(), entities, uriToEntityConverter, linkCollector(),
-				repositoryInvokerFactory, lookupObjectSerializer, resourceProcessorInvoker(), assembler);
+		PersistentEntityJackson2Module module = new PersistentEntityJackson2Module(associationLinks(), entities,
+				uriToEntityConverter, linkCollector(), repositoryInvokerFactory, lookupObjectSerializer,
+				resourceProcessorInvoker(), assembler);
+
+		module.setParallelResourceAssembly(ParallelResourceAssembly.of(repositoryRestConfiguration()));
+		module.setLookupEntityCache(lookupEntityCache());
+
+		return module;
 	}
 
 	@Bean
 	protected LinkCollector linkCollector() {
-		return new LinkCollector(persistentEntities(), selfLinkProvider(), associationLinks());
+		return new LinkCollector(persistentEntities(), selfLinkProvider(), associationLinks(),
+				repositoryRestInstrumentation());
 	}
 
 	protected UriToEntityConverter uriToEntityConverter(ConversionService conversionService) {
@@ -729,7 +919,18 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 			messageConverters.add(halJacksonHttpMessageConverter());
 		}
 
-		MappingJackson2HttpMessageConverter fallbackJsonConverter = new MappingJackson2HttpMessageConverter();
+		if (IS_CBOR_AVAILABLE) {
+			messageConverters.addAll(binaryHttpMessageConverters(BinaryJsonFactories.cbor(), RestMediaTypes.HAL_CBOR,
+					RestMediaTypes.CBOR, RestMediaTypes.JSON_PATCH_CBOR, RestMediaTypes.MERGE_PATCH_CBOR));
+		}
+
+		if (IS_SMILE_AVAILABLE) {
+			messageConverters.addAll(binaryHttpMessageConverters(BinaryJsonFactories.smile(), RestMediaTypes.HAL_SMILE,
+					RestMediaTypes.SMILE, RestMediaTypes.JSON_PATCH_SMILE, RestMediaTypes.MERGE_PATCH_SMILE));
+		}
+
+		MappingJackson2HttpMessageConverter fallbackJsonConverter = new CompressingJackson2HttpMessageConverter(
+				responseCompression());
 		fallbackJsonConverter.setObjectMapper(basicObjectMapper());
 
 		messageConverters.add(fallbackJsonConverter);
@@ -740,9 +941,84 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		return messageConverters;
 	}
 
+	/**
+	 * Resolves the Jackson serializers for all domain types in the {@link ObjectMapper}s of the
+	 * {@link #defaultMessageConverters()} on startup if configured.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	@Bean
+	public JacksonCacheWarmer jacksonCacheWarmer() {
+
+		List<ObjectMapper> mappers = defaultMessageConverters().stream() //
+				.filter(AbstractJackson2HttpMessageConverter.class::isInstance) //
+				.map(it -> ((AbstractJackson2HttpMessageConverter) it).getObjectMapper()) //
+				.distinct() //
+				.collect(Collectors.toList());
+
+		RepositoryRestConfiguration configuration = repositoryRestConfiguration();
+
+		return new JacksonCacheWarmer(persistentEntities(), configuration.getProjectionConfiguration(),
+				configuration.getSerializerCacheConfiguration(), mappers);
+	}
+
+	/**
+	 * Creates the {@link HttpMessageConverter}s for a binary encoding of JSON, set up like
+	 * {@link #halJacksonHttpMessageConverter()} and {@link #jacksonHttpMessageConverter()}. The plain media type is
+	 * served by the HAL converter if HAL is configured to be the default JSON media type.
+	 *
+	 * @param factory the {@link JsonFactory} implementing the encoding, must not be {@literal null}.
+	 * @param halType the HAL flavor of the encoding, must not be {@literal null}.
+	 * @param plainType the plain media type of the encoding, must not be {@literal null}.
+	 * @param patchTypes the JSON Patch and JSON Merge Patch flavors of the encoding.
+	 * @return
+	 */
+	private List<HttpMessageConverter<?>> binaryHttpMessageConverters(JsonFactory factory, MediaType halType,
+			MediaType plainType, MediaType... patchTypes) {
+
+		boolean halAsDefault = repositoryRestConfiguration().useHalAsDefaultJsonMediaType();
+
+		List<MediaType> halTypes = new ArrayList<MediaType>();
+		halTypes.add(halType);
+
+		List<MediaType> plainTypes = new ArrayList<MediaType>();
+		plainTypes.addAll(Arrays.asList(patchTypes));
+
+		(halAsDefault ? halTypes : plainTypes).add(plainType);
+
+		TypeConstrainedMappingJackson2HttpMessageConverter halConverter = new ResourceSupportHttpMessageConverter(
+				Ordered.LOWEST_PRECEDENCE, repositoryRestInstrumentation(), responseCompression());
+		halConverter.setObjectMapper(withHalModules(basicObjectMapper(factory)));
+		halConverter.setSupportedMediaTypes(halTypes);
+
+		TypeConstrainedMappingJackson2HttpMessageConverter plainConverter = new ResourceSupportHttpMessageConverter(
+				Ordered.LOWEST_PRECEDENCE, repositoryRestInstrumentation(), responseCompression());
+		plainConverter.setObjectMapper(withEntityModules(basicObjectMapper(factory)));
+		plainConverter.setSupportedMediaTypes(plainTypes);
+
+		return halAsDefault ? Arrays.asList(halConverter, plainConverter) : Arrays.asList(plainConverter, halConverter);
+	}
+
 	@Bean
 	public AlpsJsonHttpMessageConverter alpsJsonHttpMessageConverter() {
-		return new AlpsJsonHttpMessageConverter(alpsConverter());
+		return new AlpsJsonHttpMessageConverter(alpsConverter(), responseCompression());
+	}
+
+	/**
+	 * The {@link ResponseCompression} used by the {@link HttpMessageConverter}s to compress response bodies. Supports
+	 * all {@link ContentEncoder}s registered in the {@link ApplicationContext} in addition to the JDK's ones.
+	 *
+	 * @return
+	 * @since 3.1
+	 */
+	@Bean
+	public ResponseCompression responseCompression() {
+
+		RepositoryRestConfiguration configuration = repositoryRestConfiguration();
+		String profilePath = configuration.getBasePath().toString().concat(ProfileController.PROFILE_ROOT_MAPPING);
+
+		return new ResponseCompression(configuration.getCompressionConfiguration(), profilePath, contentEncoders);
 	}
 
 	/*
@@ -793,7 +1069,7 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 	@Bean
 	public HttpHeadersPreparer httpHeadersPreparer() {
-		return new HttpHeadersPreparer(auditableBeanWrapperFactory());
+		return new HttpHeadersPreparer(auditableBeanWrapperFactory(), repositoryCachePolicies());
 	}
 
 	@Bean
@@ -823,7 +1099,8 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 
 		PersistentEntityResourceAssemblerArgumentResolver peraResolver = new PersistentEntityResourceAssemblerArgumentResolver(
 				persistentEntities(), selfLinkProvider(), repositoryRestConfiguration().getProjectionConfiguration(),
-				projectionFactory, associationLinks());
+				projectionFactory, associationLinks(), ParallelResourceAssembly.of(repositoryRestConfiguration()),
+				repositoryRestInstrumentation());
 
 		PageableHandlerMethodArgumentResolver pageableResolver = pageableResolver();
 
@@ -846,10 +1123,23 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 	@Autowired GeoModule geoModule;
 
 	protected ObjectMapper basicObjectMapper() {
+		return basicObjectMapper(null);
+	}
+
+	/**
+	 * Creates the basic {@link ObjectMapper} for the given {@link JsonFactory}. Output is only indented for textual
+	 * encodings.
+	 *
+	 * @param factory can be {@literal null} to use the default JSON one.
+	 * @return
+	 */
+	private ObjectMapper basicObjectMapper(JsonFactory factory) {
 
-		ObjectMapper objectMapper = new ObjectMapper();
+		ObjectMapper objectMapper = new ObjectMapper(factory);
+		objectMapper.setSerializerProvider(new BoundedSerializerProvider(
+				repositoryRestConfiguration().getSerializerCacheConfiguration().getMaxCachedSerializers()));
 
-		objectMapper.configure(SerializationFeature.INDENT_OUTPUT, true);
+		objectMapper.configure(SerializationFeature.INDENT_OUTPUT, factory == null);
 		objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
 		objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
@@ -932,19 +1222,86 @@ public class RepositoryRestMvcConfiguration extends HateoasAwareSpringDataWebCon
 		}
 	}
 
+	/**
+	 * Creates the {@link JsonFactory}s for the binary encodings. Kept in a separate class to not require the optional
+	 * Jackson data format modules on the classpath.
+	 *
+	 * @since 3.1
+	 */
+	private static class BinaryJsonFactories {
+
+		public static JsonFactory cbor() {
+			return new CBORFactory();
+		}
+
+		public static JsonFactory smile() {
+			return new SmileFactory();
+		}
+	}
+
+	/**
+	 * Fallback {@link MappingJackson2HttpMessageConverter} compressing the response bodies it writes.
+	 *
+	 * @since 3.1
+	 */
+	private static class CompressingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+		private final ResponseCompression compression;
+
+		public CompressingJackson2HttpMessageConverter(ResponseCompression compression) {
+			this.compression = compression;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+		 */
+		@Override
+		protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+				throws IOException, HttpMessageNotWritableException {
+			compression.write(outputMessage, it -> super.writeInternal(object, type, it));
+		}
+	}
+
 	private static class ResourceSupportHttpMessageConverter extends TypeConstrainedMappingJackson2HttpMessageConverter
 			implements Ordered {
 
 		private final int order;
+		private final RepositoryRestInstrumentation instrumentation;
+		private final ResponseCompression compression;
 
 		/**
 		 * Creates a new {@link ResourceSupportHttpMessageConverter} with the given order.
 		 *
 		 * @param order the order for the {@link HttpMessageConverter}.
+		 * @param instrumentation the {@link RepositoryRestInstrumentation} to report the serialization to.
+		 * @param compression the {@link ResponseCompression} to compress the response bodies with.
 		 */
-		public ResourceSupportHttpMessageConverter(int order) {
+		public ResourceSupportHttpMessageConverter(int order, RepositoryRestInstrumentation instrumentation,
+				ResponseCompression compression) {
+
 			super(ResourceSupport.class);
+
 			this.order = order;
+			this.instrumentation = instrumentation;
+			this.compression = compression;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter#writeInternal(java.lang.Object, java.lang.reflect.Type, org.springframework.http.HttpOutputMessage)
+		 */
+		@Override
+		protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+				throws IOException, HttpMessageNotWritableException {
+
+			Timing timing = instrumentation.start(Phase.SERIALIZATION);
+
+			try {
+				compression.write(outputMessage, it -> super.writeInternal(object, type, it));
+			} finally {
+				timing.stop(InstrumentedResourceProcessorInvoker.getDomainType(object));
+			}
 		}
 
 		/*
@@ -23,7 +23,15 @@ import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
+import org.springframework.data.rest.core.support.ConcurrencyLimitingRepositoryInvoker;
+import org.springframework.data.rest.core.support.RepositoryConcurrencyLimits;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
+import org.springframework.data.rest.webmvc.support.AssociationPrefetchingRepositoryInvoker;
+import org.springframework.data.rest.webmvc.support.InstrumentedRepositoryInvoker;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
 import org.springframework.util.Assert;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -42,6 +50,9 @@ public class RootResourceInformationHandlerMethodArgumentResolver implements Han
 	private final Repositories repositories;
 	private final RepositoryInvokerFactory invokerFactory;
 	private final ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver;
+	private final RepositoryConcurrencyLimits concurrencyLimits;
+	private final RepositoryRestInstrumentation instrumentation;
+	private final AssociationPrefetch prefetch;
 
 	/**
 	 * Creates a new {@link RootResourceInformationHandlerMethodArgumentResolver} using the given {@link Repositories},
@@ -53,14 +64,43 @@ public class RootResourceInformationHandlerMethodArgumentResolver implements Han
 	 */
 	public RootResourceInformationHandlerMethodArgumentResolver(Repositories repositories,
 			RepositoryInvokerFactory invokerFactory, ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver) {
+		this(repositories, invokerFactory, resourceMetadataResolver, null, RepositoryRestInstrumentation.NONE,
+				AssociationPrefetch.NONE);
+	}
+
+	/**
+	 * Creates a new {@link RootResourceInformationHandlerMethodArgumentResolver} using the given {@link Repositories},
+	 * {@link RepositoryInvokerFactory}, {@link ResourceMetadataHandlerMethodArgumentResolver}, the
+	 * {@link RepositoryConcurrencyLimits} to be enforced on the {@link RepositoryInvoker}s handed to the controllers, the
+	 * {@link RepositoryRestInstrumentation} to report the resolution and repository invocations to and the
+	 * {@link AssociationPrefetch} to apply the {@link org.springframework.data.rest.core.support.FetchPlan}s handed to
+	 * the {@link RepositoryInvoker}s.
+	 *
+	 * @param repositories must not be {@literal null}.
+	 * @param invokerFactory must not be {@literal null}.
+	 * @param resourceMetadataResolver must not be {@literal null}.
+	 * @param concurrencyLimits can be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @param prefetch must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public RootResourceInformationHandlerMethodArgumentResolver(Repositories repositories,
+			RepositoryInvokerFactory invokerFactory, ResourceMetadataHandlerMethodArgumentResolver resourceMetadataResolver,
+			RepositoryConcurrencyLimits concurrencyLimits, RepositoryRestInstrumentation instrumentation,
+			AssociationPrefetch prefetch) {
 
 		Assert.notNull(repositories, "Repositories must not be null!");
 		Assert.notNull(invokerFactory, "invokerFactory must not be null!");
 		Assert.notNull(resourceMetadataResolver, "ResourceMetadataHandlerMethodArgumentResolver must not be null!");
+		Assert.notNull(instrumentation, "RepositoryRestInstrumentation must not be null!");
+		Assert.notNull(prefetch, "AssociationPrefetch must not be null!");
 
 		this.repositories = repositories;
 		this.invokerFactory = invokerFactory;
 		this.resourceMetadataResolver = resourceMetadataResolver;
+		this.concurrencyLimits = concurrencyLimits;
+		this.instrumentation = instrumentation;
+		this.prefetch = prefetch;
 	}
 
 	/*
@@ -80,16 +120,39 @@ public class RootResourceInformationHandlerMethodArgumentResolver implements Han
 	public RootResourceInformation resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
 			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
 
-		ResourceMetadata resourceMetadata = resourceMetadataResolver.resolveArgument(parameter, mavContainer, webRequest,
-				binderFactory);
+		Timing timing = instrumentation.start(Phase.RESOURCE_RESOLUTION);
+		Class<?> domainType = null;
+
+		try {
+
+			ResourceMetadata resourceMetadata = resourceMetadataResolver.resolveArgument(parameter, mavContainer, webRequest,
+					binderFactory);
+
+			domainType = resourceMetadata.getDomainType();
+			RepositoryInvoker repositoryInvoker = invokerFactory.getInvokerFor(domainType);
+			PersistentEntity<?, ?> persistentEntity = repositories.getPersistentEntity(domainType);
+
+			repositoryInvoker = postProcess(parameter, repositoryInvoker, domainType, webRequest.getParameterMap());
+
+			// Prefetching is part of the invocation, so it's both limited and reported
+			if (prefetch != AssociationPrefetch.NONE && persistentEntity != null) {
+				repositoryInvoker = new AssociationPrefetchingRepositoryInvoker(repositoryInvoker, persistentEntity, prefetch);
+			}
+
+			if (instrumentation != RepositoryRestInstrumentation.NONE) {
+				repositoryInvoker = new InstrumentedRepositoryInvoker(repositoryInvoker, domainType, instrumentation);
+			}
+
+			if (concurrencyLimits != null) {
+				repositoryInvoker = new ConcurrencyLimitingRepositoryInvoker(repositoryInvoker, domainType, concurrencyLimits);
+			}
 
-		Class<?> domainType = resourceMetadata.getDomainType();
-		RepositoryInvoker repositoryInvoker = invokerFactory.getInvokerFor(domainType);
-		PersistentEntity<?, ?> persistentEntity = repositories.getPersistentEntity(domainType);
+			// TODO reject if ResourceMetadata cannot be resolved
+			return new RootResourceInformation(resourceMetadata, persistentEntity, repositoryInvoker);
 
-		// TODO reject if ResourceMetadata cannot be resolved
-		return new RootResourceInformation(resourceMetadata, persistentEntity,
-				postProcess(parameter, repositoryInvoker, domainType, webRequest.getParameterMap()));
+		} finally {
+			timing.stop(domainType);
+		}
 	}
 
 	/**
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.util.Assert;
+
+/**
+ * A reference to a single item resource as sent by a client to update an association, i.e. a URI or a {@link Link}
+ * pointing to the item resource. Exposes the path segments identifying the repository and the item without creating
+ * intermediate {@link Link} instances or expanding URI templates.
+ *
+ * @since 3.1
+ * @see UriListHttpMessageConverter
+ */
+public final class ResourceReference {
+
+	private final String href;
+	private final String rel;
+	private final int repositoryStart, idStart, end;
+
+	private ResourceReference(String href, String rel) {
+
+		this.href = href;
+		this.rel = rel;
+
+		// Drop template variables, the query string and the fragment
+		int end = href.length();
+
+		for (int i = 0; i < end; i++) {
+
+			char c = href.charAt(i);
+
+			if (c == '{' || c == '?' || c == '#') {
+				end = i;
+			}
+		}
+
+		while (end > 0 && href.charAt(end - 1) == '/') {
+			end--;
+		}
+
+		this.end = end;
+		this.idStart = href.lastIndexOf('/', end - 1) + 1;
+		this.repositoryStart = idStart < 2 ? idStart : href.lastIndexOf('/', idStart - 2) + 1;
+	}
+
+	/**
+	 * Creates a new {@link ResourceReference} for the given URI using {@link Link#REL_SELF} as relation.
+	 *
+	 * @param href must not be {@literal null}.
+	 * @return
+	 */
+	public static ResourceReference of(String href) {
+		return of(href, Link.REL_SELF);
+	}
+
+	/**
+	 * Creates a new {@link ResourceReference} for the given URI and relation.
+	 *
+	 * @param href must not be {@literal null}.
+	 * @param rel must not be {@literal null}.
+	 * @return
+	 */
+	public static ResourceReference of(String href, String rel) {
+
+		Assert.notNull(href, "Href must not be null!");
+		Assert.notNull(rel, "Rel must not be null!");
+
+		return new ResourceReference(href, rel);
+	}
+
+	/**
+	 * Returns the {@link ResourceReference}s contained in the given {@link ResourceSupport}. Uses the already parsed
+	 * references of {@link UriListResources} and falls back to the {@link Link}s contained in the resource otherwise.
+	 *
+	 * @param resource can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static List<ResourceReference> of(ResourceSupport resource) {
+
+		if (resource == null) {
+			return Collections.emptyList();
+		}
+
+		if (resource instanceof UriListResources) {
+			return ((UriListResources) resource).getReferences();
+		}
+
+		List<Link> links = resource.getLinks();
+		List<ResourceReference> references = new ArrayList<>(links.size());
+
+		for (Link link : links) {
+			references.add(of(link.getHref(), link.getRel()));
+		}
+
+		return references;
+	}
+
+	/**
+	 * Returns the URI as sent by the client.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String getHref() {
+		return href;
+	}
+
+	/**
+	 * Returns the relation the reference was sent for.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String getRel() {
+		return rel;
+	}
+
+	/**
+	 * Returns the path segment identifying the repository, i.e. the one preceding the item identifier.
+	 *
+	 * @return will never be {@literal null}, but might be empty.
+	 */
+	public String getRepositoryPath() {
+		return idStart == repositoryStart ? "" : href.substring(repositoryStart, idStart - 1);
+	}
+
+	/**
+	 * Returns the last path segment of the URI, i.e. the identifier of the referenced item.
+	 *
+	 * @return will never be {@literal null}, but might be empty.
+	 */
+	public String getId() {
+		return href.substring(idStart, end);
+	}
+
+	/**
+	 * Returns the reference as {@link Link}.
+	 *
+	 * @return
+	 */
+	public Link toLink() {
+		return new Link(href, rel);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return href;
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResourceSupport} to be rendered as {@code text/uri-list} that creates the {@link Link}s for the given items
+ * only while they're written. This allows {@link UriListHttpMessageConverter} to stream large lists of URIs without
+ * holding all of them in memory. {@link #getLinks()} materializes all {@link Link}s and should be avoided.
+ *
+ * @since 3.1
+ * @see UriListHttpMessageConverter
+ */
+public class StreamingUriList extends ResourceSupport implements Iterable<Link> {
+
+	private final Iterable<?> items;
+	private final Function<Object, Link> linkFunction;
+
+	/**
+	 * Creates a new {@link StreamingUriList} for the given items and {@link Function} to create a {@link Link} for each
+	 * of them.
+	 *
+	 * @param items must not be {@literal null}.
+	 * @param linkFunction must not be {@literal null}.
+	 */
+	public StreamingUriList(Iterable<?> items, Function<Object, Link> linkFunction) {
+
+		Assert.notNull(items, "Items must not be null!");
+		Assert.notNull(linkFunction, "Link function must not be null!");
+
+		this.items = items;
+		this.linkFunction = linkFunction;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Iterable#iterator()
+	 */
+	@Override
+	public Iterator<Link> iterator() {
+
+		Iterator<?> iterator = items.iterator();
+
+		return new Iterator<Link>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Link next() {
+				return linkFunction.apply(iterator.next());
+			}
+		};
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.ResourceSupport#getLinks()
+	 */
+	@Override
+	public List<Link> getLinks() {
+
+		List<Link> links = new ArrayList<Link>();
+
+		for (Link link : this) {
+			links.add(link);
+		}
+
+		return Collections.unmodifiableList(links);
+	}
+}
@@ -15,29 +15,40 @@
  */
 package org.springframework.data.rest.webmvc.convert;
 
-import java.io.BufferedWriter;
+import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Scanner;
 
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.ResourceSupport;
-import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 /**
  * {@link Converter} to render all {@link Link}s contained in a {@link ResourceSupport} as {@code text/uri-list} and
- * parse a request of that media type back into a {@link ResourceSupport} instance.
+ * parse a request of that media type back into a {@link ResourceSupport} instance. Request bodies are parsed into
+ * {@link UriListResources}, skipping blank lines and comments as defined in
+ * <a href="https://tools.ietf.org/html/rfc2483#section-5">RFC 2483</a>. Bodies in ASCII compatible charsets are parsed
+ * in a single pass over the raw bytes, all others are decoded line by line. Both reading and writing use the charset
+ * given in the content type and default to UTF-8. The links of a {@link StreamingUriList} are written as they're
+ * created.
+ * <p>
+ * Parsing doesn't buffer the body, but all parsed references are kept in memory, as the association they're added to
+ * is loaded completely anyway. Memory usage thus grows with the number of URIs sent, not with the size of the body.
  *
  * @author Jon Brisbin
  * @author Greg Turnquist
@@ -46,6 +57,11 @@ import org.springframework.util.StringUtils;
 public class UriListHttpMessageConverter implements HttpMessageConverter<ResourceSupport> {
 
 	private static final List<MediaType> MEDIA_TYPES = new ArrayList<MediaType>();
+	private static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
+	private static final List<Charset> ASCII_COMPATIBLE_CHARSETS = Arrays.asList(StandardCharsets.UTF_8,
+			StandardCharsets.ISO_8859_1, StandardCharsets.US_ASCII);
+	private static final byte[] CRLF = { '\r', '\n' };
+	private static final int BUFFER_SIZE = StreamUtils.BUFFER_SIZE;
 
 	static {
 		MEDIA_TYPES.add(MediaType.parseMediaType("text/uri-list"));
@@ -89,42 +105,161 @@ public class UriListHttpMessageConverter implements HttpMessageConverter<Resourc
 	public ResourceSupport read(Class<? extends ResourceSupport> clazz, HttpInputMessage inputMessage)
 			throws IOException, HttpMessageNotReadableException {
 
-		List<Link> links = new ArrayList<Link>();
+		Charset charset = getCharset(inputMessage.getHeaders().getContentType());
+		InputStream body = inputMessage.getBody();
 
-		Scanner scanner = new Scanner(inputMessage.getBody());
+		// Line breaks can only be detected on the raw bytes for ASCII compatible encodings
+		return new UriListResources(ASCII_COMPATIBLE_CHARSETS.contains(charset) //
+				? parse(body, charset) //
+				: parse(new BufferedReader(new InputStreamReader(body, charset), BUFFER_SIZE)));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.http.converter.HttpMessageConverter#write(java.lang.Object, org.springframework.http.MediaType, org.springframework.http.HttpOutputMessage)
+	 */
+	@Override
+	public void write(ResourceSupport resource, MediaType contentType, HttpOutputMessage outputMessage)
+			throws IOException, HttpMessageNotWritableException {
 
-		try {
+		MediaType mediaType = contentType == null ? outputMessage.getHeaders().getContentType() : contentType;
+		Charset charset = getCharset(mediaType);
+		OutputStream body = outputMessage.getBody();
 
-			while (scanner.hasNextLine()) {
+		byte[] buffer = new byte[BUFFER_SIZE];
+		int position = 0;
 
-				String line = scanner.nextLine();
-				if (StringUtils.hasText(line)) {
-					links.add(new Link(line));
-				}
+		// Avoid materializing all links of a streaming list upfront
+		Iterable<Link> links = resource instanceof StreamingUriList ? (StreamingUriList) resource : resource.getLinks();
+
+		for (Link link : links) {
+
+			byte[] href = link.getHref().getBytes(charset);
+
+			if (position + href.length + CRLF.length > buffer.length) {
+
+				body.write(buffer, 0, position);
+				position = 0;
 			}
 
-		} finally {
-			scanner.close();
+			if (href.length + CRLF.length > buffer.length) {
+
+				body.write(href);
+				body.write(CRLF);
+				continue;
+			}
+
+			System.arraycopy(href, 0, buffer, position, href.length);
+			position += href.length;
+			System.arraycopy(CRLF, 0, buffer, position, CRLF.length);
+			position += CRLF.length;
 		}
 
-		return new Resources<Object>(Collections.emptyList(), links);
+		body.write(buffer, 0, position);
+		body.flush();
 	}
 
-	/*
-	 * (non-Javadoc)
-	 * @see org.springframework.http.converter.HttpMessageConverter#write(java.lang.Object, org.springframework.http.MediaType, org.springframework.http.HttpOutputMessage)
+	/**
+	 * Parses the given {@code text/uri-list} body into {@link ResourceReference}s. Reads the body in chunks of a fixed
+	 * size and only materializes a {@link String} per URI, so that the memory needed on top of the result doesn't
+	 * depend on the size of the body.
+	 *
+	 * @param body must not be {@literal null}.
+	 * @param charset must be an ASCII compatible {@link Charset}.
+	 * @return
+	 * @throws IOException
 	 */
-	@Override
-	public void write(ResourceSupport resource, MediaType contentType, HttpOutputMessage outputMessage)
-			throws IOException, HttpMessageNotWritableException {
+	static List<ResourceReference> parse(InputStream body, Charset charset) throws IOException {
+
+		List<ResourceReference> references = new ArrayList<ResourceReference>();
 
-		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputMessage.getBody()));
+		byte[] buffer = new byte[BUFFER_SIZE];
+		byte[] line = new byte[256];
+		int length = 0;
+		int read;
+
+		while ((read = body.read(buffer)) != -1) {
+
+			for (int i = 0; i < read; i++) {
+
+				byte b = buffer[i];
+
+				if (b == '\n' || b == '\r') {
+
+					addReference(references, line, length, charset);
+					length = 0;
+
+					continue;
+				}
 
-		for (Link link : resource.getLinks()) {
-			writer.write(link.getHref());
-			writer.newLine();
+				if (length == line.length) {
+					line = Arrays.copyOf(line, line.length * 2);
+				}
+
+				line[length++] = b;
+			}
+		}
+
+		addReference(references, line, length, charset);
+
+		return references;
+	}
+
+	/**
+	 * Parses the given {@code text/uri-list} body into {@link ResourceReference}s line by line. Used for charsets whose
+	 * line breaks can't be detected on the raw bytes.
+	 *
+	 * @param body must not be {@literal null}.
+	 * @return
+	 * @throws IOException
+	 */
+	static List<ResourceReference> parse(BufferedReader body) throws IOException {
+
+		List<ResourceReference> references = new ArrayList<ResourceReference>();
+		String line;
+
+		while ((line = body.readLine()) != null) {
+
+			String uri = StringUtils.trimWhitespace(line);
+
+			// Skip blank lines and comments
+			if (!uri.isEmpty() && uri.charAt(0) != '#') {
+				references.add(ResourceReference.of(uri));
+			}
+		}
+
+		return references;
+	}
+
+	private static void addReference(List<ResourceReference> references, byte[] line, int length, Charset charset) {
+
+		int start = 0;
+		int end = length;
+
+		while (start < end && isWhitespace(line[start])) {
+			start++;
+		}
+
+		while (end > start && isWhitespace(line[end - 1])) {
+			end--;
 		}
 
-		writer.flush();
+		// Skip blank lines and comments
+		if (start == end || line[start] == '#') {
+			return;
+		}
+
+		references.add(ResourceReference.of(new String(line, start, end - start, charset)));
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t';
+	}
+
+	private static Charset getCharset(MediaType mediaType) {
+
+		Charset charset = mediaType == null ? null : mediaType.getCharset();
+
+		return charset == null ? DEFAULT_CHARSET : charset;
 	}
 }
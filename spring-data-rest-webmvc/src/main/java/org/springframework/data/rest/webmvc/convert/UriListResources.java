@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.Resources;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Resources} read from a {@code text/uri-list} request body. Keeps the parsed {@link ResourceReference}s and
+ * only creates {@link Link} instances if they're explicitly requested via {@link #getLinks()}. Prefer
+ * {@link ResourceReference#of(org.springframework.hateoas.ResourceSupport)} to access the contained references.
+ *
+ * @since 3.1
+ * @see UriListHttpMessageConverter
+ */
+public class UriListResources extends Resources<Object> {
+
+	private final List<ResourceReference> references;
+	private List<Link> links;
+
+	/**
+	 * Creates a new {@link UriListResources} for the given {@link ResourceReference}s.
+	 *
+	 * @param references must not be {@literal null}.
+	 */
+	public UriListResources(List<ResourceReference> references) {
+
+		super(Collections.emptyList());
+
+		Assert.notNull(references, "References must not be null!");
+
+		this.references = Collections.unmodifiableList(references);
+	}
+
+	/**
+	 * Returns the {@link ResourceReference}s contained in the request body.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<ResourceReference> getReferences() {
+		return references;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.ResourceSupport#getLinks()
+	 */
+	@Override
+	public List<Link> getLinks() {
+
+		if (links == null) {
+
+			List<Link> links = new ArrayList<>(references.size());
+
+			for (ResourceReference reference : references) {
+				links.add(reference.toLink());
+			}
+
+			this.links = Collections.unmodifiableList(links);
+		}
+
+		return links;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("UriListResources { references: %s }", references);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (obj == this) {
+			return true;
+		}
+
+		if (!(obj instanceof UriListResources)) {
+			return false;
+		}
+
+		return getLinks().equals(((UriListResources) obj).getLinks());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.Resources#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return getLinks().hashCode();
+	}
+}
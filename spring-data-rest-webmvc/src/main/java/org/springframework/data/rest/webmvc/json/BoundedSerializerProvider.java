@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+
+/**
+ * {@link DefaultSerializerProvider} limiting the number of root serializers cached by an {@link ObjectMapper}. Jackson
+ * never evicts resolved serializers, so all of them are dropped before the next serialization once a newly resolved
+ * serializer reaches the configured limit. Each flush is logged. Register it using
+ * {@link ObjectMapper#setSerializerProvider(DefaultSerializerProvider)}.
+ *
+ * @since 3.1
+ */
+@SuppressWarnings("serial")
+public class BoundedSerializerProvider extends DefaultSerializerProvider {
+
+	private static final Logger LOG = LoggerFactory.getLogger(BoundedSerializerProvider.class);
+	private static final AtomicLong FLUSH_EPOCH = new AtomicLong();
+
+	private final int maxCachedSerializers;
+	private final AtomicBoolean limitReached;
+	private final AtomicLong flushes;
+
+	/**
+	 * Creates a new {@link BoundedSerializerProvider} caching at most the given number of root serializers.
+	 *
+	 * @param maxCachedSerializers must be greater than zero.
+	 */
+	public BoundedSerializerProvider(int maxCachedSerializers) {
+
+		Assert.isTrue(maxCachedSerializers > 0, "Maximum number of cached serializers must be greater than zero!");
+
+		this.maxCachedSerializers = maxCachedSerializers;
+		this.limitReached = new AtomicBoolean();
+		this.flushes = new AtomicLong();
+	}
+
+	private BoundedSerializerProvider(BoundedSerializerProvider source) {
+
+		super(source);
+
+		this.maxCachedSerializers = source.maxCachedSerializers;
+		this.limitReached = new AtomicBoolean();
+		this.flushes = new AtomicLong();
+	}
+
+	private BoundedSerializerProvider(BoundedSerializerProvider source, SerializationConfig config,
+			SerializerFactory factory) {
+
+		super(source, config, factory);
+
+		this.maxCachedSerializers = source.maxCachedSerializers;
+		this.limitReached = source.limitReached;
+		this.flushes = source.flushes;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ser.DefaultSerializerProvider#createInstance(com.fasterxml.jackson.databind.SerializationConfig, com.fasterxml.jackson.databind.ser.SerializerFactory)
+	 */
+	@Override
+	public DefaultSerializerProvider createInstance(SerializationConfig config, SerializerFactory factory) {
+
+		if (limitReached.compareAndSet(true, false)) {
+
+			flushCachedSerializers();
+			FLUSH_EPOCH.incrementAndGet();
+
+			LOG.info("Dropped cached Jackson serializers after reaching the limit of {} ({} flushes so far).",
+					maxCachedSerializers, flushes.incrementAndGet());
+		}
+
+		return new BoundedSerializerProvider(this, config, factory);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.SerializerProvider#_createAndCacheUntypedSerializer(java.lang.Class)
+	 */
+	@Override
+	protected JsonSerializer<Object> _createAndCacheUntypedSerializer(Class<?> rawType) throws JsonMappingException {
+		return checkLimit(super._createAndCacheUntypedSerializer(rawType));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.SerializerProvider#_createAndCacheUntypedSerializer(com.fasterxml.jackson.databind.JavaType)
+	 */
+	@Override
+	protected JsonSerializer<Object> _createAndCacheUntypedSerializer(JavaType type) throws JsonMappingException {
+		return checkLimit(super._createAndCacheUntypedSerializer(type));
+	}
+
+	/**
+	 * Flags the cache to be flushed on the next {@link #createInstance(SerializationConfig, SerializerFactory)} if the
+	 * limit is reached. Only called for newly added serializers as the count is obtained under the cache's lock.
+	 *
+	 * @param serializer the serializer just added.
+	 * @return the given serializer.
+	 */
+	private JsonSerializer<Object> checkLimit(JsonSerializer<Object> serializer) {
+
+		if (!limitReached.get() && cachedSerializersCount() >= maxCachedSerializers) {
+			limitReached.set(true);
+		}
+
+		return serializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see com.fasterxml.jackson.databind.ser.DefaultSerializerProvider#copy()
+	 */
+	@Override
+	public DefaultSerializerProvider copy() {
+		return new BoundedSerializerProvider(this);
+	}
+
+	/**
+	 * Returns the maximum number of root serializers cached.
+	 *
+	 * @return
+	 */
+	public int getMaxCachedSerializers() {
+		return maxCachedSerializers;
+	}
+
+	/**
+	 * Returns a counter incremented whenever any {@link BoundedSerializerProvider} drops its cached serializers, so that
+	 * caches derived from them, like {@link UnwrappingSerializers}, can be dropped as well.
+	 *
+	 * @return
+	 */
+	static long getFlushEpoch() {
+		return FLUSH_EPOCH.get();
+	}
+
+	/**
+	 * Returns how often the cached serializers were dropped because the limit was reached.
+	 *
+	 * @return
+	 */
+	public long getFlushCount() {
+		return flushes.get();
+	}
+}
@@ -52,6 +52,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 /**
  * Component to apply an {@link ObjectNode} to an existing domain object. This is effectively a best-effort workaround
@@ -112,7 +113,38 @@ public class DomainObjectReader {
 
 		try {
 
-			Object intermediate = mapper.readerFor(target.getClass()).readValue(source);
+			Object intermediate = mapper.readerFor(type).readValue(source);
+			return (T) mergeForPut(intermediate, target, mapper);
+
+		} catch (Exception o_O) {
+			throw new HttpMessageNotReadableException("Could not read payload!", o_O);
+		}
+	}
+
+	/**
+	 * Reads the given {@link InputStream} onto the given target object and applies PUT semantics. Binds the payload
+	 * directly into an intermediate instance of the target's type, i.e. without creating a {@link JsonNode} tree first.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param target must not be {@literal null}.
+	 * @param mapper must not be {@literal null}.
+	 * @return
+	 * @see #readPut(ObjectNode, Object, ObjectMapper)
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T readPut(InputStream source, T target, ObjectMapper mapper) {
+
+		Assert.notNull(source, "InputStream must not be null!");
+		Assert.notNull(target, "Existing object instance must not be null!");
+		Assert.notNull(mapper, "ObjectMapper must not be null!");
+
+		Class<? extends Object> type = target.getClass();
+
+		entities.getRequiredPersistentEntity(type);
+
+		try {
+
+			Object intermediate = mapper.readerFor(type).readValue(source);
 			return (T) mergeForPut(intermediate, target, mapper);
 
 		} catch (Exception o_O) {
@@ -381,7 +413,7 @@ public class DomainObjectReader {
 			JsonNode value = entry.getValue();
 			String key = entry.getKey();
 
-			Object mappedKey = mapper.readValue(quote(key), keyType);
+			Object mappedKey = mapper.treeToValue(new TextNode(key), keyType);
 			Object sourceValue = source.get(mappedKey);
 			TypeInformation<?> typeToMap = getTypeToMap(sourceValue, valueType);
 
@@ -512,16 +544,6 @@ public class DomainObjectReader {
 		return null;
 	}
 
-	/**
-	 * Surrounds the given source {@link String} with quotes so that they represent a valid JSON String.
-	 *
-	 * @param source can be {@literal null}.
-	 * @return
-	 */
-	private static String quote(String source) {
-		return source == null ? null : "\"".concat(source).concat("\"");
-	}
-
 	/**
 	 * Returns the raw type of the given {@link TypeInformation} or {@link Object} as fallback.
 	 *
@@ -16,23 +16,39 @@
 package org.springframework.data.rest.webmvc.json;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.context.support.MessageSourceAccessor;
 import org.springframework.data.rest.core.config.EnumTranslationConfiguration;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
- * Configuration to tweak enum serialization.
+ * Configuration to tweak enum serialization. Translations are resolved once per enum type and {@link Locale} and kept
+ * in lookup tables for both directions. As the {@link Locale} is derived from the client's request, tables are only
+ * kept for the first {@value #MAX_CACHED_LOCALES} locales seen, translations for all others are resolved on every
+ * access. Use {@link #clearCache()} to pick up changes to the underlying messages, e.g.
+ * after reloading a {@link org.springframework.context.support.ReloadableResourceBundleMessageSource}. The tables are
+ * dropped on every {@link ContextRefreshedEvent}, too.
  *
  * @author Oliver Gierke
  */
-public class EnumTranslator implements EnumTranslationConfiguration {
+public class EnumTranslator implements EnumTranslationConfiguration, ApplicationListener<ContextRefreshedEvent> {
+
+	static final int MAX_CACHED_LOCALES = 32;
 
 	private final MessageSourceAccessor messageSourceAccessor;
+	private final Map<Locale, Map<Class<?>, EnumTranslations>> translations;
 
 	private boolean enableDefaultTranslation;
 	private boolean parseEnumNameAsFallback;
@@ -47,6 +63,7 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 		Assert.notNull(messageSourceAccessor, "MessageSourceAccessor must not be null!");
 
 		this.messageSourceAccessor = messageSourceAccessor;
+		this.translations = new ConcurrentHashMap<>();
 		this.enableDefaultTranslation = true;
 		this.parseEnumNameAsFallback = true;
 	}
@@ -57,7 +74,9 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 	 */
 	@Override
 	public void setEnableDefaultTranslation(boolean enableDefaultTranslation) {
+
 		this.enableDefaultTranslation = enableDefaultTranslation;
+		clearCache();
 	}
 
 	/*
@@ -69,6 +88,25 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 		this.parseEnumNameAsFallback = parseEnumNameAsFallback;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		clearCache();
+	}
+
+	/**
+	 * Drops all translations resolved so far so that they're looked up from the {@link MessageSourceAccessor} again on
+	 * next access.
+	 *
+	 * @since 3.1
+	 */
+	public void clearCache() {
+		translations.clear();
+	}
+
 	/**
 	 * Resolves the given enum value into a {@link String} consulting the configured {@link MessageSourceAccessor}
 	 * potentially falling back to the default translation if configured. Returning the plain enum name if no resolution
@@ -81,24 +119,11 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 
 		Assert.notNull(value, "Enum value must not be null!");
 
-		String code = String.format("%s.%s", value.getDeclaringClass().getName(), value.name());
-
-		try {
-			return messageSourceAccessor.getMessage(code);
-		} catch (NoSuchMessageException o_O) {
-			return enableDefaultTranslation ? toDefault(value) : value.name();
-		}
+		return getTranslations(value.getDeclaringClass()).texts[value.ordinal()];
 	}
 
 	public List<String> getValues(Class<? extends Enum<?>> type) {
-
-		List<String> result = new ArrayList<String>();
-
-		for (Enum<?> value : type.getEnumConstants()) {
-			result.add(asText(value));
-		}
-
-		return result;
+		return new ArrayList<String>(Arrays.asList(getTranslations(type).texts));
 	}
 
 	/**
@@ -109,6 +134,7 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 	 * @param text can be {@literal null}
 	 * @return the resolved enum or {@literal null} if the resolution failed.
 	 */
+	@SuppressWarnings("unchecked")
 	public <T extends Enum<?>> T fromText(Class<T> type, String text) {
 
 		if (!StringUtils.hasText(text)) {
@@ -117,44 +143,98 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 
 		Assert.notNull(type, "Enum type must not be null!");
 
-		T value = resolveEnum(type, text, true);
+		EnumTranslations table = getTranslations(type);
+
+		// The default translation is only parsed if no explicit translation is available, i.e. if it's the actual text
+		Enum<?> value = table.byText.get(text);
 
 		if (value != null) {
-			return value;
+			return (T) value;
 		}
 
-		value = fromDefault(type, text);
+		return parseEnumNameAsFallback ? (T) table.byName.get(text) : null;
+	}
+
+	/**
+	 * Returns the {@link EnumTranslations} for the given enum type and the current {@link Locale}, resolving them if
+	 * necessary.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private EnumTranslations getTranslations(Class<?> type) {
+
+		Locale locale = LocaleContextHolder.getLocale();
+		Map<Class<?>, EnumTranslations> byType = translations.get(locale);
+
+		if (byType == null) {
 
-		// Only parse default translation if no explicit translation is available
-		if (value != null && enableDefaultTranslation && asText(value).equals(text)) {
-			return value;
+			if (translations.size() >= MAX_CACHED_LOCALES) {
+				return resolveTranslations(type);
+			}
+
+			byType = translations.computeIfAbsent(locale, it -> new ConcurrentHashMap<>());
 		}
 
-		return parseEnumNameAsFallback ? resolveEnum(type, text, false) : null;
+		EnumTranslations result = byType.get(type);
+
+		return result != null ? result : byType.computeIfAbsent(type, this::resolveTranslations);
+	}
+
+	/**
+	 * Returns the number of {@link Locale}s translations are currently cached for.
+	 *
+	 * @return
+	 */
+	int getCachedLocaleCount() {
+		return translations.size();
 	}
 
 	/**
-	 * Resolves the given {@link String} text into an enum value of the given type potentially trying to resolve it
-	 * through the configured {@link MessageSourceAccessor}.
+	 * Resolves the translations of all constants of the given enum type.
 	 *
 	 * @param type must not be {@literal null}.
-	 * @param text must not be {@literal null} or empty.
-	 * @param resolve whether to resolve the source {@link String} through the message source.
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
-	private <T extends Enum<?>> T resolveEnum(Class<T> type, String text, boolean resolve) {
+	private EnumTranslations resolveTranslations(Class<?> type) {
 
-		for (Enum<?> value : type.getEnumConstants()) {
+		Object[] constants = type.getEnumConstants();
 
-			String resolved = resolve ? asText(value) : value.name();
+		String[] texts = new String[constants.length];
+		Map<String, Enum<?>> byText = new HashMap<>(constants.length * 2);
+		Map<String, Enum<?>> byName = new HashMap<>(constants.length * 2);
 
-			if (resolved != null && resolved.equals(text)) {
-				return (T) value;
-			}
+		for (Object constant : constants) {
+
+			Enum<?> value = (Enum<?>) constant;
+			String text = resolveText(value);
+
+			texts[value.ordinal()] = text;
+
+			// First match wins in case multiple constants resolve to the same text
+			byText.putIfAbsent(text, value);
+			byName.put(value.name(), value);
 		}
 
-		return null;
+		return new EnumTranslations(texts, Collections.unmodifiableMap(byText), Collections.unmodifiableMap(byName));
+	}
+
+	/**
+	 * Resolves the text for the given enum value through the {@link MessageSourceAccessor}, falling back to the default
+	 * translation or the plain enum name.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	private String resolveText(Enum<?> value) {
+
+		String code = String.format("%s.%s", value.getDeclaringClass().getName(), value.name());
+
+		try {
+			return messageSourceAccessor.getMessage(code);
+		} catch (NoSuchMessageException o_O) {
+			return enableDefaultTranslation ? toDefault(value) : value.name();
+		}
 	}
 
 	/**
@@ -168,13 +248,21 @@ public class EnumTranslator implements EnumTranslationConfiguration {
 	}
 
 	/**
-	 * Tries to obtain an enum value assuming the given text is a default translation of the enum name.
+	 * Precomputed translations of the constants of a single enum type for a particular {@link Locale}.
 	 *
-	 * @param type must not be {@literal null}.
-	 * @param text must not be {@literal null} or empty.
-	 * @return
+	 * @since 3.1
 	 */
-	private <T extends Enum<?>> T fromDefault(Class<T> type, String text) {
-		return resolveEnum(type, text.toUpperCase(Locale.US).replaceAll(" ", "_"), true);
+	private static class EnumTranslations {
+
+		private final String[] texts;
+		private final Map<String, Enum<?>> byText;
+		private final Map<String, Enum<?>> byName;
+
+		EnumTranslations(String[] texts, Map<String, Enum<?>> byText, Map<String, Enum<?>> byName) {
+
+			this.texts = texts;
+			this.byText = byText;
+			this.byName = byName;
+		}
 	}
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.SerializerCacheConfiguration;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.DefaultSerializerProvider;
+
+/**
+ * Resolves the Jackson serializers and deserializers for all managed domain types and the serializers for their
+ * projections in the given {@link ObjectMapper}s on every {@link ContextRefreshedEvent}, so that the first requests
+ * don't have to pay for the introspection. Types are processed in parallel. Failures to resolve a type are logged and
+ * left to be reported by the first request rendering it.
+ *
+ * @since 3.1
+ * @see SerializerCacheConfiguration#setWarmUpOnStartup(boolean)
+ */
+public class JacksonCacheWarmer implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final Logger LOG = LoggerFactory.getLogger(JacksonCacheWarmer.class);
+
+	private final PersistentEntities entities;
+	private final ProjectionDefinitionConfiguration projections;
+	private final SerializerCacheConfiguration configuration;
+	private final List<ObjectMapper> mappers;
+
+	/**
+	 * Creates a new {@link JacksonCacheWarmer} for the given {@link PersistentEntities}, projections and
+	 * {@link ObjectMapper}s.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param projections must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 * @param mappers must not be {@literal null}.
+	 */
+	public JacksonCacheWarmer(PersistentEntities entities, ProjectionDefinitionConfiguration projections,
+			SerializerCacheConfiguration configuration, List<ObjectMapper> mappers) {
+
+		Assert.notNull(entities, "PersistentEntities must not be null!");
+		Assert.notNull(projections, "ProjectionDefinitionConfiguration must not be null!");
+		Assert.notNull(configuration, "SerializerCacheConfiguration must not be null!");
+		Assert.notNull(mappers, "ObjectMappers must not be null!");
+
+		this.entities = entities;
+		this.projections = projections;
+		this.configuration = configuration;
+		this.mappers = mappers;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.ApplicationListener#onApplicationEvent(org.springframework.context.ApplicationEvent)
+	 */
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+
+		if (configuration.isWarmUpOnStartup()) {
+			warmUp();
+		}
+	}
+
+	/**
+	 * Resolves the serializers and deserializers for all managed domain types and their projections.
+	 */
+	public void warmUp() {
+
+		long start = System.currentTimeMillis();
+
+		Set<Class<?>> domainTypes = entities.getManagedTypes().stream() //
+				.map(TypeInformation::getType) //
+				.collect(Collectors.toSet());
+
+		Set<Class<?>> projectionTypes = domainTypes.stream() //
+				.flatMap(it -> projections.getProjectionsFor(it).values().stream()) //
+				.collect(Collectors.toSet());
+
+		Stream.concat(domainTypes.stream(), projectionTypes.stream()).parallel().forEach(type -> {
+
+			boolean domainType = domainTypes.contains(type);
+
+			mappers.forEach(mapper -> warmUp(mapper, type, domainType));
+		});
+
+		if (LOG.isInfoEnabled()) {
+
+			LOG.info("Resolved Jackson serializers for {} domain types and {} projections in {} ms.", domainTypes.size(),
+					projectionTypes.size(), System.currentTimeMillis() - start);
+			LOG.info("Root serializers cached per ObjectMapper: {}, flushed: {}.", getCachedSerializerCounts(),
+					getSerializerCacheFlushCounts());
+		}
+	}
+
+	/**
+	 * Returns the number of root serializers currently cached by each of the {@link ObjectMapper}s.
+	 *
+	 * @return
+	 */
+	public List<Integer> getCachedSerializerCounts() {
+
+		return mappers.stream() //
+				.map(ObjectMapper::getSerializerProvider) //
+				.map(JacksonCacheWarmer::getCachedSerializerCount) //
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns how often the serializers cached by each of the {@link ObjectMapper}s were dropped because a
+	 * {@link BoundedSerializerProvider} reached its limit. Mappers not using a {@link BoundedSerializerProvider} report
+	 * {@literal 0}.
+	 *
+	 * @return
+	 */
+	public List<Long> getSerializerCacheFlushCounts() {
+
+		return mappers.stream() //
+				.map(ObjectMapper::getSerializerProvider) //
+				.map(JacksonCacheWarmer::getFlushCount) //
+				.collect(Collectors.toList());
+	}
+
+	private static void warmUp(ObjectMapper mapper, Class<?> type, boolean domainType) {
+
+		try {
+
+			mapper.canSerialize(type);
+
+			if (domainType) {
+				mapper.canDeserialize(mapper.constructType(type));
+			}
+
+		} catch (RuntimeException o_O) {
+			LOG.debug("Could not resolve Jackson serializers for {}!", type, o_O);
+		}
+	}
+
+	private static int getCachedSerializerCount(SerializerProvider provider) {
+
+		return provider instanceof DefaultSerializerProvider
+				? ((DefaultSerializerProvider) provider).cachedSerializersCount() : 0;
+	}
+
+	private static long getFlushCount(SerializerProvider provider) {
+
+		return provider instanceof BoundedSerializerProvider ? ((BoundedSerializerProvider) provider).getFlushCount()
+				: 0L;
+	}
+}
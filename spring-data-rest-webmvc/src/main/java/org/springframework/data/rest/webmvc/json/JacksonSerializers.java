@@ -16,7 +16,6 @@
 package org.springframework.data.rest.webmvc.json;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.data.rest.webmvc.json.JsonSchema.EnumProperty;
@@ -109,13 +108,10 @@ public class JacksonSerializers extends SimpleModule {
 		 * @see org.springframework.data.rest.webmvc.json.JsonSchemaPropertyCustomizer#customize(org.springframework.data.rest.webmvc.json.JsonSchema.JsonSchemaProperty, org.springframework.data.util.TypeInformation)
 		 */
 		@Override
+		@SuppressWarnings("unchecked")
 		public JsonSchemaProperty customize(JsonSchemaProperty property, TypeInformation<?> type) {
 
-			List<String> values = new ArrayList<String>();
-
-			for (Object value : type.getType().getEnumConstants()) {
-				values.add(translator.asText((Enum<?>) value));
-			}
+			List<String> values = translator.getValues((Class<? extends Enum<?>>) type.getType());
 
 			return ((EnumProperty) property).withValues(values);
 		}
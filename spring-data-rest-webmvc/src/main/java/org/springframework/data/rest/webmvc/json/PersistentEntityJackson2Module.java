@@ -27,6 +27,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,12 +45,14 @@ import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.core.support.LookupEntityCache;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.util.Java8PluginRegistry;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
 import org.springframework.data.rest.webmvc.PersistentEntityResource;
 import org.springframework.data.rest.webmvc.mapping.Associations;
 import org.springframework.data.rest.webmvc.mapping.LinkCollector;
+import org.springframework.data.rest.webmvc.support.ParallelResourceAssembly;
 import org.springframework.data.util.CastUtils;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
@@ -66,6 +69,7 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.Version;
 import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
@@ -73,6 +77,7 @@ import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializationConfig;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerBuilder;
 import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
 import com.fasterxml.jackson.databind.deser.SettableBeanProperty;
@@ -85,6 +90,7 @@ import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
 import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
@@ -105,6 +111,17 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	private static final Logger LOG = LoggerFactory.getLogger(PersistentEntityJackson2Module.class);
 	private static final TypeDescriptor URI_DESCRIPTOR = TypeDescriptor.valueOf(URI.class);
 
+	private final Associations associations;
+	private final PersistentEntities entities;
+	private final UriToEntityConverter converter;
+	private final RepositoryInvokerFactory factory;
+	private final LookupObjectSerializer lookupObjectSerializer;
+	private final ResourceProcessorInvoker invoker;
+	private final EmbeddedResourcesAssembler assembler;
+
+	private ParallelResourceAssembly assembly = ParallelResourceAssembly.NONE;
+	private LookupEntityCache lookupCache = LookupEntityCache.NONE;
+
 	/**
 	 * Creates a new {@link PersistentEntityJackson2Module} using the given {@link ResourceMappings}, {@link Repositories}
 	 * , {@link RepositoryRestConfiguration}, {@link UriToEntityConverter} and {@link SelfLinkProvider}.
@@ -130,27 +147,110 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		Assert.notNull(converter, "UriToEntityConverter must not be null!");
 		Assert.notNull(collector, "LinkCollector must not be null!");
 
-		NestedEntitySerializer serializer = new NestedEntitySerializer(entities, assembler, invoker);
+		this.associations = associations;
+		this.entities = entities;
+		this.converter = converter;
+		this.factory = factory;
+		this.lookupObjectSerializer = lookupObjectSerializer;
+		this.invoker = invoker;
+		this.assembler = assembler;
+
 		addSerializer(new PersistentEntityResourceSerializer(collector));
 		addSerializer(new ProjectionSerializer(collector, associations, invoker, false));
 		addSerializer(new ProjectionResourceContentSerializer(false));
 
+		registerModifiers();
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntityJackson2Module} using the given {@link ParallelResourceAssembly} to turn
+	 * elements of nested entity collections into resources.
+	 *
+	 * @param associations must not be {@literal null}.
+	 * @param entities must not be {@literal null}.
+	 * @param converter must not be {@literal null}.
+	 * @param collector must not be {@literal null}.
+	 * @param factory must not be {@literal null}.
+	 * @param lookupObjectSerializer must not be {@literal null}.
+	 * @param invoker must not be {@literal null}.
+	 * @param assembler must not be {@literal null}.
+	 * @param assembly must not be {@literal null}.
+	 * @since 3.1
+	 * @deprecated since 3.1, use the constructor without a {@link ParallelResourceAssembly} and
+	 *             {@link #setParallelResourceAssembly(ParallelResourceAssembly)} instead.
+	 */
+	@Deprecated
+	public PersistentEntityJackson2Module(Associations associations, PersistentEntities entities,
+			UriToEntityConverter converter, LinkCollector collector, RepositoryInvokerFactory factory,
+			LookupObjectSerializer lookupObjectSerializer, ResourceProcessorInvoker invoker,
+			EmbeddedResourcesAssembler assembler, ParallelResourceAssembly assembly) {
+
+		this(associations, entities, converter, collector, factory, lookupObjectSerializer, invoker, assembler);
+
+		setParallelResourceAssembly(assembly);
+	}
+
+	/**
+	 * Configures the {@link ParallelResourceAssembly} to turn elements of nested entity collections into resources.
+	 * Defaults to {@link ParallelResourceAssembly#NONE}. Has to be configured before the module is registered with an
+	 * {@link com.fasterxml.jackson.databind.ObjectMapper}.
+	 *
+	 * @param assembly must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setParallelResourceAssembly(ParallelResourceAssembly assembly) {
+
+		Assert.notNull(assembly, "ParallelResourceAssembly must not be null!");
+
+		this.assembly = assembly;
+
+		registerModifiers();
+	}
+
+	/**
+	 * Configures the {@link LookupEntityCache} to resolve entities of lookup types while reading payloads. Defaults to
+	 * {@link LookupEntityCache#NONE}. Has to be configured before the module is registered with an
+	 * {@link com.fasterxml.jackson.databind.ObjectMapper}.
+	 *
+	 * @param lookupCache must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setLookupEntityCache(LookupEntityCache lookupCache) {
+
+		Assert.notNull(lookupCache, "LookupEntityCache must not be null!");
+
+		this.lookupCache = lookupCache;
+
+		registerModifiers();
+	}
+
+	private void registerModifiers() {
+
+		NestedEntitySerializer serializer = new NestedEntitySerializer(entities, assembler, invoker, assembly);
+
 		setSerializerModifier(
 				new AssociationOmittingSerializerModifier(entities, associations, serializer, lookupObjectSerializer));
 		setDeserializerModifier(
-				new AssociationUriResolvingDeserializerModifier(entities, associations, converter, factory));
+				new AssociationUriResolvingDeserializerModifier(entities, associations, converter, factory, lookupCache));
 	}
 
 	/**
 	 * Custom {@link JsonSerializer} for {@link PersistentEntityResource}s to turn associations into {@link Link}s.
-	 * Delegates to standard {@link Resource} serialization afterwards.
+	 * Delegates to standard {@link Resource} serialization afterwards. Whether the content of a type is rendered as
+	 * scalar value is cached per type in a contextual instance per {@link SerializerProvider}, so that it's dropped
+	 * together with the serializers it was derived from.
 	 *
 	 * @author Oliver Gierke
 	 */
 	@SuppressWarnings("serial")
-	private static class PersistentEntityResourceSerializer extends StdSerializer<PersistentEntityResource> {
+	private static class PersistentEntityResourceSerializer extends StdSerializer<PersistentEntityResource>
+			implements ContextualSerializer {
+
+		// guards against an unbounded number of content types, e.g. generated proxy classes
+		private static final int MAX_CACHED_TYPES = 1024;
 
 		private final LinkCollector collector;
+		private final Map<Class<?>, Optional<JsonSerializer<Object>>> scalarSerializers;
 
 		/**
 		 * Creates a new {@link PersistentEntityResourceSerializer} using the given {@link PersistentEntities} and
@@ -163,6 +263,16 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			super(PersistentEntityResource.class);
 
 			this.collector = collector;
+			this.scalarSerializers = new ConcurrentHashMap<>();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.ContextualSerializer#createContextual(com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.BeanProperty)
+		 */
+		@Override
+		public JsonSerializer<?> createContextual(SerializerProvider provider, BeanProperty property) {
+			return new PersistentEntityResourceSerializer(collector);
 		}
 
 		/*
@@ -177,8 +287,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 			Object content = resource.getContent();
 
-			if (hasScalarSerializer(content, provider)) {
-				provider.defaultSerializeValue(content, jgen);
+			Optional<JsonSerializer<Object>> scalarSerializer = getScalarSerializer(content.getClass(), provider);
+
+			if (scalarSerializer.isPresent()) {
+				scalarSerializer.get().serialize(content, jgen, provider);
 				return;
 			}
 
@@ -191,15 +303,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				return;
 			}
 
-			Resource<Object> resourceToRender = new Resource<Object>(resource.getContent(), links) {
-
-				@JsonUnwrapped
-				public Iterable<?> getEmbedded() {
-					return resource.getEmbeddeds();
-				}
-			};
-
-			provider.defaultSerializeValue(resourceToRender, jgen);
+			provider.defaultSerializeValue(new EntityResource(content, links, resource.getEmbeddeds()), jgen);
 		}
 
 		private Links getLinks(PersistentEntityResource resource) {
@@ -214,10 +318,148 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			return TargetAware.class.isInstance(object) ? ((TargetAware) object).getTarget() : object;
 		}
 
-		private static boolean hasScalarSerializer(Object source, SerializerProvider provider) throws JsonMappingException {
+		/**
+		 * Returns the {@link JsonSerializer} to render content of the given type with if it's rendered as scalar value.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @param provider must not be {@literal null}.
+		 * @return the serializer or {@link Optional#empty()} if the content is rendered as object.
+		 * @throws JsonMappingException
+		 */
+		private Optional<JsonSerializer<Object>> getScalarSerializer(Class<?> type, SerializerProvider provider)
+				throws JsonMappingException {
+
+			Optional<JsonSerializer<Object>> result = scalarSerializers.get(type);
+
+			if (result != null) {
+				return result;
+			}
+
+			JsonSerializer<Object> serializer = provider.findValueSerializer(type);
+
+			result = serializer instanceof ToStringSerializer || serializer instanceof StdScalarSerializer //
+					? Optional.of(provider.findTypedValueSerializer(type, true, null)) //
+					: Optional.empty();
+
+			if (scalarSerializers.size() < MAX_CACHED_TYPES) {
+				scalarSerializers.putIfAbsent(type, result);
+			}
+
+			return result;
+		}
+	}
+
+	/**
+	 * The {@link Resource} actually rendered for a {@link PersistentEntityResource} not backed by a projection. Unwraps
+	 * the content through an {@link UnwrappingContentSerializer} and the embedded resources next to it.
+	 *
+	 * @since 3.1
+	 */
+	static class EntityResource extends Resource<Object> {
 
-			JsonSerializer<Object> serializer = provider.findValueSerializer(source.getClass());
-			return serializer instanceof ToStringSerializer || serializer instanceof StdScalarSerializer;
+		private final Iterable<?> embedded;
+
+		EntityResource(Object content, Iterable<Link> links, Iterable<?> embedded) {
+
+			super(content, links);
+
+			this.embedded = embedded;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.hateoas.Resource#getContent()
+		 */
+		@Override
+		@JsonUnwrapped
+		@JsonSerialize(using = UnwrappingContentSerializer.class)
+		public Object getContent() {
+			return super.getContent();
+		}
+
+		@JsonUnwrapped
+		public Iterable<?> getEmbedded() {
+			return embedded;
+		}
+	}
+
+	/**
+	 * {@link JsonSerializer} to unwrap the content of an {@link EntityResource} using the unwrapping serializer cached for
+	 * its type. Jackson's default handling of unwrapped properties of a dynamic type only remembers the serializers for
+	 * a handful of types and creates a new unwrapping serializer for every instance of any other type.
+	 *
+	 * @since 3.1
+	 */
+	@SuppressWarnings("serial")
+	static class UnwrappingContentSerializer extends StdSerializer<Object> {
+
+		private final UnwrappingSerializers serializers;
+		private final boolean unwrapping;
+
+		/**
+		 * Creates a new {@link UnwrappingContentSerializer} in non-unwrapping mode. Used by Jackson to instantiate the
+		 * serializer declared on {@link EntityResource#getContent()}.
+		 */
+		public UnwrappingContentSerializer() {
+			this(new UnwrappingSerializers(), false);
+		}
+
+		private UnwrappingContentSerializer(UnwrappingSerializers serializers, boolean unwrapping) {
+
+			super(Object.class);
+
+			this.serializers = serializers;
+			this.unwrapping = unwrapping;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.ser.std.StdSerializer#serialize(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider)
+		 */
+		@Override
+		public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+
+			if (!unwrapping) {
+				provider.defaultSerializeValue(value, gen);
+				return;
+			}
+
+			serializers.getUnwrappingSerializer(value.getClass(), provider).serialize(value, gen, provider);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#serializeWithType(java.lang.Object, com.fasterxml.jackson.core.JsonGenerator, com.fasterxml.jackson.databind.SerializerProvider, com.fasterxml.jackson.databind.jsontype.TypeSerializer)
+		 */
+		@Override
+		public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider,
+				TypeSerializer typeSerializer) throws IOException {
+
+			if (!unwrapping) {
+				super.serializeWithType(value, gen, provider, typeSerializer);
+				return;
+			}
+
+			serializers.getUnwrappingSerializer(value.getClass(), provider) //
+					.serializeWithType(value, gen, provider, typeSerializer);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#isUnwrappingSerializer()
+		 */
+		@Override
+		public boolean isUnwrappingSerializer() {
+			return unwrapping;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see com.fasterxml.jackson.databind.JsonSerializer#unwrappingSerializer(com.fasterxml.jackson.databind.util.NameTransformer)
+		 */
+		@Override
+		public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper) {
+			return new UnwrappingContentSerializer(new UnwrappingSerializers(unwrapper), true);
 		}
 	}
 
@@ -327,14 +569,21 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		private final PersistentEntities entities;
 		private final EmbeddedResourcesAssembler assembler;
 		private final ResourceProcessorInvoker invoker;
+		private final ParallelResourceAssembly assembly;
 
 		public NestedEntitySerializer(PersistentEntities entities, EmbeddedResourcesAssembler assembler,
 				ResourceProcessorInvoker invoker) {
+			this(entities, assembler, invoker, ParallelResourceAssembly.NONE);
+		}
+
+		public NestedEntitySerializer(PersistentEntities entities, EmbeddedResourcesAssembler assembler,
+				ResourceProcessorInvoker invoker, ParallelResourceAssembly assembly) {
 
 			super(Object.class);
 			this.entities = entities;
 			this.assembler = assembler;
 			this.invoker = invoker;
+			this.assembly = assembly;
 		}
 
 		/*
@@ -347,11 +596,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 			if (value instanceof Collection) {
 
 				Collection<?> source = (Collection<?>) value;
-				List<Object> resources = new ArrayList<Object>();
-
-				for (Object element : source) {
-					resources.add(toResource(element));
-				}
+				List<Resource<Object>> resources = assembly.map(source, this::toResource);
 
 				provider.defaultSerializeValue(resources, gen);
 
@@ -405,6 +650,12 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		private final @NonNull Associations associationLinks;
 		private final @NonNull UriToEntityConverter converter;
 		private final @NonNull RepositoryInvokerFactory factory;
+		private final @NonNull LookupEntityCache lookupCache;
+
+		public AssociationUriResolvingDeserializerModifier(PersistentEntities entities, Associations associationLinks,
+				UriToEntityConverter converter, RepositoryInvokerFactory factory) {
+			this(entities, associationLinks, converter, factory, LookupEntityCache.NONE);
+		}
 
 		/*
 		 * (non-Javadoc)
@@ -431,7 +682,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 					if (associationLinks.isLookupType(persistentProperty)) {
 
 						RepositoryInvokingDeserializer repositoryInvokingDeserializer = new RepositoryInvokingDeserializer(factory,
-								persistentProperty);
+								persistentProperty, lookupCache);
 						JsonDeserializer<?> deserializer = wrapIfCollection(persistentProperty, repositoryInvokingDeserializer,
 								config);
 
@@ -541,6 +792,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		private final LinkCollector collector;
 		private final Associations associations;
 		private final ResourceProcessorInvoker invoker;
+		private final UnwrappingSerializers serializers;
 		private final boolean unwrapping;
 
 		/**
@@ -554,12 +806,18 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		 */
 		private ProjectionSerializer(LinkCollector collector, Associations mappings, ResourceProcessorInvoker invoker,
 				boolean unwrapping) {
+			this(collector, mappings, invoker, new UnwrappingSerializers(), unwrapping);
+		}
+
+		private ProjectionSerializer(LinkCollector collector, Associations mappings, ResourceProcessorInvoker invoker,
+				UnwrappingSerializers serializers, boolean unwrapping) {
 
 			super(TargetAware.class);
 
 			this.collector = collector;
 			this.associations = mappings;
 			this.invoker = invoker;
+			this.serializers = serializers;
 			this.unwrapping = unwrapping;
 		}
 
@@ -575,10 +833,8 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 				jgen.writeStartObject();
 			}
 
-			provider.//
-					findValueSerializer(ProjectionResource.class, null).//
-					unwrappingSerializer(null).//
-					serialize(toResource(value), jgen, provider);
+			serializers.getUnwrappingSerializer(ProjectionResource.class, provider) //
+					.serialize(toResource(value), jgen, provider);
 
 			if (!unwrapping) {
 				jgen.writeEndObject();
@@ -600,7 +856,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		 */
 		@Override
 		public JsonSerializer<TargetAware> unwrappingSerializer(NameTransformer unwrapper) {
-			return new ProjectionSerializer(collector, associations, invoker, true);
+			return new ProjectionSerializer(collector, associations, invoker, serializers, true);
 		}
 
 		/**
@@ -654,6 +910,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 	@SuppressWarnings("serial")
 	private static class ProjectionResourceContentSerializer extends StdSerializer<ProjectionResourceContent> {
 
+		private final UnwrappingSerializers serializers;
 		private final boolean unwrapping;
 
 		/**
@@ -662,8 +919,14 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		 * @param unwrapping whether to expose the unwrapping state.
 		 */
 		public ProjectionResourceContentSerializer(boolean unwrapping) {
+			this(new UnwrappingSerializers(), unwrapping);
+		}
+
+		private ProjectionResourceContentSerializer(UnwrappingSerializers serializers, boolean unwrapping) {
 
 			super(ProjectionResourceContent.class);
+
+			this.serializers = serializers;
 			this.unwrapping = unwrapping;
 		}
 
@@ -675,10 +938,8 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		public void serialize(ProjectionResourceContent value, JsonGenerator jgen, SerializerProvider provider)
 				throws IOException, JsonGenerationException {
 
-			provider.//
-					findValueSerializer(value.getProjectionInterface(), null).//
-					unwrappingSerializer(null).//
-					serialize(value.getProjection(), jgen, provider);
+			serializers.getUnwrappingSerializer(value.getProjectionInterface(), provider) //
+					.serialize(value.getProjection(), jgen, provider);
 		}
 
 		/*
@@ -696,7 +957,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		 */
 		@Override
 		public JsonSerializer<ProjectionResourceContent> unwrappingSerializer(NameTransformer unwrapper) {
-			return new ProjectionResourceContentSerializer(true);
+			return new ProjectionResourceContentSerializer(serializers, true);
 		}
 	}
 
@@ -750,11 +1011,15 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 		private static final long serialVersionUID = -3033458643050330913L;
 		private final RepositoryInvoker invoker;
+		private final LookupEntityCache cache;
 
-		private RepositoryInvokingDeserializer(RepositoryInvokerFactory factory, PersistentProperty<?> property) {
+		private RepositoryInvokingDeserializer(RepositoryInvokerFactory factory, PersistentProperty<?> property,
+				LookupEntityCache cache) {
 
 			super(property.getActualType());
+
 			this.invoker = factory.getInvokerFor(_valueClass);
+			this.cache = cache;
 		}
 
 		/*
@@ -763,7 +1028,10 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		 */
 		@Override
 		public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException, JsonProcessingException {
-			return invoker.invokeFindById(p.getValueAsString());
+
+			String key = p.getValueAsString();
+
+			return cache.get(_valueClass, key, () -> invoker.invokeFindById(key).orElse(null));
 		}
 	}
 
@@ -772,6 +1040,7 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 
 		private static final long serialVersionUID = -3033458643050330913L;
 		private final Java8PluginRegistry<EntityLookup<?>, Class<?>> lookups;
+		private final Map<Class<?>, EntityLookup<Object>> lookupsByType = new ConcurrentHashMap<>();
 
 		/*
 		 * (non-Javadoc)
@@ -796,12 +1065,30 @@ public class PersistentEntityJackson2Module extends SimpleModule {
 		}
 
 		private String getLookupKey(Object value) {
+			return getLookupFor(value.getClass()).getResourceIdentifier(value).toString();
+		}
 
-			Optional<EntityLookup<Object>> map = lookups.getPluginFor(value.getClass()).map(CastUtils::cast);
+		/**
+		 * Returns the {@link EntityLookup} for the given type, resolving it from the plugin registry only once per type.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return
+		 */
+		private EntityLookup<Object> getLookupFor(Class<?> type) {
+
+			EntityLookup<Object> lookup = lookupsByType.get(type);
 
-			return map
-					.orElseThrow(() -> new IllegalArgumentException("No EntityLookup found for " + value.getClass().getName()))
-					.getResourceIdentifier(value).toString();
+			if (lookup != null) {
+				return lookup;
+			}
+
+			return lookupsByType.computeIfAbsent(type, it -> {
+
+				Optional<EntityLookup<Object>> candidate = lookups.getPluginFor(it).map(CastUtils::cast);
+
+				return candidate
+						.orElseThrow(() -> new IllegalArgumentException("No EntityLookup found for " + it.getName()));
+			});
 		}
 	}
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+/**
+ * Cache for the unwrapping variants of the {@link JsonSerializer}s a {@link SerializerProvider} resolves for a type.
+ * {@link JsonSerializer#unwrappingSerializer(NameTransformer)} creates a new serializer, renaming all properties, on
+ * every invocation. The cache is keyed by the resolved serializer instance so that the serializers of different
+ * {@link ObjectMapper}s never get mixed up. It's dropped whenever a {@link BoundedSerializerProvider} drops its
+ * serializers, as their keys would never be looked up again.
+ *
+ * @since 3.1
+ */
+class UnwrappingSerializers {
+
+	// guards against serializers that get contextualized into a new instance on every lookup
+	private static final int MAX_ENTRIES = 1024;
+
+	private final NameTransformer transformer;
+	private final Map<JsonSerializer<?>, JsonSerializer<Object>> serializers;
+
+	private volatile long flushEpoch;
+
+	/**
+	 * Creates a new {@link UnwrappingSerializers} creating unwrapping serializers without a {@link NameTransformer}.
+	 */
+	UnwrappingSerializers() {
+		this(null);
+	}
+
+	/**
+	 * Creates a new {@link UnwrappingSerializers} creating unwrapping serializers using the given
+	 * {@link NameTransformer}.
+	 *
+	 * @param transformer can be {@literal null}.
+	 */
+	UnwrappingSerializers(NameTransformer transformer) {
+
+		this.transformer = transformer;
+		this.serializers = new ConcurrentHashMap<>();
+		this.flushEpoch = BoundedSerializerProvider.getFlushEpoch();
+	}
+
+	/**
+	 * Returns the unwrapping variant of the {@link JsonSerializer} the given {@link SerializerProvider} uses for the given
+	 * type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @param provider must not be {@literal null}.
+	 * @return
+	 * @throws JsonMappingException if no serializer can be resolved for the given type.
+	 */
+	JsonSerializer<Object> getUnwrappingSerializer(Class<?> type, SerializerProvider provider)
+			throws JsonMappingException {
+
+		long currentEpoch = BoundedSerializerProvider.getFlushEpoch();
+
+		if (currentEpoch != flushEpoch) {
+			serializers.clear();
+			flushEpoch = currentEpoch;
+		}
+
+		JsonSerializer<Object> serializer = provider.findValueSerializer(type, null);
+		JsonSerializer<Object> unwrapping = serializers.get(serializer);
+
+		if (unwrapping != null) {
+			return unwrapping;
+		}
+
+		unwrapping = serializer.unwrappingSerializer(transformer);
+
+		if (serializers.size() < MAX_ENTRIES) {
+			serializers.putIfAbsent(serializer, unwrapping);
+		}
+
+		return unwrapping;
+	}
+}
@@ -35,6 +35,9 @@ import org.springframework.data.rest.core.Path;
 import org.springframework.data.rest.core.mapping.ResourceMapping;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
 import org.springframework.hateoas.Link;
 import org.springframework.hateoas.Links;
 import org.springframework.util.Assert;
@@ -49,6 +52,7 @@ public class LinkCollector {
 	private final PersistentEntities entities;
 	private final Associations associationLinks;
 	private final SelfLinkProvider links;
+	private final RepositoryRestInstrumentation instrumentation;
 
 	/**
 	 * Creates a new {@link PersistentEntities}, {@link SelfLinkProvider} and {@link Associations}.
@@ -58,14 +62,31 @@ public class LinkCollector {
 	 * @param associationLinks must not be {@literal null}.
 	 */
 	public LinkCollector(PersistentEntities entities, SelfLinkProvider linkProvider, Associations associationLinks) {
+		this(entities, linkProvider, associationLinks, RepositoryRestInstrumentation.NONE);
+	}
+
+	/**
+	 * Creates a new {@link PersistentEntities}, {@link SelfLinkProvider}, {@link Associations} and
+	 * {@link RepositoryRestInstrumentation} to report the link collection to.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param linkProvider must not be {@literal null}.
+	 * @param associationLinks must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public LinkCollector(PersistentEntities entities, SelfLinkProvider linkProvider, Associations associationLinks,
+			RepositoryRestInstrumentation instrumentation) {
 
 		Assert.notNull(entities, "PersistentEntities must not be null!");
 		Assert.notNull(linkProvider, "SelfLinkProvider must not be null!");
 		Assert.notNull(associationLinks, "AssociationLinks must not be null!");
+		Assert.notNull(instrumentation, "RepositoryRestInstrumentation must not be null!");
 
 		this.links = linkProvider;
 		this.entities = entities;
 		this.associationLinks = associationLinks;
+		this.instrumentation = instrumentation;
 	}
 
 	/**
@@ -90,6 +111,17 @@ public class LinkCollector {
 		Assert.notNull(object, "Object must not be null!");
 		Assert.notNull(existingLinks, "Existing links must not be null!");
 
+		Timing timing = instrumentation.start(Phase.LINK_COLLECTION);
+
+		try {
+			return doGetLinksFor(object, existingLinks);
+		} finally {
+			timing.stop(object.getClass());
+		}
+	}
+
+	private Links doGetLinksFor(Object object, List<Link> existingLinks) {
+
 		Links links = new Links(existingLinks);
 		Link selfLink = createSelfLink(object, links);
 
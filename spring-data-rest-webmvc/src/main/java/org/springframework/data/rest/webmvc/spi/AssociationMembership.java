@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Optional;
+
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * SPI to check whether an item is contained in a collection or map association of an aggregate without loading the
+ * entire association, e.g. by issuing a targeted query against the store.
+ *
+ * @since 3.1
+ */
+public interface AssociationMembership {
+
+	/**
+	 * {@link AssociationMembership} that is never able to determine the membership.
+	 */
+	AssociationMembership NONE = (owner, association, item) -> Optional.empty();
+
+	/**
+	 * Returns whether the given item is contained in the given association of the given owner.
+	 *
+	 * @param owner the aggregate owning the association, will never be {@literal null}.
+	 * @param association the collection or map property, will never be {@literal null}.
+	 * @param item the item to look for, will never be {@literal null}.
+	 * @return the membership or {@link Optional#empty()} if it can't be determined more efficiently than by inspecting
+	 *         the association in memory.
+	 */
+	Optional<Boolean> isMember(Object owner, PersistentProperty<?> association, Object item);
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * SPI to read a single {@link Page} of a collection association of an aggregate without loading the entire
+ * association, e.g. by querying the items through the inverse side of the association.
+ *
+ * @since 3.1
+ */
+public interface AssociationPaging {
+
+	/**
+	 * {@link AssociationPaging} that is never able to read a {@link Page} of an association.
+	 */
+	AssociationPaging NONE = (owner, association, pageable) -> Optional.empty();
+
+	/**
+	 * Returns the {@link Page} of the given collection association of the given owner.
+	 *
+	 * @param owner the aggregate owning the association, will never be {@literal null}.
+	 * @param association the collection property, will never be {@literal null}.
+	 * @param pageable the {@link Pageable} to apply, will never be {@literal null} or unpaged. If it's unsorted, the
+	 *          items have to be returned in the order the association keeps them in, which has to be stable across
+	 *          pages.
+	 * @return the {@link Page} or {@link Optional#empty()} if it can't be read more efficiently than by inspecting the
+	 *         association in memory.
+	 */
+	Optional<Page<Object>> getPage(Object owner, PersistentProperty<?> association, Pageable pageable);
+}
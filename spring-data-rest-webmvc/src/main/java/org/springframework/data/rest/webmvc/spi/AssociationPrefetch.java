@@ -0,0 +1,43 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.util.Collection;
+
+import org.springframework.data.mapping.PersistentProperty;
+
+/**
+ * SPI to load an association for a batch of aggregates at once before their resources are assembled, e.g. to avoid
+ * issuing a query per aggregate when rendering the excerpt projections of the associations of a page.
+ *
+ * @since 3.1
+ */
+public interface AssociationPrefetch {
+
+	/**
+	 * {@link AssociationPrefetch} that doesn't load anything upfront.
+	 */
+	AssociationPrefetch NONE = (owners, associations) -> {};
+
+	/**
+	 * Loads the given associations for all given owners. Implementations are free to skip owners or associations they
+	 * can't load more efficiently than by accessing the association on each owner individually.
+	 *
+	 * @param owners the aggregates owning the associations, will never be {@literal null}.
+	 * @param associations the association properties to load, will never be {@literal null}.
+	 */
+	void prefetch(Collection<?> owners, Collection<PersistentProperty<?>> associations);
+}
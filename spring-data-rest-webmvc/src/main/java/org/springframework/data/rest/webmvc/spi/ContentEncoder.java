@@ -0,0 +1,48 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.spi;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * SPI to add content codings the exporter can compress response bodies with. Register an implementation as Spring
+ * bean to make it available in addition to the {@code gzip} and {@code deflate} codings provided by the JDK.
+ * Registered implementations are preferred over the JDK ones if a client accepts both with the same quality.
+ *
+ * @since 3.1
+ * @see org.springframework.data.rest.core.config.CompressionConfiguration
+ */
+public interface ContentEncoder {
+
+	/**
+	 * Returns the name of the content coding as used in the {@code Accept-Encoding} and {@code Content-Encoding}
+	 * headers, e.g. {@code br}.
+	 *
+	 * @return must not be {@literal null}.
+	 */
+	String getName();
+
+	/**
+	 * Returns an {@link OutputStream} encoding everything written to it into the given target. The returned stream is
+	 * closed once the response body is written completely, closing it must not close the target.
+	 *
+	 * @param target will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 * @throws IOException
+	 */
+	OutputStream encode(OutputStream target) throws IOException;
+}
@@ -0,0 +1,248 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentEntity;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.FetchPlan;
+import org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link FetchPlanAwareRepositoryInvoker} handing the properties of a {@link FetchPlan} to an
+ * {@link AssociationPrefetch} for all instances returned by the delegate {@link RepositoryInvoker}. {@link FetchPlan}s
+ * for other types than the one managed by the repository are ignored.
+ *
+ * @since 3.1
+ */
+public class AssociationPrefetchingRepositoryInvoker implements FetchPlanAwareRepositoryInvoker {
+
+	private final RepositoryInvoker delegate;
+	private final PersistentEntity<?, ?> entity;
+	private final AssociationPrefetch prefetch;
+
+	/**
+	 * Creates a new {@link AssociationPrefetchingRepositoryInvoker} for the given delegate {@link RepositoryInvoker},
+	 * {@link PersistentEntity} of the domain type managed by the repository and {@link AssociationPrefetch}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param prefetch must not be {@literal null}.
+	 */
+	public AssociationPrefetchingRepositoryInvoker(RepositoryInvoker delegate, PersistentEntity<?, ?> entity,
+			AssociationPrefetch prefetch) {
+
+		Assert.notNull(delegate, "Delegate RepositoryInvoker must not be null!");
+		Assert.notNull(entity, "PersistentEntity must not be null!");
+		Assert.notNull(prefetch, "AssociationPrefetch must not be null!");
+
+		this.delegate = delegate;
+		this.entity = entity;
+		this.prefetch = prefetch;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Pageable pageable, FetchPlan plan) {
+		return fetch(delegate.invokeFindAll(pageable), plan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Sort sort, FetchPlan plan) {
+		return fetch(delegate.invokeFindAll(sort), plan);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindById(java.lang.Object, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public <T> Optional<T> invokeFindById(Object id, FetchPlan plan) {
+
+		Optional<T> result = delegate.invokeFindById(id);
+		result.ifPresent(it -> fetch(it, plan));
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort, FetchPlan plan) {
+
+		Optional<Object> result = delegate.invokeQueryMethod(method, parameters, pageable, sort);
+		result.ifPresent(it -> fetch(it, plan));
+
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindById(java.lang.Object)
+	 */
+	@Override
+	public <T> Optional<T> invokeFindById(Object id) {
+		return delegate.invokeFindById(id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort) {
+		return delegate.invokeQueryMethod(method, parameters, pageable, sort);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasDeleteMethod()
+	 */
+	@Override
+	public boolean hasDeleteMethod() {
+		return delegate.hasDeleteMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindAllMethod()
+	 */
+	@Override
+	public boolean hasFindAllMethod() {
+		return delegate.hasFindAllMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindOneMethod()
+	 */
+	@Override
+	public boolean hasFindOneMethod() {
+		return delegate.hasFindOneMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasSaveMethod()
+	 */
+	@Override
+	public boolean hasSaveMethod() {
+		return delegate.hasSaveMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeDeleteById(java.lang.Object)
+	 */
+	@Override
+	public void invokeDeleteById(Object id) {
+		delegate.invokeDeleteById(id);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Pageable pageable) {
+		return delegate.invokeFindAll(pageable);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Sort sort) {
+		return delegate.invokeFindAll(sort);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeSave(java.lang.Object)
+	 */
+	@Override
+	public <T> T invokeSave(T object) {
+		return delegate.invokeSave(object);
+	}
+
+	/**
+	 * Hands the properties of the given {@link FetchPlan} to the {@link AssociationPrefetch} for the given result, i.e.
+	 * all elements of it if it's an {@link Iterable} or the result itself otherwise.
+	 *
+	 * @param result can be {@literal null}.
+	 * @param plan must not be {@literal null}.
+	 * @return the given result.
+	 */
+	private <T> T fetch(T result, FetchPlan plan) {
+
+		Assert.notNull(plan, "FetchPlan must not be null!");
+
+		if (result == null || plan.isEmpty() || !entity.getType().equals(plan.getDomainType())) {
+			return result;
+		}
+
+		List<PersistentProperty<?>> properties = new ArrayList<>(plan.getProperties().size());
+
+		for (String name : plan.getProperties()) {
+
+			PersistentProperty<?> property = entity.getPersistentProperty(name);
+
+			if (property != null) {
+				properties.add(property);
+			}
+		}
+
+		if (properties.isEmpty()) {
+			return result;
+		}
+
+		if (result instanceof Iterable) {
+
+			List<Object> owners = new ArrayList<>();
+			((Iterable<?>) result).forEach(owners::add);
+
+			prefetch.prefetch(owners, properties);
+
+		} else {
+			prefetch.prefetch(Collections.singletonList(result), properties);
+		}
+
+		return result;
+	}
+}
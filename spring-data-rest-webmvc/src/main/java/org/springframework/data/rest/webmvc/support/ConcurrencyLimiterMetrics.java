@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.data.rest.core.support.ConcurrencyLimiter;
+import org.springframework.data.rest.core.support.RepositoryConcurrencyLimits;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} exposing the usage of the {@link ConcurrencyLimiter}s of {@link RepositoryConcurrencyLimits}.
+ * Every limiter, i.e. every repository or query method a limit is configured for, gets a gauge of the executions in
+ * progress named {@value #ACTIVE_NAME}, a gauge of its limit named {@value #LIMIT_NAME} and a counter of the rejected
+ * executions named {@value #REJECTIONS_NAME}, all tagged with the name of the limiter. As limiters are created lazily,
+ * the meters of a limiter are registered once it's used for the first time.
+ *
+ * @since 3.1
+ * @see MicrometerRepositoryRestInstrumentation
+ */
+public class ConcurrencyLimiterMetrics implements MeterBinder {
+
+	public static final String ACTIVE_NAME = "spring.data.rest.concurrency.active";
+	public static final String LIMIT_NAME = "spring.data.rest.concurrency.limit";
+	public static final String REJECTIONS_NAME = "spring.data.rest.concurrency.rejections";
+
+	private final RepositoryConcurrencyLimits limits;
+
+	/**
+	 * Creates a new {@link ConcurrencyLimiterMetrics} for the given {@link RepositoryConcurrencyLimits}.
+	 *
+	 * @param limits must not be {@literal null}.
+	 */
+	public ConcurrencyLimiterMetrics(RepositoryConcurrencyLimits limits) {
+
+		Assert.notNull(limits, "RepositoryConcurrencyLimits must not be null!");
+
+		this.limits = limits;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see io.micrometer.core.instrument.binder.MeterBinder#bindTo(io.micrometer.core.instrument.MeterRegistry)
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null!");
+
+		limits.addLimiterCallback(it -> register(it, registry));
+	}
+
+	private static void register(ConcurrencyLimiter limiter, MeterRegistry registry) {
+
+		Tags tags = Tags.of("limiter", limiter.getName());
+
+		Gauge.builder(ACTIVE_NAME, limiter, ConcurrencyLimiter::getActiveCount) //
+				.tags(tags) //
+				.description("The number of repository invocations in progress") //
+				.register(registry);
+
+		Gauge.builder(LIMIT_NAME, limiter, ConcurrencyLimiter::getLimit) //
+				.tags(tags) //
+				.description("The maximum number of concurrent repository invocations") //
+				.register(registry);
+
+		FunctionCounter.builder(REJECTIONS_NAME, limiter, ConcurrencyLimiter::getRejectedCount) //
+				.tags(tags) //
+				.description("The number of repository invocations rejected as the limit was reached") //
+				.register(registry);
+	}
+}
@@ -17,7 +17,10 @@ package org.springframework.data.rest.webmvc.support;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.Optional;
+
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.util.Assert;
@@ -61,4 +64,20 @@ public class DefaultExcerptProjector implements ExcerptProjector {
 		ResourceMetadata metadata = mappings.getMetadataFor(type);
 		return metadata == null ? false : metadata.getExcerptProjection() != null;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.ExcerptProjector#getExcerptProjectionInformation(java.lang.Class)
+	 */
+	@Override
+	public Optional<ProjectionInformation> getExcerptProjectionInformation(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		ResourceMetadata metadata = mappings.getMetadataFor(type);
+		Class<?> projection = metadata == null ? null : metadata.getExcerptProjection();
+
+		return projection == null || projection.equals(type) ? Optional.empty()
+				: Optional.of(factory.getProjectionInformation(projection));
+	}
 }
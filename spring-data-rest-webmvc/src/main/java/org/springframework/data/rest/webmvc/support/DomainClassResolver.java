@@ -20,6 +20,8 @@ import lombok.RequiredArgsConstructor;
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.springframework.data.repository.support.Repositories;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
@@ -58,7 +60,8 @@ public class DomainClassResolver {
 		Assert.notNull(webRequest, "NativeWebRequest must not be null!");
 
 		String lookupPath = baseUri.getRepositoryLookupPath(webRequest);
-		String repositoryKey = UriUtils.findMappingVariable("repository", method, lookupPath);
+		Map<String, String> variables = UriUtils.findMappingVariables(method, lookupPath);
+		String repositoryKey = variables.get("repository");
 
 		if (!StringUtils.hasText(repositoryKey)) {
 
@@ -78,10 +81,29 @@ public class DomainClassResolver {
 			ResourceMetadata mapping = mappings.getMetadataFor(domainType);
 
 			if (mapping.getPath().matches(repositoryKey) && mapping.isExported()) {
-				return domainType;
+				return resolveAssociationTarget(mapping, variables.get("property")).orElse(domainType);
 			}
 		}
 
 		return null;
 	}
+
+	/**
+	 * Returns the target type of the association referred to by the {@code property} mapping variable, as requests to
+	 * association resources are about the associated items rather than the aggregate owning the association.
+	 *
+	 * @param mapping must not be {@literal null}.
+	 * @param property can be {@literal null}.
+	 * @return
+	 */
+	private Optional<Class<?>> resolveAssociationTarget(ResourceMetadata mapping, String property) {
+
+		if (!StringUtils.hasText(property)) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(mapping.getProperty(property)) //
+				.<Class<?>> map(it -> it.getProperty().getActualType()) //
+				.filter(repositories::hasRepositoryFor);
+	}
 }
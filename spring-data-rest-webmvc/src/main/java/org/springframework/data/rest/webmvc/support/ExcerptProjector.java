@@ -15,6 +15,10 @@
  */
 package org.springframework.data.rest.webmvc.support;
 
+import java.util.Optional;
+
+import org.springframework.data.projection.ProjectionInformation;
+
 /**
  * Interface for a component that can provide excerpt projections.
  *
@@ -40,4 +44,17 @@ public interface ExcerptProjector {
 	 * @return
 	 */
 	boolean hasExcerptProjection(Class<?> type);
+
+	/**
+	 * Returns the {@link ProjectionInformation} of the projection {@link #projectExcerpt(Object)} applies to instances of
+	 * the given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link ProjectionInformation} or {@link Optional#empty()} if the instances aren't projected or the
+	 *         projection is unknown.
+	 * @since 3.1
+	 */
+	default Optional<ProjectionInformation> getExcerptProjectionInformation(Class<?> type) {
+		return Optional.empty();
+	}
 }
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.FetchPlan;
+import org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
+import org.springframework.util.Assert;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@link RepositoryInvoker} reporting all repository invocations as {@link Phase#REPOSITORY_INVOCATION} to a
+ * {@link RepositoryRestInstrumentation}. {@link FetchPlan}s are handed to the delegate if it's a
+ * {@link FetchPlanAwareRepositoryInvoker}, so that the time spent fetching them is included.
+ *
+ * @since 3.1
+ */
+public class InstrumentedRepositoryInvoker implements FetchPlanAwareRepositoryInvoker {
+
+	private final RepositoryInvoker delegate;
+	private final Class<?> domainType;
+	private final RepositoryRestInstrumentation instrumentation;
+
+	/**
+	 * Creates a new {@link InstrumentedRepositoryInvoker} for the given delegate {@link RepositoryInvoker}, domain type
+	 * and {@link RepositoryRestInstrumentation}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param domainType must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 */
+	public InstrumentedRepositoryInvoker(RepositoryInvoker delegate, Class<?> domainType,
+			RepositoryRestInstrumentation instrumentation) {
+
+		Assert.notNull(delegate, "Delegate RepositoryInvoker must not be null!");
+		Assert.notNull(domainType, "Domain type must not be null!");
+		Assert.notNull(instrumentation, "RepositoryRestInstrumentation must not be null!");
+
+		this.delegate = delegate;
+		this.domainType = domainType;
+		this.instrumentation = instrumentation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindById(java.lang.Object)
+	 */
+	@Override
+	public <T> Optional<T> invokeFindById(Object id) {
+		return timed(() -> delegate.invokeFindById(id));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort) {
+
+		return timed(() -> delegate.invokeQueryMethod(method, parameters, pageable, sort));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Pageable pageable, FetchPlan plan) {
+		return timed(() -> FetchPlanAwareRepositoryInvoker.invokeFindAll(delegate, pageable, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Sort sort, FetchPlan plan) {
+		return timed(() -> FetchPlanAwareRepositoryInvoker.invokeFindAll(delegate, sort, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeFindById(java.lang.Object, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public <T> Optional<T> invokeFindById(Object id, FetchPlan plan) {
+		return timed(() -> FetchPlanAwareRepositoryInvoker.invokeFindById(delegate, id, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.core.support.FetchPlanAwareRepositoryInvoker#invokeQueryMethod(java.lang.reflect.Method, org.springframework.util.MultiValueMap, org.springframework.data.domain.Pageable, org.springframework.data.domain.Sort, org.springframework.data.rest.core.support.FetchPlan)
+	 */
+	@Override
+	public Optional<Object> invokeQueryMethod(Method method, MultiValueMap<String, ? extends Object> parameters,
+			Pageable pageable, Sort sort, FetchPlan plan) {
+
+		return timed(() -> FetchPlanAwareRepositoryInvoker.invokeQueryMethod(delegate, method, parameters, pageable,
+				sort, plan));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasDeleteMethod()
+	 */
+	@Override
+	public boolean hasDeleteMethod() {
+		return delegate.hasDeleteMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindAllMethod()
+	 */
+	@Override
+	public boolean hasFindAllMethod() {
+		return delegate.hasFindAllMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasFindOneMethod()
+	 */
+	@Override
+	public boolean hasFindOneMethod() {
+		return delegate.hasFindOneMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvocationInformation#hasSaveMethod()
+	 */
+	@Override
+	public boolean hasSaveMethod() {
+		return delegate.hasSaveMethod();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeDeleteById(java.lang.Object)
+	 */
+	@Override
+	public void invokeDeleteById(Object id) {
+
+		timed(() -> {
+			delegate.invokeDeleteById(id);
+			return null;
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Pageable pageable) {
+		return timed(() -> delegate.invokeFindAll(pageable));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeFindAll(org.springframework.data.domain.Sort)
+	 */
+	@Override
+	public Iterable<Object> invokeFindAll(Sort sort) {
+		return timed(() -> delegate.invokeFindAll(sort));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.repository.support.RepositoryInvoker#invokeSave(java.lang.Object)
+	 */
+	@Override
+	public <T> T invokeSave(T object) {
+		return timed(() -> delegate.invokeSave(object));
+	}
+
+	private <T> T timed(Supplier<T> invocation) {
+
+		Timing timing = instrumentation.start(Phase.REPOSITORY_INVOCATION);
+
+		try {
+			return invocation.get();
+		} finally {
+			timing.stop(domainType);
+		}
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.rest.webmvc.PersistentEntityResource;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
+import org.springframework.hateoas.ResourceProcessor;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.hateoas.mvc.ResourceProcessorInvoker;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResourceProcessorInvoker} reporting the invocation of {@link ResourceProcessor}s as
+ * {@link Phase#RESOURCE_PROCESSING} to a {@link RepositoryRestInstrumentation}.
+ *
+ * @since 3.1
+ */
+public class InstrumentedResourceProcessorInvoker extends ResourceProcessorInvoker {
+
+	private final RepositoryRestInstrumentation instrumentation;
+
+	/**
+	 * Creates a new {@link InstrumentedResourceProcessorInvoker} for the given {@link ResourceProcessor}s and
+	 * {@link RepositoryRestInstrumentation}.
+	 *
+	 * @param processors must not be {@literal null}.
+	 * @param instrumentation must not be {@literal null}.
+	 */
+	public InstrumentedResourceProcessorInvoker(Collection<ResourceProcessor<?>> processors,
+			RepositoryRestInstrumentation instrumentation) {
+
+		super(processors);
+
+		Assert.notNull(instrumentation, "RepositoryRestInstrumentation must not be null!");
+
+		this.instrumentation = instrumentation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.hateoas.mvc.ResourceProcessorInvoker#invokeProcessorsFor(org.springframework.hateoas.ResourceSupport, org.springframework.core.ResolvableType)
+	 */
+	@Override
+	public <T extends ResourceSupport> T invokeProcessorsFor(T value, ResolvableType referenceType) {
+
+		Timing timing = instrumentation.start(Phase.RESOURCE_PROCESSING);
+
+		try {
+			return super.invokeProcessorsFor(value, referenceType);
+		} finally {
+			timing.stop(getDomainType(value));
+		}
+	}
+
+	/**
+	 * Returns the domain type backing the given resource, i.e. the one of the {@link PersistentEntityResource} or the
+	 * first one contained in a {@link Resources} instance.
+	 *
+	 * @param resource can be {@literal null}.
+	 * @return the domain type or {@literal null} if it can't be determined.
+	 */
+	public static Class<?> getDomainType(Object resource) {
+
+		if (resource instanceof PersistentEntityResource) {
+			return ((PersistentEntityResource) resource).getPersistentEntity().getType();
+		}
+
+		if (resource instanceof Resources) {
+
+			Iterator<?> iterator = ((Resources<?>) resource).iterator();
+			return iterator.hasNext() ? getDomainType(iterator.next()) : null;
+		}
+
+		return null;
+	}
+}
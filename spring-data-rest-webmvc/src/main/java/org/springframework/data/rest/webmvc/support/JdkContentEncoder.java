@@ -0,0 +1,78 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.data.rest.webmvc.spi.ContentEncoder;
+
+/**
+ * The {@link ContentEncoder}s for the content codings supported by the JDK.
+ *
+ * @since 3.1
+ */
+public enum JdkContentEncoder implements ContentEncoder {
+
+	/**
+	 * The {@code gzip} content coding.
+	 */
+	GZIP("gzip") {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.spi.ContentEncoder#encode(java.io.OutputStream)
+		 */
+		@Override
+		public OutputStream encode(OutputStream target) throws IOException {
+			return new GZIPOutputStream(target, BUFFER_SIZE);
+		}
+	},
+
+	/**
+	 * The {@code deflate} content coding, i.e. the zlib format.
+	 */
+	DEFLATE("deflate") {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.rest.webmvc.spi.ContentEncoder#encode(java.io.OutputStream)
+		 */
+		@Override
+		public OutputStream encode(OutputStream target) throws IOException {
+			return new DeflaterOutputStream(target);
+		}
+	};
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final String name;
+
+	private JdkContentEncoder(String name) {
+		this.name = name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.ContentEncoder#getName()
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.webmvc.spi.AssociationMembership;
+
+/**
+ * {@link AssociationMembership} issuing a count query joining the association for JPA managed types. Associations
+ * that are already loaded are left to be inspected in memory.
+ *
+ * @since 3.1
+ */
+public class JpaAssociationMembership extends JpaAssociationQuerySupport implements AssociationMembership {
+
+	private static final String QUERY = "select count(o) from %s o join o.%s i where o = :owner and i = :item";
+
+	private final Map<PersistentProperty<?>, String> queries;
+
+	/**
+	 * Creates a new {@link JpaAssociationMembership} for the given {@link EntityManagerFactory} instances.
+	 *
+	 * @param factories must not be {@literal null}.
+	 */
+	public JpaAssociationMembership(Collection<EntityManagerFactory> factories) {
+
+		super(factories);
+
+		this.queries = new ConcurrentHashMap<>();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationMembership#isMember(java.lang.Object, org.springframework.data.mapping.PersistentProperty, java.lang.Object)
+	 */
+	@Override
+	public Optional<Boolean> isMember(Object owner, PersistentProperty<?> association, Object item) {
+
+		if (!association.isCollectionLike() && !association.isMap()) {
+			return Optional.empty();
+		}
+
+		return getFactoryFor(owner, association).map(factory -> {
+
+			String query = queries.computeIfAbsent(association, it -> String.format(QUERY,
+					getEntityName(factory, it.getOwner().getType()), it.getName()));
+
+			return doWithEntityManager(factory, em -> em.createQuery(query, Long.class) //
+					.setParameter("owner", owner) //
+					.setParameter("item", item) //
+					.getSingleResult()) > 0;
+		});
+	}
+}
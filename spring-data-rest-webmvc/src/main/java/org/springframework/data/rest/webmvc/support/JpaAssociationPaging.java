@@ -0,0 +1,238 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.OrderBy;
+import javax.persistence.OrderColumn;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.IdentifiableType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.PageableExecutionUtils;
+import org.springframework.data.rest.webmvc.spi.AssociationPaging;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link AssociationPaging} selecting the items of a collection association of a JPA managed type through a query
+ * joining the association, so that only the requested {@link Page} is loaded. Associations that are already loaded are
+ * left to be paged in memory, just like {@link Sort}s referring to properties that can't be resolved through the JPA
+ * metamodel. Unsorted pages keep the order of the association, i.e. the index of lists mapped with {@link OrderColumn}
+ * or the properties given in {@link OrderBy}, and are ordered by the identifier of the items otherwise.
+ *
+ * @since 3.1
+ */
+public class JpaAssociationPaging extends JpaAssociationQuerySupport implements AssociationPaging {
+
+	private static final String QUERY = "select i from %s o join o.%s i where o = :owner";
+	private static final String COUNT_QUERY = "select count(i) from %s o join o.%s i where o = :owner";
+	private static final Pattern PROPERTY_SEGMENT = Pattern
+			.compile("[\\p{javaJavaIdentifierStart}][\\p{javaJavaIdentifierPart}]*");
+
+	/**
+	 * Creates a new {@link JpaAssociationPaging} for the given {@link EntityManagerFactory} instances.
+	 *
+	 * @param factories must not be {@literal null}.
+	 */
+	public JpaAssociationPaging(Collection<EntityManagerFactory> factories) {
+		super(factories);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationPaging#getPage(java.lang.Object, org.springframework.data.mapping.PersistentProperty, org.springframework.data.domain.Pageable)
+	 */
+	@Override
+	public Optional<Page<Object>> getPage(Object owner, PersistentProperty<?> association, Pageable pageable) {
+
+		if (!association.isCollectionLike() || pageable.isUnpaged()) {
+			return Optional.empty();
+		}
+
+		return getFactoryFor(owner, association).flatMap(factory -> {
+
+			Optional<String> orderBy = pageable.getSort().isSorted() //
+					? toOrderBy(factory.getMetamodel(), association.getActualType(), pageable.getSort()) //
+					: toOrderBy(factory.getMetamodel(), association);
+
+			return orderBy.map(it -> {
+
+				String entityName = getEntityName(factory, association.getOwner().getType());
+				String query = String.format(QUERY, entityName, association.getName()).concat(it);
+				String countQuery = String.format(COUNT_QUERY, entityName, association.getName());
+
+				return doWithEntityManager(factory, em -> {
+
+					List<Object> content = em.createQuery(query, Object.class) //
+							.setParameter("owner", owner) //
+							.setFirstResult((int) pageable.getOffset()) //
+							.setMaxResults(pageable.getPageSize()) //
+							.getResultList();
+
+					return PageableExecutionUtils.getPage(content, pageable, () -> em.createQuery(countQuery, Long.class) //
+							.setParameter("owner", owner) //
+							.getSingleResult());
+				});
+			});
+		});
+	}
+
+	/**
+	 * Renders the given {@link Sort} into a JPQL {@code order by} clause for the given item type.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @return the clause or {@link Optional#empty()} if the {@link Sort} refers to properties that can't be resolved.
+	 */
+	private static Optional<String> toOrderBy(Metamodel metamodel, Class<?> type, Sort sort) {
+
+		StringBuilder builder = new StringBuilder(" order by ");
+
+		for (Order order : sort) {
+
+			Optional<Attribute<?, ?>> attribute = getAttribute(metamodel, type, order.getProperty());
+
+			if (!attribute.isPresent()) {
+				return Optional.empty();
+			}
+
+			boolean ignoreCase = order.isIgnoreCase() && String.class.equals(attribute.get().getJavaType());
+
+			builder.append(ignoreCase ? "lower(i." : "i.").append(order.getProperty()).append(ignoreCase ? ")" : "") //
+					.append(order.isAscending() ? " asc, " : " desc, ");
+		}
+
+		return Optional.of(builder.substring(0, builder.length() - 2));
+	}
+
+	/**
+	 * Renders the order the given association keeps its items in into a JPQL {@code order by} clause. Falls back to the
+	 * identifier of the items for associations without a defined order, so that pages are stable.
+	 *
+	 * @param metamodel must not be {@literal null}.
+	 * @param association must not be {@literal null}.
+	 * @return the clause or {@link Optional#empty()} if the order can't be expressed in JPQL.
+	 */
+	private static Optional<String> toOrderBy(Metamodel metamodel, PersistentProperty<?> association) {
+
+		if (association.isAnnotationPresent(OrderColumn.class)) {
+			return Optional.of(" order by index(i)");
+		}
+
+		Class<?> type = association.getActualType();
+		OrderBy orderBy = association.findAnnotation(OrderBy.class);
+
+		if (orderBy != null && StringUtils.hasText(orderBy.value())) {
+			return parseOrderBy(orderBy.value()).flatMap(it -> toOrderBy(metamodel, type, it));
+		}
+
+		return getIdAttributeName(metamodel, type).map(it -> " order by i.".concat(it));
+	}
+
+	/**
+	 * Parses the value of an {@link OrderBy} annotation, i.e. a comma separated list of property paths optionally
+	 * followed by {@code ASC} or {@code DESC}, into a {@link Sort}.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @return the {@link Sort} or {@link Optional#empty()} if the value is malformed.
+	 */
+	private static Optional<Sort> parseOrderBy(String source) {
+
+		List<Order> orders = new ArrayList<Order>();
+
+		for (String element : source.split(",")) {
+
+			String[] parts = element.trim().split("\\s+");
+			Optional<Direction> direction = parts.length == 1 //
+					? Optional.of(Direction.ASC) //
+					: parts.length == 2 ? Direction.fromOptionalString(parts[1]) : Optional.empty();
+
+			if (!direction.isPresent() || parts[0].isEmpty()) {
+				return Optional.empty();
+			}
+
+			orders.add(new Order(direction.get(), parts[0]));
+		}
+
+		return Optional.of(Sort.by(orders));
+	}
+
+	private static Optional<String> getIdAttributeName(Metamodel metamodel, Class<?> type) {
+
+		ManagedType<?> managedType = getManagedType(metamodel, type);
+
+		if (!(managedType instanceof IdentifiableType) || !((IdentifiableType<?>) managedType).hasSingleIdAttribute()) {
+			return Optional.empty();
+		}
+
+		IdentifiableType<?> identifiableType = (IdentifiableType<?>) managedType;
+
+		return Optional.of(identifiableType.getId(identifiableType.getIdType().getJavaType()).getName());
+	}
+
+	private static Optional<Attribute<?, ?>> getAttribute(Metamodel metamodel, Class<?> type, String path) {
+
+		ManagedType<?> managedType = getManagedType(metamodel, type);
+		Attribute<?, ?> attribute = null;
+
+		for (String segment : path.split("\\.")) {
+
+			if (managedType == null || !PROPERTY_SEGMENT.matcher(segment).matches()) {
+				return Optional.empty();
+			}
+
+			try {
+				attribute = managedType.getAttribute(segment);
+			} catch (IllegalArgumentException o_O) {
+				return Optional.empty();
+			}
+
+			if (attribute.isCollection()) {
+				return Optional.empty();
+			}
+
+			managedType = attribute.getPersistentAttributeType() == PersistentAttributeType.BASIC //
+					? null //
+					: getManagedType(metamodel, attribute.getJavaType());
+		}
+
+		return Optional.ofNullable(attribute);
+	}
+
+	private static ManagedType<?> getManagedType(Metamodel metamodel, Class<?> type) {
+
+		try {
+			return metamodel.managedType(type);
+		} catch (IllegalArgumentException o_O) {
+			return null;
+		}
+	}
+}
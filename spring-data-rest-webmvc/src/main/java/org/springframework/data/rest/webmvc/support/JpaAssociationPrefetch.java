@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AssociationPrefetch} fetch joining an association of JPA managed types for all owners attached to the
+ * {@link EntityManager} bound to the current thread with a single query per association. This initializes lazy
+ * collections right away and puts the targets of lazy references into the persistence context, so that accessing them
+ * on the individual owners doesn't cause additional queries. A single owner is loaded the same way, so that the
+ * association is initialized before its resource is assembled. Owners that are detached or have the association
+ * loaded already are skipped, just like map associations.
+ *
+ * @since 3.1
+ */
+public class JpaAssociationPrefetch extends JpaAssociationQuerySupport implements AssociationPrefetch {
+
+	private static final String QUERY = "select distinct o from %s o left join fetch o.%s where o in :owners";
+	private static final int DEFAULT_BATCH_SIZE = 500;
+
+	private final int batchSize;
+
+	/**
+	 * Creates a new {@link JpaAssociationPrefetch} for the given {@link EntityManagerFactory} instances.
+	 *
+	 * @param factories must not be {@literal null}.
+	 */
+	public JpaAssociationPrefetch(Collection<EntityManagerFactory> factories) {
+		this(factories, DEFAULT_BATCH_SIZE);
+	}
+
+	/**
+	 * Creates a new {@link JpaAssociationPrefetch} for the given {@link EntityManagerFactory} instances binding at most
+	 * the given number of owners to a single query.
+	 *
+	 * @param factories must not be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public JpaAssociationPrefetch(Collection<EntityManagerFactory> factories, int batchSize) {
+
+		super(factories);
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.batchSize = batchSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.spi.AssociationPrefetch#prefetch(java.util.Collection, java.util.Collection)
+	 */
+	@Override
+	public void prefetch(Collection<?> owners, Collection<PersistentProperty<?>> associations) {
+
+		for (PersistentProperty<?> association : associations) {
+
+			if (association.isMap()) {
+				continue;
+			}
+
+			Optional<EntityManagerFactory> factory = getFactoryFor(association);
+
+			if (!factory.isPresent()) {
+				continue;
+			}
+
+			EntityManager em = EntityManagerFactoryUtils.getTransactionalEntityManager(factory.get());
+
+			if (em == null) {
+				continue;
+			}
+
+			List<Object> candidates = getCandidates(owners, association, em);
+
+			if (candidates.isEmpty()) {
+				continue;
+			}
+
+			String query = String.format(QUERY, getEntityName(factory.get(), association.getOwner().getType()),
+					association.getName());
+
+			for (int i = 0; i < candidates.size(); i += batchSize) {
+
+				em.createQuery(query) //
+						.setParameter("owners", candidates.subList(i, Math.min(i + batchSize, candidates.size()))) //
+						.getResultList();
+			}
+		}
+	}
+
+	private List<Object> getCandidates(Collection<?> owners, PersistentProperty<?> association, EntityManager em) {
+
+		Class<?> ownerType = association.getOwner().getType();
+		List<Object> candidates = new ArrayList<>(owners.size());
+
+		for (Object owner : owners) {
+
+			if (!ownerType.isInstance(owner) || !em.contains(owner)) {
+				continue;
+			}
+
+			if (!em.getEntityManagerFactory().getPersistenceUnitUtil().isLoaded(owner, association.getName())) {
+				candidates.add(owner);
+			}
+		}
+
+		return candidates;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.util.Assert;
+
+/**
+ * Base class for components querying associations of JPA managed types through the {@link EntityManagerFactory}
+ * managing them.
+ *
+ * @since 3.1
+ */
+abstract class JpaAssociationQuerySupport {
+
+	private final List<EntityManagerFactory> factories;
+	private final Map<Class<?>, Optional<EntityManagerFactory>> factoriesByType;
+
+	/**
+	 * Creates a new {@link JpaAssociationQuerySupport} for the given {@link EntityManagerFactory} instances.
+	 *
+	 * @param factories must not be {@literal null}.
+	 */
+	protected JpaAssociationQuerySupport(Collection<EntityManagerFactory> factories) {
+
+		Assert.notNull(factories, "EntityManagerFactories must not be null!");
+
+		this.factories = new ArrayList<>(factories);
+		this.factoriesByType = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the {@link EntityManagerFactory} managing both the owner and the target type of the given association if
+	 * the association hasn't been loaded for the given owner yet.
+	 *
+	 * @param owner must not be {@literal null}.
+	 * @param association must not be {@literal null}.
+	 * @return
+	 */
+	protected Optional<EntityManagerFactory> getFactoryFor(Object owner, PersistentProperty<?> association) {
+
+		return getFactoryFor(association) //
+				.filter(it -> !it.getPersistenceUnitUtil().isLoaded(owner, association.getName()));
+	}
+
+	/**
+	 * Returns the {@link EntityManagerFactory} managing both the owner and the target type of the given association.
+	 *
+	 * @param association must not be {@literal null}.
+	 * @return
+	 */
+	protected Optional<EntityManagerFactory> getFactoryFor(PersistentProperty<?> association) {
+
+		return getFactoryFor(association.getOwner().getType()) //
+				.filter(it -> isManaged(it, association.getActualType()));
+	}
+
+	/**
+	 * Executes the given callback with the {@link EntityManager} bound to the current thread or a new one that's closed
+	 * afterwards.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 * @return
+	 */
+	protected static <T> T doWithEntityManager(EntityManagerFactory factory, Function<EntityManager, T> callback) {
+
+		EntityManager transactional = EntityManagerFactoryUtils.getTransactionalEntityManager(factory);
+		EntityManager em = transactional == null ? factory.createEntityManager() : transactional;
+
+		try {
+			return callback.apply(em);
+		} finally {
+
+			if (transactional == null) {
+				em.close();
+			}
+		}
+	}
+
+	/**
+	 * Returns the JPQL entity name of the given type.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	protected static String getEntityName(EntityManagerFactory factory, Class<?> type) {
+		return factory.getMetamodel().entity(type).getName();
+	}
+
+	private Optional<EntityManagerFactory> getFactoryFor(Class<?> type) {
+
+		Optional<EntityManagerFactory> factory = factoriesByType.get(type);
+
+		return factory != null ? factory
+				: factoriesByType.computeIfAbsent(type, it -> factories.stream() //
+						.filter(candidate -> isManaged(candidate, it)) //
+						.findFirst());
+	}
+
+	private static boolean isManaged(EntityManagerFactory factory, Class<?> type) {
+
+		try {
+			factory.getMetamodel().entity(type);
+			return true;
+		} catch (IllegalArgumentException o_O) {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Locale;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.core.projection.ProjectionDefinitions;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * {@link RepositoryRestInstrumentation} recording the {@link Phase}s as Micrometer {@link Timer}s named
+ * {@value #TIMER_NAME}. Every request to a repository resource is counted in the counter named {@value #COUNTER_NAME}
+ * in addition. All meters are tagged with the fully qualified name of the domain type identifying the repository, the
+ * HTTP method of the current request and the requested projection and page size. The timers are tagged with the
+ * {@link Phase} in addition.
+ * <p>
+ * As the request parameters are under control of the client, they're never used as tag values verbatim. Projection
+ * names not registered for the domain type are tagged as {@value #UNKNOWN} and the page size is tagged with the value
+ * actually used to query the repository, i.e. the default one for absent or invalid values, capped by the maximum page
+ * size. That keeps the number of meters bounded.
+ * <p>
+ * The usage of the concurrency limits is exposed by {@link ConcurrencyLimiterMetrics}.
+ *
+ * @since 3.1
+ * @see ConcurrencyLimiterMetrics
+ */
+public class MicrometerRepositoryRestInstrumentation implements RepositoryRestInstrumentation {
+
+	public static final String TIMER_NAME = "spring.data.rest.phase";
+	public static final String COUNTER_NAME = "spring.data.rest.requests";
+
+	private static final String NONE = "none";
+	private static final String UNKNOWN = "unknown";
+
+	private final MeterRegistry registry;
+	private final ProjectionDefinitions projections;
+	private final String projectionParameter;
+	private final String pageSizeParameter;
+	private final int defaultPageSize;
+	private final int maxPageSize;
+
+	/**
+	 * Creates a new {@link MicrometerRepositoryRestInstrumentation} for the given {@link MeterRegistry} using the default
+	 * names of the projection and page size request parameters as well as the default page sizes. As no projections are
+	 * known, all projections requested are tagged as {@value #UNKNOWN}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 */
+	public MicrometerRepositoryRestInstrumentation(MeterRegistry registry) {
+		this(registry, new ProjectionDefinitionConfiguration(), "size", 20, 1000);
+	}
+
+	/**
+	 * Creates a new {@link MicrometerRepositoryRestInstrumentation} for the given {@link MeterRegistry} using the
+	 * projections, names of the projection and page size request parameters and page sizes configured in the given
+	 * {@link RepositoryRestConfiguration}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param configuration must not be {@literal null}.
+	 */
+	public MicrometerRepositoryRestInstrumentation(MeterRegistry registry, RepositoryRestConfiguration configuration) {
+		this(registry, configuration.getProjectionConfiguration(), configuration.getLimitParamName(),
+				configuration.getDefaultPageSize(), configuration.getMaxPageSize());
+	}
+
+	private MicrometerRepositoryRestInstrumentation(MeterRegistry registry,
+			ProjectionDefinitionConfiguration projections, String pageSizeParameter, int defaultPageSize,
+			int maxPageSize) {
+
+		Assert.notNull(registry, "MeterRegistry must not be null!");
+
+		this.registry = registry;
+		this.projections = projections;
+		this.projectionParameter = projections.getParameterName();
+		this.pageSizeParameter = pageSizeParameter;
+		this.defaultPageSize = defaultPageSize;
+		this.maxPageSize = maxPageSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation#start(org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase)
+	 */
+	@Override
+	public Timing start(Phase phase) {
+
+		Timer.Sample sample = Timer.start(registry);
+
+		return domainType -> {
+
+			Tags tags = getTags(domainType);
+
+			sample.stop(registry.timer(TIMER_NAME, tags.and("phase", phase.name().toLowerCase(Locale.US))));
+
+			if (phase == Phase.RESOURCE_RESOLUTION) {
+				registry.counter(COUNTER_NAME, tags).increment();
+			}
+		};
+	}
+
+	private Tags getTags(Class<?> domainType) {
+
+		HttpServletRequest request = getCurrentRequest();
+
+		return Tags.of("domain.type", domainType == null ? NONE : domainType.getName()) //
+				.and("method", request == null ? NONE : request.getMethod()) //
+				.and("projection", getProjection(request, domainType)) //
+				.and("page.size", getPageSize(request));
+	}
+
+	/**
+	 * Returns the name of the projection requested if it's registered for the given domain type, {@value #UNKNOWN} if
+	 * not and {@value #NONE} if no projection was requested at all.
+	 *
+	 * @param request can be {@literal null}.
+	 * @param domainType can be {@literal null}.
+	 * @return
+	 */
+	private String getProjection(HttpServletRequest request, Class<?> domainType) {
+
+		String name = getParameter(request, projectionParameter);
+
+		if (name == null) {
+			return NONE;
+		}
+
+		return domainType != null && projections.getProjectionType(domainType, name) != null ? name : UNKNOWN;
+	}
+
+	/**
+	 * Returns the page size that's used for the given request, {@value #NONE} if there's no current request.
+	 *
+	 * @param request can be {@literal null}.
+	 * @return
+	 */
+	private String getPageSize(HttpServletRequest request) {
+
+		if (request == null) {
+			return NONE;
+		}
+
+		String value = getParameter(request, pageSizeParameter);
+		int size;
+
+		try {
+			size = value == null ? defaultPageSize : Integer.parseInt(value);
+		} catch (NumberFormatException o_O) {
+			size = defaultPageSize;
+		}
+
+		return String.valueOf(size < 1 ? defaultPageSize : Math.min(size, maxPageSize));
+	}
+
+	private static String getParameter(HttpServletRequest request, String name) {
+
+		String value = request == null || name == null ? null : request.getParameter(name);
+
+		return StringUtils.hasText(value) ? value : null;
+	}
+
+	private static HttpServletRequest getCurrentRequest() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return attributes instanceof ServletRequestAttributes ? ((ServletRequestAttributes) attributes).getRequest()
+				: null;
+	}
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Maps the elements of a collection into resources, potentially in parallel using an {@link Executor}. The collection
+ * is split into batches of the configured size, all but the first of which are handed to the {@link Executor} while
+ * the calling thread processes the first one. The results are returned in the original order. The current locale is
+ * propagated to the worker threads. As {@link RequestAttributes} are not thread-safe, every task gets its own
+ * {@link ServletRequestAttributes} for the current request bound.
+ * <p>
+ * Processing falls back to the calling thread if no {@link Executor} is configured, the collection doesn't exceed a
+ * single batch, the current {@link RequestAttributes} can't be copied or a transactional resource is bound to the
+ * calling thread. The latter is the case for JPA whenever an {@code EntityManager} is bound by an
+ * open-entity-manager-in-view interceptor or filter, as the elements are then attached to a persistence context that
+ * must not be used from other threads. Parallel assembly thus requires that interceptor to be disabled.
+ *
+ * @since 3.1
+ * @see RepositoryRestConfiguration#setResourceAssemblyExecutor(Executor)
+ */
+public class ParallelResourceAssembly {
+
+	public static final ParallelResourceAssembly NONE = new ParallelResourceAssembly(null, Integer.MAX_VALUE);
+
+	private static final boolean TRANSACTION_SUPPORT_PRESENT = ClassUtils.isPresent(
+			"org.springframework.transaction.support.TransactionSynchronizationManager",
+			ParallelResourceAssembly.class.getClassLoader());
+
+	private final Executor executor;
+	private final int batchSize;
+
+	/**
+	 * Creates a new {@link ParallelResourceAssembly} for the given {@link Executor} and batch size.
+	 *
+	 * @param executor can be {@literal null}.
+	 * @param batchSize must be greater than zero.
+	 */
+	public ParallelResourceAssembly(Executor executor, int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+
+		this.executor = executor;
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Creates a new {@link ParallelResourceAssembly} from the given {@link RepositoryRestConfiguration}.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @return
+	 */
+	public static ParallelResourceAssembly of(RepositoryRestConfiguration configuration) {
+
+		Assert.notNull(configuration, "RepositoryRestConfiguration must not be null!");
+
+		return configuration.getResourceAssemblyExecutor() //
+				.map(it -> new ParallelResourceAssembly(it, configuration.getResourceAssemblyBatchSize())) //
+				.orElse(NONE);
+	}
+
+	/**
+	 * Applies the given {@link Function} to all elements of the given {@link Collection} and returns the results in the
+	 * order of the source elements. {@literal null} elements are handed to the function as well.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return
+	 */
+	public <T, R> List<R> map(Collection<? extends T> source, Function<? super T, ? extends R> function) {
+
+		Assert.notNull(source, "Source collection must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (executor == null || source.size() <= batchSize || !isCopyable(attributes) || hasThreadBoundResources()) {
+			return mapSequentially(source, function);
+		}
+
+		List<T> elements = new ArrayList<T>(source);
+		LocaleContext localeContext = LocaleContextHolder.getLocaleContext();
+
+		List<CompletableFuture<List<R>>> batches = new ArrayList<CompletableFuture<List<R>>>();
+
+		for (int i = batchSize; i < elements.size(); i += batchSize) {
+
+			List<T> batch = elements.subList(i, Math.min(i + batchSize, elements.size()));
+			Supplier<List<R>> task = () -> withContext(copy(attributes), localeContext,
+					() -> mapSequentially(batch, function));
+
+			batches.add(CompletableFuture.supplyAsync(task, executor));
+		}
+
+		List<R> result = new ArrayList<R>(elements.size());
+		result.addAll(mapSequentially(elements.subList(0, batchSize), function));
+
+		for (CompletableFuture<List<R>> batch : batches) {
+			result.addAll(join(batch));
+		}
+
+		return result;
+	}
+
+	private static <T, R> List<R> mapSequentially(Collection<? extends T> source,
+			Function<? super T, ? extends R> function) {
+
+		List<R> result = new ArrayList<R>(source.size());
+
+		for (T element : source) {
+			result.add(function.apply(element));
+		}
+
+		return result;
+	}
+
+	private static boolean isCopyable(RequestAttributes attributes) {
+		return attributes == null || attributes instanceof ServletRequestAttributes;
+	}
+
+	/**
+	 * Creates a new {@link ServletRequestAttributes} instance for the request and response of the given ones. The copy
+	 * is never completed, i.e. it doesn't execute destruction callbacks or update session attributes, which is left to
+	 * the original instance bound to the request thread.
+	 *
+	 * @param attributes can be {@literal null}.
+	 * @return
+	 */
+	private static RequestAttributes copy(RequestAttributes attributes) {
+
+		if (attributes == null) {
+			return null;
+		}
+
+		ServletRequestAttributes source = (ServletRequestAttributes) attributes;
+
+		return new ServletRequestAttributes(source.getRequest(), source.getResponse());
+	}
+
+	/**
+	 * Executes the given {@link Supplier} with the given {@link RequestAttributes} and {@link LocaleContext} bound to the
+	 * current thread, restoring the previous state afterwards. The latter is necessary as the {@link Executor} might
+	 * decide to execute the task on the calling thread.
+	 *
+	 * @param attributes can be {@literal null}.
+	 * @param localeContext can be {@literal null}.
+	 * @param supplier must not be {@literal null}.
+	 * @return
+	 */
+	private static <T> T withContext(RequestAttributes attributes, LocaleContext localeContext, Supplier<T> supplier) {
+
+		RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+		LocaleContext previousLocaleContext = LocaleContextHolder.getLocaleContext();
+
+		RequestContextHolder.setRequestAttributes(attributes);
+		LocaleContextHolder.setLocaleContext(localeContext);
+
+		try {
+			return supplier.get();
+		} finally {
+			RequestContextHolder.setRequestAttributes(previousAttributes);
+			LocaleContextHolder.setLocaleContext(previousLocaleContext);
+		}
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+
+		try {
+			return future.join();
+		} catch (CompletionException o_O) {
+
+			Throwable cause = o_O.getCause();
+
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw o_O;
+		}
+	}
+
+	private static boolean hasThreadBoundResources() {
+
+		return TRANSACTION_SUPPORT_PRESENT && (TransactionSynchronizationManager.isActualTransactionActive()
+				|| !TransactionSynchronizationManager.getResourceMap().isEmpty());
+	}
+}
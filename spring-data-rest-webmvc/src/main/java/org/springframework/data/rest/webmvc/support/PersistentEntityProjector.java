@@ -15,8 +15,11 @@
  */
 package org.springframework.data.rest.webmvc.support;
 
+import java.util.Optional;
+
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.ProjectionInformation;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.projection.ProjectionDefinitions;
 import org.springframework.util.Assert;
@@ -85,6 +88,35 @@ public class PersistentEntityProjector extends DefaultExcerptProjector implement
 		});
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.Projector#getProjectionInformation(java.lang.Class)
+	 */
+	@Override
+	public Optional<ProjectionInformation> getProjectionInformation(Class<?> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		if (!StringUtils.hasText(projection)) {
+			return Optional.empty();
+		}
+
+		return Optional.ofNullable(definitions.getProjectionType(type, projection))
+				.map(factory::getProjectionInformation);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.rest.webmvc.support.DefaultExcerptProjector#getExcerptProjectionInformation(java.lang.Class)
+	 */
+	@Override
+	public Optional<ProjectionInformation> getExcerptProjectionInformation(Class<?> type) {
+
+		Optional<ProjectionInformation> information = getProjectionInformation(type);
+
+		return information.isPresent() ? information : super.getExcerptProjectionInformation(type);
+	}
+
 	/**
 	 * Creates the projection for the given source instance falling back to the given {@link Converter} if no explicit
 	 * projection is selected.
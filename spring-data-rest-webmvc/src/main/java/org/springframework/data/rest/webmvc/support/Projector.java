@@ -15,6 +15,10 @@
  */
 package org.springframework.data.rest.webmvc.support;
 
+import java.util.Optional;
+
+import org.springframework.data.projection.ProjectionInformation;
+
 /**
  * Interface for a component being able to create projections for objects.
  *
@@ -30,4 +34,17 @@ public interface Projector extends ExcerptProjector {
 	 * @return
 	 */
 	Object project(Object source);
+
+	/**
+	 * Returns the {@link ProjectionInformation} of the projection {@link #project(Object)} applies to instances of the
+	 * given type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link ProjectionInformation} or {@link Optional#empty()} if the instances aren't projected or the
+	 *         projection is unknown.
+	 * @since 3.1
+	 */
+	default Optional<ProjectionInformation> getProjectionInformation(Class<?> type) {
+		return Optional.empty();
+	}
 }
@@ -21,8 +21,11 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
 import java.io.Serializable;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -49,12 +52,16 @@ import org.springframework.hateoas.TemplateVariables;
 import org.springframework.hateoas.UriTemplate;
 import org.springframework.hateoas.core.AbstractEntityLinks;
 import org.springframework.util.Assert;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * {@link EntityLinks} implementation that is able to create {@link Link} for domain classes managed by Spring Data
- * REST.
+ * REST. The request independent parts of the links (id converter, paths, rels and template variables) are calculated
+ * once per domain type. The URI of the collection resource, which depends on the current request in case of a relative
+ * base URI (e.g. due to forwarded headers), is calculated once per request and domain type.
  *
  * @author Jon Brisbin
  * @author Oliver Gierke
@@ -62,12 +69,16 @@ import org.springframework.web.util.UriComponentsBuilder;
 @RequiredArgsConstructor
 public class RepositoryEntityLinks extends AbstractEntityLinks {
 
+	private static final String COLLECTION_HREFS_ATTRIBUTE = RepositoryEntityLinks.class.getName() + ".COLLECTION_HREFS";
+
 	private final @NonNull Repositories repositories;
 	private final @NonNull ResourceMappings mappings;
 	private final @NonNull RepositoryRestConfiguration config;
 	private final @NonNull PagingAndSortingTemplateVariables templateVariables;
 	private final @NonNull Java8PluginRegistry<BackendIdConverter, Class<?>> idConverters;
 
+	private final Map<Class<?>, TypeLinks> typeLinks = new ConcurrentHashMap<>();
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.plugin.core.Plugin#supports(java.lang.Object)
@@ -106,8 +117,17 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 	 */
 	public Link linkToPagedResource(Class<?> type, Pageable pageable) {
 
+		String href = getCollectionHref(type);
+
+		if (pageable == null) {
+
+			TypeLinks links = getTypeLinks(type);
+			TemplateVariables variables = links.getCollectionVariables(href);
+
+			return new Link(new UriTemplate(href, variables), links.metadata.getRel());
+		}
+
 		ResourceMetadata metadata = mappings.getMetadataFor(type);
-		String href = linkFor(type).toString();
 		UriComponents components = prepareUri(href, metadata, pageable);
 
 		TemplateVariables variables = getTemplateVariables(components, metadata, pageable).//
@@ -134,14 +154,17 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 
 		Assert.isInstanceOf(Serializable.class, id, "Id must be assignable to Serializable!");
 
-		ResourceMetadata metadata = mappings.getMetadataFor(type);
-		String mappedId = idConverters.getPluginFor(type)//
-				.orElse(DefaultIdConverter.INSTANCE)//
-				.toRequestId((Serializable) id, type);
+		TypeLinks links = getTypeLinks(type);
+		String mappedId = links.idConverter.toRequestId((Serializable) id, type);
+		String rel = links.metadata.getItemResourceRel();
+
+		// Plain identifiers don't need any encoding, so the link can be concatenated directly
+		if (isUnreserved(mappedId)) {
+			return new Link(getCollectionHref(type).concat("/").concat(mappedId).concat(links.projectionTemplate), rel);
+		}
 
-		Link link = linkFor(type).slash(mappedId).withRel(metadata.getItemResourceRel());
-		return new Link(new UriTemplate(link.getHref(), getProjectionVariable(type)).toString(),
-				metadata.getItemResourceRel());
+		Link link = linkFor(type).slash(mappedId).withRel(rel);
+		return new Link(new UriTemplate(link.getHref(), links.projectionVariable).toString(), rel);
 	}
 
 	/**
@@ -264,8 +287,20 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 			return null;
 		}
 
+		if (pageable == null && sort == null) {
+
+			String href = getCollectionHref(type).concat(searchMappings.getPath().toString())
+					.concat(mapping.getPath().toString());
+			TemplateVariables variables = getTypeLinks(type).searchVariables.computeIfAbsent(rel,
+					it -> getParameterVariables(mapping)
+							.concat(getTemplateVariables(UriComponentsBuilder.fromUriString(href).build(), mapping, null, null))
+							.concat(getProjectionVariable(mapping.getReturnedDomainType())));
+
+			return new Link(new UriTemplate(href, variables), mapping.getRel());
+		}
+
 		LinkBuilder builder = linkFor(type).//
-				slash(mappings.getSearchResourceMappings(type).getPath()).//
+				slash(searchMappings.getPath()).//
 				slash(mapping.getPath());
 
 		UriComponents uriComponents = prepareUri(builder.toString(), mapping, pageable, sort);
@@ -371,4 +406,138 @@ public class RepositoryEntityLinks extends AbstractEntityLinks {
 
 		return uriBuilder.build();
 	}
+
+	/**
+	 * Returns the {@link TypeLinks} for the given domain type.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private TypeLinks getTypeLinks(Class<?> type) {
+
+		TypeLinks links = typeLinks.get(type);
+
+		return links != null ? links : typeLinks.computeIfAbsent(type, it -> {
+
+			BackendIdConverter converter = idConverters.getPluginFor(it).orElse(DefaultIdConverter.INSTANCE);
+			return new TypeLinks(mappings.getMetadataFor(it), converter, getProjectionVariable(it));
+		});
+	}
+
+	/**
+	 * Returns the URI of the collection resource of the given type. The URI is cached for the current request as it
+	 * depends on it in case of a relative base URI.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return
+	 */
+	private String getCollectionHref(Class<?> type) {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		if (attributes == null) {
+			return linkFor(type).toString();
+		}
+
+		URI baseUri = config.getBaseUri();
+		Object cached = attributes.getAttribute(COLLECTION_HREFS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		CollectionHrefs hrefs = cached instanceof CollectionHrefs ? (CollectionHrefs) cached : null;
+
+		if (hrefs == null || !hrefs.baseUri.equals(baseUri)) {
+
+			hrefs = new CollectionHrefs(baseUri);
+			attributes.setAttribute(COLLECTION_HREFS_ATTRIBUTE, hrefs, RequestAttributes.SCOPE_REQUEST);
+		}
+
+		String href = hrefs.hrefs.get(type);
+
+		return href != null ? href : hrefs.hrefs.computeIfAbsent(type, it -> linkFor(it).toString());
+	}
+
+	/**
+	 * Returns whether the given identifier only consists of unreserved URI characters and thus can be used in a URI
+	 * path as is.
+	 *
+	 * @param id can be {@literal null}.
+	 * @return
+	 */
+	private static boolean isUnreserved(String id) {
+
+		if (id == null || id.isEmpty()) {
+			return false;
+		}
+
+		for (int i = 0; i < id.length(); i++) {
+
+			char c = id.charAt(i);
+
+			boolean unreserved = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-'
+					|| c == '.' || c == '_' || c == '~';
+
+			if (!unreserved) {
+				return false;
+			}
+		}
+
+		return !".".equals(id) && !"..".equals(id);
+	}
+
+	/**
+	 * The request independent parts of the links pointing to the resources of a domain type.
+	 */
+	private class TypeLinks {
+
+		private final ResourceMetadata metadata;
+		private final BackendIdConverter idConverter;
+		private final TemplateVariables projectionVariable;
+		private final String projectionTemplate;
+		private final Map<String, TemplateVariables> searchVariables;
+
+		private volatile TemplateVariables collectionVariables;
+
+		TypeLinks(ResourceMetadata metadata, BackendIdConverter idConverter, TemplateVariables projectionVariable) {
+
+			this.metadata = metadata;
+			this.idConverter = idConverter;
+			this.projectionVariable = projectionVariable;
+			this.projectionTemplate = projectionVariable.asList().isEmpty() ? "" : projectionVariable.toString();
+			this.searchVariables = new ConcurrentHashMap<>();
+		}
+
+		/**
+		 * Returns the template variables of the unpaged collection resource link.
+		 *
+		 * @param href the URI of the collection resource, must not be {@literal null}.
+		 * @return
+		 */
+		TemplateVariables getCollectionVariables(String href) {
+
+			TemplateVariables variables = collectionVariables;
+
+			if (variables == null) {
+
+				UriComponents components = prepareUri(href, metadata, null);
+				variables = getTemplateVariables(components, metadata, null).concat(projectionVariable);
+
+				this.collectionVariables = variables;
+			}
+
+			return variables;
+		}
+	}
+
+	/**
+	 * The URIs of the collection resources for a particular base URI.
+	 */
+	private static class CollectionHrefs {
+
+		private final URI baseUri;
+		private final Map<Class<?>, String> hrefs;
+
+		CollectionHrefs(URI baseUri) {
+
+			this.baseUri = baseUri;
+			this.hrefs = new ConcurrentHashMap<>();
+		}
+	}
 }
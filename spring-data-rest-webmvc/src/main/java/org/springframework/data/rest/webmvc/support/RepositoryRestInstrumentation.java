@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+/**
+ * SPI to measure the time spent in the individual phases of processing a request to a repository resource. Register
+ * an implementation as Spring bean to activate it. Phases can nest, e.g. {@link Phase#RESOURCE_PROCESSING} and
+ * {@link Phase#LINK_COLLECTION} for embedded resources happen during {@link Phase#SERIALIZATION}.
+ * <p>
+ * If no implementation is registered, {@link #NONE} is used, which neither allocates nor records anything.
+ *
+ * @since 3.1
+ * @see MicrometerRepositoryRestInstrumentation
+ */
+public interface RepositoryRestInstrumentation {
+
+	/**
+	 * {@link RepositoryRestInstrumentation} not recording anything.
+	 */
+	RepositoryRestInstrumentation NONE = phase -> Timing.NONE;
+
+	/**
+	 * Starts measuring the given {@link Phase}. The returned {@link Timing} has to be stopped once the phase completed,
+	 * usually in a {@code finally} block.
+	 *
+	 * @param phase will never be {@literal null}.
+	 * @return must not be {@literal null}.
+	 */
+	Timing start(Phase phase);
+
+	/**
+	 * A running measurement of a {@link Phase}.
+	 *
+	 * @since 3.1
+	 */
+	interface Timing {
+
+		/**
+		 * {@link Timing} not recording anything.
+		 */
+		Timing NONE = domainType -> {};
+
+		/**
+		 * Stops the measurement and records it for the given domain type, which identifies the repository the request was
+		 * targeted at.
+		 *
+		 * @param domainType can be {@literal null} if the domain type is unknown.
+		 */
+		void stop(Class<?> domainType);
+	}
+
+	/**
+	 * The phases of processing a request to a repository resource.
+	 *
+	 * @since 3.1
+	 */
+	enum Phase {
+
+		/**
+		 * Resolution of the {@link org.springframework.data.rest.webmvc.RootResourceInformation} for the request.
+		 */
+		RESOURCE_RESOLUTION,
+
+		/**
+		 * Invocation of the repository via its {@link org.springframework.data.repository.support.RepositoryInvoker}.
+		 */
+		REPOSITORY_INVOCATION,
+
+		/**
+		 * Creation of a {@link org.springframework.data.rest.webmvc.PersistentEntityResource} for a domain object.
+		 */
+		RESOURCE_ASSEMBLY,
+
+		/**
+		 * Collection of the links to be added to a domain object.
+		 */
+		LINK_COLLECTION,
+
+		/**
+		 * Invocation of the {@link org.springframework.hateoas.ResourceProcessor}s registered for a resource.
+		 */
+		RESOURCE_PROCESSING,
+
+		/**
+		 * Rendering of the response body by Jackson.
+		 */
+		SERIALIZATION;
+	}
+}
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import lombok.Value;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.springframework.data.rest.core.config.CompressionConfiguration;
+import org.springframework.data.rest.webmvc.spi.ContentEncoder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UrlPathHelper;
+
+/**
+ * Compresses the response bodies written by the exporter's
+ * {@link org.springframework.http.converter.HttpMessageConverter}s according to a {@link CompressionConfiguration}. The
+ * content coding is negotiated from the {@code Accept-Encoding} header of the current request. Bodies are buffered
+ * until they exceed the configured minimum size and are streamed through the encoder from then on, so that large
+ * collection pages are compressed while they're written. Strong {@code ETag}s are turned into weak ones once a content
+ * coding is applied, as the compressed representation isn't byte-for-byte identical to the uncompressed one.
+ * <p>
+ * The metadata documents below the profile root don't change at runtime, so their compressed form is cached by request
+ * path, query, content type, language and coding. As they contain absolute links, the key also includes the scheme,
+ * host, port and context path the links are built from, i.e. after applying {@code Forwarded} and
+ * {@code X-Forwarded-*} headers. Cached documents are neither rendered nor compressed again.
+ *
+ * @since 3.1
+ */
+public class ResponseCompression {
+
+	/**
+	 * {@link ResponseCompression} never compressing anything.
+	 */
+	public static final ResponseCompression NONE = new ResponseCompression(new CompressionConfiguration(), "/profile",
+			Collections.emptyList());
+
+	private static final UrlPathHelper URL_PATH_HELPER = new UrlPathHelper();
+
+	private final CompressionConfiguration configuration;
+	private final String profilePath;
+	private final List<ContentEncoder> encoders;
+	private final Map<DocumentKey, byte[]> documents;
+
+	/**
+	 * Creates a new {@link ResponseCompression} for the given {@link CompressionConfiguration}, profile root path and
+	 * {@link ContentEncoder}s. The JDK's {@code gzip} and {@code deflate} codings are always supported and take
+	 * precedence after the given ones.
+	 *
+	 * @param configuration must not be {@literal null}.
+	 * @param profilePath the path of the profile root within the application, must not be {@literal null}.
+	 * @param encoders must not be {@literal null}.
+	 */
+	public ResponseCompression(CompressionConfiguration configuration, String profilePath,
+			List<? extends ContentEncoder> encoders) {
+
+		Assert.notNull(configuration, "CompressionConfiguration must not be null!");
+		Assert.notNull(profilePath, "Profile path must not be null!");
+		Assert.notNull(encoders, "ContentEncoders must not be null!");
+
+		this.configuration = configuration;
+		this.profilePath = profilePath;
+		this.encoders = new ArrayList<>(encoders);
+		this.encoders.add(JdkContentEncoder.GZIP);
+		this.encoders.add(JdkContentEncoder.DEFLATE);
+		this.documents = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Writes a response body to the given {@link HttpOutputMessage} using the given {@link BodyWriter}, compressing it if
+	 * applicable. The {@code Content-Type} header of the message has to be set already.
+	 *
+	 * @param message must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void write(HttpOutputMessage message, BodyWriter writer) throws IOException {
+
+		Assert.notNull(message, "HttpOutputMessage must not be null!");
+		Assert.notNull(writer, "BodyWriter must not be null!");
+
+		HttpHeaders headers = message.getHeaders();
+
+		if (!configuration.isCompressible(headers.getContentType()) || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+			writer.write(message);
+			return;
+		}
+
+		headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		HttpServletRequest request = getCurrentRequest();
+		ContentEncoder encoder = request == null ? null : negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+
+		if (encoder == null) {
+			writer.write(message);
+			return;
+		}
+
+		if (isMetadataRequest(request) && configuration.getMaxPrecompressedDocuments() > 0) {
+			writeDocument(message, writer, encoder, request);
+			return;
+		}
+
+		CompressingOutputStream stream = new CompressingOutputStream(message, encoder, configuration.getMinResponseSize());
+
+		writer.write(new StreamingOutputMessage(headers, stream));
+
+		stream.finish();
+	}
+
+	/**
+	 * Returns the {@link ContentEncoder} to use for the given {@code Accept-Encoding} header, i.e. the one accepted with
+	 * the highest quality.
+	 *
+	 * @param acceptEncoding can be {@literal null}.
+	 * @return the {@link ContentEncoder} to use or {@literal null} if the body is to be sent as is.
+	 */
+	ContentEncoder negotiate(String acceptEncoding) {
+
+		if (!StringUtils.hasText(acceptEncoding)) {
+			return null;
+		}
+
+		ContentEncoder result = null;
+		double quality = 0;
+
+		for (String coding : StringUtils.commaDelimitedListToStringArray(acceptEncoding)) {
+
+			String[] parts = StringUtils.tokenizeToStringArray(coding, ";");
+
+			if (parts.length == 0) {
+				continue;
+			}
+
+			double candidateQuality = getQuality(parts);
+
+			for (ContentEncoder encoder : encoders) {
+
+				boolean matches = parts[0].equals("*") || parts[0].equalsIgnoreCase(encoder.getName());
+
+				if (matches && (candidateQuality > quality
+						|| candidateQuality == quality && result != null && isPreferred(encoder, result))) {
+
+					result = encoder;
+					quality = candidateQuality;
+				}
+			}
+		}
+
+		return result;
+	}
+
+	private boolean isPreferred(ContentEncoder encoder, ContentEncoder other) {
+		return encoders.indexOf(encoder) < encoders.indexOf(other);
+	}
+
+	private static double getQuality(String[] parts) {
+
+		for (int i = 1; i < parts.length; i++) {
+
+			String parameter = parts[i].replace(" ", "");
+
+			if (parameter.startsWith("q=")) {
+
+				try {
+					return Double.parseDouble(parameter.substring(2));
+				} catch (NumberFormatException o_O) {
+					return 0;
+				}
+			}
+		}
+
+		return 1;
+	}
+
+	private void writeDocument(HttpOutputMessage message, BodyWriter writer, ContentEncoder encoder,
+			HttpServletRequest request) throws IOException {
+
+		HttpHeaders headers = message.getHeaders();
+		DocumentKey key = new DocumentKey(ServletUriComponentsBuilder.fromContextPath(request).toUriString(),
+				URL_PATH_HELPER.getLookupPathForRequest(request), request.getQueryString(), headers.getContentType(),
+				request.getHeader(HttpHeaders.ACCEPT_LANGUAGE), encoder.getName());
+		byte[] compressed = documents.get(key);
+
+		if (compressed == null) {
+
+			ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+			writer.write(new StreamingOutputMessage(headers, buffer));
+
+			byte[] body = buffer.toByteArray();
+
+			if (body.length < configuration.getMinResponseSize()) {
+
+				StreamUtils.copy(body, message.getBody());
+				return;
+			}
+
+			compressed = compress(body, encoder);
+
+			if (documents.size() >= configuration.getMaxPrecompressedDocuments()) {
+				documents.clear();
+			}
+
+			documents.put(key, compressed);
+		}
+
+		applyContentCoding(headers, encoder);
+		headers.setContentLength(compressed.length);
+
+		StreamUtils.copy(compressed, message.getBody());
+	}
+
+	/**
+	 * Sets the {@code Content-Encoding} header and weakens a strong {@code ETag} (RFC 7232, section 2.1), as the encoded
+	 * representation doesn't share the bytes of the identity one.
+	 *
+	 * @param headers must not be {@literal null}.
+	 * @param encoder must not be {@literal null}.
+	 */
+	private static void applyContentCoding(HttpHeaders headers, ContentEncoder encoder) {
+
+		headers.set(HttpHeaders.CONTENT_ENCODING, encoder.getName());
+
+		String eTag = headers.getETag();
+
+		if (eTag != null && !eTag.startsWith("W/")) {
+			headers.setETag("W/".concat(eTag));
+		}
+	}
+
+	private static byte[] compress(byte[] body, ContentEncoder encoder) throws IOException {
+
+		ByteArrayOutputStream result = new ByteArrayOutputStream(body.length / 4);
+
+		try (OutputStream stream = encoder.encode(result)) {
+			stream.write(body);
+		}
+
+		return result.toByteArray();
+	}
+
+	private boolean isMetadataRequest(HttpServletRequest request) {
+
+		String path = URL_PATH_HELPER.getLookupPathForRequest(request);
+
+		return path.equals(profilePath) || path.startsWith(profilePath.concat("/"));
+	}
+
+	private static HttpServletRequest getCurrentRequest() {
+
+		RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+
+		return attributes instanceof ServletRequestAttributes ? ((ServletRequestAttributes) attributes).getRequest()
+				: null;
+	}
+
+	/**
+	 * Callback to write a response body to an {@link HttpOutputMessage}.
+	 *
+	 * @since 3.1
+	 */
+	public interface BodyWriter {
+
+		/**
+		 * Writes the response body to the given {@link HttpOutputMessage}.
+		 *
+		 * @param message will never be {@literal null}.
+		 * @throws IOException
+		 */
+		void write(HttpOutputMessage message) throws IOException;
+	}
+
+	/**
+	 * Key of a cached compressed document.
+	 */
+	@Value
+	private static class DocumentKey {
+
+		String baseUri, path, query;
+		MediaType contentType;
+		String language, encoding;
+	}
+
+	/**
+	 * {@link HttpOutputMessage} exposing the headers of the original message but writing the body to a given
+	 * {@link OutputStream}.
+	 */
+	@Value
+	private static class StreamingOutputMessage implements HttpOutputMessage {
+
+		HttpHeaders headers;
+		OutputStream body;
+	}
+
+	/**
+	 * {@link OutputStream} buffering the body until it exceeds the given threshold and encoding it from then on. Headers
+	 * can still be changed while the body is buffered, as the body of the original message isn't accessed before.
+	 */
+	private static class CompressingOutputStream extends OutputStream {
+
+		private final HttpOutputMessage message;
+		private final ContentEncoder encoder;
+		private final int threshold;
+
+		private ByteArrayOutputStream buffer;
+		private OutputStream target;
+
+		CompressingOutputStream(HttpOutputMessage message, ContentEncoder encoder, int threshold) {
+
+			this.message = message;
+			this.encoder = encoder;
+			this.threshold = threshold;
+			this.buffer = new ByteArrayOutputStream(Math.min(threshold, 8192) + 1);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(int)
+		 */
+		@Override
+		public void write(int b) throws IOException {
+
+			if (target != null) {
+				target.write(b);
+				return;
+			}
+
+			buffer.write(b);
+			startEncodingIfNecessary();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#write(byte[], int, int)
+		 */
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+
+			if (target != null) {
+				target.write(b, off, len);
+				return;
+			}
+
+			buffer.write(b, off, len);
+			startEncodingIfNecessary();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.io.OutputStream#flush()
+		 */
+		@Override
+		public void flush() throws IOException {
+
+			// buffered content is only written once the size of the body is known
+			if (target != null) {
+				target.flush();
+			}
+		}
+
+		/**
+		 * Completes the body, i.e. writes it as is if it didn't exceed the threshold or finishes the encoding.
+		 *
+		 * @throws IOException
+		 */
+		void finish() throws IOException {
+
+			if (target == null) {
+
+				buffer.writeTo(message.getBody());
+				return;
+			}
+
+			target.close();
+		}
+
+		private void startEncodingIfNecessary() throws IOException {
+
+			if (buffer.size() < threshold) {
+				return;
+			}
+
+			HttpHeaders headers = message.getHeaders();
+			applyContentCoding(headers, encoder);
+			headers.remove(HttpHeaders.CONTENT_LENGTH);
+
+			target = encoder.encode(StreamUtils.nonClosing(message.getBody()));
+			buffer.writeTo(target);
+			buffer = null;
+		}
+	}
+}
@@ -47,18 +47,25 @@ public abstract class UriUtils {
 	public static String findMappingVariable(String variable, Method method, String lookupPath) {
 
 		Assert.hasText(variable, "Variable name must not be null or empty!");
-		Assert.notNull(method, "Method must not be null!");
 
-		String mapping = DISCOVERER.getMapping(method);
+		return findMappingVariables(method, lookupPath).get(variable);
+	}
 
-		Map<String, String> variables = new org.springframework.web.util.UriTemplate(mapping).match(lookupPath);
-		String value = variables.get(variable);
+	/**
+	 * Returns all mapping variables of the given method's mapping matched against the given lookup path.
+	 *
+	 * @param method must not be {@literal null}.
+	 * @param lookupPath
+	 * @return will never be {@literal null}.
+	 * @since 3.1
+	 */
+	public static Map<String, String> findMappingVariables(Method method, String lookupPath) {
 
-		if (value != null) {
-			return value;
-		}
+		Assert.notNull(method, "Method must not be null!");
+
+		String mapping = DISCOVERER.getMapping(method);
 
-		return null;
+		return new org.springframework.web.util.UriTemplate(mapping).match(lookupPath);
 	}
 
 	/**
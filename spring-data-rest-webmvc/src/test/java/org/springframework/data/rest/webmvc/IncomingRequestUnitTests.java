@@ -57,4 +57,17 @@ public class IncomingRequestUnitTests {
 		assertThat(incomingRequest.isJsonPatchRequest()).isFalse();
 		assertThat(incomingRequest.isJsonMergePatchRequest()).isTrue();
 	}
+
+	@Test
+	public void identifiesBinaryPatchRequests() {
+
+		request.addHeader("Content-Type", "application/json-patch+cbor");
+
+		assertThat(new IncomingRequest(new ServletServerHttpRequest(request)).isJsonPatchRequest()).isTrue();
+
+		MockHttpServletRequest mergePatch = new MockHttpServletRequest("PATCH", "/");
+		mergePatch.addHeader("Content-Type", "application/merge-patch+smile");
+
+		assertThat(new IncomingRequest(new ServletServerHttpRequest(mergePatch)).isJsonMergePatchRequest()).isTrue();
+	}
 }
@@ -15,9 +15,13 @@
  */
 package org.springframework.data.rest.webmvc;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,9 +32,14 @@ import java.util.Set;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.PersistentProperty;
@@ -44,10 +53,17 @@ import org.springframework.data.rest.core.mapping.ResourceMappings;
 import org.springframework.data.rest.core.mapping.ResourceMetadata;
 import org.springframework.data.rest.core.mapping.ResourceType;
 import org.springframework.data.rest.core.mapping.SupportedHttpMethods;
+import org.springframework.data.rest.webmvc.spi.AssociationMembership;
+import org.springframework.data.rest.webmvc.spi.AssociationPaging;
+import org.springframework.data.rest.webmvc.support.DefaultedPageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.Link;
+import org.springframework.hateoas.PagedResources;
+import org.springframework.hateoas.ResourceAssembler;
+import org.springframework.hateoas.ResourceSupport;
 import org.springframework.hateoas.Resources;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
 
 /**
  * Unit tests for {@link RepositoryPropertyReferenceController}.
@@ -62,6 +78,9 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 	@Mock RepositoryInvokerFactory invokerFactory;
 	@Mock RepositoryInvoker invoker;
 	@Mock ApplicationEventPublisher publisher;
+	@Mock AssociationMembership membership;
+	@Mock PersistentEntityResourceAssembler entityAssembler;
+	@Mock AssociationPaging paging;
 
 	KeyValueMappingContext<?, ?> mappingContext = new KeyValueMappingContext<>();
 
@@ -93,13 +112,163 @@ public class RepositoryPropertyReferenceControllerUnitTests {
 		verify(invoker).invokeFindById("some-id");
 	}
 
+	@Test
+	public void looksUpAssociationItemThroughTargetRepositoryIfMembershipCanBeVerified() throws Exception {
+
+		Reference reference = new Reference();
+		PersistentEntityResource resource = mock(PersistentEntityResource.class);
+		doReturn(new Link("/references/some-id")).when(resource).getId();
+		doReturn(resource).when(entityAssembler).toResource(reference);
+		doReturn(Optional.of(true)).when(membership).isMember(any(), any(), eq(reference));
+
+		ResponseEntity<ResourceSupport> response = followPropertyReference(reference);
+
+		assertThat(response.getBody()).isSameAs(resource);
+		assertThat(response.getHeaders().getFirst("Content-Location")).isEqualTo("/references/some-id");
+	}
+
+	@Test
+	public void rejectsItemNotContainedInAssociation() throws Exception {
+
+		Reference reference = new Reference();
+		doReturn(Optional.of(false)).when(membership).isMember(any(), any(), eq(reference));
+
+		assertThatExceptionOfType(ResourceNotFoundException.class)
+				.isThrownBy(() -> followPropertyReference(reference));
+
+		verify(entityAssembler, never()).toResource(any());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void pagesCollectionAssociationInMemoryIfNotSupportedByStore() throws Exception {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Sample.class);
+
+		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
+				new PersistentEntities(Collections.singleton(mappingContext)));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
+		when(metadata.getSupportedHttpMethods()).thenReturn(AllSupportedHttpMethods.INSTANCE);
+
+		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
+				invokerFactory, assembler, null, membership, paging);
+
+		Sample sample = new Sample();
+		sample.references = Arrays.asList(new Reference("Dave"), new Reference(null), new Reference("Carter"),
+				new Reference("Boyd"));
+
+		doReturn(Optional.of(sample)).when(invoker).invokeFindById(4711);
+		doReturn(mappingContext.getRequiredPersistentEntity(Reference.class)).when(repositories)
+				.getPersistentEntity(Reference.class);
+		doReturn(Optional.empty()).when(paging).getPage(eq(sample), any(), any());
+		doReturn(new PagedResources<Object>(Collections.emptyList(), null)).when(assembler).toResource(any(Page.class),
+				any(ResourceAssembler.class));
+
+		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
+		DefaultedPageable pageable = new DefaultedPageable(PageRequest.of(1, 2, Sort.by("name")), false);
+
+		controller.followPropertyReference(information, 4711, "references", pageable, entityAssembler);
+
+		ArgumentCaptor<List> content = ArgumentCaptor.forClass(List.class);
+		verify(entityAssembler).toResources(content.capture());
+		assertThat(content.getValue()).extracting("name").containsExactly("Dave", null);
+
+		ArgumentCaptor<Page> page = ArgumentCaptor.forClass(Page.class);
+		verify(assembler).toResource(page.capture(), any(ResourceAssembler.class));
+		assertThat(page.getValue().getTotalElements()).isEqualTo(4L);
+		assertThat(page.getValue().getNumber()).isEqualTo(1);
+	}
+
+	@Test
+	public void removesLookedUpMemberFromAssociation() throws Exception {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Owner.class);
+
+		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
+				new PersistentEntities(Collections.singleton(mappingContext)));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Owner.class));
+		when(metadata.getSupportedHttpMethods()).thenReturn(AllSupportedHttpMethods.INSTANCE);
+
+		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
+				invokerFactory, assembler, null, membership, AssociationPaging.NONE);
+		controller.setApplicationEventPublisher(publisher);
+
+		// Different instance than the one contained in the association, identifier not matching the raw one literally
+		Item member = new Item(42L);
+		Item other = new Item(43L);
+
+		Owner owner = new Owner();
+		owner.items = new ArrayList<Item>(Arrays.asList(other, new Item(42L)));
+
+		doReturn(true).when(repositories).hasRepositoryFor(Item.class);
+		doReturn(mappingContext.getRequiredPersistentEntity(Item.class)).when(repositories)
+				.getPersistentEntity(Item.class);
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Item.class);
+		doReturn(Optional.of(owner)).when(invoker).invokeFindById(4711);
+		doReturn(Optional.of(member)).when(invoker).invokeFindById("0042");
+		doReturn(Optional.of(true)).when(membership).isMember(any(), any(), eq(member));
+
+		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
+
+		controller.deletePropertyReferenceId(information, 4711, "items", "0042");
+
+		assertThat(owner.items).containsExactly(other);
+		verify(invoker).invokeSave(owner);
+	}
+
+	@SuppressWarnings("unchecked")
+	private ResponseEntity<ResourceSupport> followPropertyReference(Reference reference) throws Exception {
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getRequiredPersistentEntity(Sample.class);
+
+		ResourceMappings mappings = new PersistentEntitiesResourceMappings(
+				new PersistentEntities(Collections.singleton(mappingContext)));
+		ResourceMetadata metadata = spy(mappings.getMetadataFor(Sample.class));
+		when(metadata.getSupportedHttpMethods()).thenReturn(AllSupportedHttpMethods.INSTANCE);
+
+		RepositoryPropertyReferenceController controller = new RepositoryPropertyReferenceController(repositories,
+				invokerFactory, assembler, null, membership, AssociationPaging.NONE);
+
+		// Iterating the association would load it entirely
+		Sample sample = new Sample();
+		sample.references = mock(List.class);
+
+		doReturn(true).when(repositories).hasRepositoryFor(Reference.class);
+		doReturn(invoker).when(invokerFactory).getInvokerFor(Reference.class);
+		doReturn(Optional.of(sample)).when(invoker).invokeFindById(4711);
+		doReturn(Optional.of(reference)).when(invoker).invokeFindById("some-id");
+
+		RootResourceInformation information = new RootResourceInformation(metadata, entity, invoker);
+
+		try {
+			return controller.followPropertyReference(information, 4711, "references", "some-id", entityAssembler);
+		} finally {
+			verifyZeroInteractions(sample.references);
+		}
+	}
+
 	@RestResource
 	static class Sample {
 		@org.springframework.data.annotation.Reference List<Reference> references = new ArrayList<Reference>();
 	}
 
 	@RestResource
-	static class Reference {}
+	@NoArgsConstructor
+	@AllArgsConstructor
+	static class Reference {
+		String name;
+	}
+
+	@RestResource
+	static class Owner {
+		@org.springframework.data.annotation.Reference List<Item> items = new ArrayList<Item>();
+	}
+
+	@RestResource
+	@AllArgsConstructor
+	static class Item {
+		@Id Long id;
+	}
 
 	static enum AllSupportedHttpMethods implements SupportedHttpMethods {
 
@@ -20,13 +20,17 @@ import static org.assertj.core.api.Assertions.*;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.Logger;
 
+import java.time.Duration;
+
 import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.support.StaticMessageSource;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.rest.core.ConcurrencyLimitExceededException;
 import org.springframework.data.rest.webmvc.support.ExceptionMessage;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -83,4 +87,14 @@ public class RepositoryRestExceptionHandlerUnitTests {
 		assertThat(result.getBody()).isNotNull();
 		assertThat(result.getBody().getMessage()).isEqualTo(message);
 	}
+
+	@Test
+	public void rejectsRequestsExceedingConcurrencyLimitWithRetryAfter() {
+
+		ResponseEntity<ExceptionMessage> result = HANDLER
+				.handle(new ConcurrencyLimitExceededException("PersonRepository", 5, Duration.ofSeconds(3)));
+
+		assertThat(result.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		assertThat(result.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+	}
 }
@@ -84,6 +84,15 @@ public class ResourceStatusUnitTests {
 		assertNotModified(status.getStatusAndHeaders(headers, new Sample(1), entity));
 	}
 
+	@Test
+	public void returnsNotModifiedForEntityWithWeakVersionOfRequestedETag() {
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfNoneMatch("W/\"1\"");
+
+		assertNotModified(status.getStatusAndHeaders(headers, new Sample(1), entity));
+	}
+
 	@Test // DATAREST-835
 	public void returnsNotModifiedIfEntityIsStillConsideredValid() {
 
@@ -106,12 +115,14 @@ public class ResourceStatusUnitTests {
 		assertThat(statusAndHeaders.isModified()).isTrue();
 		assertThat(statusAndHeaders.toResponseEntity(supplier).getStatusCode()).isEqualTo(HttpStatus.OK);
 		verify(supplier).get();
+		verify(preparer, never()).addCacheControl(any(), any());
 	}
 
 	private void assertNotModified(StatusAndHeaders statusAndHeaders) {
 
 		assertThat(statusAndHeaders.isModified()).isFalse();
 		assertThat(statusAndHeaders.toResponseEntity(supplier).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		verify(preparer).addCacheControl(any(HttpHeaders.class), eq(entity));
 	}
 
 	@Value
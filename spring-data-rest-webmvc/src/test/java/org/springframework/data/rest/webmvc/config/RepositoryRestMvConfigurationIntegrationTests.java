@@ -46,17 +46,23 @@ import org.springframework.data.rest.webmvc.json.PersistentEntityJackson2Module;
 import org.springframework.data.web.HateoasPageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
 import org.springframework.format.datetime.DateFormatter;
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.LinkDiscoverers;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.hateoas.Resource;
 import org.springframework.hateoas.core.DefaultRelProvider;
 import org.springframework.hateoas.mvc.TypeConstrainedMappingJackson2HttpMessageConverter;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.jayway.jsonpath.JsonPath;
 
 /**
@@ -173,6 +179,28 @@ public class RepositoryRestMvConfigurationIntegrationTests {
 		assertThat(converters.get(1).getSupportedMediaTypes()).contains(MediaTypes.HAL_JSON);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void registersBinaryHalConverters() throws Exception {
+
+		List<HttpMessageConverter<?>> converters = context.getBean("defaultMessageConverters", List.class);
+
+		MappingJackson2HttpMessageConverter halConverter = getConverterFor(converters, RestMediaTypes.HAL_CBOR);
+
+		assertThat(halConverter.getSupportedMediaTypes()).contains(RestMediaTypes.CBOR);
+		assertThat(getConverterFor(converters, RestMediaTypes.JSON_PATCH_CBOR).getObjectMapper().getFactory())
+				.isInstanceOf(CBORFactory.class);
+		assertThat(getConverterFor(converters, RestMediaTypes.HAL_SMILE).getObjectMapper().getFactory())
+				.isInstanceOf(SmileFactory.class);
+
+		Resource<Sample> resource = new Resource<>(new Sample(), new Link("/samples/1"));
+		byte[] bytes = halConverter.getObjectMapper().writeValueAsBytes(resource);
+
+		JsonNode node = new ObjectMapper(new CBORFactory()).readTree(bytes);
+
+		assertThat(node.at("/_links/self/href").asText()).isEqualTo("/samples/1");
+	}
+
 	@Test // DATAREST-431, DATACMNS-626
 	public void hasConvertersForPointAndDistance() {
 
@@ -194,6 +222,17 @@ public class RepositoryRestMvConfigurationIntegrationTests {
 		assertThat((String) ReflectionTestUtils.getField(messageSource, "defaultEncoding")).isEqualTo("UTF-8");
 	}
 
+	private static MappingJackson2HttpMessageConverter getConverterFor(List<HttpMessageConverter<?>> converters,
+			MediaType mediaType) {
+
+		return converters.stream() //
+				.filter(MappingJackson2HttpMessageConverter.class::isInstance) //
+				.map(MappingJackson2HttpMessageConverter.class::cast) //
+				.filter(it -> it.getSupportedMediaTypes().contains(mediaType)) //
+				.findFirst() //
+				.orElseThrow(() -> new AssertionError("No converter found for " + mediaType));
+	}
+
 	@Configuration
 	@Import(RepositoryRestMvcConfiguration.class)
 	static class ExtendingConfiguration {
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.convert;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.ResourceSupport;
+import org.springframework.hateoas.Resources;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+/**
+ * Unit tests for {@link UriListHttpMessageConverter}, {@link StreamingUriList} and {@link ResourceReference}.
+ */
+public class UriListHttpMessageConverterUnitTests {
+
+	static final MediaType TEXT_URI_LIST = MediaType.parseMediaType("text/uri-list");
+
+	UriListHttpMessageConverter converter = new UriListHttpMessageConverter();
+
+	@Test
+	public void parsesReferencesSkippingBlankLinesAndComments() throws Exception {
+
+		String body = "# comment\r\nhttp://localhost/people/1\r\n\r\n  http://localhost/people/2{?projection}  \n"
+				+ "/people/3\rhttp://localhost/people/4";
+
+		ResourceSupport result = read(body.getBytes(StandardCharsets.US_ASCII), TEXT_URI_LIST);
+
+		assertThat(result).isInstanceOf(UriListResources.class);
+
+		List<ResourceReference> references = ResourceReference.of(result);
+
+		assertThat(references).extracting(ResourceReference::getId).containsExactly("1", "2", "3", "4");
+		assertThat(references).extracting(ResourceReference::getRepositoryPath).containsOnly("people");
+		assertThat(result.getLinks()).extracting(Link::getHref).containsExactly("http://localhost/people/1",
+				"http://localhost/people/2{?projection}", "/people/3", "http://localhost/people/4");
+	}
+
+	@Test
+	public void parsesLinesSpanningMultipleBuffers() throws Exception {
+
+		StringBuilder builder = new StringBuilder();
+
+		for (int i = 0; i < 2000; i++) {
+			builder.append("http://localhost/people/").append(i).append("\n");
+		}
+
+		List<ResourceReference> references = ResourceReference.of(read(builder.toString().getBytes(), TEXT_URI_LIST));
+
+		assertThat(references).hasSize(2000);
+		assertThat(references.get(1999).getId()).isEqualTo("1999");
+	}
+
+	@Test
+	public void usesCharsetOfContentType() throws Exception {
+
+		String body = "http://localhost/people/Jürgen\n";
+
+		assertThat(ResourceReference.of(read(body.getBytes(StandardCharsets.UTF_16),
+				MediaType.parseMediaType("text/uri-list;charset=UTF-16")))) //
+						.extracting(ResourceReference::getId).containsExactly("Jürgen");
+
+		assertThat(ResourceReference.of(read(body.getBytes(StandardCharsets.UTF_8), TEXT_URI_LIST))) //
+				.extracting(ResourceReference::getId).containsExactly("Jürgen");
+	}
+
+	@Test
+	public void skipsCommentsAndBlankLinesOfBodiesInNonAsciiCharsets() throws Exception {
+
+		String body = "# comment\r\n\r\n\thttp://localhost/people/Jürgen \r\nhttp://localhost/people/2";
+
+		assertThat(ResourceReference.of(read(body.getBytes(StandardCharsets.UTF_16),
+				MediaType.parseMediaType("text/uri-list;charset=UTF-16")))) //
+						.extracting(ResourceReference::getId).containsExactly("Jürgen", "2");
+	}
+
+	@Test
+	public void writesLinksSeparatedByCrLf() throws Exception {
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		Resources<Object> resources = new Resources<>(Arrays.asList(), new Link("http://localhost/people/Jürgen"),
+				new Link("http://localhost/people/2"));
+
+		converter.write(resources, MediaType.parseMediaType("text/uri-list;charset=ISO-8859-1"), message);
+
+		assertThat(message.getBodyAsString(StandardCharsets.ISO_8859_1))
+				.isEqualTo("http://localhost/people/Jürgen\r\nhttp://localhost/people/2\r\n");
+	}
+
+	@Test
+	public void writesStreamingUriListAsLinksAreCreated() throws Exception {
+
+		MockHttpOutputMessage message = new MockHttpOutputMessage();
+		List<Object> created = new ArrayList<>();
+
+		StreamingUriList uris = new StreamingUriList(Arrays.asList(1, 2), it -> {
+			created.add(it);
+			return new Link("http://localhost/people/" + it);
+		});
+
+		assertThat(created).isEmpty();
+
+		converter.write(uris, TEXT_URI_LIST, message);
+
+		assertThat(created).containsExactly(1, 2);
+		assertThat(message.getBodyAsString(StandardCharsets.UTF_8))
+				.isEqualTo("http://localhost/people/1\r\nhttp://localhost/people/2\r\n");
+	}
+
+	@Test
+	public void derivesReferenceFromLinks() {
+
+		ResourceSupport resource = new ResourceSupport();
+		resource.add(new Link("http://localhost/people/1/?projection=summary#foo", "father"));
+
+		assertThat(ResourceReference.of(resource)).hasOnlyOneElementSatisfying(it -> {
+			assertThat(it.getId()).isEqualTo("1");
+			assertThat(it.getRepositoryPath()).isEqualTo("people");
+			assertThat(it.getRel()).isEqualTo("father");
+		});
+
+		assertThat(ResourceReference.of((ResourceSupport) null)).isEmpty();
+		assertThat(ResourceReference.of("1").getRepositoryPath()).isEmpty();
+	}
+
+	private ResourceSupport read(byte[] body, MediaType mediaType) throws IOException {
+
+		MockHttpInputMessage message = new MockHttpInputMessage(body);
+		message.getHeaders().setContentType(mediaType);
+
+		return converter.read(Resources.class, message);
+	}
+}
@@ -555,6 +555,21 @@ public class DomainObjectReaderUnitTests {
 		assertThat(result.tags).contains(second);
 	}
 
+	@Test
+	public void readsPutPayloadFromInputStream() throws Exception {
+
+		ObjectMapper mapper = new ObjectMapper();
+		mapper.setPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE);
+
+		ByteArrayInputStream source = new ByteArrayInputStream(
+				"{\"FirstName\":\"Carter\",\"LastName\":\"Beauford\"}".getBytes(Charsets.UTF_8));
+
+		Person result = reader.readPut(source, new Person("Dave", "Matthews"), mapper);
+
+		assertThat(result.firstName).isEqualTo("Carter");
+		assertThat(result.lastName).isEqualTo("Beauford");
+	}
+
 	@SuppressWarnings("unchecked")
 	private static <T> T as(Object source, Class<T> type) {
 
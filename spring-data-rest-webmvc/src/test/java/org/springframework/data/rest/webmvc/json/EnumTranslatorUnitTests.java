@@ -145,6 +145,55 @@ public class EnumTranslatorUnitTests {
 		assertThat(configuration.fromText(MyEnum.class, "SECOND_VALUE")).isNull();
 	}
 
+	@Test
+	public void cachesTranslationsUntilCacheIsCleared() {
+
+		String code = MyEnum.class.getName().concat(".").concat(MyEnum.SECOND_VALUE.name());
+
+		assertThat(configuration.asText(MyEnum.SECOND_VALUE)).isEqualTo("Second value");
+
+		messageSource.addMessage(code, Locale.US, "Second");
+
+		assertThat(configuration.asText(MyEnum.SECOND_VALUE)).isEqualTo("Second value");
+
+		configuration.clearCache();
+
+		assertThat(configuration.asText(MyEnum.SECOND_VALUE)).isEqualTo("Second");
+		assertThat(configuration.fromText(MyEnum.class, "Second")).isEqualTo(MyEnum.SECOND_VALUE);
+		assertThat(configuration.fromText(MyEnum.class, "Second value")).isNull();
+	}
+
+	@Test
+	public void boundsNumberOfLocalesTranslationsAreCachedFor() {
+
+		for (int i = 0; i < EnumTranslator.MAX_CACHED_LOCALES * 2; i++) {
+
+			LocaleContextHolder.setLocale(new Locale("x" + i));
+
+			assertThat(configuration.asText(MyEnum.SECOND_VALUE)).isEqualTo("Second value");
+		}
+
+		LocaleContextHolder.setLocale(Locale.US);
+
+		assertThat(configuration.getCachedLocaleCount()).isEqualTo(EnumTranslator.MAX_CACHED_LOCALES);
+		assertThat(configuration.asText(MyEnum.FIRST_VALUE)).isEqualTo("Translated");
+	}
+
+	@Test
+	public void resolvesTranslationsPerLocale() {
+
+		messageSource.addMessage(MyEnum.class.getName().concat(".").concat(MyEnum.FIRST_VALUE.name()), Locale.GERMAN,
+				"Erster Wert");
+
+		assertThat(configuration.asText(MyEnum.FIRST_VALUE)).isEqualTo("Translated");
+
+		LocaleContextHolder.setLocale(Locale.GERMAN);
+
+		assertThat(configuration.asText(MyEnum.FIRST_VALUE)).isEqualTo("Erster Wert");
+		assertThat(configuration.fromText(MyEnum.class, "Erster Wert")).isEqualTo(MyEnum.FIRST_VALUE);
+		assertThat(configuration.getValues(MyEnum.class)).containsExactly("Erster Wert", "Second value");
+	}
+
 	static enum MyEnum {
 		FIRST_VALUE, SECOND_VALUE;
 	}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.SerializerCacheConfiguration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Unit tests for {@link JacksonCacheWarmer} and {@link BoundedSerializerProvider}.
+ */
+public class JacksonCacheWarmerUnitTests {
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+	ProjectionDefinitionConfiguration projections = new ProjectionDefinitionConfiguration();
+	SerializerCacheConfiguration configuration = new SerializerCacheConfiguration();
+
+	ObjectMapper mapper;
+
+	@Before
+	public void setUp() {
+
+		context.getPersistentEntity(Sample.class);
+		projections.addProjection(SampleExcerpt.class, Sample.class);
+
+		mapper = new ObjectMapper();
+		mapper.setSerializerProvider(new BoundedSerializerProvider(10));
+	}
+
+	@Test
+	public void resolvesSerializersForDomainTypesAndProjections() {
+
+		JacksonCacheWarmer warmer = new JacksonCacheWarmer(new PersistentEntities(Arrays.asList(context)), projections,
+				configuration, Collections.singletonList(mapper));
+
+		assertThat(warmer.getCachedSerializerCounts()).containsExactly(0);
+
+		warmer.warmUp();
+
+		assertThat(warmer.getCachedSerializerCounts().get(0)).isGreaterThanOrEqualTo(2);
+	}
+
+	@Test
+	public void dropsCachedSerializersOnceLimitIsReached() throws Exception {
+
+		mapper.setSerializerProvider(new BoundedSerializerProvider(1));
+
+		mapper.writeValueAsString(new Sample());
+		mapper.writeValueAsString(new Sample());
+
+		BoundedSerializerProvider provider = (BoundedSerializerProvider) mapper.getSerializerProvider();
+
+		assertThat(provider.getFlushCount()).isEqualTo(1L);
+		assertThat(provider.cachedSerializersCount()).isGreaterThan(0);
+		assertThat(mapper.copy().getSerializerProvider()).isInstanceOf(BoundedSerializerProvider.class);
+	}
+
+	@Test
+	public void reportsSerializerCacheFlushes() throws Exception {
+
+		mapper.setSerializerProvider(new BoundedSerializerProvider(1));
+
+		JacksonCacheWarmer warmer = new JacksonCacheWarmer(new PersistentEntities(Arrays.asList(context)), projections,
+				configuration, Arrays.asList(mapper, new ObjectMapper()));
+
+		mapper.writeValueAsString(new Sample());
+
+		assertThat(warmer.getSerializerCacheFlushCounts()).containsExactly(0L, 0L);
+
+		mapper.writeValueAsString(new Sample());
+
+		assertThat(warmer.getSerializerCacheFlushCounts()).containsExactly(1L, 0L);
+	}
+
+	static class Sample {
+		public String firstname, lastname;
+	}
+
+	interface SampleExcerpt {
+		String getFirstname();
+	}
+}
@@ -20,8 +20,10 @@ import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -32,9 +34,13 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.PersistentEntities;
+import org.springframework.data.repository.support.RepositoryInvoker;
 import org.springframework.data.repository.support.RepositoryInvokerFactory;
 import org.springframework.data.rest.core.UriToEntityConverter;
+import org.springframework.data.rest.core.config.LookupCacheConfiguration;
 import org.springframework.data.rest.core.mapping.ResourceMappings;
+import org.springframework.data.rest.core.support.EntityLookup;
+import org.springframework.data.rest.core.support.LookupEntityCache;
 import org.springframework.data.rest.core.support.SelfLinkProvider;
 import org.springframework.data.rest.core.util.Java8PluginRegistry;
 import org.springframework.data.rest.webmvc.EmbeddedResourcesAssembler;
@@ -80,6 +86,7 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		mappingContext.getPersistentEntity(Sample.class);
 		mappingContext.getPersistentEntity(SampleWithAdditionalGetters.class);
 		mappingContext.getPersistentEntity(PersistentEntityJackson2ModuleUnitTests.PetOwner.class);
+		mappingContext.getPersistentEntity(Purchase.class);
 
 		this.persistentEntities = new PersistentEntities(Arrays.asList(mappingContext));
 
@@ -135,6 +142,55 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		assertThat(petOwner.getPet()).isNotNull();
 	}
 
+	@Test
+	public void resolvesLookupTypesThroughLookupEntityCache() throws IOException {
+
+		PersistentProperty<?> property = persistentEntities.getRequiredPersistentEntity(Purchase.class)
+				.getRequiredPersistentProperty("category");
+
+		RepositoryInvokerFactory factory = mock(RepositoryInvokerFactory.class);
+		RepositoryInvoker invoker = mock(RepositoryInvoker.class);
+
+		when(associations.isLookupType(any(PersistentProperty.class))).thenAnswer(it -> property.equals(it.getArgument(0)));
+		when(factory.getInvokerFor(Category.class)).thenReturn(invoker);
+		doReturn(Optional.of(new Category("music"))).when(invoker).invokeFindById("music");
+
+		LookupEntityCache cache = new LookupEntityCache(
+				new LookupCacheConfiguration().setTimeToLive(Duration.ofMinutes(1)).addImmutableTypes(Category.class));
+
+		SimpleModule module = new SimpleModule();
+		module.setDeserializerModifier(
+				new AssociationUriResolvingDeserializerModifier(persistentEntities, associations, converter, factory, cache));
+
+		ObjectMapper mapper = new ObjectMapper().registerModule(module);
+
+		Purchase first = mapper.readValue("{\"category\":\"music\"}", Purchase.class);
+		Purchase second = mapper.readValue("{\"category\":\"music\"}", Purchase.class);
+
+		assertThat(first.category.name).isEqualTo("music");
+		assertThat(second.category).isSameAs(first.category);
+
+		verify(invoker, times(1)).invokeFindById("music");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void resolvesEntityLookupOncePerType() throws IOException {
+
+		EntityLookup<Category> lookup = mock(EntityLookup.class);
+
+		when(lookup.supports(Category.class)).thenReturn(true);
+		when(lookup.getResourceIdentifier(any(Category.class))).thenAnswer(it -> it.<Category> getArgument(0).name);
+
+		LookupObjectSerializer serializer = new LookupObjectSerializer(Java8PluginRegistry.of(Arrays.asList(lookup)));
+		ObjectMapper mapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(Category.class, serializer));
+
+		assertThat(mapper.writeValueAsString(Arrays.asList(new Category("music"), new Category("books"))))
+				.isEqualTo("[\"music\",\"books\"]");
+
+		verify(lookup, times(1)).supports(Category.class);
+	}
+
 	static class PetOwner {
 
 		Pet pet;
@@ -153,6 +209,19 @@ public class PersistentEntityJackson2ModuleUnitTests {
 		public @JsonProperty("foo") String name;
 	}
 
+	static class Purchase {
+		public Category category;
+	}
+
+	static class Category {
+
+		String name;
+
+		Category(String name) {
+			this.name = name;
+		}
+	}
+
 	static class SampleWithAdditionalGetters extends Sample {
 
 		public int getNumber() {
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.json;
+
+import static org.assertj.core.api.Assertions.*;
+
+import lombok.Value;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Unit tests for {@link UnwrappingSerializers}.
+ */
+public class UnwrappingSerializersUnitTests {
+
+	UnwrappingSerializers serializers = new UnwrappingSerializers();
+
+	@Test
+	public void reusesUnwrappingSerializerForType() throws Exception {
+
+		SerializerProvider provider = new ObjectMapper().getSerializerProviderInstance();
+
+		JsonSerializer<Object> serializer = serializers.getUnwrappingSerializer(Sample.class, provider);
+
+		assertThat(serializer.isUnwrappingSerializer()).isTrue();
+		assertThat(serializers.getUnwrappingSerializer(Sample.class, provider)).isSameAs(serializer);
+	}
+
+	@Test
+	public void doesNotShareSerializersAcrossObjectMappers() throws Exception {
+
+		JsonSerializer<Object> first = serializers.getUnwrappingSerializer(Sample.class,
+				new ObjectMapper().getSerializerProviderInstance());
+		JsonSerializer<Object> second = serializers.getUnwrappingSerializer(Sample.class,
+				new ObjectMapper().getSerializerProviderInstance());
+
+		assertThat(first).isNotSameAs(second);
+	}
+
+	@Test
+	public void dropsCachedSerializersOnceABoundedSerializerProviderFlushes() throws Exception {
+
+		SerializerProvider provider = new ObjectMapper().getSerializerProviderInstance();
+		JsonSerializer<Object> serializer = serializers.getUnwrappingSerializer(Sample.class, provider);
+
+		long epoch = BoundedSerializerProvider.getFlushEpoch();
+
+		ObjectMapper bounded = new ObjectMapper();
+		bounded.setSerializerProvider(new BoundedSerializerProvider(1));
+
+		// The first serializer reaches the limit, so the second serialization flushes the cache
+		bounded.writeValueAsString(new Sample("first"));
+		bounded.writeValueAsString(new Sample("second"));
+
+		assertThat(BoundedSerializerProvider.getFlushEpoch()).isGreaterThan(epoch);
+		assertThat(serializers.getUnwrappingSerializer(Sample.class, provider)).isNotSameAs(serializer);
+	}
+
+	@Value
+	static class Sample {
+		String name;
+	}
+}
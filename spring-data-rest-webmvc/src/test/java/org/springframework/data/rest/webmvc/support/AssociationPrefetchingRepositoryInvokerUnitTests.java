@@ -0,0 +1,116 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.repository.support.RepositoryInvoker;
+import org.springframework.data.rest.core.support.FetchPlan;
+import org.springframework.data.rest.webmvc.spi.AssociationPrefetch;
+
+/**
+ * Unit tests for {@link AssociationPrefetchingRepositoryInvoker}.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AssociationPrefetchingRepositoryInvokerUnitTests {
+
+	@Mock RepositoryInvoker delegate;
+	@Mock AssociationPrefetch prefetch;
+
+	KeyValueMappingContext<?, ?> context = new KeyValueMappingContext<>();
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void prefetchesPlannedPropertiesForAllInstancesOfPage() {
+
+		Order first = new Order(), second = new Order();
+		doReturn(new PageImpl<>(Arrays.asList(first, second))).when(delegate).invokeFindAll(any(Pageable.class));
+
+		AssociationPrefetchingRepositoryInvoker invoker = getInvoker();
+		FetchPlan plan = FetchPlan.of(Order.class, Arrays.asList("customer", "unknown"));
+
+		assertThat(invoker.invokeFindAll(Pageable.unpaged(), plan)).containsExactly(first, second);
+
+		ArgumentCaptor<Collection<?>> owners = ArgumentCaptor.forClass(Collection.class);
+		ArgumentCaptor<Collection<PersistentProperty<?>>> properties = ArgumentCaptor.forClass(Collection.class);
+
+		verify(prefetch).prefetch(owners.capture(), properties.capture());
+
+		assertThat(owners.getValue()).containsExactly(first, second);
+		assertThat(properties.getValue()).extracting(PersistentProperty::getName).containsExactly("customer");
+	}
+
+	@Test
+	public void prefetchesPlannedPropertiesForSingleInstance() {
+
+		Order order = new Order();
+		doReturn(Optional.of(order)).when(delegate).invokeFindById(1L);
+
+		AssociationPrefetchingRepositoryInvoker invoker = getInvoker();
+
+		assertThat(invoker.invokeFindById(1L, FetchPlan.of(Order.class, Collections.singleton("customer"))))
+				.hasValue(order);
+
+		verify(prefetch).prefetch(eq(Collections.singletonList(order)), anyCollection());
+	}
+
+	@Test
+	public void ignoresEmptyPlansAndPlansForOtherTypes() {
+
+		List<Object> orders = Collections.singletonList(new Order());
+		doReturn(orders).when(delegate).invokeFindAll(any(Pageable.class));
+
+		AssociationPrefetchingRepositoryInvoker invoker = getInvoker();
+
+		invoker.invokeFindAll(Pageable.unpaged(), FetchPlan.empty(Order.class));
+		invoker.invokeFindAll(Pageable.unpaged(), FetchPlan.of(Customer.class, Collections.singleton("customer")));
+		invoker.invokeFindAll(Pageable.unpaged());
+
+		verify(delegate, times(3)).invokeFindAll(any(Pageable.class));
+		verifyZeroInteractions(prefetch);
+	}
+
+	private AssociationPrefetchingRepositoryInvoker getInvoker() {
+		return new AssociationPrefetchingRepositoryInvoker(delegate, context.getRequiredPersistentEntity(Order.class),
+				prefetch);
+	}
+
+	static class Order {
+		Long id;
+		Customer customer;
+	}
+
+	static class Customer {
+		Long id;
+	}
+}
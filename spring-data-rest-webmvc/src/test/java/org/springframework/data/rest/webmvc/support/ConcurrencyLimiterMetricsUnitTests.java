@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.data.rest.core.ConcurrencyLimitExceededException;
+import org.springframework.data.rest.core.config.ConcurrencyLimitConfiguration;
+import org.springframework.data.rest.core.support.ConcurrencyLimiter;
+import org.springframework.data.rest.core.support.RepositoryConcurrencyLimits;
+
+/**
+ * Unit tests for {@link ConcurrencyLimiterMetrics}.
+ */
+public class ConcurrencyLimiterMetricsUnitTests {
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	Repositories repositories = mock(Repositories.class);
+	ConcurrencyLimitConfiguration configuration = new ConcurrencyLimitConfiguration().setLimitFor(Person.class, 1);
+
+	RepositoryConcurrencyLimits limits;
+
+	@Before
+	public void setUp() {
+
+		RepositoryInformation information = mock(RepositoryInformation.class);
+		doReturn(PersonRepository.class).when(information).getRepositoryInterface();
+		when(repositories.getRepositoryInformationFor(Person.class)).thenReturn(Optional.of(information));
+
+		this.limits = new RepositoryConcurrencyLimits(repositories, configuration);
+	}
+
+	@Test
+	public void registersMetersForLimitersCreatedLaterOn() {
+
+		new ConcurrencyLimiterMetrics(limits).bindTo(registry);
+
+		assertThat(registry.getMeters()).isEmpty();
+
+		ConcurrencyLimiter limiter = limits.getLimiterFor(Person.class).orElseThrow(IllegalStateException::new);
+		AtomicReference<Double> active = new AtomicReference<>();
+
+		assertThatExceptionOfType(ConcurrencyLimitExceededException.class).isThrownBy(() -> limiter.execute(() -> {
+
+			active.set(getGauge(ConcurrencyLimiterMetrics.ACTIVE_NAME).value());
+
+			return limiter.execute(() -> null);
+		}));
+
+		assertThat(active.get()).isEqualTo(1.0);
+		assertThat(getGauge(ConcurrencyLimiterMetrics.ACTIVE_NAME).value()).isEqualTo(0.0);
+		assertThat(getGauge(ConcurrencyLimiterMetrics.LIMIT_NAME).value()).isEqualTo(1.0);
+		assertThat(getRejections().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	public void registersMetersForExistingLimiters() {
+
+		limits.getLimiterFor(Person.class);
+
+		new ConcurrencyLimiterMetrics(limits).bindTo(registry);
+
+		assertThat(getGauge(ConcurrencyLimiterMetrics.LIMIT_NAME).value()).isEqualTo(1.0);
+		assertThat(getRejections().count()).isEqualTo(0.0);
+	}
+
+	private Gauge getGauge(String name) {
+		return registry.find(name).tags("limiter", PersonRepository.class.getName()).gauge();
+	}
+
+	private FunctionCounter getRejections() {
+
+		return registry.find(ConcurrencyLimiterMetrics.REJECTIONS_NAME) //
+				.tags("limiter", PersonRepository.class.getName()) //
+				.functionCounter();
+	}
+
+	static class Person {}
+
+	interface PersonRepository extends CrudRepository<Person, Long> {}
+}
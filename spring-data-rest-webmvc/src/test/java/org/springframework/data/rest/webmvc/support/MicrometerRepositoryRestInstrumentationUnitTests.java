@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.core.config.EnumTranslationConfiguration;
+import org.springframework.data.rest.core.config.MetadataConfiguration;
+import org.springframework.data.rest.core.config.ProjectionDefinitionConfiguration;
+import org.springframework.data.rest.core.config.RepositoryRestConfiguration;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Phase;
+import org.springframework.data.rest.webmvc.support.RepositoryRestInstrumentation.Timing;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link MicrometerRepositoryRestInstrumentation}.
+ */
+public class MicrometerRepositoryRestInstrumentationUnitTests {
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	RepositoryRestConfiguration configuration = new RepositoryRestConfiguration(new ProjectionDefinitionConfiguration(),
+			new MetadataConfiguration(), mock(EnumTranslationConfiguration.class));
+	RepositoryRestInstrumentation instrumentation;
+
+	@Before
+	public void setUp() {
+
+		configuration.getProjectionConfiguration().addProjection(Summary.class, "summary", Person.class);
+		configuration.setMaxPageSize(100);
+
+		this.instrumentation = new MicrometerRepositoryRestInstrumentation(registry, configuration);
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void recordsPhaseTimerTaggedWithRequestDetails() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people");
+		request.setParameter("projection", "summary");
+		request.setParameter("size", "50");
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		instrumentation.start(Phase.RESOURCE_ASSEMBLY).stop(Person.class);
+
+		Timer timer = registry.find(MicrometerRepositoryRestInstrumentation.TIMER_NAME) //
+				.tags("domain.type", Person.class.getName(), "method", "GET", "phase", "resource_assembly") //
+				.tags("projection", "summary", "page.size", "50") //
+				.timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1L);
+		assertThat(registry.find(MicrometerRepositoryRestInstrumentation.COUNTER_NAME).counter()).isNull();
+	}
+
+	@Test
+	public void countsRequestsOnResourceResolution() {
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("POST", "/")));
+
+		instrumentation.start(Phase.RESOURCE_RESOLUTION).stop(Person.class);
+		instrumentation.start(Phase.RESOURCE_RESOLUTION).stop(Person.class);
+
+		Counter counter = registry.find(MicrometerRepositoryRestInstrumentation.COUNTER_NAME) //
+				.tags("domain.type", Person.class.getName(), "method", "POST") //
+				.tags("projection", "none", "page.size", "20") //
+				.counter();
+
+		assertThat(counter).isNotNull();
+		assertThat(counter.count()).isEqualTo(2.0);
+	}
+
+	@Test
+	public void doesNotUseUnregisteredRequestParameterValuesAsTags() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/people");
+		request.setParameter("projection", "some-random-value");
+		request.setParameter("size", "100000");
+
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		instrumentation.start(Phase.RESOURCE_ASSEMBLY).stop(Person.class);
+
+		request.setParameter("projection", "another-random-value");
+		request.setParameter("size", "invalid");
+
+		instrumentation.start(Phase.RESOURCE_ASSEMBLY).stop(Person.class);
+
+		assertThat(registry.find(MicrometerRepositoryRestInstrumentation.TIMER_NAME) //
+				.tags("projection", "unknown", "page.size", "100") //
+				.timer()).isNotNull();
+		assertThat(registry.find(MicrometerRepositoryRestInstrumentation.TIMER_NAME) //
+				.tags("projection", "unknown", "page.size", "20") //
+				.timer()).isNotNull();
+		assertThat(registry.getMeters()).hasSize(2);
+	}
+
+	@Test
+	public void tagsUnknownDomainTypeAndMissingRequest() {
+
+		instrumentation.start(Phase.SERIALIZATION).stop(null);
+
+		assertThat(registry.find(MicrometerRepositoryRestInstrumentation.TIMER_NAME) //
+				.tags("domain.type", "none", "method", "none", "phase", "serialization") //
+				.timer()).isNotNull();
+	}
+
+	@Test
+	public void noOpInstrumentationReturnsSharedTiming() {
+
+		Timing timing = RepositoryRestInstrumentation.NONE.start(Phase.REPOSITORY_INVOCATION);
+
+		assertThat(timing).isSameAs(Timing.NONE);
+		assertThat(RepositoryRestInstrumentation.NONE.start(Phase.SERIALIZATION)).isSameAs(timing);
+	}
+
+	static class Person {}
+
+	interface Summary {}
+}
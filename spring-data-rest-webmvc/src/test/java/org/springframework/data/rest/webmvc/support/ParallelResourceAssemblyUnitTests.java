@@ -0,0 +1,161 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link ParallelResourceAssembly}.
+ */
+public class ParallelResourceAssemblyUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@After
+	public void tearDown() {
+
+		executor.shutdownNow();
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void mapsOnCallingThreadWithoutExecutor() {
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		List<Integer> result = ParallelResourceAssembly.NONE.map(numbers(100), it -> {
+			threads.add(Thread.currentThread());
+			return it * 2;
+		});
+
+		assertThat(result).isEqualTo(numbers(100).stream().map(it -> it * 2).collect(Collectors.toList()));
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	public void mapsBatchesInParallelPreservingOrder() {
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ParallelResourceAssembly assembly = new ParallelResourceAssembly(executor, 10);
+
+		List<String> result = assembly.map(numbers(100), it -> {
+			threads.add(Thread.currentThread());
+			return it.toString();
+		});
+
+		assertThat(result).isEqualTo(numbers(100).stream().map(Object::toString).collect(Collectors.toList()));
+		assertThat(threads.size()).isGreaterThan(1);
+	}
+
+	@Test
+	public void doesNotUseExecutorForCollectionsWithinSingleBatch() {
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ParallelResourceAssembly assembly = new ParallelResourceAssembly(executor, 10);
+
+		assembly.map(numbers(10), it -> threads.add(Thread.currentThread()));
+
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	public void bindsCopyOfRequestAttributesToWorkerThreads() {
+
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		ServletRequestAttributes attributes = new ServletRequestAttributes(request);
+		RequestContextHolder.setRequestAttributes(attributes);
+
+		ParallelResourceAssembly assembly = new ParallelResourceAssembly(executor, 10);
+
+		List<RequestAttributes> result = assembly.map(numbers(100), it -> RequestContextHolder.getRequestAttributes());
+
+		assertThat(result.subList(0, 10)).containsOnly(attributes);
+		assertThat(result.subList(10, 100)).doesNotContain(attributes).allSatisfy(it -> {
+			assertThat(it).isInstanceOfSatisfying(ServletRequestAttributes.class,
+					copy -> assertThat(copy.getRequest()).isSameAs(request));
+		});
+		assertThat(RequestContextHolder.getRequestAttributes()).isSameAs(attributes);
+	}
+
+	@Test
+	public void mapsOnCallingThreadIfRequestAttributesCannotBeCopied() {
+
+		RequestContextHolder.setRequestAttributes(mock(RequestAttributes.class));
+
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		ParallelResourceAssembly assembly = new ParallelResourceAssembly(executor, 10);
+
+		assembly.map(numbers(100), it -> threads.add(Thread.currentThread()));
+
+		assertThat(threads).containsExactly(Thread.currentThread());
+	}
+
+	@Test
+	public void mapsOnCallingThreadIfTransactionalResourceIsBound() {
+
+		Object key = new Object();
+		TransactionSynchronizationManager.bindResource(key, new Object());
+
+		try {
+
+			Set<Thread> threads = ConcurrentHashMap.newKeySet();
+			ParallelResourceAssembly assembly = new ParallelResourceAssembly(executor, 10);
+
+			assembly.map(numbers(100), it -> threads.add(Thread.currentThread()));
+
+			assertThat(threads).containsExactly(Thread.currentThread());
+
+		} finally {
+			TransactionSynchronizationManager.unbindResource(key);
+		}
+	}
+
+	@Test
+	public void propagatesExceptionsThrownInWorkerThreads() {
+
+		ParallelResourceAssembly assembly = new ParallelResourceAssembly(executor, 10);
+
+		assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> assembly.map(numbers(100), it -> {
+
+			if (it == 42) {
+				throw new IllegalStateException();
+			}
+
+			return it;
+		}));
+	}
+
+	private static List<Integer> numbers(int count) {
+		return IntStream.range(0, count).boxed().collect(Collectors.toList());
+	}
+}
@@ -94,6 +94,25 @@ public class PersistentEntityProjectorUnitTests {
 		assertThat(projector.projectExcerpt(new Object())).isInstanceOf(Excerpt.class);
 	}
 
+	@Test
+	public void exposesInformationOfRequestedProjection() {
+
+		configuration.addProjection(Sample.class, Object.class);
+
+		assertThat(projector.getProjectionInformation(Object.class))
+				.hasValueSatisfying(it -> assertThat(it.getType()).isEqualTo(Sample.class));
+		assertThat(projector.getExcerptProjectionInformation(Object.class))
+				.hasValueSatisfying(it -> assertThat(it.getType()).isEqualTo(Sample.class));
+	}
+
+	@Test
+	public void exposesInformationOfExcerptProjectionIfNoProjectionWasRequested() {
+
+		assertThat(projector.getProjectionInformation(Object.class)).isEmpty();
+		assertThat(projector.getExcerptProjectionInformation(Object.class))
+				.hasValueSatisfying(it -> assertThat(it.getType()).isEqualTo(Excerpt.class));
+	}
+
 	interface Sample {}
 
 	interface Excerpt {}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.rest.webmvc.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.rest.core.config.CompressionConfiguration;
+import org.springframework.data.rest.webmvc.spi.ContentEncoder;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Unit tests for {@link ResponseCompression}.
+ */
+public class ResponseCompressionUnitTests {
+
+	CompressionConfiguration configuration = new CompressionConfiguration().setEnabled(true).setMinResponseSize(100);
+	CountingEncoder counting = new CountingEncoder();
+	ResponseCompression compression = new ResponseCompression(configuration, "/profile",
+			Collections.singletonList(counting));
+
+	MockHttpServletRequest request;
+	MockHttpOutputMessage message;
+
+	@Before
+	public void setUp() {
+
+		request = new MockHttpServletRequest("GET", "/people");
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+		message = new MockHttpOutputMessage();
+		message.getHeaders().setContentType(MediaTypes.HAL_JSON);
+	}
+
+	@After
+	public void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void negotiatesContentCodingWithHighestQuality() {
+
+		assertThat(compression.negotiate("gzip;q=0.5, deflate")).isEqualTo(JdkContentEncoder.DEFLATE);
+		assertThat(compression.negotiate("br, gzip")).isEqualTo(JdkContentEncoder.GZIP);
+		assertThat(compression.negotiate("gzip, counting")).isEqualTo(counting);
+		assertThat(compression.negotiate("*")).isEqualTo(counting);
+		assertThat(compression.negotiate("*;q=0")).isNull();
+		assertThat(compression.negotiate("identity")).isNull();
+		assertThat(compression.negotiate(null)).isNull();
+	}
+
+	@Test
+	public void writesSmallBodiesAsIs() throws IOException {
+
+		byte[] body = "{}".getBytes();
+
+		compression.write(message, it -> it.getBody().write(body));
+
+		assertThat(message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(message.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+		assertThat(message.getBodyAsBytes()).isEqualTo(body);
+	}
+
+	@Test
+	public void compressesLargeBodiesWhileStreaming() throws IOException {
+
+		byte[] body = new byte[1000];
+		Arrays.fill(body, (byte) 'a');
+
+		compression.write(message, it -> {
+			for (int i = 0; i < 10; i++) {
+				it.getBody().write(body, i * 100, 100);
+				it.getBody().flush();
+			}
+		});
+
+		assertThat(message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+		assertThat(gunzip(message.getBodyAsBytes())).isEqualTo(body);
+	}
+
+	@Test
+	public void doesNotCompressIfDisabledOrNotAccepted() throws IOException {
+
+		byte[] body = new byte[1000];
+
+		ResponseCompression.NONE.write(message, it -> it.getBody().write(body));
+
+		assertThat(message.getHeaders()).doesNotContainKeys(HttpHeaders.CONTENT_ENCODING, HttpHeaders.VARY);
+
+		request.removeHeader(HttpHeaders.ACCEPT_ENCODING);
+		MockHttpOutputMessage other = new MockHttpOutputMessage();
+		other.getHeaders().setContentType(MediaTypes.HAL_JSON);
+
+		compression.write(other, it -> it.getBody().write(body));
+
+		assertThat(other.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+		assertThat(other.getBodyAsBytes()).isEqualTo(body);
+	}
+
+	@Test
+	public void reusesCompressedMetadataDocuments() throws IOException {
+
+		request.setRequestURI("/profile/people");
+		request.removeHeader(HttpHeaders.ACCEPT_ENCODING);
+		request.addHeader(HttpHeaders.ACCEPT_ENCODING, "counting");
+
+		byte[] body = new byte[1000];
+		AtomicInteger renderings = new AtomicInteger();
+
+		for (MediaType mediaType : Arrays.asList(MediaTypes.HAL_JSON, MediaTypes.HAL_JSON, MediaType.APPLICATION_JSON)) {
+
+			MockHttpOutputMessage message = new MockHttpOutputMessage();
+			message.getHeaders().setContentType(mediaType);
+
+			compression.write(message, it -> {
+				renderings.incrementAndGet();
+				it.getBody().write(body);
+			});
+
+			assertThat(message.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("counting");
+			assertThat(message.getHeaders().getContentLength()).isEqualTo(message.getBodyAsBytes().length);
+			assertThat(gunzip(message.getBodyAsBytes())).isEqualTo(body);
+		}
+
+		assertThat(renderings.get()).isEqualTo(2);
+		assertThat(counting.invocations.get()).isEqualTo(2);
+	}
+
+	@Test
+	public void cachesMetadataDocumentsPerHost() throws IOException {
+
+		request.setRequestURI("/profile/people");
+
+		for (String host : Arrays.asList("first.example.com", "second.example.com", "first.example.com")) {
+
+			request.removeHeader(HttpHeaders.HOST);
+			request.addHeader(HttpHeaders.HOST, host);
+
+			byte[] body = String.format("{ \"href\" : \"http://%s/people\" %1000s}", host, "").getBytes();
+
+			MockHttpOutputMessage message = new MockHttpOutputMessage();
+			message.getHeaders().setContentType(MediaTypes.HAL_JSON);
+
+			compression.write(message, it -> it.getBody().write(body));
+
+			assertThat(new String(gunzip(message.getBodyAsBytes()))).contains("http://" + host + "/people");
+		}
+	}
+
+	@Test
+	public void weakensETagOfCompressedBodies() throws IOException {
+
+		byte[] body = new byte[1000];
+
+		message.getHeaders().setETag("\"1\"");
+
+		compression.write(message, it -> it.getBody().write(body));
+
+		assertThat(message.getHeaders().getETag()).isEqualTo("W/\"1\"");
+
+		MockHttpOutputMessage uncompressed = new MockHttpOutputMessage();
+		uncompressed.getHeaders().setContentType(MediaTypes.HAL_JSON);
+		uncompressed.getHeaders().setETag("\"1\"");
+
+		compression.write(uncompressed, it -> it.getBody().write("{}".getBytes()));
+
+		assertThat(uncompressed.getHeaders().getETag()).isEqualTo("\"1\"");
+	}
+
+	private static byte[] gunzip(byte[] source) throws IOException {
+		return StreamUtils.copyToByteArray(new GZIPInputStream(new ByteArrayInputStream(source)));
+	}
+
+	static class CountingEncoder implements ContentEncoder {
+
+		AtomicInteger invocations = new AtomicInteger();
+
+		@Override
+		public String getName() {
+			return "counting";
+		}
+
+		@Override
+		public OutputStream encode(OutputStream target) throws IOException {
+
+			invocations.incrementAndGet();
+			return JdkContentEncoder.GZIP.encode(target);
+		}
+	}
+}